@@ -13,7 +13,10 @@ let selectedCategory = null;
 
 let allCompetitions = [];
 let allClubes = [];
-let allJogadores = [];
+// Só os jogadores da competição selecionada, já filtrados pela API (/jogadores?competicaoId=)
+let jogadoresCompeticao = [];
+let jogadoresCompeticaoId = null;
+let jogadoresPedidos = null; // competição cujos jogadores estão sendo carregados
 let allEstadios = [];
 let allPartidas = [];
 
@@ -77,12 +80,46 @@ async function fetchData(endpoint) {
     return await response.json();
 }
 
-async function fetchDataAuth(endpoint, options = {}) {
+// As listagens da API são paginadas por cursor ({ itens, proximoCursor }).
+// Segue os cursores até a última página e devolve todos os itens em um único array.
+async function fetchAllPages(endpoint, limit = 500) {
+    const itens = [];
+    let cursor = null;
+    do {
+        const separador = endpoint.includes('?') ? '&' : '?';
+        const query = `limit=${limit}` + (cursor !== null ? `&after=${cursor}` : '');
+        const pagina = await fetchData(`${endpoint}${separador}${query}`);
+        itens.push(...pagina.itens);
+        cursor = pagina.proximoCursor;
+    } while (cursor !== null && cursor !== undefined);
+    return itens;
+}
+
+// Token emitido por /auth/login; a senha só é verificada (BCrypt) no login.
+function authorizationHeader(user) {
+    return user.token ? 'Bearer ' + user.token : 'Basic ' + btoa(user.email + ':' + user.password);
+}
+
+async function renovarToken(user) {
+    const response = await fetch(`${API_BASE}/auth/login`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ email: user.email, senha: user.password })
+    });
+    if (!response.ok) return false;
+    const userData = await response.json();
+    // Sem saveUser: só troca o token, não precisa redesenhar a interface
+    currentUser = { ...user, token: userData.token, expiraEm: userData.expiraEm };
+    localStorage.setItem('futimeUser', JSON.stringify(currentUser));
+    return true;
+}
+
+async function fetchDataAuth(endpoint, options = {}, tentarRenovar = true) {
     const user = getCurrentUser();
     if (!user) throw new Error('Usuário não autenticado');
 
     const headers = {
-        'Authorization': 'Basic ' + btoa(user.email + ':' + user.password),
+        'Authorization': authorizationHeader(user),
         'Content-Type': 'application/json',
         ...options.headers
     };
@@ -92,6 +129,11 @@ async function fetchDataAuth(endpoint, options = {}) {
         headers
     });
 
+    // Token expirado (ou sessão salva antes dos tokens): refaz o login uma vez e repete a chamada
+    if (response.status === 401 && tentarRenovar && user.password && await renovarToken(user)) {
+        return fetchDataAuth(endpoint, options, false);
+    }
+
     if (!response.ok) throw new Error(`Erro na API: ${response.status}`);
     return await response.json();
 }
@@ -113,7 +155,7 @@ function formatCurrency(value) {
 
 async function loadCompeticoes() {
     try {
-        allCompetitions = await fetchData('/competicoes');
+        allCompetitions = await fetchAllPages('/competicoes');
         renderCompetitionButtons();
     } catch (error) {
         console.error('Erro ao carregar competições:', error);
@@ -124,15 +166,14 @@ async function loadCompeticoes() {
 async function loadAllData() {
     isLoadingData = true;
     try {
-        const [clubes, jogadores, estadios, partidas] = await Promise.all([
-            fetchData('/clubes'),
-            fetchData('/jogadores'),
-            fetchData('/estadios'),
-            fetchData('/partidas')
+        // Jogadores não entram aqui: cada tela pede à API só os que mostra (por competição ou por clube)
+        const [clubes, estadios, partidas] = await Promise.all([
+            fetchAllPages('/clubes'),
+            fetchAllPages('/estadios'),
+            fetchAllPages('/partidas')
         ]);
 
         allClubes = clubes;
-        allJogadores = jogadores;
         allEstadios = estadios;
         allPartidas = partidas;
     } catch (error) {
@@ -147,6 +188,26 @@ async function loadAllData() {
     }
 }
 
+// Carrega (uma vez por competição) os jogadores com estatísticas na competição e redesenha a tela
+async function carregarJogadoresDaCompeticao(competicaoId) {
+    if (jogadoresCompeticaoId === competicaoId || jogadoresPedidos === competicaoId) return;
+    jogadoresPedidos = competicaoId;
+    try {
+        const jogadores = await fetchAllPages(`/jogadores?competicaoId=${competicaoId}`);
+        // Outra competição pode ter sido escolhida enquanto esta carregava
+        if (jogadoresPedidos !== competicaoId) return;
+        jogadoresCompeticao = jogadores;
+        jogadoresCompeticaoId = competicaoId;
+    } catch (error) {
+        console.error('Erro ao carregar jogadores da competição:', error);
+        return;
+    } finally {
+        if (jogadoresPedidos === competicaoId) jogadoresPedidos = null;
+    }
+    render();
+    if (!playerComparisonView.classList.contains('hidden')) loadPlayersForComparison();
+}
+
 // =======================
 // AUTENTICAÇÃO DE USUÁRIO
 // =======================
@@ -429,8 +490,9 @@ function navigateTo(type, id) {
             if (clube) renderTeamDetails(clube);
             break;
         case 'jogador':
-            const jogador = allJogadores.find(j => j.id === id);
+            const jogador = jogadoresCompeticao.find(j => j.id === id);
             if (jogador) renderPlayerDetails(jogador);
+            else fetchData(`/jogadores/${id}`).then(renderPlayerDetails).catch(err => console.error(err));
             break;
         case 'estadio':
             const estadio = allEstadios.find(e => e.id === id);
@@ -449,7 +511,12 @@ function navigateTo(type, id) {
 
 searchInput.addEventListener('input', (e) => handleSearch(e.target.value));
 
-function handleSearch(query) {
+// Jogadores vêm da busca da API (/jogadores/busca: sem acentos e tolerante a erros de digitação);
+// só a resposta da última tecla é desenhada.
+let ultimaBusca = 0;
+
+async function handleSearch(query) {
+    const buscaAtual = ++ultimaBusca;
     if (!query || query.length < 2) {
         searchResults.classList.add('hidden');
         return;
@@ -466,19 +533,23 @@ function handleSearch(query) {
     });
 
     // Buscar Jogadores
-    allJogadores.forEach(j => {
-        if ((j.nomeCompleto && j.nomeCompleto.toLowerCase().includes(lowerQuery)) ||
-            (j.apelido && j.apelido.toLowerCase().includes(lowerQuery))) {
-            const normalized = normalizeFileName(j.apelido || j.nomeCompleto);
-            results.push({
-                type: 'jogador',
-                name: j.apelido || j.nomeCompleto,
-                id: j.id,
-                label: '🏃 Jogador',
-                img: `assets/players/${normalized}.jpg`,
-                isPlayer: true
-            });
-        }
+    let jogadores = [];
+    try {
+        jogadores = await fetchData(`/jogadores/busca?q=${encodeURIComponent(query)}&limit=10`);
+    } catch (error) {
+        console.error('Erro na busca de jogadores:', error);
+    }
+    if (buscaAtual !== ultimaBusca) return;
+    jogadores.forEach(j => {
+        const normalized = normalizeFileName(j.apelido || j.nomeCompleto);
+        results.push({
+            type: 'jogador',
+            name: j.apelido || j.nomeCompleto,
+            id: j.id,
+            label: '🏃 Jogador',
+            img: `assets/players/${normalized}.jpg`,
+            isPlayer: true
+        });
     });
 
     // Buscar Estádios
@@ -540,9 +611,15 @@ function renderSearchResults(results) {
 // RENDERIZAÇÃO DETALHADA
 // =======================
 
-function renderTeamDetails(clube) {
-    // Jogadores do time
-    const jogadores = allJogadores.filter(j => j.clube && j.clube.id === clube.id);
+async function renderTeamDetails(clube) {
+    // Jogadores do time, filtrados pela API
+    detailContent.innerHTML = '<div class="loading">⏳ Carregando clube...</div>';
+    let jogadores = [];
+    try {
+        jogadores = await fetchAllPages(`/jogadores?clubeId=${clube.id}&ordenar=nome`);
+    } catch (error) {
+        console.error('Erro ao carregar elenco:', error);
+    }
 
     // Partidas do time
     const partidas = allPartidas.filter(p =>
@@ -561,9 +638,11 @@ function renderTeamDetails(clube) {
             const golsPro = isMandante ? p.golsMandante : p.golsVisitante;
             const golsContra = isMandante ? p.golsVisitante : p.golsMandante;
 
-            let statusClass = 'draw';
-            if (golsPro > golsContra) statusClass = 'win';
-            else if (golsPro < golsContra) statusClass = 'loss';
+            // Partida ainda não jogada: placar null
+            const jogada = golsPro != null && golsContra != null;
+            let statusClass = jogada ? 'draw' : '';
+            if (jogada && golsPro > golsContra) statusClass = 'win';
+            else if (jogada && golsPro < golsContra) statusClass = 'loss';
 
             return `
                 <div class="match-card ${statusClass}">
@@ -571,7 +650,7 @@ function renderTeamDetails(clube) {
                         <span class="match-date">📅 ${formatDate(p.dataHora)}</span>
                         <span class="match-opponent">vs ${adversario.nome}</span>
                     </div>
-                    <div class="match-score">${golsPro} - ${golsContra}</div>
+                    <div class="match-score">${jogada ? `${golsPro} - ${golsContra}` : 'x'}</div>
                 </div>
             `;
         }).join('');
@@ -723,9 +802,11 @@ function calculateStandings(clubes, competicaoId) {
         const awayTeam = standings.find(s => s.clube.id === match.visitante.id);
 
         if (!homeTeam || !awayTeam) return;
+        // Partida ainda não jogada (placar null) não conta
+        if (match.golsMandante == null || match.golsVisitante == null) return;
 
-        const homeGoals = match.golsMandante || 0;
-        const awayGoals = match.golsVisitante || 0;
+        const homeGoals = match.golsMandante;
+        const awayGoals = match.golsVisitante;
 
         // Update games played
         homeTeam.jogos++;
@@ -955,8 +1036,7 @@ function renderJogadores(comp) {
         cardsContainerEl.innerHTML = '<div class="loading">⏳ Carregando jogadores...</div>';
         return;
     }
-    const clubeIds = (comp.clubes || []).map(c => c.id);
-    const jogadoresFiltered = allJogadores.filter(j => j.clube && clubeIds.includes(j.clube.id));
+    const jogadoresFiltered = jogadoresCompeticao;
 
     if (!jogadoresFiltered.length) {
         cardsContainerEl.innerHTML = '<p>Não há jogadores cadastrados.</p>';
@@ -1240,14 +1320,9 @@ function renderDashboard() {
 
     dashboardSection.classList.remove('hidden');
 
-    // Filtrar jogadores com estatísticas na competição/temporada selecionada
-    const playersWithStats = allJogadores.filter(j =>
-        j.estatisticasPorCompeticao &&
-        j.estatisticasPorCompeticao.some(e =>
-            e.nomeCompeticao === selectedCompetitionName &&
-            e.temporada === selectedSeason
-        )
-    ).map(j => {
+    // Jogadores com estatísticas na competição/temporada selecionada (já filtrados pela API)
+    const jogadores = jogadoresCompeticaoId === selectedCompetition ? jogadoresCompeticao : [];
+    const playersWithStats = jogadores.map(j => {
         const stat = j.estatisticasPorCompeticao.find(e =>
             e.nomeCompeticao === selectedCompetitionName &&
             e.temporada === selectedSeason
@@ -1406,6 +1481,11 @@ function renderMarketValueChart(players) {
 function render() {
     if (!selectedCompetition || !selectedSeason) return;
 
+    if (jogadoresCompeticaoId !== selectedCompetition) {
+        // Redesenha quando os jogadores da competição chegarem
+        carregarJogadoresDaCompeticao(selectedCompetition);
+    }
+
     // Renderiza o Dashboard
     renderDashboard();
 
@@ -1469,14 +1549,12 @@ function renderClubes() {
 }
 
 function renderJogadores() {
-    // Filtrar jogadores que têm estatísticas nesta competição e temporada
-    const jogadoresFiltrados = allJogadores.filter(j =>
-        j.estatisticasPorCompeticao &&
-        j.estatisticasPorCompeticao.some(e =>
-            e.nomeCompeticao === selectedCompetitionName &&
-            e.temporada === selectedSeason
-        )
-    );
+    // Jogadores que têm estatísticas nesta competição e temporada, filtrados pela API
+    if (jogadoresCompeticaoId !== selectedCompetition) {
+        cardsContainerEl.innerHTML = '<div class="loading">⏳ Carregando jogadores...</div>';
+        return;
+    }
+    const jogadoresFiltrados = [...jogadoresCompeticao];
 
     if (jogadoresFiltrados.length === 0) {
         cardsContainerEl.innerHTML = '<p>Nenhum jogador encontrado com estatísticas nesta competição.</p>';
@@ -1662,27 +1740,20 @@ function loadPlayersForComparison() {
     player1Select.innerHTML = '<option value="">Selecione um jogador</option>';
     player2Select.innerHTML = '<option value="">Selecione um jogador</option>';
 
-    // Filtrar jogadores com estatísticas
-    let jogadoresDisponiveis = [];
-
-    if (selectedCompetitionName && selectedSeason) {
-        // Filtrar jogadores da competição/temporada selecionada
-        jogadoresDisponiveis = allJogadores.filter(j =>
-            j.estatisticasPorCompeticao &&
-            j.estatisticasPorCompeticao.some(e =>
-                e.nomeCompeticao === selectedCompetitionName &&
-                e.temporada === selectedSeason
-            )
-        );
-    } else {
-        // Se não tem filtro, mostra todos os jogadores com estatísticas
-        jogadoresDisponiveis = allJogadores.filter(j =>
-            j.estatisticasPorCompeticao && j.estatisticasPorCompeticao.length > 0
-        );
+    // Jogadores da competição/temporada selecionada, com estatísticas (filtrados pela API)
+    if (!selectedCompetition || !selectedSeason) {
+        player1Select.innerHTML = '<option value="">Selecione uma competição primeiro</option>';
+        player2Select.innerHTML = '<option value="">Selecione uma competição primeiro</option>';
+        return;
+    }
+    if (jogadoresCompeticaoId !== selectedCompetition) {
+        // Os seletores são preenchidos quando a carga terminar
+        carregarJogadoresDaCompeticao(selectedCompetition);
+        return;
     }
 
     // Ordenar por nome
-    jogadoresDisponiveis.sort((a, b) => {
+    const jogadoresDisponiveis = [...jogadoresCompeticao].sort((a, b) => {
         const nomeA = a.apelido || a.nomeCompleto || '';
         const nomeB = b.apelido || b.nomeCompleto || '';
         return nomeA.localeCompare(nomeB);
@@ -1729,8 +1800,8 @@ function checkCompareButton() {
 }
 
 function comparePlayerStats(jogadorId1, jogadorId2) {
-    const jogador1 = allJogadores.find(j => j.id === jogadorId1);
-    const jogador2 = allJogadores.find(j => j.id === jogadorId2);
+    const jogador1 = jogadoresCompeticao.find(j => j.id === jogadorId1);
+    const jogador2 = jogadoresCompeticao.find(j => j.id === jogadorId2);
 
     if (!jogador1 || !jogador2) {
         comparisonResult.innerHTML = '<p class="error-message">Jogadores não encontrados.</p>';
@@ -413,7 +413,7 @@ def process_season(season):
                 ) VALUES (%s, %s, %s, %s, %s, %s, %s, NOW(), NOW()) RETURNING id
             """, (
                 home_id, away_id, stadium_id, 'PONTOS_CORRIDOS', 
-                goals["home"] or 0, goals["away"] or 0, match_date
+                goals["home"], goals["away"], match_date
             ))
             partida_id = cur.fetchone()[0]
         
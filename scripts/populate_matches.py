@@ -156,9 +156,9 @@ def process_fixture(fixture):
         # Handle +00:00 manually if needed or use dateutil
         match_date = date_str # Let postgres handle string?
     
-    # Goals
-    home_goals = goals_data["home"] if goals_data["home"] is not None else 0
-    away_goals = goals_data["away"] if goals_data["away"] is not None else 0
+    # Goals (None enquanto a partida não foi jogada: grava NULL, fora da classificação)
+    home_goals = goals_data["home"]
+    away_goals = goals_data["away"]
     
     # Fase
     fase = map_status_to_fase(league_data["round"])
@@ -0,0 +1,20 @@
+-- Recalcula do zero os agregados de estatísticas dos jogadores a partir de
+-- jogador_estatisticas_competicao (a fonte da verdade).
+-- A API mantém esses agregados por delta; rode este script depois de cargas que
+-- escrevem direto no banco (popular_banco.py, populate_full.py, cleanup_seasons.py).
+-- O preenchimento inicial é feito pelas migrações V2 e V5.
+BEGIN;
+
+UPDATE jogadores j
+SET gols_totais = COALESCE((SELECT SUM(e.gols) FROM jogador_estatisticas_competicao e WHERE e.jogador_id = j.id), 0),
+    assistencias_totais = COALESCE((SELECT SUM(e.assistencias) FROM jogador_estatisticas_competicao e WHERE e.jogador_id = j.id), 0);
+
+DELETE FROM jogador_estatisticas_temporada;
+
+INSERT INTO jogador_estatisticas_temporada (jogador_id, temporada, gols, assistencias, registros)
+SELECT e.jogador_id, c.temporada, SUM(e.gols), SUM(e.assistencias), COUNT(*)
+FROM jogador_estatisticas_competicao e
+JOIN competicoes c ON c.id = e.competicao_id
+GROUP BY e.jogador_id, c.temporada;
+
+COMMIT;
@@ -0,0 +1,144 @@
+package com.futime.labprog.futimeapi.gerador;
+
+import com.futime.labprog.futimeapi.gerador.TabelasCsv.Tabela;
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera dados sintéticos em escala e carrega num PostgreSQL com COPY, para testar a API com 10 ou
+ * 100 vezes o volume atual sem depender da API de futebol usada pelos scripts Python.
+ *
+ * A escala é o número de ligas: cada uma tem o tamanho do banco de hoje (20 clubes, 1.000
+ * jogadores, 4 temporadas de 380 partidas, ~42 mil linhas de súmula). As ligas são geradas e
+ * copiadas em paralelo, uma transação por liga; no fim as sequências de ID são posicionadas
+ * depois do maior ID gerado, para a API continuar inserindo normalmente.
+ *
+ * ./gradlew gerarDados --args="--url=jdbc:postgresql://localhost:5432/futime_carga --escala=10"
+ *
+ * Opções: --url, --usuario (postgres), --senha (postgres), --escala (10), --threads (4),
+ * --semente (2025) e --limpar, que apaga todos os dados do banco (inclusive usuários) antes.
+ */
+public final class GeradorDados {
+
+    private GeradorDados() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = opcoes(args);
+        String url = opcoes.getOrDefault("url", "jdbc:postgresql://localhost:5432/futime_carga");
+        String usuario = opcoes.getOrDefault("usuario", "postgres");
+        String senha = opcoes.getOrDefault("senha", "postgres");
+        int escala = Integer.parseInt(opcoes.getOrDefault("escala", "10"));
+        int threads = Integer.parseInt(opcoes.getOrDefault("threads", "4"));
+        long semente = Long.parseLong(opcoes.getOrDefault("semente", "2025"));
+
+        // Mesmo esquema que a API valida na subida (ddl-auto=validate)
+        Flyway.configure().dataSource(url, usuario, senha).locations("classpath:db/migration").load().migrate();
+
+        try (Connection conexao = DriverManager.getConnection(url, usuario, senha);
+                Statement sql = conexao.createStatement()) {
+            if (opcoes.containsKey("limpar")) {
+                sql.execute("TRUNCATE " + String.join(", ", nomes()) + ", usuarios, usuario_jogadores_observados "
+                        + "RESTART IDENTITY CASCADE");
+            } else if (temDados(sql)) {
+                throw new IllegalStateException("O banco já tem jogadores: use --limpar para apagar tudo antes.");
+            }
+        }
+
+        System.out.printf("Gerando %d liga(s) com %d threads: %d jogadores, %d partidas%n", escala, threads,
+                escala * SimuladorLiga.CLUBES * SimuladorLiga.ELENCO, escala * SimuladorLiga.partidasPorLiga());
+        long inicio = System.nanoTime();
+        AtomicInteger proxima = new AtomicInteger();
+        AtomicInteger prontas = new AtomicInteger();
+        AtomicLong linhas = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                // Cada thread tem a sua conexão e vai pegando a próxima liga até acabarem
+                tarefas.add(executor.submit(() -> {
+                    try (Connection conexao = DriverManager.getConnection(url, usuario, senha)) {
+                        conexao.setAutoCommit(false);
+                        for (int liga = proxima.getAndIncrement(); liga < escala; liga = proxima.getAndIncrement()) {
+                            linhas.addAndGet(SimuladorLiga.gerar(liga, semente).copiar(conexao));
+                            conexao.commit();
+                            System.out.printf("  liga %d/%d (%.0f linhas/s)%n", prontas.incrementAndGet(), escala,
+                                    linhas.get() / ((System.nanoTime() - inicio) / 1e9));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (Connection conexao = DriverManager.getConnection(url, usuario, senha);
+                Statement sql = conexao.createStatement()) {
+            ajustarSequencias(sql);
+            sql.execute("ANALYZE");
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%d linhas em %.1f s (%.0f linhas/s)%n", linhas.get(), segundos, linhas.get() / segundos);
+    }
+
+    // Os IDs foram gravados explicitamente; o próximo nextval tem de cair depois do maior deles
+    private static void ajustarSequencias(Statement sql) throws SQLException {
+        for (Tabela tabela : Tabela.values()) {
+            if (tabela.incremento == 0) {
+                continue;
+            }
+            // Nas sequências de bloco, nextval devolve o topo V e o Hibernate usa V-49 .. V
+            sql.execute("SELECT setval(pg_get_serial_sequence('" + tabela.nome + "', 'id'), "
+                    + "COALESCE((SELECT MAX(id) FROM " + tabela.nome + "), 0) + " + tabela.incremento + ", false)");
+        }
+    }
+
+    private static boolean temDados(Statement sql) throws SQLException {
+        try (ResultSet resultado = sql.executeQuery("SELECT EXISTS (SELECT 1 FROM jogadores)")) {
+            resultado.next();
+            return resultado.getBoolean(1);
+        }
+    }
+
+    private static List<String> nomes() {
+        List<String> nomes = new ArrayList<>();
+        for (Tabela tabela : Tabela.values()) {
+            nomes.add(tabela.nome);
+        }
+        return nomes;
+    }
+
+    private static Map<String, String> opcoes(String[] args) {
+        Map<String, String> opcoes = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Opção inválida: " + arg);
+            }
+            int igual = arg.indexOf('=');
+            if (igual < 0) {
+                opcoes.put(arg.substring(2), "");
+            } else {
+                opcoes.put(arg.substring(2, igual), arg.substring(igual + 1));
+            }
+        }
+        return opcoes;
+    }
+}
@@ -0,0 +1,281 @@
+package com.futime.labprog.futimeapi.gerador;
+
+import com.futime.labprog.futimeapi.gerador.TabelasCsv.Tabela;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera uma liga completa e consistente: {@value #CLUBES} clubes com estádio, elencos de
+ * {@value #ELENCO} jogadores, {@value #TEMPORADAS} temporadas de pontos corridos (turno e returno)
+ * e a súmula de cada partida. Os agregados que a API mantém por delta (gols e assistências de
+ * carreira, estatísticas por competição e por temporada) saem somados das súmulas, então o
+ * banco gerado não precisa do scripts/recalcular_agregados_jogador.sql.
+ *
+ * Os IDs são fixos por liga (blocos que não se sobrepõem), então ligas diferentes podem ser
+ * geradas e copiadas em paralelo, cada uma na sua transação.
+ */
+final class SimuladorLiga {
+
+    static final int CLUBES = 20;
+    static final int ELENCO = 50;
+    static final int TEMPORADAS = 4;
+    static final int PRIMEIRA_TEMPORADA = 2022;
+    static final int PARTIDAS_POR_TEMPORADA = CLUBES * (CLUBES - 1);
+    // Onze titulares e três reservas por lado; sobra folga no bloco de IDs da súmula
+    private static final int LINHAS_POR_SUMULA = 32;
+
+    private static final String[] SILABAS = {
+            "ma", "ri", "jo", "sé", "an", "tô", "ni", "car", "los", "gon", "zá", "lez", "fer", "nán", "dez",
+            "sil", "va", "ro", "dri", "gues", "pe", "dro", "lu", "ís", "ra", "fa", "el", "ben", "ja", "mín" };
+
+    // Por setor: posição, quantos no elenco, titulares num 4-3-3 e pesos de gol e assistência
+    private static final String[] POSICOES = { "Goleiro", "Zagueiro", "Meio-campo", "Atacante" };
+    private static final int[] NO_ELENCO = { 5, 15, 15, 15 };
+    private static final int[] TITULARES = { 1, 4, 3, 3 };
+    private static final int[] PESO_GOL = { 0, 1, 3, 6 };
+    private static final int[] PESO_ASSISTENCIA = { 0, 1, 5, 3 };
+    private static final int RESERVAS_EM_CAMPO = 3;
+
+    // Um jogador da liga e o que ele acumulou na temporada em curso
+    private static final class Atleta {
+        final int id;
+        final int setor;
+        int gols;
+        int assistencias;
+        int golsTemporada;
+        int assistenciasTemporada;
+        int jogosTemporada;
+
+        Atleta(int id, int setor) {
+            this.id = id;
+            this.setor = setor;
+        }
+    }
+
+    private final int liga;
+    private final Random aleatorio;
+    private final TabelasCsv tabelas;
+    private final LocalDateTime agora = LocalDateTime.now().withNano(0);
+
+    private SimuladorLiga(int liga, long semente, TabelasCsv tabelas) {
+        this.liga = liga;
+        this.aleatorio = new Random(semente * 31 + liga);
+        this.tabelas = tabelas;
+    }
+
+    /** As linhas da liga {@code liga} (a partir de 0); a mesma semente gera sempre as mesmas linhas. */
+    static TabelasCsv gerar(int liga, long semente) {
+        TabelasCsv tabelas = new TabelasCsv();
+        new SimuladorLiga(liga, semente, tabelas).gerar();
+        return tabelas;
+    }
+
+    static int partidasPorLiga() {
+        return TEMPORADAS * PARTIDAS_POR_TEMPORADA;
+    }
+
+    private void gerar() {
+        int[] clubes = new int[CLUBES];
+        List<List<Atleta>> elencos = new ArrayList<>();
+        List<Atleta> todos = new ArrayList<>();
+        for (int i = 0; i < CLUBES; i++) {
+            int id = liga * CLUBES + i + 1;
+            String cidade = "Cidade " + id;
+            tabelas.linha(Tabela.ESTADIOS, id, "Arena " + palavra(), cidade, "BRA");
+            tabelas.linha(Tabela.CLUBES, id, "Esporte Clube " + palavra(), "S" + Integer.toString(id, 36)
+                    .toUpperCase(), cidade, "Brasil", id);
+            clubes[i] = id;
+            List<Atleta> elenco = elenco(i);
+            elencos.add(elenco);
+            todos.addAll(elenco);
+        }
+
+        String nome = liga == 0 ? "Brasileirão Série A" : String.format("Liga Sintética %03d", liga);
+        for (int t = 0; t < TEMPORADAS; t++) {
+            int competicaoId = liga * TEMPORADAS + t + 1;
+            String temporada = String.valueOf(PRIMEIRA_TEMPORADA + t);
+            tabelas.linha(Tabela.COMPETICOES, competicaoId, nome, "Brasil", "América do Sul", "PONTOS_CORRIDOS",
+                    temporada, agora, agora);
+            for (int clube : clubes) {
+                tabelas.linha(Tabela.COMPETICAO_CLUBE, competicaoId, clube);
+            }
+            temporada(t, competicaoId, clubes, elencos);
+
+            for (Atleta atleta : todos) {
+                if (atleta.jogosTemporada == 0) {
+                    continue;
+                }
+                // Um jogador disputa uma competição por temporada: o mesmo ID serve às duas tabelas
+                int id = (atleta.id - 1) * TEMPORADAS + t + 1;
+                tabelas.linha(Tabela.ESTATISTICAS_COMPETICAO, id, atleta.id, competicaoId, atleta.golsTemporada,
+                        atleta.assistenciasTemporada, atleta.jogosTemporada);
+                tabelas.linha(Tabela.ESTATISTICAS_TEMPORADA, id, atleta.id, temporada, atleta.golsTemporada,
+                        atleta.assistenciasTemporada, 1);
+                atleta.gols += atleta.golsTemporada;
+                atleta.assistencias += atleta.assistenciasTemporada;
+                atleta.golsTemporada = 0;
+                atleta.assistenciasTemporada = 0;
+                atleta.jogosTemporada = 0;
+            }
+        }
+
+        for (int i = 0; i < CLUBES; i++) {
+            for (Atleta atleta : elencos.get(i)) {
+                String nomeCompleto = palavra() + " " + palavra() + " " + palavra();
+                LocalDate nascimento = LocalDate.of(1988, 1, 1).plusDays(aleatorio.nextInt(18 * 365));
+                tabelas.linha(Tabela.JOGADORES, atleta.id, nomeCompleto,
+                        nomeCompleto.substring(0, nomeCompleto.indexOf(' ')), nascimento, POSICOES[atleta.setor],
+                        250_000.0 * (1 + aleatorio.nextInt(200)), null, clubes[i], atleta.gols, atleta.assistencias,
+                        agora);
+            }
+        }
+    }
+
+    private List<Atleta> elenco(int clube) {
+        List<Atleta> elenco = new ArrayList<>(ELENCO);
+        int id = (liga * CLUBES + clube) * ELENCO + 1;
+        for (int setor = 0; setor < POSICOES.length; setor++) {
+            for (int i = 0; i < NO_ELENCO[setor]; i++) {
+                elenco.add(new Atleta(id++, setor));
+            }
+        }
+        return elenco;
+    }
+
+    // Método do círculo: 19 rodadas de 10 jogos no turno, as mesmas com mando invertido no returno
+    private void temporada(int t, int competicaoId, int[] clubes, List<List<Atleta>> elencos) {
+        int[] roda = new int[CLUBES];
+        for (int i = 0; i < CLUBES; i++) {
+            roda[i] = i;
+        }
+        int partidaId = (liga * TEMPORADAS + t) * PARTIDAS_POR_TEMPORADA + 1;
+        LocalDateTime inicio = LocalDateTime.of(PRIMEIRA_TEMPORADA + t, 4, 12, 16, 0);
+        for (int turno = 0; turno < 2; turno++) {
+            for (int rodada = 0; rodada < CLUBES - 1; rodada++) {
+                LocalDateTime data = inicio.plusWeeks(turno * (CLUBES - 1L) + rodada);
+                for (int jogo = 0; jogo < CLUBES / 2; jogo++) {
+                    int a = roda[jogo];
+                    int b = roda[CLUBES - 1 - jogo];
+                    boolean inverte = (rodada + jogo) % 2 == 1 ^ turno == 1;
+                    int mandante = inverte ? b : a;
+                    int visitante = inverte ? a : b;
+                    partida(partidaId++, competicaoId, clubes[mandante], clubes[visitante],
+                            data.plusHours(jogo % 4 * 2L), elencos.get(mandante), elencos.get(visitante));
+                }
+                int ultimo = roda[CLUBES - 1];
+                System.arraycopy(roda, 1, roda, 2, CLUBES - 2);
+                roda[1] = ultimo;
+            }
+        }
+    }
+
+    private void partida(int id, int competicaoId, int mandante, int visitante, LocalDateTime dataHora,
+            List<Atleta> elencoMandante, List<Atleta> elencoVisitante) {
+        int golsMandante = poisson(1.45);
+        int golsVisitante = poisson(1.05);
+        // O estádio do clube tem o mesmo ID do clube
+        tabelas.linha(Tabela.PARTIDAS, id, mandante, visitante, mandante, competicaoId, "PONTOS_CORRIDOS",
+                golsMandante, golsVisitante, dataHora, agora, agora);
+        int linha = (id - 1) * LINHAS_POR_SUMULA + 1;
+        linha = sumula(id, linha, elencoMandante, golsMandante, golsVisitante);
+        sumula(id, linha, elencoVisitante, golsVisitante, golsMandante);
+    }
+
+    private int sumula(int partidaId, int linha, List<Atleta> elenco, int golsPro, int golsContra) {
+        List<Atleta> escalados = new ArrayList<>(TITULARES.length + RESERVAS_EM_CAMPO);
+        List<Integer> minutos = new ArrayList<>();
+        List<Atleta> banco = new ArrayList<>();
+        int inicioSetor = 0;
+        for (int setor = 0; setor < POSICOES.length; setor++) {
+            List<Atleta> doSetor = new ArrayList<>(elenco.subList(inicioSetor, inicioSetor + NO_ELENCO[setor]));
+            inicioSetor += NO_ELENCO[setor];
+            for (int i = 0; i < TITULARES[setor]; i++) {
+                // Quase sempre os primeiros do setor: um time-base com algum rodízio
+                int escolhido = Math.min(doSetor.size() - 1, (int) Math.abs(aleatorio.nextGaussian() * 2));
+                escalados.add(doSetor.remove(escolhido));
+                minutos.add(setor != 0 && aleatorio.nextInt(11) < 3 ? 60 + aleatorio.nextInt(25) : 90);
+            }
+            if (setor != 0) {
+                banco.addAll(doSetor.subList(0, 4));
+            }
+        }
+        int titulares = escalados.size();
+        for (int i = 0; i < RESERVAS_EM_CAMPO; i++) {
+            escalados.add(banco.remove(aleatorio.nextInt(banco.size())));
+            minutos.add(10 + aleatorio.nextInt(25));
+        }
+
+        int[] gols = new int[escalados.size()];
+        int[] assistencias = new int[escalados.size()];
+        for (int g = 0; g < golsPro; g++) {
+            int autor = sortear(escalados, titulares, PESO_GOL, -1);
+            gols[autor]++;
+            if (aleatorio.nextInt(10) < 7) {
+                assistencias[sortear(escalados, titulares, PESO_ASSISTENCIA, autor)]++;
+            }
+        }
+
+        for (int i = 0; i < escalados.size(); i++) {
+            Atleta atleta = escalados.get(i);
+            boolean goleiro = atleta.setor == 0;
+            int chutesAGol = gols[i] + (goleiro ? 0 : aleatorio.nextInt(3));
+            tabelas.linha(Tabela.ESTATISTICAS_PARTIDA, linha++, partidaId, atleta.id, minutos.get(i),
+                    aleatorio.nextInt(100) < 15, aleatorio.nextInt(100) < 1, i < titulares, gols[i],
+                    assistencias[i], goleiro ? golsContra + aleatorio.nextInt(6) : null,
+                    chutesAGol + (goleiro ? 0 : aleatorio.nextInt(3)), chutesAGol,
+                    goleiro ? 0 : aleatorio.nextInt(atleta.setor == 1 ? 6 : 3), agora, agora);
+            atleta.golsTemporada += gols[i];
+            atleta.assistenciasTemporada += assistencias[i];
+            atleta.jogosTemporada++;
+        }
+        return linha;
+    }
+
+    // Posição sorteada pelo peso do setor; titulares pesam o dobro de quem entrou no fim
+    private int sortear(List<Atleta> escalados, int titulares, int[] pesos, int exceto) {
+        int total = 0;
+        for (int i = 0; i < escalados.size(); i++) {
+            total += peso(escalados.get(i), i < titulares, pesos, i == exceto);
+        }
+        int sorteio = aleatorio.nextInt(total);
+        for (int i = 0; i < escalados.size(); i++) {
+            sorteio -= peso(escalados.get(i), i < titulares, pesos, i == exceto);
+            if (sorteio < 0) {
+                return i;
+            }
+        }
+        return escalados.size() - 1;
+    }
+
+    private static int peso(Atleta atleta, boolean titular, int[] pesos, boolean excluido) {
+        if (excluido) {
+            return 0;
+        }
+        return titular ? pesos[atleta.setor] * 2 : pesos[atleta.setor];
+    }
+
+    private int poisson(double media) {
+        double limite = Math.exp(-media);
+        double produto = aleatorio.nextDouble();
+        int k = 0;
+        while (produto > limite) {
+            produto *= aleatorio.nextDouble();
+            k++;
+        }
+        return k;
+    }
+
+    private String palavra() {
+        StringBuilder sb = new StringBuilder();
+        int silabas = 2 + aleatorio.nextInt(2);
+        for (int i = 0; i < silabas; i++) {
+            sb.append(SILABAS[aleatorio.nextInt(SILABAS.length)]);
+        }
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.futime.labprog.futimeapi.gerador;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * As linhas geradas de uma liga, em CSV por tabela, prontas para o COPY ... FROM STDIN.
+ * As tabelas são copiadas na ordem do enum, que respeita as chaves estrangeiras.
+ */
+final class TabelasCsv {
+
+    enum Tabela {
+        ESTADIOS("estadios", "id, nome, cidade, pais", 1),
+        CLUBES("clubes", "id, nome, sigla, cidade, pais, estadio_id", 1),
+        COMPETICOES("competicoes", "id, nome, pais, continente, tipo_competicao, temporada, created_at, updated_at", 1),
+        COMPETICAO_CLUBE("competicao_clube", "competicao_id, clube_id", 0),
+        JOGADORES("jogadores", "id, nome_completo, apelido, data_nascimento, posicao, valor_de_mercado, image_url, "
+                + "clube_id, gols_totais, assistencias_totais, updated_at", 50),
+        PARTIDAS("partidas", "id, clube_mandante_id, clube_visitante_id, estadio_id, competicao_id, fase, "
+                + "gols_mandante, gols_visitante, data_hora, created_at, updated_at", 50),
+        ESTATISTICAS_PARTIDA("jogador_estatistica_partida", "id, partida_id, jogador_id, minutos_jogados, "
+                + "cartao_amarelo, cartao_vermelho, titular, gols, assistencias, defesa, finalizacoes, chutes_a_gol, "
+                + "desarmes, created_at, updated_at", 50),
+        ESTATISTICAS_COMPETICAO("jogador_estatisticas_competicao",
+                "id, jogador_id, competicao_id, gols, assistencias, jogos_disputados", 1),
+        ESTATISTICAS_TEMPORADA("jogador_estatisticas_temporada",
+                "id, jogador_id, temporada, gols, assistencias, registros", 1);
+
+        final String nome;
+        final String colunas;
+        // Incremento da sequência do ID (50 nas de bloco do Hibernate); 0 se a tabela não tem ID
+        final int incremento;
+
+        Tabela(String nome, String colunas, int incremento) {
+            this.nome = nome;
+            this.colunas = colunas;
+            this.incremento = incremento;
+        }
+    }
+
+    private final Map<Tabela, StringBuilder> conteudo = new EnumMap<>(Tabela.class);
+    private final Map<Tabela, Integer> linhas = new EnumMap<>(Tabela.class);
+
+    TabelasCsv() {
+        for (Tabela tabela : Tabela.values()) {
+            conteudo.put(tabela, new StringBuilder());
+            linhas.put(tabela, 0);
+        }
+    }
+
+    void linha(Tabela tabela, Object... valores) {
+        StringBuilder sb = conteudo.get(tabela);
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Object valor = valores[i];
+            if (valor == null) {
+                // Vazio sem aspas é NULL no formato csv do COPY
+                continue;
+            }
+            if (valor instanceof String texto) {
+                sb.append('"').append(texto.replace("\"", "\"\"")).append('"');
+            } else if (valor instanceof LocalDateTime dataHora) {
+                sb.append(dataHora.toLocalDate()).append(' ').append(dataHora.toLocalTime());
+            } else {
+                sb.append(valor);
+            }
+        }
+        sb.append('\n');
+        linhas.merge(tabela, 1, Integer::sum);
+    }
+
+    /** Copia todas as tabelas pela conexão (sem commit) e devolve o total de linhas. */
+    long copiar(Connection conexao) throws SQLException, IOException {
+        CopyManager copy = conexao.unwrap(PGConnection.class).getCopyAPI();
+        long total = 0;
+        for (Tabela tabela : Tabela.values()) {
+            if (linhas.get(tabela) == 0) {
+                continue;
+            }
+            total += copy.copyIn("COPY " + tabela.nome + " (" + tabela.colunas + ") FROM STDIN WITH (FORMAT csv)",
+                    new StringReader(conteudo.get(tabela).toString()));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,103 @@
+package com.futime.labprog.futimeapi.busca;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca de jogadores no IndiceTrigramas com 100 mil nomes acentuados, consultando por um
+ * sobrenome com a última letra trocada (erro de digitação). Só o índice, sem Spring nem banco.
+ * A versão com 4 threads mede também a disputa pelos rascunhos do índice.
+ *
+ * ./gradlew jmh -PjmhIncludes=BuscaTrigramas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuscaTrigramasBenchmark {
+
+    private static final int JOGADORES = 100_000;
+    private static final int CONSULTAS = 2_000;
+
+    private static final String[] SILABAS = {
+            "ma", "ri", "jo", "sé", "an", "tô", "ni", "car", "los", "gon", "zá", "lez", "fer", "nán", "dez",
+            "sil", "va", "ro", "dri", "gues", "pe", "dro", "lu", "ís", "ra", "fa", "el", "ben", "ja", "mín",
+            "xa", "vi", "er", "hé", "ctor", "ol", "ga", "bal", "ta", "sar", "gen", "ti", "no", "es", "pí" };
+
+    private IndiceTrigramas<String> indice;
+    private String[] consultas;
+
+    // Cada thread anda pela lista de consultas com a sua própria posição
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int posicao;
+
+        String proxima(String[] consultas) {
+            String consulta = consultas[posicao];
+            posicao = (posicao + 1) % consultas.length;
+            return consulta;
+        }
+    }
+
+    @Setup
+    public void preparar() {
+        Random aleatorio = new Random(42);
+        String[] sobrenomes = new String[5_000];
+        for (int i = 0; i < sobrenomes.length; i++) {
+            sobrenomes[i] = palavra(aleatorio);
+        }
+
+        indice = new IndiceTrigramas<>();
+        List<String> nomes = new ArrayList<>(JOGADORES);
+        for (int i = 0; i < JOGADORES; i++) {
+            // Sobrenomes repetem com frequência desigual, como nos elencos reais
+            String nome = palavra(aleatorio) + " " + sobrenomes[sorteio(aleatorio, sobrenomes.length)] + " "
+                    + sobrenomes[sorteio(aleatorio, sobrenomes.length)];
+            nomes.add(nome);
+            indice.indexar(i, nome, nome, nome.substring(nome.lastIndexOf(' ') + 1));
+        }
+
+        consultas = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            String[] partes = nomes.get(aleatorio.nextInt(JOGADORES)).split(" ");
+            String parte = partes[1 + aleatorio.nextInt(2)];
+            consultas[i] = parte.substring(0, parte.length() - 1) + "x";
+        }
+    }
+
+    @Benchmark
+    public List<IndiceTrigramas.Resultado<String>> buscarComErroDeDigitacao(Cursor cursor) {
+        return indice.buscar(cursor.proxima(consultas), 10);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<IndiceTrigramas.Resultado<String>> buscarEmParalelo(Cursor cursor) {
+        return indice.buscar(cursor.proxima(consultas), 10);
+    }
+
+    private static String palavra(Random aleatorio) {
+        StringBuilder sb = new StringBuilder();
+        int silabas = 2 + aleatorio.nextInt(3);
+        for (int i = 0; i < silabas; i++) {
+            sb.append(SILABAS[aleatorio.nextInt(SILABAS.length)]);
+        }
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+
+    private static int sorteio(Random aleatorio, int tamanho) {
+        return (int) Math.min(tamanho - 1, Math.abs(aleatorio.nextGaussian()) * tamanho / 4);
+    }
+}
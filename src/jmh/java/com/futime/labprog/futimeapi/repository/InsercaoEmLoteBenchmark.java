@@ -0,0 +1,162 @@
+package com.futime.labprog.futimeapi.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Inserção de estatísticas de partida antes e depois da troca de IDENTITY por sequência pooled:
+ * - antes: ID IDENTITY, que obriga o Hibernate a mandar um INSERT por linha para ler a chave gerada,
+ *   mesmo com hibernate.jdbc.batch_size ligado;
+ * - depois: ID por sequência com allocationSize 50 e INSERTs em lotes de 50, como em
+ *   JogadorEstatisticaPartida hoje.
+ *
+ * Cada operação é uma transação com {@link #LINHAS} linhas; o resultado sai por linha. As duas tabelas
+ * têm as colunas de jogador_estatistica_partida, sem as chaves estrangeiras, que custam igual nos dois casos.
+ *
+ * Por padrão roda num H2 em memória, onde a diferença é só de CPU e driver. Contra um PostgreSQL
+ * descartável, cada INSERT avulso é também uma ida e volta pela rede:
+ * ./gradlew jmh -PjmhIncludes=InsercaoEmLote -Pjmh.url=jdbc:postgresql://localhost:5432/futime_bench
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InsercaoEmLoteBenchmark {
+
+    private static final int LINHAS = 1_000;
+    private static final int LOTE = 50;
+
+    @MappedSuperclass
+    public abstract static class Colunas {
+
+        @Column(name = "partida_id", nullable = false)
+        int partidaId;
+
+        @Column(name = "jogador_id", nullable = false)
+        int jogadorId;
+
+        @Column(name = "minutos_jogados", nullable = false)
+        int minutosJogados;
+
+        @Column(nullable = false)
+        boolean titular;
+
+        @Column(nullable = false)
+        int gols;
+
+        @Column(nullable = false)
+        int finalizacoes;
+
+        @Column(name = "created_at", nullable = false)
+        LocalDateTime createdAt;
+
+        @Column(name = "updated_at", nullable = false)
+        LocalDateTime updatedAt;
+
+        Colunas preencher(int i) {
+            partidaId = i % 100;
+            jogadorId = i;
+            minutosJogados = 90;
+            titular = true;
+            gols = i % 3;
+            finalizacoes = i % 5;
+            createdAt = LocalDateTime.now();
+            updatedAt = createdAt;
+            return this;
+        }
+    }
+
+    @Entity(name = "EstatisticaIdentidade")
+    @Table(name = "benchmark_estatistica_identidade")
+    public static class EstatisticaIdentidade extends Colunas {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Integer id;
+    }
+
+    @Entity(name = "EstatisticaSequencia")
+    @Table(name = "benchmark_estatistica_sequencia")
+    public static class EstatisticaSequencia extends Colunas {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_estatistica_seq")
+        @SequenceGenerator(name = "benchmark_estatistica_seq", sequenceName = "benchmark_estatistica_seq",
+                allocationSize = LOTE)
+        Integer id;
+    }
+
+    private SessionFactory fabrica;
+
+    @Setup
+    public void preparar() {
+        fabrica = new Configuration()
+                .addAnnotatedClass(EstatisticaIdentidade.class)
+                .addAnnotatedClass(EstatisticaSequencia.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        System.getProperty("futime.jmh.url", "jdbc:h2:mem:insercao;DB_CLOSE_DELAY=-1"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("futime.jmh.usuario", "sa"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("futime.jmh.senha", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // A mesma configuração de escrita da aplicação nos dois casos
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(LOTE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    // Tabelas vazias a cada iteração, para as duas medirem inserções no mesmo tamanho de tabela
+    @TearDown(Level.Iteration)
+    public void limpar() {
+        fabrica.inTransaction(sessao -> {
+            sessao.createMutationQuery("delete from EstatisticaIdentidade").executeUpdate();
+            sessao.createMutationQuery("delete from EstatisticaSequencia").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void encerrar() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void antesIdentidade() {
+        inserir(i -> new EstatisticaIdentidade().preencher(i));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void depoisSequenciaEmLote() {
+        inserir(i -> new EstatisticaSequencia().preencher(i));
+    }
+
+    private void inserir(IntFunction<Colunas> linha) {
+        fabrica.inTransaction(sessao -> {
+            for (int i = 0; i < LINHAS; i++) {
+                sessao.persist(linha.apply(i));
+            }
+        });
+    }
+}
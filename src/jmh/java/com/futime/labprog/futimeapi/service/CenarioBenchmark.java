@@ -0,0 +1,208 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.model.Clube;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.Estadio;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorTemporada;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.model.Usuario;
+import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.CompeticaoClubeProjecao;
+import com.futime.labprog.futimeapi.repository.CompeticaoProjecao;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstadioRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dados dos benchmarks de mapeamento: entidades montadas à mão (sem Hibernate, então sem proxies
+ * LAZY) e um DadosReferenciaCache carregado de repositórios falsos, como na inicialização da API.
+ *
+ * Os IDs de clube vão de 1 a {@link #CLUBES} e os de competição de 1 a {@link #COMPETICOES}; IDs
+ * acima disso ficam fora da fotografia e obrigam os mappers a montar o DTO a partir da entidade.
+ */
+final class CenarioBenchmark {
+
+    static final int CLUBES = 60;
+    static final int COMPETICOES = 48;
+    // Competições da fotografia: cada uma com os 20 primeiros clubes, como uma liga nacional
+    private static final int CLUBES_POR_COMPETICAO = 20;
+
+    private static final LocalDateTime CRIADO_EM = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private CenarioBenchmark() {
+    }
+
+    /** Fotografia com {@link #CLUBES} clubes (cada um com seu estádio) e {@link #COMPETICOES} competições. */
+    static DadosReferenciaCache referencias() {
+        List<EstadioResponseDTO> estadios = new ArrayList<>();
+        List<ClubeResponseDTO> clubes = new ArrayList<>();
+        for (int id = 1; id <= CLUBES; id++) {
+            EstadioResponseDTO estadio = new EstadioResponseDTO(id, "Estádio " + id, "Cidade " + id, "Brasil");
+            estadios.add(estadio);
+            clubes.add(new ClubeResponseDTO(id, "Clube " + id, sigla(id), "Cidade " + id, "Brasil", estadio));
+        }
+        List<CompeticaoProjecao> competicoes = new ArrayList<>();
+        List<CompeticaoClubeProjecao> participacoes = new ArrayList<>();
+        for (int id = 1; id <= COMPETICOES; id++) {
+            competicoes.add(new CompeticaoProjecao(id, "Competição " + id, "Brasil", "América do Sul",
+                    id % 3 == 0 ? TipoCompeticao.MATA_MATA : TipoCompeticao.PONTOS_CORRIDOS, temporada(id),
+                    CRIADO_EM, CRIADO_EM));
+            for (int clube = 1; clube <= CLUBES_POR_COMPETICAO; clube++) {
+                participacoes.add(new CompeticaoClubeProjecao(id, clube));
+            }
+        }
+
+        DadosReferenciaCache cache = new DadosReferenciaCache(
+                repositorio(EstadioRepository.class, Map.of("listarTodosDTO", estadios)),
+                repositorio(ClubeRepository.class, Map.of("listarTodosDTO", clubes)),
+                repositorio(CompeticaoRepository.class, Map.of(
+                        "listarTodasProjecao", competicoes,
+                        "listarParticipacoes", participacoes)),
+                new SemTransacao());
+        cache.recarregar();
+        return cache;
+    }
+
+    static Clube clube(int id) {
+        Estadio estadio = new Estadio("Estádio " + id, "Cidade " + id, "Brasil");
+        estadio.setId(id);
+        Clube clube = new Clube();
+        clube.setId(id);
+        clube.setNome("Clube " + id);
+        clube.setSigla(sigla(id));
+        clube.setCidade("Cidade " + id);
+        clube.setPais("Brasil");
+        clube.setEstadio(estadio);
+        return clube;
+    }
+
+    /** Competição com os clubes de ID {@code primeiroClube} até {@code primeiroClube + clubes - 1}. */
+    static Competicao competicao(int id, int primeiroClube, int clubes) {
+        Competicao competicao = new Competicao("Competição " + id, "Brasil", "América do Sul",
+                TipoCompeticao.PONTOS_CORRIDOS, temporada(id));
+        competicao.setId(id);
+        competicao.setCreatedAt(CRIADO_EM);
+        competicao.setUpdatedAt(CRIADO_EM);
+        List<Clube> participantes = new ArrayList<>(clubes);
+        for (int i = 0; i < clubes; i++) {
+            participantes.add(clube(primeiroClube + i));
+        }
+        competicao.setClubes(participantes);
+        return competicao;
+    }
+
+    /**
+     * Jogador com estatísticas em {@code competicoes} competições da fotografia, espalhadas por
+     * temporadas de quatro competições cada (liga, copa nacional, estadual e continental).
+     */
+    static Jogador jogador(int id, int competicoes, Random aleatorio) {
+        Jogador jogador = new Jogador("Jogador Número " + id, "Jogador " + id, LocalDate.of(1995, 1, 1)
+                .plusDays(aleatorio.nextInt(5_000)), "Atacante", clube(1 + id % CLUBES));
+        jogador.setId(id);
+        jogador.setValorDeMercado(1_000_000.0 + aleatorio.nextInt(50_000_000));
+        jogador.setImageUrl("https://img.futime.local/jogadores/" + id + ".png");
+
+        List<EstatisticasJogadorCompeticao> estatisticas = new ArrayList<>(competicoes);
+        List<EstatisticasJogadorTemporada> temporadas = new ArrayList<>();
+        int gols = 0;
+        int assistencias = 0;
+        for (int i = 0; i < competicoes; i++) {
+            int competicaoId = 1 + i % COMPETICOES;
+            EstatisticasJogadorCompeticao estatistica = new EstatisticasJogadorCompeticao();
+            estatistica.setId(id * 1_000 + i);
+            estatistica.setJogador(jogador);
+            // Basta o ID: com a competição na fotografia o mapper não lê mais nada da entidade
+            Competicao competicao = new Competicao();
+            competicao.setId(competicaoId);
+            estatistica.setCompeticao(competicao);
+            estatistica.setGols(aleatorio.nextInt(20));
+            estatistica.setAssistencias(aleatorio.nextInt(12));
+            estatistica.setJogosDisputados(10 + aleatorio.nextInt(28));
+            estatisticas.add(estatistica);
+            gols += estatistica.getGols();
+            assistencias += estatistica.getAssistencias();
+
+            if (i % 4 == 0) {
+                EstatisticasJogadorTemporada temporada = new EstatisticasJogadorTemporada(jogador,
+                        temporada(competicaoId));
+                temporadas.add(temporada);
+            }
+            EstatisticasJogadorTemporada temporada = temporadas.get(temporadas.size() - 1);
+            temporada.setGols(temporada.getGols() + estatistica.getGols());
+            temporada.setAssistencias(temporada.getAssistencias() + estatistica.getAssistencias());
+            temporada.setRegistros(temporada.getRegistros() + 1);
+        }
+        jogador.setEstatisticas(estatisticas);
+        jogador.setEstatisticasTemporada(temporadas);
+        jogador.setGolsTotais(gols);
+        jogador.setAssistenciasTotais(assistencias);
+        return jogador;
+    }
+
+    /** Usuário com {@code observados} jogadores na lista de observação, cada um em {@code competicoes} competições. */
+    static Usuario usuario(int observados, int competicoes, Random aleatorio) {
+        Usuario usuario = new Usuario("torcedor@futime.local", "{noop}senha", "Torcedor");
+        usuario.setId(1);
+        usuario.setClubeFavorito(clube(1));
+        List<Jogador> jogadores = new ArrayList<>(observados);
+        for (int i = 1; i <= observados; i++) {
+            jogadores.add(jogador(i, competicoes, aleatorio));
+        }
+        usuario.setJogadoresObservados(jogadores);
+        return usuario;
+    }
+
+    private static String sigla(int id) {
+        return "C" + (id < 10 ? "0" : "") + id;
+    }
+
+    private static String temporada(int competicaoId) {
+        return String.valueOf(2025 - competicaoId / 4);
+    }
+
+    // Cada método chamado devolve a lista configurada; qualquer outro é um erro do cenário
+    @SuppressWarnings("unchecked")
+    private static <R> R repositorio(Class<R> tipo, Map<String, Object> respostas) {
+        return (R) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, metodo, args) -> {
+            Object resposta = respostas.get(metodo.getName());
+            if (resposta == null) {
+                throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+            }
+            return resposta;
+        });
+    }
+
+    // A carga do DadosReferenciaCache roda num TransactionTemplate; aqui não há transação do Spring
+    // (em LeituraPartidasBenchmark cada consulta abre a sua no Hibernate)
+    static final class SemTransacao implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
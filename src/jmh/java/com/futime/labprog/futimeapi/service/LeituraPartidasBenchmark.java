@@ -0,0 +1,222 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.dto.PartidaResponseDTO;
+import com.futime.labprog.futimeapi.model.Clube;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.Estadio;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorTemporada;
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.JogadorEstatisticaPartida;
+import com.futime.labprog.futimeapi.model.Partida;
+import com.futime.labprog.futimeapi.model.Usuario;
+import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstadioRepository;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.SelectionQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma página de GET /partidas antes e depois da leitura por projeção:
+ * - antes: entidades Partida com join fetch dos dois clubes (e seus estádios) e do estádio,
+ *   convertidas em DTO uma a uma, como a listagem fazia;
+ * - depois: PartidaServiceImpl.listarPartidas de hoje, com a PartidaRepository.PROJECAO (só as
+ *   colunas de partidas) e clubes e estádios resolvidos no DadosReferenciaCache.
+ *
+ * As entidades do modelo rodam num Hibernate avulso sobre um H2 em memória, sem Spring. Os
+ * repositórios são proxies que executam a JPQL do @Query de cada método, então o "depois" usa as
+ * consultas reais do PartidaRepository e da carga da fotografia. As duas leituras são só de leitura
+ * (sem snapshot das entidades), como numa transação readOnly. Cada operação lê uma página de
+ * {@link #PAGINA} partidas pelo cursor e segue pela tabela; o gc.alloc.rate.norm do profiler
+ * mostra quanto cada página aloca.
+ *
+ * ./gradlew jmh -PjmhIncludes=LeituraPartidas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeituraPartidasBenchmark {
+
+    private static final int ESTADIOS = 40;
+    private static final int CLUBES = 200;
+    private static final int PARTIDAS = 20_000;
+    private static final int PAGINA = 500;
+
+    // Uma consulta só, sem N+1, mas hidratando partida, clubes e estádios inteiros
+    private static final String ENTIDADES = """
+            select p from Partida p
+            join fetch p.mandante m left join fetch m.estadio
+            join fetch p.visitante v left join fetch v.estadio
+            join fetch p.estadio
+            where p.id > :after order by p.id
+            """;
+
+    private SessionFactory fabrica;
+    private PartidaServiceImpl partidaService;
+    // Cursor da próxima página; null volta ao começo da tabela
+    private Integer after;
+
+    @Setup
+    public void preparar() {
+        Configuration configuracao = new Configuration();
+        for (Class<?> entidade : List.of(Estadio.class, Clube.class, Competicao.class, Partida.class, Jogador.class,
+                EstatisticasJogadorCompeticao.class, EstatisticasJogadorTemporada.class,
+                JogadorEstatisticaPartida.class, Usuario.class)) {
+            configuracao.addAnnotatedClass(entidade);
+        }
+        fabrica = configuracao
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:leitura;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // Nomes de tabela e coluna como o Spring Boot gera
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                        CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+        popular();
+
+        DadosReferenciaCache referencias = new DadosReferenciaCache(repositorio(EstadioRepository.class),
+                repositorio(ClubeRepository.class), repositorio(CompeticaoRepository.class),
+                new CenarioBenchmark.SemTransacao());
+        referencias.recarregar();
+        // A listagem só usa o repositório de partidas e a fotografia
+        partidaService = new PartidaServiceImpl(repositorio(PartidaRepository.class), null, null, null, referencias,
+                null, null, null);
+    }
+
+    @TearDown
+    public void encerrar() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    public PaginaResponseDTO<PartidaResponseDTO> antesEntidades() {
+        PaginaResponseDTO<PartidaResponseDTO> pagina = fabrica.fromTransaction(sessao -> {
+            sessao.setDefaultReadOnly(true);
+            List<Partida> partidas = sessao.createSelectionQuery(ENTIDADES, Partida.class)
+                    .setParameter("after", Paginacao.cursorInicial(after))
+                    .setMaxResults(PAGINA + 1)
+                    .getResultList();
+            return Paginacao.montar(partidas, PAGINA, Partida::getId, LeituraPartidasBenchmark::converter);
+        });
+        after = pagina.proximoCursor();
+        return pagina;
+    }
+
+    @Benchmark
+    public PaginaResponseDTO<PartidaResponseDTO> depoisProjecao() {
+        PaginaResponseDTO<PartidaResponseDTO> pagina = partidaService.listarPartidas(after, PAGINA);
+        after = pagina.proximoCursor();
+        return pagina;
+    }
+
+    private void popular() {
+        fabrica.inTransaction(sessao -> {
+            List<Estadio> estadios = new ArrayList<>(ESTADIOS);
+            for (int i = 1; i <= ESTADIOS; i++) {
+                Estadio estadio = new Estadio("Estádio " + i, "Cidade " + i, "BRA");
+                sessao.persist(estadio);
+                estadios.add(estadio);
+            }
+            List<Clube> clubes = new ArrayList<>(CLUBES);
+            for (int i = 1; i <= CLUBES; i++) {
+                Clube clube = new Clube();
+                clube.setNome("Clube " + i);
+                clube.setSigla("C" + i);
+                clube.setCidade("Cidade " + i);
+                clube.setPais("Brasil");
+                clube.setEstadio(estadios.get(i % ESTADIOS));
+                sessao.persist(clube);
+                clubes.add(clube);
+            }
+            LocalDateTime primeiraRodada = LocalDateTime.of(2020, 1, 25, 16, 0);
+            for (int i = 0; i < PARTIDAS; i++) {
+                Partida partida = new Partida();
+                partida.setMandante(clubes.get(i % CLUBES));
+                partida.setVisitante(clubes.get((i + 1 + i / CLUBES) % CLUBES));
+                partida.setEstadio(estadios.get(i % ESTADIOS));
+                partida.setFase(FaseCompeticao.PONTOS_CORRIDOS);
+                partida.setGolsMandante(i % 4);
+                partida.setGolsVisitante(i % 3);
+                partida.setDataHora(primeiraRodada.plusDays(i / 10));
+                sessao.persist(partida);
+                if (i % 1_000 == 999) {
+                    sessao.flush();
+                    sessao.clear();
+                }
+            }
+        });
+    }
+
+    // Repositório Spring Data de mentira: cada método executa a JPQL do próprio @Query, com os
+    // @Param e o Limit dos argumentos, numa transação só de leitura
+    @SuppressWarnings("unchecked")
+    private <R> R repositorio(Class<R> tipo) {
+        return (R) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, metodo, args) -> {
+            Query jpql = metodo.getAnnotation(Query.class);
+            if (jpql == null) {
+                throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+            }
+            return fabrica.fromTransaction(sessao -> {
+                sessao.setDefaultReadOnly(true);
+                SelectionQuery<Object> consulta = sessao.createSelectionQuery(jpql.value(), Object.class);
+                Parameter[] parametros = metodo.getParameters();
+                for (int i = 0; i < parametros.length; i++) {
+                    Param nome = parametros[i].getAnnotation(Param.class);
+                    if (nome != null) {
+                        consulta.setParameter(nome.value(), args[i]);
+                    } else if (args[i] instanceof Limit limite) {
+                        consulta.setMaxResults(limite.max());
+                    }
+                }
+                return consulta.getResultList();
+            });
+        });
+    }
+
+    private static PartidaResponseDTO converter(Partida partida) {
+        return new PartidaResponseDTO(partida.getId(), converter(partida.getMandante()),
+                converter(partida.getVisitante()), converter(partida.getEstadio()),
+                partida.getCompeticao() == null ? null : partida.getCompeticao().getId(), partida.getFase(),
+                partida.getGolsMandante(), partida.getGolsVisitante(), partida.getDataHora(),
+                partida.getCreatedAt(), partida.getUpdatedAt());
+    }
+
+    private static ClubeResponseDTO converter(Clube clube) {
+        return new ClubeResponseDTO(clube.getId(), clube.getNome(), clube.getSigla(), clube.getCidade(),
+                clube.getPais(), clube.getEstadio() == null ? null : converter(clube.getEstadio()));
+    }
+
+    private static EstadioResponseDTO converter(Estadio estadio) {
+        return new EstadioResponseDTO(estadio.getId(), estadio.getNome(), estadio.getCidade(), estadio.getPais());
+    }
+}
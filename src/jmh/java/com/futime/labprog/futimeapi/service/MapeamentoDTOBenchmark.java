@@ -0,0 +1,102 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.UsuarioResponseDTO;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo dos mappers entidade → DTO chamados em toda resposta de jogador, usuário e competição.
+ * Cada estado tem seus próprios parâmetros, então cada benchmark varia só o que pesa nele:
+ * competições do jogador, tamanho da lista de observação, clubes da competição.
+ *
+ * ./gradlew jmh (resultados em build/reports/jmh/resultados.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapeamentoDTOBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class JogadorComCompeticoes {
+
+        @Param({ "4", "16", "48" })
+        public int competicoes;
+
+        JogadorServiceImpl servico;
+        Jogador jogador;
+
+        @Setup
+        public void preparar() {
+            servico = new JogadorServiceImpl(null, null, CenarioBenchmark.referencias(), null, null);
+            jogador = CenarioBenchmark.jogador(7, competicoes, new Random(42));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UsuarioComObservados {
+
+        @Param({ "10", "100", "500" })
+        public int observados;
+
+        UsuarioServiceImpl servico;
+        Usuario usuario;
+
+        @Setup
+        public void preparar() {
+            DadosReferenciaCache referencias = CenarioBenchmark.referencias();
+            JogadorServiceImpl jogadores = new JogadorServiceImpl(null, null, referencias, null, null);
+            servico = new UsuarioServiceImpl(null, null, null, jogadores, null, referencias, null);
+            usuario = CenarioBenchmark.usuario(observados, 8, new Random(42));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CompeticaoComClubes {
+
+        @Param({ "20", "40" })
+        public int clubes;
+
+        // false: clubes fora da fotografia, o DTO de cada um é montado a partir da entidade
+        @Param({ "true", "false" })
+        public boolean naFotografia;
+
+        CompeticaoServiceImpl servico;
+        Competicao competicao;
+
+        @Setup
+        public void preparar() {
+            servico = new CompeticaoServiceImpl(null, null, null, CenarioBenchmark.referencias(), null, null, null);
+            int primeiroClube = naFotografia ? 1 : CenarioBenchmark.CLUBES + 1;
+            competicao = CenarioBenchmark.competicao(1, primeiroClube, clubes);
+        }
+    }
+
+    @Benchmark
+    public JogadorResponseDTO jogador(JogadorComCompeticoes estado) {
+        return estado.servico.toResponseDTO(estado.jogador);
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO usuario(UsuarioComObservados estado) {
+        return estado.servico.toResponseDTO(estado.usuario);
+    }
+
+    @Benchmark
+    public CompeticaoResponseDTO competicao(CompeticaoComClubes estado) {
+        return estado.servico.toResponseDTO(estado.competicao);
+    }
+}
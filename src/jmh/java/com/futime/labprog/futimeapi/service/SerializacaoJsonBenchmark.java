@@ -0,0 +1,84 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.UsuarioResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização, com Jackson, dos records que os mappers devolvem: a outra metade do custo de uma
+ * resposta depois que as entidades já foram lidas. Os DTOs são montados uma vez no setup; só o
+ * writeValueAsBytes é medido.
+ *
+ * O ObjectMapper sai do Jackson2ObjectMapperBuilder, o mesmo ponto de partida do Spring Boot
+ * (datas em ISO-8601, módulos java.time registrados). O jogador tem 16 competições e a
+ * competição, 20 clubes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoJsonBenchmark {
+
+    private ObjectMapper mapper;
+    private JogadorResponseDTO jogador;
+    private CompeticaoResponseDTO competicao;
+
+    @Setup
+    public void preparar() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        DadosReferenciaCache referencias = CenarioBenchmark.referencias();
+        JogadorServiceImpl jogadores = new JogadorServiceImpl(null, null, referencias, null, null);
+        CompeticaoServiceImpl competicoes = new CompeticaoServiceImpl(null, null, null, referencias, null, null,
+                null);
+        jogador = jogadores.toResponseDTO(CenarioBenchmark.jogador(7, 16, new Random(42)));
+        competicao = competicoes.toResponseDTO(CenarioBenchmark.competicao(1, 1, 20));
+    }
+
+    // Só o benchmark do usuário varia o tamanho da lista de observação
+    @State(Scope.Benchmark)
+    public static class UsuarioMapeado {
+
+        @Param({ "10", "100", "500" })
+        public int observados;
+
+        UsuarioResponseDTO usuario;
+
+        @Setup
+        public void preparar() {
+            DadosReferenciaCache referencias = CenarioBenchmark.referencias();
+            JogadorServiceImpl jogadores = new JogadorServiceImpl(null, null, referencias, null, null);
+            UsuarioServiceImpl usuarios = new UsuarioServiceImpl(null, null, null, jogadores, null, referencias,
+                    null);
+            usuario = usuarios.toResponseDTO(CenarioBenchmark.usuario(observados, 8, new Random(42)));
+        }
+    }
+
+    @Benchmark
+    public byte[] jogador() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(jogador);
+    }
+
+    @Benchmark
+    public byte[] usuario(UsuarioMapeado estado) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(estado.usuario);
+    }
+
+    @Benchmark
+    public byte[] competicao() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(competicao);
+    }
+}
@@ -0,0 +1,190 @@
+package com.futime.labprog.futimeapi.busca;
+
+import com.futime.labprog.futimeapi.cache.DadosReferenciaAlteradosEvent;
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.ranking.EstatisticaCompeticaoAlteradaEvent;
+import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.ContagemPorId;
+import com.futime.labprog.futimeapi.repository.EstadioRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import com.futime.labprog.futimeapi.repository.SugestaoJogadorProjecao;
+import com.futime.labprog.futimeapi.service.JogadorAlteradoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Autocompletar de jogadores (apelido), clubes (nome e sigla) e estádios (nome), respondido só
+ * pelo IndicePrefixos em memória. O peso de popularidade é calculado na carga: gols + assistências
+ * de carreira do jogador, partidas disputadas pelo clube e partidas sediadas pelo estádio.
+ *
+ * Mantido após o commit: jogador alterado ou com estatísticas novas é relido e trocado sozinho no
+ * índice; uma alteração em clubes ou estádios recarrega só as sugestões daquele tipo (tabelas
+ * pequenas), já com as contagens de partidas atuais. Partidas novas não mexem no peso até a
+ * próxima recarga do tipo.
+ */
+@Component
+public class Autocompletar implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(Autocompletar.class);
+
+    private final JogadorRepository jogadorRepository;
+    private final ClubeRepository clubeRepository;
+    private final EstadioRepository estadioRepository;
+    private final PartidaRepository partidaRepository;
+    private final TransactionTemplate transacaoLeitura;
+
+    // Trocado inteiro a cada alteração: as consultas leem sem bloqueio
+    private volatile IndicePrefixos indice = IndicePrefixos.vazio();
+    // As instâncias indexadas hoje, para saber o que sai do índice; só usado sob a trava
+    private final Map<TipoSugestao, Map<Integer, Sugestao>> indexadas = new EnumMap<>(TipoSugestao.class);
+    // Serializa cargas e alterações; é um ReentrantLock porque elas releem o banco com a trava presa
+    private final ReentrantLock trava = new ReentrantLock();
+
+    public Autocompletar(JogadorRepository jogadorRepository, ClubeRepository clubeRepository,
+            EstadioRepository estadioRepository, PartidaRepository partidaRepository,
+            PlatformTransactionManager transactionManager) {
+        this.jogadorRepository = jogadorRepository;
+        this.clubeRepository = clubeRepository;
+        this.estadioRepository = estadioRepository;
+        this.partidaRepository = partidaRepository;
+        // Nova transação: os eventos chegam após o commit, quando a transação de origem já terminou
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transacaoLeitura.setReadOnly(true);
+        for (TipoSugestao tipo : TipoSugestao.values()) {
+            indexadas.put(tipo, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        trava.lock();
+        try {
+            List<Sugestao> todas = new ArrayList<>();
+            todas.addAll(registrar(TipoSugestao.JOGADOR, transacaoLeitura.execute(status -> jogadores())));
+            todas.addAll(registrar(TipoSugestao.CLUBE, transacaoLeitura.execute(status -> clubes())));
+            todas.addAll(registrar(TipoSugestao.ESTADIO, transacaoLeitura.execute(status -> estadios())));
+            indice = IndicePrefixos.de(todas);
+            log.info("Autocompletar carregado: {} sugestões, {} termos", todas.size(), indice.tamanho());
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /** Até {@code limite} (no máximo {@value IndicePrefixos#MAXIMO_SUGESTOES}) sugestões, das mais populares. */
+    public List<Sugestao> sugerir(String prefixo, int limite) {
+        return indice.buscar(prefixo, Math.min(limite, IndicePrefixos.MAXIMO_SUGESTOES));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarJogador(JogadorAlteradoEvent evento) {
+        atualizarJogador(evento.jogadorId());
+    }
+
+    // Gols e assistências de carreira mudam junto com as estatísticas por competição
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarEstatistica(EstatisticaCompeticaoAlteradaEvent evento) {
+        atualizarJogador(evento.jogadorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarReferencias(DadosReferenciaAlteradosEvent evento) {
+        trava.lock();
+        try {
+            switch (evento.origem()) {
+                case "clubes" -> substituir(TipoSugestao.CLUBE, transacaoLeitura.execute(status -> clubes()));
+                case "estadios" -> substituir(TipoSugestao.ESTADIO, transacaoLeitura.execute(status -> estadios()));
+                default -> {
+                }
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // Serializado: cada evento relê o estado já commitado, então o último a rodar deixa o mais novo
+    private void atualizarJogador(Integer jogadorId) {
+        trava.lock();
+        try {
+            Optional<Sugestao> nova = transacaoLeitura.execute(status ->
+                    jogadorRepository.buscarParaAutocompletar(jogadorId).map(Autocompletar::sugestao));
+            Sugestao anterior = indexadas.get(TipoSugestao.JOGADOR).get(jogadorId);
+            if (nova.isPresent() && nova.get().equals(anterior)) {
+                return;
+            }
+            nova.ifPresentOrElse(s -> indexadas.get(TipoSugestao.JOGADOR).put(jogadorId, s),
+                    () -> indexadas.get(TipoSugestao.JOGADOR).remove(jogadorId));
+            indice = indice.trocar(anterior == null ? List.of() : List.of(anterior),
+                    nova.map(List::of).orElse(List.of()));
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void substituir(TipoSugestao tipo, List<Sugestao> novas) {
+        List<Sugestao> anteriores = List.copyOf(indexadas.get(tipo).values());
+        indexadas.get(tipo).clear();
+        indice = indice.trocar(anteriores, registrar(tipo, novas));
+    }
+
+    private List<Sugestao> registrar(TipoSugestao tipo, List<Sugestao> sugestoes) {
+        sugestoes.forEach(s -> indexadas.get(tipo).put(s.id(), s));
+        return sugestoes;
+    }
+
+    private List<Sugestao> jogadores() {
+        return jogadorRepository.listarParaAutocompletar().stream().map(Autocompletar::sugestao).toList();
+    }
+
+    private List<Sugestao> clubes() {
+        Map<Integer, Integer> partidas = new HashMap<>();
+        somar(partidas, partidaRepository.contarPorMandante());
+        somar(partidas, partidaRepository.contarPorVisitante());
+        List<Sugestao> sugestoes = new ArrayList<>();
+        for (ClubeResponseDTO clube : clubeRepository.listarTodosDTO()) {
+            sugestoes.add(new Sugestao(TipoSugestao.CLUBE, clube.id(), clube.nome(), clube.sigla(),
+                    partidas.getOrDefault(clube.id(), 0)));
+        }
+        return sugestoes;
+    }
+
+    private List<Sugestao> estadios() {
+        Map<Integer, Integer> partidas = new HashMap<>();
+        somar(partidas, partidaRepository.contarPorEstadio());
+        List<Sugestao> sugestoes = new ArrayList<>();
+        for (EstadioResponseDTO estadio : estadioRepository.listarTodosDTO()) {
+            sugestoes.add(new Sugestao(TipoSugestao.ESTADIO, estadio.id(), estadio.nome(), null,
+                    partidas.getOrDefault(estadio.id(), 0)));
+        }
+        return sugestoes;
+    }
+
+    private static void somar(Map<Integer, Integer> totais, List<ContagemPorId> contagens) {
+        for (ContagemPorId contagem : contagens) {
+            if (contagem.id() != null) {
+                totais.merge(contagem.id(), (int) contagem.total(), Integer::sum);
+            }
+        }
+    }
+
+    private static Sugestao sugestao(SugestaoJogadorProjecao jogador) {
+        return new Sugestao(TipoSugestao.JOGADOR, jogador.id(), jogador.nome(), null, jogador.peso());
+    }
+}
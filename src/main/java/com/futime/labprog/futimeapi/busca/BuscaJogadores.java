@@ -0,0 +1,73 @@
+package com.futime.labprog.futimeapi.busca;
+
+import com.futime.labprog.futimeapi.repository.JogadorBuscaProjecao;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import com.futime.labprog.futimeapi.service.JogadorAlteradoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Busca aproximada de jogadores por nome completo e apelido, sem acentos e tolerante a erros de
+ * digitação, num IndiceTrigramas em memória.
+ *
+ * Carregado uma vez na inicialização e mantido pelo JogadorAlteradoEvent: após o commit a linha
+ * do jogador é relida e reindexada (ou removida, se não existe mais). Como no
+ * DadosReferenciaCache, jogadores gravados direto no banco só entram ao reiniciar.
+ */
+@Component
+public class BuscaJogadores implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaJogadores.class);
+
+    private final JogadorRepository jogadorRepository;
+    private final TransactionTemplate transacaoLeitura;
+    private final IndiceTrigramas<JogadorBuscaProjecao> indice = new IndiceTrigramas<>();
+    private final ReentrantLock atualizacao = new ReentrantLock();
+
+    public BuscaJogadores(JogadorRepository jogadorRepository, PlatformTransactionManager transactionManager) {
+        this.jogadorRepository = jogadorRepository;
+        // Nova transação: os eventos chegam após o commit, quando a transação de origem já terminou
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<JogadorBuscaProjecao> jogadores = transacaoLeitura.execute(status -> jogadorRepository.listarParaBusca());
+        jogadores.forEach(this::indexar);
+        log.info("Índice de busca de jogadores carregado: {} jogadores", indice.tamanho());
+    }
+
+    // Serializado: cada evento relê o estado já commitado, então o último a rodar deixa o mais novo
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarJogador(JogadorAlteradoEvent evento) {
+        atualizacao.lock();
+        try {
+            Optional<JogadorBuscaProjecao> jogador = transacaoLeitura.execute(status ->
+                    jogadorRepository.buscarParaBusca(evento.jogadorId()));
+            jogador.ifPresentOrElse(this::indexar, () -> indice.remover(evento.jogadorId()));
+        } finally {
+            atualizacao.unlock();
+        }
+    }
+
+    public List<IndiceTrigramas.Resultado<JogadorBuscaProjecao>> buscar(String consulta, int limite) {
+        return indice.buscar(consulta, limite);
+    }
+
+    private void indexar(JogadorBuscaProjecao jogador) {
+        indice.indexar(jogador.id(), jogador, jogador.nomeCompleto(), jogador.apelido());
+    }
+}
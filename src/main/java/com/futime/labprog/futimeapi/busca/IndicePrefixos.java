@@ -0,0 +1,186 @@
+package com.futime.labprog.futimeapi.busca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice do autocompletar: um array ordenado com um termo normalizado por início de palavra de
+ * cada sugestão ("Real Madrid" entra como "real madrid" e "madrid"). As sugestões de um prefixo
+ * são o intervalo contíguo que começa nele, achado por busca binária; dele saem as de maior peso.
+ *
+ * Intervalos curtos são varridos a cada consulta. Os de prefixos muito comuns ("m", "sa") são
+ * varridos uma vez e as melhores sugestões ficam guardadas por prefixo, então a consulta custa
+ * duas buscas binárias e um acesso a mapa.
+ *
+ * Imutável: uma alteração gera um novo índice (intercalando os arrays, sem reordenar tudo), que
+ * herda as listas guardadas dos prefixos que a alteração não afeta.
+ */
+final class IndicePrefixos {
+
+    /** Quantas sugestões uma consulta pode pedir. */
+    static final int MAXIMO_SUGESTOES = 20;
+
+    // Intervalos até este tamanho são varridos a cada consulta, sem guardar o resultado
+    private static final int VARREDURA_MAXIMA = 256;
+
+    static final Comparator<Sugestao> ORDEM = Comparator.comparingInt(Sugestao::peso).reversed()
+            .thenComparingInt(s -> s.texto().length())
+            .thenComparing(Sugestao::texto)
+            .thenComparing(Sugestao::tipo)
+            .thenComparing(Sugestao::id);
+
+    private record Entrada(String termo, Sugestao sugestao) {
+    }
+
+    private final String[] termos;
+    private final Sugestao[] donos;
+    private final Map<String, List<Sugestao>> prefixosComuns;
+
+    private IndicePrefixos(String[] termos, Sugestao[] donos, Map<String, List<Sugestao>> prefixosComuns) {
+        this.termos = termos;
+        this.donos = donos;
+        this.prefixosComuns = prefixosComuns;
+    }
+
+    static IndicePrefixos vazio() {
+        return new IndicePrefixos(new String[0], new Sugestao[0], new ConcurrentHashMap<>());
+    }
+
+    static IndicePrefixos de(Collection<Sugestao> sugestoes) {
+        return vazio().trocar(List.of(), sugestoes);
+    }
+
+    int tamanho() {
+        return termos.length;
+    }
+
+    /** Novo índice sem as {@code removidas} (as mesmas instâncias indexadas) e com as {@code novas}. */
+    IndicePrefixos trocar(Collection<Sugestao> removidas, Collection<Sugestao> novas) {
+        Set<Sugestao> saem = Collections.newSetFromMap(new IdentityHashMap<>());
+        saem.addAll(removidas);
+
+        List<Entrada> entram = new ArrayList<>();
+        Set<String> termosAlterados = new LinkedHashSet<>();
+        for (Sugestao sugestao : novas) {
+            for (String termo : termos(sugestao)) {
+                entram.add(new Entrada(termo, sugestao));
+                termosAlterados.add(termo);
+            }
+        }
+        entram.sort(Comparator.comparing(Entrada::termo));
+        for (Sugestao sugestao : removidas) {
+            termosAlterados.addAll(termos(sugestao));
+        }
+
+        // Intercala o array atual (menos as removidas) com as entradas novas, já ordenadas
+        int capacidade = termos.length + entram.size();
+        String[] novosTermos = new String[capacidade];
+        Sugestao[] novosDonos = new Sugestao[capacidade];
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < termos.length; i++) {
+            if (saem.contains(donos[i])) {
+                continue;
+            }
+            while (j < entram.size() && entram.get(j).termo().compareTo(termos[i]) < 0) {
+                novosTermos[n] = entram.get(j).termo();
+                novosDonos[n++] = entram.get(j++).sugestao();
+            }
+            novosTermos[n] = termos[i];
+            novosDonos[n++] = donos[i];
+        }
+        while (j < entram.size()) {
+            novosTermos[n] = entram.get(j).termo();
+            novosDonos[n++] = entram.get(j++).sugestao();
+        }
+
+        Map<String, List<Sugestao>> herdados = new ConcurrentHashMap<>();
+        prefixosComuns.forEach((prefixo, melhores) -> {
+            if (termosAlterados.stream().noneMatch(termo -> termo.startsWith(prefixo))) {
+                herdados.put(prefixo, melhores);
+            }
+        });
+        return new IndicePrefixos(Arrays.copyOf(novosTermos, n), Arrays.copyOf(novosDonos, n), herdados);
+    }
+
+    /** Até {@code limite} sugestões com alguma palavra começando por {@code consulta}, das de maior peso. */
+    List<Sugestao> buscar(String consulta, int limite) {
+        String prefixo = TextoBusca.normalizar(consulta);
+        if (prefixo.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        int inicio = limiteInferior(prefixo);
+        int fim = limiteInferior(prefixo + Character.MAX_VALUE);
+        List<Sugestao> melhores = fim - inicio <= VARREDURA_MAXIMA
+                ? melhores(inicio, fim)
+                : prefixosComuns.computeIfAbsent(prefixo, p -> melhores(inicio, fim));
+        return melhores.subList(0, Math.min(limite, melhores.size()));
+    }
+
+    private List<Sugestao> melhores(int inicio, int fim) {
+        List<Sugestao> melhores = new ArrayList<>(MAXIMO_SUGESTOES + 1);
+        for (int i = inicio; i < fim; i++) {
+            Sugestao sugestao = donos[i];
+            if (melhores.size() == MAXIMO_SUGESTOES
+                    && ORDEM.compare(sugestao, melhores.get(MAXIMO_SUGESTOES - 1)) >= 0) {
+                continue;
+            }
+            // A mesma sugestão aparece uma vez por termo: o Santos (sigla SAN) casa "san" pelo nome e pela sigla
+            if (contemInstancia(melhores, sugestao)) {
+                continue;
+            }
+            int posicao = Collections.binarySearch(melhores, sugestao, ORDEM);
+            melhores.add(posicao < 0 ? -posicao - 1 : posicao, sugestao);
+            if (melhores.size() > MAXIMO_SUGESTOES) {
+                melhores.remove(MAXIMO_SUGESTOES);
+            }
+        }
+        return List.copyOf(melhores);
+    }
+
+    private static boolean contemInstancia(List<Sugestao> lista, Sugestao sugestao) {
+        for (Sugestao s : lista) {
+            if (s == sugestao) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int limiteInferior(String chave) {
+        int baixo = 0;
+        int alto = termos.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (termos[meio].compareTo(chave) < 0) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    /** Um termo por início de palavra do texto e do complemento, já normalizados. */
+    static Set<String> termos(Sugestao sugestao) {
+        Set<String> termos = new LinkedHashSet<>();
+        for (String texto : new String[] { sugestao.texto(), sugestao.complemento() }) {
+            String normalizado = TextoBusca.normalizar(texto);
+            for (int i = 0; i < normalizado.length(); i++) {
+                if (i == 0 || normalizado.charAt(i - 1) == ' ') {
+                    termos.add(normalizado.substring(i));
+                }
+            }
+        }
+        return termos;
+    }
+}
@@ -0,0 +1,253 @@
+package com.futime.labprog.futimeapi.busca;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas: para cada trigrama, a lista das posições (slots) dos documentos
+ * que o contêm, em arrays de int, sem objetos por ocorrência.
+ *
+ * A busca conta, para cada documento tocado pelas listas dos trigramas da consulta, quantos deles
+ * ele tem (ScanCount). A similaridade é a fração dos trigramas da consulta encontrados no documento (um
+ * sobrenome com uma letra trocada ainda acerta a maior parte); o desempate é o índice de Jaccard
+ * do pg_trgm, que prefere nomes mais próximos do tamanho da consulta.
+ *
+ * Leituras concorrentes; escritas (indexar/remover) exclusivas.
+ */
+public final class IndiceTrigramas<T> {
+
+    /** Fração mínima dos trigramas da consulta que um documento precisa ter. */
+    public static final double SIMILARIDADE_MINIMA = 0.5;
+
+    // Abaixo disso toda lista é percorrida, mesmo num índice pequeno
+    private static final int LISTA_COMUM_MINIMA = 1024;
+
+    public record Resultado<T>(T valor, double similaridade) {
+    }
+
+    private record Candidato(int slot, double similaridade, double jaccard, int id) {
+    }
+
+    // Pior primeiro, para o heap de tamanho limitado descartar a cabeça
+    private static final Comparator<Candidato> PIOR_PRIMEIRO = Comparator
+            .comparingDouble(Candidato::similaridade)
+            .thenComparingDouble(Candidato::jaccard)
+            .thenComparing(Comparator.comparingInt(Candidato::id).reversed());
+
+    // Contadores por slot, zerados ao fim de cada busca e reaproveitados pela próxima
+    private static final class Rascunho {
+        int[] contagem = new int[0];
+        int[] tocados = new int[0];
+    }
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    // Pool limitado, não ThreadLocal: com threads virtuais cada requisição teria o seu par de arrays do
+    // tamanho do índice. Só uma busca por núcleo roda de cada vez; as excedentes usam arrays descartáveis.
+    private final ArrayBlockingQueue<Rascunho> rascunhos =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final int[][] listas = new int[TextoBusca.TRIGRAMAS][];
+    private final int[] tamanhos = new int[TextoBusca.TRIGRAMAS];
+
+    private final Map<Integer, Integer> slotPorId = new HashMap<>();
+    private final ArrayDeque<Integer> slotsLivres = new ArrayDeque<>();
+    private int[] idPorSlot = new int[16];
+    private int[][] trigramasPorSlot = new int[16][];
+    private Object[] valorPorSlot = new Object[16];
+    private int slotsUsados;
+
+    /** Indexa (ou reindexa) o documento {@code id} pelos {@code textos}. */
+    public void indexar(int id, T valor, String... textos) {
+        int[] trigramas = TextoBusca.trigramas(textos);
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+            int slot = novoSlot();
+            idPorSlot[slot] = id;
+            trigramasPorSlot[slot] = trigramas;
+            valorPorSlot[slot] = valor;
+            slotPorId.put(id, slot);
+            for (int trigrama : trigramas) {
+                adicionar(trigrama, slot);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public void remover(int id) {
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        trava.readLock().lock();
+        try {
+            return slotPorId.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Os {@code limite} documentos mais parecidos com {@code consulta}, do mais para o menos parecido. */
+    @SuppressWarnings("unchecked")
+    public List<Resultado<T>> buscar(String consulta, int limite) {
+        int[] trigramasConsulta = TextoBusca.trigramas(consulta);
+        if (trigramasConsulta.length == 0 || limite <= 0) {
+            return List.of();
+        }
+
+        trava.readLock().lock();
+        try {
+            Rascunho rascunho = rascunhos.poll();
+            if (rascunho == null) {
+                rascunho = new Rascunho();
+            }
+            if (rascunho.contagem.length < slotsUsados) {
+                rascunho.contagem = new int[idPorSlot.length];
+                rascunho.tocados = new int[idPorSlot.length];
+            }
+
+            int q = trigramasConsulta.length;
+            int minimoComuns = (int) Math.ceil(SIMILARIDADE_MINIMA * q);
+            // Percorrer uma lista custa pouco por posição; conferir um trigrama num candidato custa
+            // uma busca binária fora do cache. Então as listas são percorridas da mais rara para a
+            // mais comum, e só as muito comuns (como "  m") ficam para ser conferidas por busca
+            // binária, e só nos candidatos que ainda podem chegar ao mínimo. As q - minimoComuns + 1
+            // mais raras são sempre percorridas: quem tem minimoComuns trigramas está em alguma delas.
+            int[] porRaridade = ordenarPorRaridade(trigramasConsulta);
+            int obrigatorias = q - minimoComuns + 1;
+            int limiteComum = Math.max(LISTA_COMUM_MINIMA, slotPorId.size() / 8);
+            int percorridas = 0;
+            while (percorridas < q
+                    && (percorridas < obrigatorias || tamanhos[porRaridade[percorridas]] <= limiteComum)) {
+                percorridas++;
+            }
+
+            int[] contagem = rascunho.contagem;
+            int[] tocados = rascunho.tocados;
+            int nTocados = 0;
+            for (int p = 0; p < percorridas; p++) {
+                int trigrama = porRaridade[p];
+                int[] lista = listas[trigrama];
+                for (int i = 0; i < tamanhos[trigrama]; i++) {
+                    int slot = lista[i];
+                    if (contagem[slot]++ == 0) {
+                        tocados[nTocados++] = slot;
+                    }
+                }
+            }
+
+            PriorityQueue<Candidato> melhores = new PriorityQueue<>(limite + 1, PIOR_PRIMEIRO);
+            for (int i = 0; i < nTocados; i++) {
+                int slot = tocados[i];
+                int comuns = contagem[slot];
+                contagem[slot] = 0;
+                if (comuns + (q - percorridas) < minimoComuns) {
+                    continue;
+                }
+                for (int p = percorridas; p < q && comuns + (q - p) >= minimoComuns; p++) {
+                    if (Arrays.binarySearch(trigramasPorSlot[slot], porRaridade[p]) >= 0) {
+                        comuns++;
+                    }
+                }
+                if (comuns < minimoComuns) {
+                    continue;
+                }
+                double similaridade = (double) comuns / q;
+                double jaccard = (double) comuns / (q + trigramasPorSlot[slot].length - comuns);
+                Candidato candidato = new Candidato(slot, similaridade, jaccard, idPorSlot[slot]);
+                if (melhores.size() < limite) {
+                    melhores.offer(candidato);
+                } else if (PIOR_PRIMEIRO.compare(candidato, melhores.peek()) > 0) {
+                    melhores.poll();
+                    melhores.offer(candidato);
+                }
+            }
+            // Só volta ao pool depois do laço acima, que zerou a contagem de todos os tocados
+            rascunhos.offer(rascunho);
+
+            Candidato[] ordenados = melhores.toArray(new Candidato[0]);
+            Arrays.sort(ordenados, PIOR_PRIMEIRO.reversed());
+            List<Resultado<T>> resultado = new ArrayList<>(ordenados.length);
+            for (Candidato c : ordenados) {
+                resultado.add(new Resultado<>((T) valorPorSlot[c.slot()], c.similaridade()));
+            }
+            return resultado;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private int[] ordenarPorRaridade(int[] trigramas) {
+        // Poucos trigramas por consulta: ordenação por inserção pelo tamanho da lista
+        int[] ordem = trigramas.clone();
+        for (int i = 1; i < ordem.length; i++) {
+            int atual = ordem[i];
+            int j = i - 1;
+            while (j >= 0 && tamanhos[ordem[j]] > tamanhos[atual]) {
+                ordem[j + 1] = ordem[j];
+                j--;
+            }
+            ordem[j + 1] = atual;
+        }
+        return ordem;
+    }
+
+    private void removerSemTrava(int id) {
+        Integer slot = slotPorId.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (int trigrama : trigramasPorSlot[slot]) {
+            int[] lista = listas[trigrama];
+            int n = tamanhos[trigrama];
+            for (int i = 0; i < n; i++) {
+                if (lista[i] == slot) {
+                    // A ordem dentro da lista não importa: o último ocupa o lugar do removido
+                    lista[i] = lista[n - 1];
+                    tamanhos[trigrama] = n - 1;
+                    break;
+                }
+            }
+        }
+        trigramasPorSlot[slot] = null;
+        valorPorSlot[slot] = null;
+        slotsLivres.push(slot);
+    }
+
+    private int novoSlot() {
+        if (!slotsLivres.isEmpty()) {
+            return slotsLivres.pop();
+        }
+        if (slotsUsados == idPorSlot.length) {
+            int capacidade = idPorSlot.length * 2;
+            idPorSlot = Arrays.copyOf(idPorSlot, capacidade);
+            trigramasPorSlot = Arrays.copyOf(trigramasPorSlot, capacidade);
+            valorPorSlot = Arrays.copyOf(valorPorSlot, capacidade);
+        }
+        return slotsUsados++;
+    }
+
+    private void adicionar(int trigrama, int slot) {
+        int[] lista = listas[trigrama];
+        if (lista == null) {
+            lista = listas[trigrama] = new int[4];
+        } else if (tamanhos[trigrama] == lista.length) {
+            lista = listas[trigrama] = Arrays.copyOf(lista, lista.length * 2);
+        }
+        lista[tamanhos[trigrama]++] = slot;
+    }
+}
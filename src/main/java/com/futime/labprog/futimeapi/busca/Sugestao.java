@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.busca;
+
+/**
+ * Um item do autocompletar. {@code texto} e {@code complemento} (a sigla de um clube; null nos
+ * demais) são os termos indexados; {@code peso} é a popularidade que ordena as sugestões.
+ */
+public record Sugestao(TipoSugestao tipo, Integer id, String texto, String complemento, int peso) {
+}
@@ -0,0 +1,86 @@
+package com.futime.labprog.futimeapi.busca;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * Normalização dos textos de busca e extração de trigramas, no estilo do pg_trgm: sem acentos,
+ * em minúsculas, cada palavra com dois espaços antes e um depois ("  mendez " gera "  m", " me",
+ * "men", "end", "nde", "dez", "ez "). Depois da normalização sobram só espaço, letras e dígitos,
+ * então cada trigrama cabe num int pequeno e serve de posição direta num array.
+ */
+public final class TextoBusca {
+
+    static final int ALFABETO = 37;
+    static final int TRIGRAMAS = ALFABETO * ALFABETO * ALFABETO;
+
+    private TextoBusca() {
+    }
+
+    /** "Jhegson Sebastián Méndez" -> "jhegson sebastian mendez". Null vira texto vazio. */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(semAcentos.length());
+        boolean espaco = true;
+        for (int i = 0; i < semAcentos.length(); i++) {
+            char c = Character.toLowerCase(semAcentos.charAt(i));
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                sb.append(c);
+                espaco = false;
+            } else if (!espaco) {
+                sb.append(' ');
+                espaco = true;
+            }
+        }
+        int fim = sb.length();
+        if (fim > 0 && sb.charAt(fim - 1) == ' ') {
+            sb.setLength(fim - 1);
+        }
+        return sb.toString();
+    }
+
+    /** Códigos distintos e ordenados dos trigramas de todos os textos, já normalizando cada um. */
+    public static int[] trigramas(String... textos) {
+        int total = 0;
+        for (String texto : textos) {
+            total += texto == null ? 0 : 3 * texto.length() + 3;
+        }
+        int[] codigos = new int[total];
+        int n = 0;
+        for (String texto : textos) {
+            for (String palavra : normalizar(texto).split(" ")) {
+                if (palavra.isEmpty()) {
+                    continue;
+                }
+                // Dois espaços antes e um depois, como no pg_trgm
+                int a = 0;
+                int b = 0;
+                for (int i = 0; i <= palavra.length(); i++) {
+                    int c = i < palavra.length() ? codigo(palavra.charAt(i)) : 0;
+                    codigos[n++] = (a * ALFABETO + b) * ALFABETO + c;
+                    a = b;
+                    b = c;
+                }
+            }
+        }
+        int[] ordenados = Arrays.copyOf(codigos, n);
+        Arrays.sort(ordenados);
+        int distintos = 0;
+        for (int i = 0; i < ordenados.length; i++) {
+            if (i == 0 || ordenados[i] != ordenados[i - 1]) {
+                ordenados[distintos++] = ordenados[i];
+            }
+        }
+        return Arrays.copyOf(ordenados, distintos);
+    }
+
+    private static int codigo(char c) {
+        return c <= '9' ? 27 + (c - '0') : 1 + (c - 'a');
+    }
+}
@@ -0,0 +1,7 @@
+package com.futime.labprog.futimeapi.busca;
+
+public enum TipoSugestao {
+    JOGADOR,
+    CLUBE,
+    ESTADIO
+}
@@ -0,0 +1,29 @@
+package com.futime.labprog.futimeapi.cache;
+
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+
+import java.time.Instant;
+
+/**
+ * Fotografia (snapshot) imutável das tabelas de referência: estádios, clubes e competições.
+ * Nunca é alterada depois de criada; o DadosReferenciaCache troca a fotografia inteira
+ * quando algo muda, então quem já pegou uma referência continua lendo dados consistentes.
+ *
+ * @param versao Número da carga, incrementado a cada recarga.
+ * @param carregadaEm Quando a fotografia foi montada (nenhum dado dela é mais novo que isso).
+ */
+public record DadosReferencia(
+    long versao,
+    Instant carregadaEm,
+    TabelaReferencia<EstadioResponseDTO> estadios,
+    TabelaReferencia<ClubeResponseDTO> clubes,
+    TabelaReferencia<CompeticaoResponseDTO> competicoes
+) {
+
+    public static DadosReferencia vazia() {
+        return new DadosReferencia(0, Instant.EPOCH, TabelaReferencia.vazia(), TabelaReferencia.vazia(),
+                TabelaReferencia.vazia());
+    }
+}
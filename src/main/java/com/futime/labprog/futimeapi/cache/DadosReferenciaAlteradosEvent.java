@@ -0,0 +1,10 @@
+package com.futime.labprog.futimeapi.cache;
+
+/**
+ * Publicado pelos services de Clube, Estádio e Competição a cada criação, atualização
+ * ou remoção. O DadosReferenciaCache recarrega a fotografia depois do commit.
+ *
+ * @param origem Qual tabela mudou (só para log).
+ */
+public record DadosReferenciaAlteradosEvent(String origem) {
+}
@@ -0,0 +1,145 @@
+package com.futime.labprog.futimeapi.cache;
+
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.CompeticaoClubeProjecao;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstadioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guarda em memória a fotografia (DadosReferencia) de estádios, clubes e competições,
+ * já convertidos em DTOs. Essas tabelas mudam poucas vezes por temporada, mas são lidas
+ * em quase toda requisição (listagens, partidas, jogadores), então os mappers consultam
+ * aqui em vez de ir ao banco.
+ *
+ * Copy-on-write: a fotografia é imutável; uma recarga monta uma nova inteira e a troca
+ * atomicamente. Leitores nunca bloqueiam e nunca veem uma fotografia pela metade.
+ *
+ * A recarga acontece na inicialização e depois do commit de qualquer escrita feita pelos
+ * services de Clube, Estádio ou Competição (DadosReferenciaAlteradosEvent). Alterações feitas
+ * direto no banco (scripts) só aparecem na próxima escrita pela API ou ao reiniciar.
+ */
+@Component
+public class DadosReferenciaCache implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(DadosReferenciaCache.class);
+
+    private final EstadioRepository estadioRepository;
+    private final ClubeRepository clubeRepository;
+    private final CompeticaoRepository competicaoRepository;
+    private final TransactionTemplate transacaoLeitura;
+
+    private final AtomicReference<DadosReferencia> atual = new AtomicReference<>(DadosReferencia.vazia());
+    // ReentrantLock e não synchronized: a recarga fica com ela presa enquanto espera o banco
+    private final ReentrantLock recarga = new ReentrantLock();
+
+    public DadosReferenciaCache(EstadioRepository estadioRepository, ClubeRepository clubeRepository,
+            CompeticaoRepository competicaoRepository, PlatformTransactionManager transactionManager) {
+        this.estadioRepository = estadioRepository;
+        this.clubeRepository = clubeRepository;
+        this.competicaoRepository = competicaoRepository;
+        // REQUIRES_NEW: a recarga roda depois do commit de outra transação (AFTER_COMMIT),
+        // quando a transação original ainda está associada à thread mas não pode mais ser usada.
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        recarregar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterar(DadosReferenciaAlteradosEvent evento) {
+        log.debug("Dados de referência alterados ({}), recarregando", evento.origem());
+        recarregar();
+    }
+
+    /**
+     * Lê as três tabelas e troca a fotografia. Serializado: se duas escritas terminam juntas,
+     * a segunda recarga começa depois da primeira e, portanto, lê o estado mais novo.
+     */
+    public void recarregar() {
+        recarga.lock();
+        try {
+            long versao = atual.get().versao() + 1;
+            DadosReferencia nova = transacaoLeitura.execute(status -> carregar(versao));
+            atual.set(nova);
+            log.info("Dados de referência carregados (versão {}): {} estádios, {} clubes, {} competições", versao,
+                    nova.estadios().tamanho(), nova.clubes().tamanho(), nova.competicoes().tamanho());
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    private DadosReferencia carregar(long versao) {
+        TabelaReferencia<EstadioResponseDTO> estadios = new TabelaReferencia<>(
+                estadioRepository.listarTodosDTO(), EstadioResponseDTO::id);
+        TabelaReferencia<ClubeResponseDTO> clubes = new TabelaReferencia<>(
+                clubeRepository.listarTodosDTO(), ClubeResponseDTO::id);
+
+        Map<Integer, List<ClubeResponseDTO>> clubesPorCompeticao = new HashMap<>();
+        for (CompeticaoClubeProjecao participacao : competicaoRepository.listarParticipacoes()) {
+            clubesPorCompeticao.computeIfAbsent(participacao.competicaoId(), k -> new ArrayList<>())
+                    .add(clubes.buscar(participacao.clubeId()));
+        }
+        // Como no CompeticaoServiceImpl.toResponseDTO, uma competição sem clubes sai com "clubes": null.
+        List<CompeticaoResponseDTO> competicoes = competicaoRepository.listarTodasProjecao().stream()
+                .map(c -> new CompeticaoResponseDTO(
+                        c.id(),
+                        c.nome(),
+                        c.pais(),
+                        c.continente(),
+                        c.tipoCompeticao(),
+                        c.temporada(),
+                        clubesPorCompeticao.containsKey(c.id())
+                                ? Collections.unmodifiableList(clubesPorCompeticao.get(c.id())) : null,
+                        c.createdAt(),
+                        c.updatedAt()))
+                .toList();
+
+        return new DadosReferencia(versao, Instant.now(), estadios, clubes,
+                new TabelaReferencia<>(competicoes, CompeticaoResponseDTO::id));
+    }
+
+    /** A fotografia vigente. Para várias leituras consistentes entre si, pegue-a uma vez e reutilize. */
+    public DadosReferencia atual() {
+        return atual.get();
+    }
+
+    /** O estádio com esse ID, ou null se não estiver na fotografia. */
+    public EstadioResponseDTO estadio(Integer id) {
+        return atual.get().estadios().buscar(id);
+    }
+
+    /** O clube com esse ID (com o estádio aninhado), ou null se não estiver na fotografia. */
+    public ClubeResponseDTO clube(Integer id) {
+        return atual.get().clubes().buscar(id);
+    }
+
+    /** A competição com esse ID (com os clubes), ou null se não estiver na fotografia. */
+    public CompeticaoResponseDTO competicao(Integer id) {
+        return atual.get().competicoes().buscar(id);
+    }
+}
@@ -0,0 +1,75 @@
+package com.futime.labprog.futimeapi.cache;
+
+import com.futime.labprog.futimeapi.dto.VersaoRecurso;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cópia imutável de uma tabela de referência já convertida em DTOs.
+ * Busca por ID é uma consulta de hash; a listagem por cursor faz uma busca
+ * binária no vetor de IDs ordenados e devolve uma fatia da lista (sem cópia).
+ */
+public final class TabelaReferencia<T> {
+
+    private final Map<Integer, T> porId;
+    private final int[] ids;
+    private final List<T> itens;
+    private final String versao;
+
+    /**
+     * @param itens Os DTOs da tabela, já ordenados por ID.
+     * @param id Extrai o ID de cada DTO.
+     */
+    public TabelaReferencia(List<T> itens, Function<T, Integer> id) {
+        this.itens = List.copyOf(itens);
+        this.ids = new int[this.itens.size()];
+        Map<Integer, T> mapa = new HashMap<>(this.itens.size() * 2);
+        for (int i = 0; i < this.itens.size(); i++) {
+            T item = this.itens.get(i);
+            ids[i] = id.apply(item);
+            mapa.put(ids[i], item);
+        }
+        this.porId = Collections.unmodifiableMap(mapa);
+
+        StringBuilder conteudo = new StringBuilder();
+        this.itens.forEach(item -> conteudo.append(item).append('\n'));
+        this.versao = VersaoRecurso.resumo(conteudo.toString());
+    }
+
+    public static <T> TabelaReferencia<T> vazia() {
+        return new TabelaReferencia<>(List.of(), item -> null);
+    }
+
+    /** O DTO com esse ID, ou null se não existir. */
+    public T buscar(Integer id) {
+        return id == null ? null : porId.get(id);
+    }
+
+    /** Até 'quantidade' itens com ID maior que 'after', em ordem de ID. */
+    public List<T> apos(int after, int quantidade) {
+        int posicao = Arrays.binarySearch(ids, after);
+        int inicio = posicao >= 0 ? posicao + 1 : -posicao - 1;
+        return itens.subList(inicio, Math.min(itens.size(), inicio + quantidade));
+    }
+
+    public List<T> todos() {
+        return itens;
+    }
+
+    /**
+     * Resumo do conteúdo da tabela (SHA-256 do toString de todos os DTOs, calculado uma vez na carga).
+     * Igual entre instâncias e reinícios enquanto os dados forem os mesmos: serve de base para os ETags.
+     */
+    public String versao() {
+        return versao;
+    }
+
+    public int tamanho() {
+        return itens.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+public record LinhaClassificacao(
+        Integer clubeId,
+        int pontos,
+        int jogos,
+        int vitorias,
+        int empates,
+        int derrotas,
+        int golsPro,
+        int golsContra) {
+
+    public int saldo() {
+        return golsPro - golsContra;
+    }
+}
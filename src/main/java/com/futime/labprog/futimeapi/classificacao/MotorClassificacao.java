@@ -0,0 +1,71 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classificações de todas as competições em memória, uma TabelaClassificacao por competição.
+ *
+ * Carregada uma vez na inicialização (uma consulta só com os placares) e depois mantida por
+ * delta: cada PlacarAlteradoEvent tira o placar anterior e soma o novo, só após o commit,
+ * para que uma transação desfeita não deixe a tabela divergente do banco. Como no
+ * DadosReferenciaCache, partidas gravadas direto no banco só entram ao reiniciar.
+ */
+@Component
+public class MotorClassificacao implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MotorClassificacao.class);
+
+    private final PartidaRepository partidaRepository;
+    private final TransactionTemplate transacaoLeitura;
+    private final Map<Integer, TabelaClassificacao> tabelas = new ConcurrentHashMap<>();
+
+    public MotorClassificacao(PartidaRepository partidaRepository, PlatformTransactionManager transactionManager) {
+        this.partidaRepository = partidaRepository;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Placar> placares = transacaoLeitura.execute(status -> partidaRepository.listarPlacaresPontosCorridos());
+        placares.forEach(placar -> aplicar(placar, 1));
+        log.info("Classificações carregadas: {} partidas em {} competições", placares.size(), tabelas.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarPlacar(PlacarAlteradoEvent evento) {
+        // Soma e subtração comutam: eventos de transações concorrentes podem chegar em qualquer ordem
+        if (evento.anterior() != null) {
+            aplicar(evento.anterior(), -1);
+        }
+        if (evento.atual() != null) {
+            aplicar(evento.atual(), 1);
+        }
+    }
+
+    /** Classificação da competição, incluindo os {@code participantes} que ainda não jogaram. */
+    public List<LinhaClassificacao> classificacao(Integer competicaoId, Collection<Integer> participantes) {
+        TabelaClassificacao tabela = tabelas.get(competicaoId);
+        if (tabela == null) {
+            return new TabelaClassificacao().linhas(participantes);
+        }
+        return tabela.linhas(participantes);
+    }
+
+    private void aplicar(Placar placar, int sinal) {
+        tabelas.computeIfAbsent(placar.competicaoId(), id -> new TabelaClassificacao()).aplicar(placar, sinal);
+    }
+}
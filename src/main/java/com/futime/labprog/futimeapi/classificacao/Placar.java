@@ -0,0 +1,24 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.model.Partida;
+
+/**
+ * O que uma partida contribui para a classificação da competição: quem jogou e o placar.
+ */
+public record Placar(Integer competicaoId, Integer mandanteId, Integer visitanteId, int golsMandante,
+        int golsVisitante) {
+
+    /**
+     * O placar da partida, ou null se ela não conta para classificação (sem competição,
+     * fora da fase de pontos corridos ou ainda não jogada).
+     */
+    public static Placar de(Partida partida) {
+        if (partida.getCompeticao() == null || partida.getFase() != FaseCompeticao.PONTOS_CORRIDOS
+                || partida.getGolsMandante() == null || partida.getGolsVisitante() == null) {
+            return null;
+        }
+        return new Placar(partida.getCompeticao().getId(), partida.getMandante().getId(),
+                partida.getVisitante().getId(), partida.getGolsMandante(), partida.getGolsVisitante());
+    }
+}
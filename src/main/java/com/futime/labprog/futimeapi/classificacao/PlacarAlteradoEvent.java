@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+/**
+ * Publicado pelo PartidaService ao criar, alterar ou excluir uma partida. {@code anterior} é o
+ * que sai da classificação e {@code atual} o que entra; qualquer um pode ser null.
+ */
+public record PlacarAlteradoEvent(Placar anterior, Placar atual) {
+}
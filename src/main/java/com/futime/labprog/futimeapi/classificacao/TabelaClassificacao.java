@@ -0,0 +1,180 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classificação de uma competição mantida por delta: cada placar soma (ou subtrai, ao ser
+ * removido) nos números dos dois clubes e no confronto direto entre eles. Nada é recalculado
+ * a partir das partidas.
+ *
+ * Critérios: pontos, vitórias, saldo, gols pró e, entre os clubes ainda empatados, confronto
+ * direto (pontos e depois saldo só nos jogos entre eles). Persistindo o empate, menor ID.
+ *
+ * A lista ordenada fica guardada até o próximo placar; ler a classificação sem mudanças
+ * no meio é só devolver essa lista.
+ */
+public class TabelaClassificacao {
+
+    private static final Comparator<LinhaClassificacao> CRITERIOS_GERAIS = Comparator
+            .comparingInt(LinhaClassificacao::pontos)
+            .thenComparingInt(LinhaClassificacao::vitorias)
+            .thenComparingInt(LinhaClassificacao::saldo)
+            .thenComparingInt(LinhaClassificacao::golsPro)
+            .reversed();
+
+    private final Map<Integer, Desempenho> desempenhos = new HashMap<>();
+    // Chave: par de clubes (menor ID nos 32 bits altos). Valor visto do lado do menor ID.
+    private final Map<Long, Desempenho> confrontos = new HashMap<>();
+
+    private List<LinhaClassificacao> ordenada;
+    private Set<Integer> participantesDaOrdenacao;
+
+    public synchronized void aplicar(Placar placar, int sinal) {
+        int gm = placar.golsMandante();
+        int gv = placar.golsVisitante();
+        desempenho(placar.mandanteId()).somar(gm, gv, sinal);
+        desempenho(placar.visitanteId()).somar(gv, gm, sinal);
+
+        long chave = chave(placar.mandanteId(), placar.visitanteId());
+        Desempenho confronto = confrontos.computeIfAbsent(chave, k -> new Desempenho());
+        if (placar.mandanteId() < placar.visitanteId()) {
+            confronto.somar(gm, gv, sinal);
+        } else {
+            confronto.somar(gv, gm, sinal);
+        }
+
+        // Remoções que zeram um clube/confronto não deixam linhas fantasmas
+        if (sinal < 0) {
+            removerSeZerado(desempenhos, placar.mandanteId());
+            removerSeZerado(desempenhos, placar.visitanteId());
+            removerSeZerado(confrontos, chave);
+        }
+        ordenada = null;
+    }
+
+    /**
+     * A classificação com os clubes que já jogaram mais os {@code participantes} (inscritos na
+     * competição) que ainda não jogaram, com tudo zerado.
+     */
+    public synchronized List<LinhaClassificacao> linhas(Collection<Integer> participantes) {
+        Set<Integer> clubes = new HashSet<>(desempenhos.keySet());
+        clubes.addAll(participantes);
+        if (ordenada == null || !clubes.equals(participantesDaOrdenacao)) {
+            ordenada = ordenar(clubes);
+            participantesDaOrdenacao = clubes;
+        }
+        return ordenada;
+    }
+
+    private List<LinhaClassificacao> ordenar(Set<Integer> clubes) {
+        List<LinhaClassificacao> linhas = new ArrayList<>(clubes.size());
+        for (Integer clubeId : clubes) {
+            Desempenho d = desempenhos.get(clubeId);
+            linhas.add(d == null ? new LinhaClassificacao(clubeId, 0, 0, 0, 0, 0, 0, 0) : d.linha(clubeId));
+        }
+        linhas.sort(CRITERIOS_GERAIS.thenComparing(LinhaClassificacao::clubeId));
+
+        // Cada grupo empatado nos critérios gerais é reordenado pelo confronto direto entre seus membros
+        int inicio = 0;
+        while (inicio < linhas.size()) {
+            int fim = inicio + 1;
+            while (fim < linhas.size() && CRITERIOS_GERAIS.compare(linhas.get(inicio), linhas.get(fim)) == 0) {
+                fim++;
+            }
+            if (fim - inicio > 1) {
+                desempatar(linhas.subList(inicio, fim));
+            }
+            inicio = fim;
+        }
+        return List.copyOf(linhas);
+    }
+
+    private void desempatar(List<LinhaClassificacao> empatados) {
+        Map<Integer, int[]> confrontoDireto = new HashMap<>();
+        for (LinhaClassificacao linha : empatados) {
+            confrontoDireto.put(linha.clubeId(), new int[2]);
+        }
+        for (int i = 0; i < empatados.size(); i++) {
+            for (int j = i + 1; j < empatados.size(); j++) {
+                Integer a = empatados.get(i).clubeId();
+                Integer b = empatados.get(j).clubeId();
+                Desempenho confronto = confrontos.get(chave(a, b));
+                if (confronto == null) {
+                    continue;
+                }
+                // O confronto está guardado do ponto de vista do menor ID
+                Integer menor = Math.min(a, b);
+                Integer maior = Math.max(a, b);
+                somarConfronto(confrontoDireto.get(menor), confronto.pontos(), confronto.golsPro - confronto.golsContra);
+                somarConfronto(confrontoDireto.get(maior), confronto.pontosDoAdversario(),
+                        confronto.golsContra - confronto.golsPro);
+            }
+        }
+        empatados.sort(Comparator
+                .<LinhaClassificacao>comparingInt(l -> -confrontoDireto.get(l.clubeId())[0])
+                .thenComparingInt(l -> -confrontoDireto.get(l.clubeId())[1])
+                .thenComparing(LinhaClassificacao::clubeId));
+    }
+
+    private static void somarConfronto(int[] acumulado, int pontos, int saldo) {
+        acumulado[0] += pontos;
+        acumulado[1] += saldo;
+    }
+
+    private static <K> void removerSeZerado(Map<K, Desempenho> mapa, K chave) {
+        Desempenho d = mapa.get(chave);
+        if (d != null && d.jogos == 0) {
+            mapa.remove(chave);
+        }
+    }
+
+    private Desempenho desempenho(Integer clubeId) {
+        return desempenhos.computeIfAbsent(clubeId, k -> new Desempenho());
+    }
+
+    private static long chave(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | (Math.max(a, b) & 0xFFFFFFFFL);
+    }
+
+    private static final class Desempenho {
+        private int jogos;
+        private int vitorias;
+        private int empates;
+        private int derrotas;
+        private int golsPro;
+        private int golsContra;
+
+        void somar(int marcados, int sofridos, int sinal) {
+            jogos += sinal;
+            golsPro += sinal * marcados;
+            golsContra += sinal * sofridos;
+            if (marcados > sofridos) {
+                vitorias += sinal;
+            } else if (marcados == sofridos) {
+                empates += sinal;
+            } else {
+                derrotas += sinal;
+            }
+        }
+
+        int pontos() {
+            return 3 * vitorias + empates;
+        }
+
+        // Num confronto, as derrotas de um lado são as vitórias do outro
+        int pontosDoAdversario() {
+            return 3 * derrotas + empates;
+        }
+
+        LinhaClassificacao linha(Integer clubeId) {
+            return new LinhaClassificacao(clubeId, pontos(), jogos, vitorias, empates, derrotas, golsPro, golsContra);
+        }
+    }
+}
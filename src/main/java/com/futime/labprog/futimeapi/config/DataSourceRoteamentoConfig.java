@@ -0,0 +1,88 @@
+package com.futime.labprog.futimeapi.config;
+
+import com.futime.labprog.futimeapi.datasource.Destino;
+import com.futime.labprog.futimeapi.datasource.EscritasRecentes;
+import com.futime.labprog.futimeapi.datasource.MonitorAtrasoReplica;
+import com.futime.labprog.futimeapi.datasource.RoteamentoDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primário + réplica de leitura, ligada só quando futime.datasource.replica.url está definida
+ * (sem ela, o DataSource único do Spring Boot continua como antes).
+ *
+ * O primário usa as propriedades spring.datasource.* de sempre; a réplica, futime.datasource.replica.*.
+ * Para testar localmente, basta apontar os dois para bancos diferentes (ex.: dois H2 em memória).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "futime.datasource.replica", name = "url")
+public class DataSourceRoteamentoConfig {
+
+    // Atraso de reprodução do PostgreSQL em segundos; 0 quando a réplica já aplicou tudo o que recebeu
+    private static final String ATRASO_POSTGRES = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()"
+            + " then 0 else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties propriedades) {
+        HikariDataSource dataSource = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${futime.datasource.replica.url}") String url,
+            @Value("${futime.datasource.replica.username:${spring.datasource.username:}}") String usuario,
+            @Value("${futime.datasource.replica.password:${spring.datasource.password:}}") String senha,
+            @Value("${futime.datasource.replica.tamanho-pool:10}") int tamanhoPool) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(usuario);
+        dataSource.setPassword(senha);
+        dataSource.setMaximumPoolSize(tamanhoPool);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public MonitorAtrasoReplica monitorAtrasoReplica(@Qualifier("replicaDataSource") DataSource replica,
+            @Value("${futime.datasource.replica.consulta-atraso:" + ATRASO_POSTGRES + "}") String consulta,
+            @Value("${futime.datasource.replica.atraso-maximo:2s}") Duration atrasoMaximo) {
+        return new MonitorAtrasoReplica(replica, consulta, atrasoMaximo);
+    }
+
+    @Bean
+    public EscritasRecentes escritasRecentes(
+            @Value("${futime.datasource.replica.janela-leitura-propria:5s}") Duration janela,
+            @Value("${futime.datasource.replica.usuarios-recentes:10000}") long tamanho) {
+        return new EscritasRecentes(janela, tamanho);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+            @Qualifier("replicaDataSource") DataSource replica, EscritasRecentes escritasRecentes,
+            MonitorAtrasoReplica monitor) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(escritasRecentes, monitor);
+        roteamento.setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+}
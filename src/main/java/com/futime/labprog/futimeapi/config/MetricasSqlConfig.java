@@ -0,0 +1,48 @@
+package com.futime.labprog.futimeapi.config;
+
+import com.futime.labprog.futimeapi.diagnostico.LogSqlListener;
+import com.futime.labprog.futimeapi.diagnostico.MetricasSqlListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Envolve o DataSource da aplicação (o único do Spring Boot ou o de roteamento primário/réplica)
+ * com o datasource-proxy para medir cada comando SQL (MetricasSqlListener) e registrar os lentos
+ * e uma amostra dos demais no log (LogSqlListener). O proxy repassa
+ * unwrap ao original, então as métricas do Hikari (hikaricp.connections.*) continuam funcionando.
+ */
+@Configuration
+public class MetricasSqlConfig {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    // static: BeanPostProcessor precisa existir antes dos demais beans desta configuração
+    @Bean
+    public static BeanPostProcessor metricasSqlDataSource(ObjectProvider<MeterRegistry> registry,
+            @Value("${futime.sql.log.lento:200ms}") Duration lento,
+            @Value("${futime.sql.log.amostragem:0}") double amostragem) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(DATA_SOURCE)
+                        .listener(new MetricasSqlListener(registry))
+                        .listener(new LogSqlListener(lento, amostragem))
+                        .build();
+            }
+        };
+    }
+}
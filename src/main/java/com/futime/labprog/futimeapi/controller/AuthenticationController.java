@@ -1,8 +1,10 @@
 package com.futime.labprog.futimeapi.controller;
 
 import com.futime.labprog.futimeapi.dto.LoginDTO;
+import com.futime.labprog.futimeapi.dto.LoginResponseDTO;
 import com.futime.labprog.futimeapi.dto.RegisterDTO;
 import com.futime.labprog.futimeapi.dto.UsuarioResponseDTO;
+import com.futime.labprog.futimeapi.security.TokenService;
 import com.futime.labprog.futimeapi.service.UsuarioService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -19,20 +21,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthenticationController {
 
     private final UsuarioService usuarioService;
+    private final TokenService tokenService;
 
-    public AuthenticationController(UsuarioService usuarioService) {
+    public AuthenticationController(UsuarioService usuarioService, TokenService tokenService) {
         this.usuarioService = usuarioService;
+        this.tokenService = tokenService;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<UsuarioResponseDTO> register(@RequestBody @Valid RegisterDTO registerDTO) {
+    public ResponseEntity<LoginResponseDTO> register(@RequestBody @Valid RegisterDTO registerDTO) {
         UsuarioResponseDTO novoUsuario = usuarioService.registerUser(registerDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(novoUsuario);
+        return ResponseEntity.status(HttpStatus.CREATED).body(comToken(novoUsuario));
     }
 
+    // A senha é verificada (BCrypt) só aqui; as demais requisições usam o token devolvido.
     @PostMapping("/login")
-    public ResponseEntity<UsuarioResponseDTO> login(@RequestBody @Valid LoginDTO loginDTO) {
+    public ResponseEntity<LoginResponseDTO> login(@RequestBody @Valid LoginDTO loginDTO) {
         UsuarioResponseDTO usuario = usuarioService.login(loginDTO);
-        return ResponseEntity.ok(usuario);
+        return ResponseEntity.ok(comToken(usuario));
+    }
+
+    private LoginResponseDTO comToken(UsuarioResponseDTO usuario) {
+        TokenService.TokenEmitido emitido = tokenService.emitir(usuario.id(), usuario.email());
+        return new LoginResponseDTO(usuario, emitido.token(), emitido.expiraEm());
     }
 }
@@ -0,0 +1,26 @@
+package com.futime.labprog.futimeapi.controller;
+
+import com.futime.labprog.futimeapi.dto.SugestaoDTO;
+import com.futime.labprog.futimeapi.service.AutocompletarService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/autocompletar")
+@Tag(name = "Autocompletar", description = "Sugestões por prefixo de jogadores, clubes e estádios")
+public class AutocompletarController {
+
+    private final AutocompletarService autocompletarService;
+
+    public AutocompletarController(AutocompletarService autocompletarService) {
+        this.autocompletarService = autocompletarService;
+    }
+
+    @GetMapping
+    public List<SugestaoDTO> sugerir(@RequestParam(name = "q") String q,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return autocompletarService.sugerir(q, limit);
+    }
+}
@@ -2,7 +2,9 @@ package com.futime.labprog.futimeapi.controller;
 
 import com.futime.labprog.futimeapi.dto.ClubeRequestDTO;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.service.ClubeService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,8 +12,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/clubes")
@@ -19,16 +20,24 @@ import java.util.List;
 public class ClubeController {
 
     private final ClubeService clubeService;
+    private final VersaoRecursoService versoes;
 
-    public ClubeController(ClubeService clubeService) {
+    public ClubeController(ClubeService clubeService, VersaoRecursoService versoes) {
         this.clubeService = clubeService;
+        this.versoes = versoes;
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os clubes", description = "Retorna uma lista com todos os clubes cadastrados")
+    @Operation(summary = "Listar clubes", description = "Retorna uma página de clubes ordenada por ID. "
+            + "Use o 'proximoCursor' da resposta em 'after' para buscar a página seguinte")
     @ApiResponse(responseCode = "200", description = "Sucesso")
-    public List<ClubeResponseDTO> listarTodos() {
-        return clubeService.listarClubes();
+    @ApiResponse(responseCode = "304", description = "Página não mudou desde o ETag/data informados")
+    public ResponseEntity<PaginaResponseDTO<ClubeResponseDTO>> listarTodos(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.clubes(after, limit),
+                () -> clubeService.listarClubes(after, limit));
     }
 
     @PostMapping
@@ -42,9 +51,10 @@ public class ClubeController {
     @GetMapping("/{id}")
     @Operation(summary = "Buscar clube por ID", description = "Retorna os detalhes de um clube específico")
     @ApiResponse(responseCode = "200", description = "Clube encontrado")
+    @ApiResponse(responseCode = "304", description = "Clube não mudou desde o ETag/data informados")
     @ApiResponse(responseCode = "404", description = "Clube não encontrado")
-    public ResponseEntity<ClubeResponseDTO> buscarPorId(@PathVariable("id") Integer id) {
-        return ResponseEntity.ok(clubeService.buscarClubePorId(id));
+    public ResponseEntity<ClubeResponseDTO> buscarPorId(@PathVariable("id") Integer id, WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.clube(id), () -> clubeService.buscarClubePorId(id));
     }
 
     @PutMapping("/{id}")
@@ -1,15 +1,18 @@
 package com.futime.labprog.futimeapi.controller;
 
+import com.futime.labprog.futimeapi.dto.ClassificacaoResponseDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoRequestDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.dto.RankingResponseDTO;
 import com.futime.labprog.futimeapi.service.CompeticaoService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/competicoes")
@@ -17,14 +20,20 @@ import java.util.List;
 public class CompeticaoController {
 
     private final CompeticaoService competicaoService;
+    private final VersaoRecursoService versoes;
 
-    public CompeticaoController(CompeticaoService competicaoService) {
+    public CompeticaoController(CompeticaoService competicaoService, VersaoRecursoService versoes) {
         this.competicaoService = competicaoService;
+        this.versoes = versoes;
     }
 
     @GetMapping
-    public List<CompeticaoResponseDTO> listarTodos() {
-        return competicaoService.listarCompeticoes();
+    public ResponseEntity<PaginaResponseDTO<CompeticaoResponseDTO>> listarTodos(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.competicoes(after, limit),
+                () -> competicaoService.listarCompeticoes(after, limit));
     }
 
     @PostMapping
@@ -34,8 +43,28 @@ public class CompeticaoController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CompeticaoResponseDTO> buscarPorId(@PathVariable("id") Integer id) {
-        return ResponseEntity.ok(competicaoService.buscarCompeticaoPorId(id));
+    public ResponseEntity<CompeticaoResponseDTO> buscarPorId(@PathVariable("id") Integer id, WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.competicao(id),
+                () -> competicaoService.buscarCompeticaoPorId(id));
+    }
+
+    @GetMapping("/{id}/classificacao")
+    public ClassificacaoResponseDTO buscarClassificacao(@PathVariable("id") Integer id) {
+        return competicaoService.buscarClassificacao(id);
+    }
+
+    @GetMapping("/{id}/artilharia")
+    public RankingResponseDTO buscarArtilharia(@PathVariable("id") Integer id,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return competicaoService.buscarArtilharia(id, after, limit);
+    }
+
+    @GetMapping("/{id}/assistencias")
+    public RankingResponseDTO buscarAssistencias(@PathVariable("id") Integer id,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return competicaoService.buscarAssistencias(id, after, limit);
     }
 
     @PutMapping("/{id}")
@@ -2,13 +2,14 @@ package com.futime.labprog.futimeapi.controller;
 
 import com.futime.labprog.futimeapi.dto.EstadioRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.service.EstadioService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/estadios")
@@ -16,14 +17,20 @@ import java.util.List;
 public class EstadioController {
 
     private final EstadioService estadioService;
+    private final VersaoRecursoService versoes;
 
-    public EstadioController(EstadioService estadioService) {
+    public EstadioController(EstadioService estadioService, VersaoRecursoService versoes) {
         this.estadioService = estadioService;
+        this.versoes = versoes;
     }
 
     @GetMapping
-    public List<EstadioResponseDTO> listarTodos() {
-        return estadioService.listarEstadios();
+    public ResponseEntity<PaginaResponseDTO<EstadioResponseDTO>> listarTodos(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.estadios(after, limit),
+                () -> estadioService.listarEstadios(after, limit));
     }
 
     @PostMapping
@@ -33,10 +40,10 @@ public class EstadioController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EstadioResponseDTO> buscarPorId(@PathVariable("id") Integer id) {
-        return estadioService.buscarEstadioPorId(id)
+    public ResponseEntity<EstadioResponseDTO> buscarPorId(@PathVariable("id") Integer id, WebRequest request) {
+        return RespostaCondicional.responder(request, versoes.estadio(id), () -> estadioService.buscarEstadioPorId(id)
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     @PutMapping("/{id}")
@@ -3,11 +3,16 @@ package com.futime.labprog.futimeapi.controller;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO;
 import com.futime.labprog.futimeapi.service.EstatisticaPartidaService;
+import com.futime.labprog.futimeapi.service.ExportacaoService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/estatisticas-partida")
@@ -15,9 +20,14 @@ import org.springframework.web.bind.annotation.*;
 public class EstatisticaPartidaController {
 
     private final EstatisticaPartidaService service;
+    private final ExportacaoService exportacaoService;
+    private final VersaoRecursoService versoes;
 
-    public EstatisticaPartidaController(EstatisticaPartidaService service) {
+    public EstatisticaPartidaController(EstatisticaPartidaService service, ExportacaoService exportacaoService,
+            VersaoRecursoService versoes) {
         this.service = service;
+        this.exportacaoService = exportacaoService;
+        this.versoes = versoes;
     }
 
     @PostMapping("/jogadores/{jogadorId}/partidas/{partidaId}/estatisticas")
@@ -28,14 +38,23 @@ public class EstatisticaPartidaController {
         return service.salvar(jogadorId, partidaId, dto);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody corpo = exportacaoService::exportarEstatisticasPartida;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+
     @GetMapping("/jogadores/{jogadorId}/partidas/estatisticas")
-    public List<EstatisticaPartidaResponseDTO> listarPorJogador(@PathVariable Integer jogadorId) {
-        return service.listarPorJogador(jogadorId);
+    public ResponseEntity<List<EstatisticaPartidaResponseDTO>> listarPorJogador(@PathVariable Integer jogadorId,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.estatisticasPartidaDoJogador(jogadorId),
+                () -> service.listarPorJogador(jogadorId));
     }
 
     @GetMapping("/estatisticas-partida/{id}")
-    public ResponseEntity<EstatisticaPartidaResponseDTO> buscarPorId(@PathVariable Integer id) {
-        return service.buscarPorId(id).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<EstatisticaPartidaResponseDTO> buscarPorId(@PathVariable Integer id, WebRequest request) {
+        return RespostaCondicional.responder(request, versoes.estatisticaPartida(id),
+                () -> service.buscarPorId(id).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 
     @DeleteMapping("/estatisticas-partida/{id}")
@@ -1,13 +1,18 @@
 package com.futime.labprog.futimeapi.controller;
 
+import com.futime.labprog.futimeapi.dto.JogadorBuscaDTO;
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
 import com.futime.labprog.futimeapi.dto.JogadorRequestDTO;
 import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.service.JogadorService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,14 +22,29 @@ import java.util.List;
 public class JogadorController {
 
     private final JogadorService jogadorService;
+    private final VersaoRecursoService versoes;
 
-    public JogadorController(JogadorService jogadorService) {
+    public JogadorController(JogadorService jogadorService, VersaoRecursoService versoes) {
         this.jogadorService = jogadorService;
+        this.versoes = versoes;
     }
 
+    // Filtros opcionais (posição, clube, competição, faixa de valor e de idade) e ordenação: ver JogadorFiltroDTO
     @GetMapping
-    public List<JogadorResponseDTO> listarTodos() {
-        return jogadorService.listarJogadores();
+    public ResponseEntity<PaginaResponseDTO<JogadorResponseDTO>> listarTodos(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @ModelAttribute JogadorFiltroDTO filtro,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.jogadores(filtro, after, limit),
+                () -> jogadorService.listarJogadores(filtro, after, limit));
+    }
+
+    // Busca por nome completo ou apelido, sem acentos e tolerante a erros de digitação
+    @GetMapping("/busca")
+    public List<JogadorBuscaDTO> buscar(@RequestParam(name = "q") String q,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return jogadorService.buscarJogadores(q, limit);
     }
 
     @PostMapping
@@ -34,8 +54,8 @@ public class JogadorController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JogadorResponseDTO> buscarPorId(@PathVariable("id") Integer id) {
-        return ResponseEntity.ok(jogadorService.buscarJogadorPorId(id));
+    public ResponseEntity<JogadorResponseDTO> buscarPorId(@PathVariable("id") Integer id, WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.jogador(id), () -> jogadorService.buscarJogadorPorId(id));
     }
 
     @PutMapping("/{id}")
@@ -1,13 +1,22 @@
 package com.futime.labprog.futimeapi.controller;
 
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.PartidaResponseDTO;
+import com.futime.labprog.futimeapi.dto.SumulaPartidaRequestDTO;
+import com.futime.labprog.futimeapi.service.EstatisticaPartidaService;
+import com.futime.labprog.futimeapi.service.ExportacaoService;
 import com.futime.labprog.futimeapi.service.PartidaService;
+import com.futime.labprog.futimeapi.service.VersaoRecursoService;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
@@ -16,14 +25,32 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class PartidaController {
 
     private final PartidaService partidaService;
+    private final ExportacaoService exportacaoService;
+    private final VersaoRecursoService versoes;
+    private final EstatisticaPartidaService estatisticaPartidaService;
 
-    public PartidaController(PartidaService partidaService) {
+    public PartidaController(PartidaService partidaService, ExportacaoService exportacaoService,
+            VersaoRecursoService versoes, EstatisticaPartidaService estatisticaPartidaService) {
         this.partidaService = partidaService;
+        this.exportacaoService = exportacaoService;
+        this.versoes = versoes;
+        this.estatisticaPartidaService = estatisticaPartidaService;
     }
 
     @GetMapping
-    public List<PartidaResponseDTO> listarTodos() {
-        return partidaService.listarPartidas();
+    public ResponseEntity<PaginaResponseDTO<PartidaResponseDTO>> listarTodos(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.partidas(after, limit),
+                () -> partidaService.listarPartidas(after, limit));
+    }
+
+    // Exportação completa em NDJSON: as linhas são escritas enquanto o cursor do banco avança.
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody corpo = exportacaoService::exportarPartidas;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
     }
 
     @PostMapping
@@ -33,8 +60,15 @@ public class PartidaController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PartidaResponseDTO> buscarPorId(@PathVariable Integer id) {
-        return ResponseEntity.ok(partidaService.buscarPorId(id));
+    public ResponseEntity<PartidaResponseDTO> buscarPorId(@PathVariable Integer id, WebRequest request) {
+        return RespostaCondicional.ok(request, versoes.partida(id), () -> partidaService.buscarPorId(id));
+    }
+
+    // Súmula completa (os dois elencos) em uma chamada; devolve o resultado de cada linha na ordem enviada.
+    @PostMapping("/{id}/estatisticas")
+    public List<EstatisticaPartidaLoteResultadoDTO> salvarSumula(@PathVariable Integer id,
+            @RequestBody @Valid SumulaPartidaRequestDTO dto) {
+        return estatisticaPartidaService.salvarSumula(id, dto.jogadores());
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,51 @@
+package com.futime.labprog.futimeapi.controller;
+
+import com.futime.labprog.futimeapi.dto.VersaoRecurso;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional (If-None-Match / If-Modified-Since) para os controllers.
+ * A versão é conferida ANTES de montar a resposta: se o cliente já tem a versão atual,
+ * devolve 304 sem chamar o service que monta os DTOs nem serializar nada.
+ */
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    static <T> ResponseEntity<T> ok(WebRequest request, VersaoRecurso versao, Supplier<T> corpo) {
+        return responder(request, versao, () -> ResponseEntity.ok(corpo.get()));
+    }
+
+    static <T> ResponseEntity<T> responder(WebRequest request, VersaoRecurso versao,
+            Supplier<ResponseEntity<T>> resposta) {
+        if (versao == null) {
+            // Sem versão (ex.: registro inexistente): segue o fluxo normal, que responde 404.
+            return resposta.get();
+        }
+
+        long ultimaAlteracao = versao.ultimaAlteracao() == null ? -1 : versao.ultimaAlteracao().toEpochMilli();
+        if (request.checkNotModified(versao.etag(), ultimaAlteracao)) {
+            // checkNotModified já marcou 304 e os cabeçalhos; null diz ao Spring que a resposta está pronta.
+            return null;
+        }
+
+        ResponseEntity<T> original = resposta.get();
+        if (!original.getStatusCode().is2xxSuccessful()) {
+            return original;
+        }
+        // no-cache: o navegador pode guardar a resposta, mas revalida (If-None-Match) a cada uso.
+        ResponseEntity.BodyBuilder comVersao = ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .eTag(versao.etag())
+                .cacheControl(CacheControl.noCache());
+        if (versao.ultimaAlteracao() != null) {
+            comVersao.lastModified(versao.ultimaAlteracao());
+        }
+        return comVersao.body(original.getBody());
+    }
+}
@@ -2,6 +2,7 @@ package com.futime.labprog.futimeapi.controller;
 
 import com.futime.labprog.futimeapi.dto.UsuarioResponseDTO;
 import com.futime.labprog.futimeapi.model.Usuario;
+import com.futime.labprog.futimeapi.security.UsuarioAutenticado;
 import com.futime.labprog.futimeapi.service.UsuarioService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
@@ -20,39 +21,43 @@ public class UsuarioController {
         this.usuarioService = usuarioService;
     }
 
-    // Helper para pegar o usuário logado
-    private Usuario getUsuarioLogado() {
+    // Helper para pegar o id do usuário logado: via token o principal é UsuarioAutenticado,
+    // via httpBasic é a própria entidade Usuario carregada pelo AuthorizationService.
+    private Integer getUsuarioLogadoId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (Usuario) authentication.getPrincipal();
+        if (authentication.getPrincipal() instanceof UsuarioAutenticado autenticado) {
+            return autenticado.id();
+        }
+        return ((Usuario) authentication.getPrincipal()).getId();
     }
 
     @GetMapping("/perfil")
     public ResponseEntity<UsuarioResponseDTO> getPerfil() {
-        Usuario usuario = getUsuarioLogado();
+        Integer usuarioId = getUsuarioLogadoId();
         // Buscamos novamente no serviço para garantir dados atualizados (lazy loading
         // etc)
-        UsuarioResponseDTO perfil = usuarioService.buscarPerfil(usuario.getId());
+        UsuarioResponseDTO perfil = usuarioService.buscarPerfil(usuarioId);
         return ResponseEntity.ok(perfil);
     }
 
     @PutMapping("/meu-time/{clubeId}")
     public ResponseEntity<UsuarioResponseDTO> definirTimeCoracao(@PathVariable Integer clubeId) {
-        Usuario usuario = getUsuarioLogado();
-        UsuarioResponseDTO atualizado = usuarioService.definirClubeFavorito(usuario.getId(), clubeId);
+        Integer usuarioId = getUsuarioLogadoId();
+        UsuarioResponseDTO atualizado = usuarioService.definirClubeFavorito(usuarioId, clubeId);
         return ResponseEntity.ok(atualizado);
     }
 
     @PostMapping("/olheiro/{jogadorId}")
     public ResponseEntity<UsuarioResponseDTO> adicionarJogadorObservado(@PathVariable Integer jogadorId) {
-        Usuario usuario = getUsuarioLogado();
-        UsuarioResponseDTO atualizado = usuarioService.adicionarJogadorObservado(usuario.getId(), jogadorId);
+        Integer usuarioId = getUsuarioLogadoId();
+        UsuarioResponseDTO atualizado = usuarioService.adicionarJogadorObservado(usuarioId, jogadorId);
         return ResponseEntity.ok(atualizado);
     }
 
     @DeleteMapping("/olheiro/{jogadorId}")
     public ResponseEntity<UsuarioResponseDTO> removerJogadorObservado(@PathVariable Integer jogadorId) {
-        Usuario usuario = getUsuarioLogado();
-        UsuarioResponseDTO atualizado = usuarioService.removerJogadorObservado(usuario.getId(), jogadorId);
+        Integer usuarioId = getUsuarioLogadoId();
+        UsuarioResponseDTO atualizado = usuarioService.removerJogadorObservado(usuarioId, jogadorId);
         return ResponseEntity.ok(atualizado);
     }
 }
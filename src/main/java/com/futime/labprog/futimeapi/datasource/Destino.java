@@ -0,0 +1,7 @@
+package com.futime.labprog.futimeapi.datasource;
+
+/** Para qual pool a RoteamentoDataSource manda a conexão. */
+public enum Destino {
+    PRIMARIO,
+    REPLICA
+}
@@ -0,0 +1,46 @@
+package com.futime.labprog.futimeapi.datasource;
+
+import com.futime.labprog.futimeapi.security.UsuarioAutenticado;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Ler as próprias escritas: depois de um commit de escrita, as leituras do mesmo usuário vão ao
+ * primário durante a janela (o atraso que se admite da réplica), para ele não ver o dado antigo
+ * logo após salvar. Requisições anônimas não escrevem e sempre podem ir à réplica.
+ */
+public class EscritasRecentes {
+
+    private final Cache<String, Boolean> usuarios;
+
+    public EscritasRecentes(Duration janela, long tamanho) {
+        this.usuarios = Caffeine.newBuilder().maximumSize(tamanho).expireAfterWrite(janela).build();
+    }
+
+    public void registrar(String usuario) {
+        usuarios.put(usuario, Boolean.TRUE);
+    }
+
+    public boolean escreveuHaPouco(String usuario) {
+        return usuarios.getIfPresent(usuario) != null;
+    }
+
+    /** O usuário da requisição atual (email), ou null quando anônima. */
+    public static String usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !autenticacao.isAuthenticated()
+                || autenticacao instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        // Token (UsuarioAutenticado) e httpBasic (Usuario, cujo nome é o email) viram a mesma chave
+        if (autenticacao.getPrincipal() instanceof UsuarioAutenticado usuario) {
+            return usuario.email();
+        }
+        return autenticacao.getName();
+    }
+}
@@ -0,0 +1,62 @@
+package com.futime.labprog.futimeapi.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Mede periodicamente o atraso da réplica (consulta configurável, em segundos). Acima do máximo
+ * tolerado, ou se a medição falhar, as leituras voltam ao primário até a próxima medição dentro
+ * do limite. Sem consulta configurada (ex.: dois bancos embutidos locais) a réplica é considerada em dia.
+ */
+public class MonitorAtrasoReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorAtrasoReplica.class);
+
+    private final DataSource replica;
+    private final String consulta;
+    private final Duration atrasoMaximo;
+
+    private volatile boolean emDia = true;
+
+    public MonitorAtrasoReplica(DataSource replica, String consulta, Duration atrasoMaximo) {
+        this.replica = replica;
+        this.consulta = consulta;
+        this.atrasoMaximo = atrasoMaximo;
+    }
+
+    public boolean replicaEmDia() {
+        return emDia;
+    }
+
+    @Scheduled(fixedDelayString = "${futime.datasource.replica.intervalo-verificacao:5s}")
+    public void verificar() {
+        if (consulta == null || consulta.isBlank()) {
+            return;
+        }
+        boolean estava = emDia;
+        try (Connection conexao = replica.getConnection();
+                Statement comando = conexao.createStatement();
+                ResultSet resultado = comando.executeQuery(consulta)) {
+            // null: a réplica ainda não reproduziu nenhuma transação (ou não é réplica)
+            double segundos = resultado.next() ? resultado.getDouble(1) : 0;
+            emDia = segundos * 1000 <= atrasoMaximo.toMillis();
+            if (estava != emDia) {
+                log.warn("Réplica {}: atraso de {} s (máximo {})", emDia ? "de volta" : "atrasada, leituras no primário",
+                        segundos, atrasoMaximo);
+            }
+        } catch (SQLException e) {
+            emDia = false;
+            if (estava) {
+                log.warn("Não foi possível medir o atraso da réplica; leituras no primário", e);
+            }
+        }
+    }
+}
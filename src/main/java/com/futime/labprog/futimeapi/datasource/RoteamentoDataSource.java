@@ -0,0 +1,74 @@
+package com.futime.labprog.futimeapi.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Manda as transações {@code readOnly} para a réplica e todo o resto para o primário.
+ * Leituras que também vão ao primário:
+ * - réplica atrasada além do tolerado (MonitorAtrasoReplica);
+ * - de um usuário que acabou de escrever (EscritasRecentes);
+ * - feitas logo após o commit de uma escrita na mesma thread, como as releituras dos listeners
+ *   AFTER_COMMIT que mantêm os índices em memória: lidas da réplica, poderiam trazer o dado antigo
+ *   e deixá-lo em memória até a próxima alteração.
+ *
+ * Precisa estar atrás de um LazyConnectionDataSourceProxy: o gerenciador de transação abre a
+ * transação antes de marcá-la como somente leitura, e só com a conexão física pega no primeiro
+ * comando SQL a decisão aqui enxerga o readOnly.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    // Commits de escrita desta thread cujos callbacks afterCommit ainda estão rodando
+    private static final ThreadLocal<Integer> POS_COMMIT = ThreadLocal.withInitial(() -> 0);
+
+    private final EscritasRecentes escritasRecentes;
+    private final MonitorAtrasoReplica monitor;
+
+    public RoteamentoDataSource(EscritasRecentes escritasRecentes, MonitorAtrasoReplica monitor) {
+        this.escritasRecentes = escritasRecentes;
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String usuario = EscritasRecentes.usuarioAtual();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            acompanharCommit(usuario);
+            return Destino.PRIMARIO;
+        }
+        if (POS_COMMIT.get() > 0 || !monitor.replicaEmDia()
+                || (usuario != null && escritasRecentes.escreveuHaPouco(usuario))) {
+            return Destino.PRIMARIO;
+        }
+        return Destino.REPLICA;
+    }
+
+    // Registrada ao pegar a conexão, antes dos listeners de evento da transação: o afterCommit daqui roda primeiro
+    private void acompanharCommit(String usuario) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                POS_COMMIT.set(POS_COMMIT.get() + 1);
+                if (usuario != null) {
+                    escritasRecentes.registrar(usuario);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    int pendentes = POS_COMMIT.get() - 1;
+                    if (pendentes <= 0) {
+                        POS_COMMIT.remove();
+                    } else {
+                        POS_COMMIT.set(pendentes);
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+
+/**
+ * Só no perfil dev: devolve em cabeçalhos quantos comandos SQL a requisição preparou
+ * (X-Consultas-SQL) e as formas repetidas além do limite do DetectorNMaisUm (X-N-Mais-Um,
+ * "21x select ..."), para ver o N+1 direto no navegador ou no curl.
+ *
+ * Roda antes de o corpo ser escrito, quando o service já terminou (open-in-view desligado) e a
+ * resposta ainda aceita cabeçalhos.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "futime.sql.n-mais-um.cabecalho", havingValue = "true")
+public class CabecalhoConsultas implements ResponseBodyAdvice<Object> {
+
+    // Cabeçalhos muito longos são cortados por proxies; o começo do SQL basta para achar a consulta
+    private static final int TAMANHO_FORMA = 200;
+
+    private final DetectorNMaisUm detector;
+
+    public CabecalhoConsultas(DetectorNMaisUm detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        ConsultasRequisicao.Contagem contagem = ConsultasRequisicao.atual();
+        if (contagem == null) {
+            return body;
+        }
+        response.getHeaders().set("X-Consultas-SQL", String.valueOf(detector.total(contagem)));
+        for (Map.Entry<String, Integer> forma : detector.repetidas(contagem)) {
+            String sql = forma.getKey();
+            response.getHeaders().add("X-N-Mais-Um", forma.getValue() + "x "
+                    + (sql.length() > TAMANHO_FORMA ? sql.substring(0, TAMANHO_FORMA) + "..." : sql));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,70 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Acumula os comandos SQL executados pela thread da requisição atual (MetricasRequisicaoFiltro).
+ * Fora de uma requisição (tarefas agendadas, inicialização) não há acumulador e nada é contado.
+ *
+ * Com threads virtuais cada requisição tem a sua thread, então o ThreadLocal não vaza entre elas;
+ * ainda assim o filtro sempre encerra o acumulador no finally.
+ */
+public final class ConsultasRequisicao {
+
+    private static final ThreadLocal<Contagem> ATUAL = new ThreadLocal<>();
+
+    private ConsultasRequisicao() {
+    }
+
+    public static void iniciar() {
+        ATUAL.set(new Contagem());
+    }
+
+    /** O acumulador da requisição em andamento, ou null fora de uma requisição. */
+    public static Contagem atual() {
+        return ATUAL.get();
+    }
+
+    /** Remove o acumulador da thread e devolve o que foi contado. */
+    public static Contagem encerrar() {
+        Contagem contagem = ATUAL.get();
+        ATUAL.remove();
+        return contagem != null ? contagem : new Contagem();
+    }
+
+    static void registrar(long nanos) {
+        Contagem contagem = ATUAL.get();
+        if (contagem != null) {
+            contagem.comandos++;
+            contagem.nanos += nanos;
+        }
+    }
+
+    static void registrarForma(String forma) {
+        Contagem contagem = ATUAL.get();
+        if (contagem != null) {
+            contagem.formas.merge(forma, 1, Integer::sum);
+        }
+    }
+
+    public static final class Contagem {
+
+        private int comandos;
+        private long nanos;
+        // Comandos preparados pelo Hibernate, por forma normalizada (DetectorNMaisUm)
+        private final Map<String, Integer> formas = new HashMap<>();
+
+        public int comandos() {
+            return comandos;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public Map<String, Integer> formas() {
+            return formas;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acrescenta a tag "metodo" (MetodoControlador) ao http.server.requests: a tag "uri" agrupa pelo
+ * padrão da rota, mas vários métodos dividem a mesma rota e o que se quer comparar é o método.
+ * O Spring Boot usa esta convenção no lugar da padrão por ela ser um bean.
+ */
+@Component
+public class ConvencaoRequisicoesObservacao extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of("metodo", MetodoControlador.de(context.getCarrier())));
+    }
+}
@@ -0,0 +1,76 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Conta, por requisição, os comandos que o Hibernate prepara, agrupados pela forma do SQL (literais
+ * e listas IN trocados por ?). A mesma forma repetida mais que o limite numa requisição é o N+1
+ * clássico: um carregamento lazy por item dentro de um toResponseDTO. Passar do orçamento total de
+ * comandos também é sinalizado. Quem relata é o MetricasRequisicaoFiltro (métrica e log) e, no
+ * perfil dev, o CabecalhoConsultas (cabeçalhos da resposta).
+ */
+@Component
+public class DetectorNMaisUm implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?");
+    private static final Pattern LISTA_IN = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private final int limite;
+    private final int orcamento;
+    // O Hibernate repete as mesmas strings de SQL; a normalização de cada uma é feita uma vez só
+    private final Cache<String, String> formas = Caffeine.newBuilder().maximumSize(2_000).build();
+
+    public DetectorNMaisUm(@Value("${futime.sql.n-mais-um.limite:10}") int limite,
+            @Value("${futime.sql.orcamento-requisicao:50}") int orcamento) {
+        this.limite = limite;
+        this.orcamento = orcamento;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        ConsultasRequisicao.registrarForma(formas.get(sql, DetectorNMaisUm::normalizar));
+        return sql;
+    }
+
+    /** Formas que passaram do limite na requisição, da mais repetida para a menos. */
+    public List<Map.Entry<String, Integer>> repetidas(ConsultasRequisicao.Contagem contagem) {
+        return contagem.formas().entrySet().stream()
+                .filter(forma -> forma.getValue() > limite)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+    }
+
+    public int total(ConsultasRequisicao.Contagem contagem) {
+        return contagem.formas().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public boolean estourouOrcamento(ConsultasRequisicao.Contagem contagem) {
+        return total(contagem) > orcamento;
+    }
+
+    static String normalizar(String sql) {
+        String forma = TEXTO.matcher(sql).replaceAll("?");
+        forma = NUMERO.matcher(forma).replaceAll("?");
+        forma = LISTA_IN.matcher(forma).replaceAll("in (?)");
+        return ESPACOS.matcher(forma).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
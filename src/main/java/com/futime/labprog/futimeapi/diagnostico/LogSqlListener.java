@@ -0,0 +1,109 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Log de SQL para produção, no lugar do show-sql: comandos acima do limite de lentidão saem
+ * sempre (WARN) e os demais por amostragem (INFO), com duração, método de controller de origem
+ * e parâmetros. O logger "futime.sql" vai por um AsyncAppender que descarta em vez de bloquear
+ * (logback-spring.xml), então a thread da requisição só monta a mensagem dos comandos escolhidos.
+ *
+ * Comandos que tocam dados de usuário (tabela usuarios, colunas senha e email) saem só com os tipos
+ * dos parâmetros: o log não pode guardar e-mails nem hashes de senha.
+ */
+public class LogSqlListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("futime.sql");
+
+    // Valores grandes (textos, URLs de imagem) não ajudam a reproduzir a consulta
+    private static final int TAMANHO_VALOR = 60;
+
+    // \b também separa o alias do Hibernate (u1_0.email) da coluna
+    private static final Pattern SENSIVEL = Pattern.compile("\\b(usuarios|senha|email)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long lentoMs;
+    private final double amostragem;
+
+    public LogSqlListener(Duration lento, double amostragem) {
+        this.lentoMs = lento.toMillis();
+        this.amostragem = amostragem;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long ms = execInfo.getElapsedTime();
+        if (ms >= lentoMs) {
+            if (log.isWarnEnabled()) {
+                log.warn("lento {} ms [{}] {}", ms, metodo(), descrever(execInfo, queryInfoList));
+            }
+        } else if (amostragem > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < amostragem) {
+            log.info("{} ms [{}] {}", ms, metodo(), descrever(execInfo, queryInfoList));
+        }
+    }
+
+    // Fora de uma requisição (tarefas agendadas, streaming em outra thread) não há controller
+    private static String metodo() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos
+                ? MetodoControlador.de(atributos.getRequest())
+                : MetodoControlador.NENHUM;
+    }
+
+    private static String descrever(ExecutionInfo execInfo, List<QueryInfo> consultas) {
+        StringBuilder sb = new StringBuilder();
+        if (!execInfo.isSuccess()) {
+            sb.append("(falhou) ");
+        }
+        if (execInfo.isBatch()) {
+            sb.append("(lote de ").append(execInfo.getBatchSize()).append(") ");
+        }
+        for (QueryInfo consulta : consultas) {
+            sb.append(consulta.getQuery());
+            List<List<ParameterSetOperation>> parametros = consulta.getParametersList();
+            if (!parametros.isEmpty()) {
+                // Num lote, o primeiro conjunto de parâmetros já mostra o formato dos demais
+                boolean ocultar = SENSIVEL.matcher(consulta.getQuery()).find();
+                sb.append(" ").append(parametros(parametros.get(0), ocultar));
+                if (parametros.size() > 1) {
+                    sb.append(" +").append(parametros.size() - 1);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String parametros(List<ParameterSetOperation> operacoes, boolean ocultar) {
+        StringJoiner valores = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operacao : operacoes) {
+            Object[] args = operacao.getArgs();
+            // args[0] é a posição do parâmetro; setNull não tem valor
+            Object arg = args.length > 1 && !"setNull".equals(operacao.getMethod().getName()) ? args[1] : null;
+            if (arg == null) {
+                valores.add("null");
+            } else if (ocultar) {
+                valores.add("<" + arg.getClass().getSimpleName() + ">");
+            } else {
+                String valor = String.valueOf(arg);
+                valores.add(valor.length() > TAMANHO_VALOR ? valor.substring(0, TAMANHO_VALOR) + "..." : valor);
+            }
+        }
+        return valores.toString();
+    }
+}
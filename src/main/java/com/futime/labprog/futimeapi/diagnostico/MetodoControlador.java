@@ -0,0 +1,27 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Nome do método de controller que atendeu a requisição ("JogadorController.listarTodos"),
+ * usado como tag das métricas por endpoint. O DispatcherServlet só grava o handler depois do
+ * mapeamento, então o nome está disponível no fim da requisição (e não no começo).
+ */
+public final class MetodoControlador {
+
+    /** Requisições sem controller: 404, arquivos estáticos, actuator, rejeitadas pela segurança. */
+    public static final String NENHUM = "none";
+
+    private MetodoControlador() {
+    }
+
+    public static String de(HttpServletRequest requisicao) {
+        if (requisicao == null
+                || !(requisicao.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod metodo)) {
+            return NENHUM;
+        }
+        return metodo.getBeanType().getSimpleName() + "." + metodo.getMethod().getName();
+    }
+}
@@ -0,0 +1,109 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quantos comandos SQL e quanto tempo de banco cada método de controller gasta por requisição:
+ * futime.requisicao.sql.comandos e futime.requisicao.sql.tempo, com a mesma tag "metodo" do
+ * http.server.requests. Uma listagem que cresce em comandos com o tamanho da página é N+1.
+ *
+ * Com o DetectorNMaisUm, cada forma de SQL repetida além do limite incrementa futime.sql.n-mais-um
+ * (tag "metodo") e vai para o log: WARN na primeira vez de cada método e forma, DEBUG nas seguintes,
+ * para o log não repetir o mesmo aviso a cada requisição. As formas já avisadas ficam num cache
+ * limitado que expira: SQL com literais variados não acumula chaves para sempre, e um N+1 que
+ * continua acontecendo volta a ser avisado de hora em hora. O estouro do orçamento de comandos por
+ * requisição é tratado igual, em futime.sql.orcamento.estourado.
+ *
+ * Exportações em streaming (StreamingResponseBody) consultam em outra thread e não entram aqui.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class MetricasRequisicaoFiltro extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricasRequisicaoFiltro.class);
+
+    private final MeterRegistry registry;
+    private final DetectorNMaisUm detector;
+    private final Cache<String, Boolean> avisados = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public MetricasRequisicaoFiltro(MeterRegistry registry, DetectorNMaisUm detector) {
+        this.registry = registry;
+        this.detector = detector;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConsultasRequisicao.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConsultasRequisicao.Contagem contagem = ConsultasRequisicao.encerrar();
+            String metodo = MetodoControlador.de(request);
+            DistributionSummary.builder("futime.requisicao.sql.comandos")
+                    .description("Comandos SQL executados por requisição")
+                    .tag("metodo", metodo)
+                    .register(registry)
+                    .record(contagem.comandos());
+            Timer.builder("futime.requisicao.sql.tempo")
+                    .description("Tempo no banco por requisição")
+                    .tag("metodo", metodo)
+                    .register(registry)
+                    .record(contagem.nanos(), TimeUnit.NANOSECONDS);
+            avaliar(metodo, contagem);
+        }
+    }
+
+    private void avaliar(String metodo, ConsultasRequisicao.Contagem contagem) {
+        List<Map.Entry<String, Integer>> repetidas = detector.repetidas(contagem);
+        for (Map.Entry<String, Integer> forma : repetidas) {
+            Counter.builder("futime.sql.n-mais-um")
+                    .description("Formas de SQL repetidas além do limite numa requisição")
+                    .tag("metodo", metodo)
+                    .register(registry)
+                    .increment();
+            avisar(metodo + "|" + forma.getKey(), "Possível N+1 em {}: {} vezes {}", metodo, forma.getValue(),
+                    forma.getKey());
+        }
+        if (detector.estourouOrcamento(contagem)) {
+            Counter.builder("futime.sql.orcamento.estourado")
+                    .description("Requisições acima do orçamento de comandos SQL")
+                    .tag("metodo", metodo)
+                    .register(registry)
+                    .increment();
+            avisar(metodo, "{} preparou {} comandos SQL numa requisição", metodo, detector.total(contagem));
+        }
+    }
+
+    private void avisar(String chave, String mensagem, Object... argumentos) {
+        if (avisados.asMap().putIfAbsent(chave, Boolean.TRUE) == null) {
+            log.warn(mensagem, argumentos);
+        } else {
+            log.debug(mensagem, argumentos);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede cada execução JDBC que passa pelo DataSource (idas ao banco: um lote de 50 INSERTs conta
+ * uma vez) no timer futime.sql, com a tag "tipo" (select, insert, update, delete, outro), e soma
+ * no acumulador da requisição atual.
+ *
+ * O MeterRegistry é buscado só na primeira consulta: o DataSource é criado antes dele.
+ */
+public class MetricasSqlListener implements QueryExecutionListener {
+
+    private static final String[] TIPOS = {"select", "insert", "update", "delete"};
+
+    // Cada thread executa um comando por vez; o início dele fica aqui até o afterQuery
+    private final ThreadLocal<Long> inicio = new ThreadLocal<>();
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public MetricasSqlListener(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        inicio.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long comeco = inicio.get();
+        inicio.remove();
+        if (comeco == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - comeco;
+        ConsultasRequisicao.registrar(nanos);
+        MeterRegistry meterRegistry = registry.getIfAvailable();
+        if (meterRegistry != null) {
+            Timer.builder("futime.sql")
+                    .description("Execuções de comandos SQL no banco")
+                    .tag("tipo", tipo(queryInfoList))
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String tipo(List<QueryInfo> consultas) {
+        if (consultas.isEmpty()) {
+            return "outro";
+        }
+        String sql = consultas.get(0).getQuery().stripLeading().toLowerCase(Locale.ROOT);
+        for (String tipo : TIPOS) {
+            if (sql.startsWith(tipo)) {
+                return tipo;
+            }
+        }
+        return "outro";
+    }
+}
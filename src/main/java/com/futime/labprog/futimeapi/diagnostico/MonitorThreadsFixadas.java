@@ -0,0 +1,88 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Com threads virtuais ligadas, escuta o evento JFR jdk.VirtualThreadPinned: uma thread virtual
+ * que bloqueou (banco, rede, trava) dentro de um synchronized ou de código nativo e, por isso,
+ * prendeu a thread de plataforma que a executava. Cada ocorrência acima do limite vira um aviso
+ * no log com os quadros da pilha do nosso código e incrementa futime.threads.virtuais.fixadas
+ * (/actuator/metrics), para achar o synchronized a trocar por ReentrantLock.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class MonitorThreadsFixadas implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorThreadsFixadas.class);
+
+    private static final String EVENTO = "jdk.VirtualThreadPinned";
+    private static final String PACOTE = "com.futime.";
+    private static final int QUADROS = 8;
+
+    private final Counter fixadas;
+    private final Duration limite;
+    private volatile RecordingStream gravacao;
+
+    public MonitorThreadsFixadas(MeterRegistry registry,
+            @Value("${futime.threads.fixacao.limite:20ms}") Duration limite) {
+        this.fixadas = Counter.builder("futime.threads.virtuais.fixadas")
+                .description("Threads virtuais que bloquearam presas à thread de plataforma")
+                .register(registry);
+        this.limite = limite;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream nova = new RecordingStream();
+        nova.enable(EVENTO).withThreshold(limite).withStackTrace();
+        nova.onEvent(EVENTO, this::registrar);
+        nova.startAsync();
+        gravacao = nova;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream atual = gravacao;
+        gravacao = null;
+        if (atual != null) {
+            atual.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return gravacao != null;
+    }
+
+    private void registrar(RecordedEvent evento) {
+        fixadas.increment();
+        if (evento.getStackTrace() == null) {
+            log.warn("Thread virtual presa à thread de plataforma por {} ms", evento.getDuration().toMillis());
+            return;
+        }
+        List<RecordedFrame> quadros = evento.getStackTrace().getFrames();
+        // Os quadros do nosso código dizem qual synchronized foi; sem nenhum, os primeiros da pilha
+        List<RecordedFrame> nossos = quadros.stream()
+                .filter(q -> q.getMethod().getType().getName().startsWith(PACOTE))
+                .toList();
+        String pilha = (nossos.isEmpty() ? quadros : nossos).stream()
+                .limit(QUADROS)
+                .map(q -> q.getMethod().getType().getName() + "." + q.getMethod().getName() + ":" + q.getLineNumber())
+                .collect(Collectors.joining("\n    at ", "\n    at ", ""));
+        log.warn("Thread virtual presa à thread de plataforma por {} ms{}", evento.getDuration().toMillis(), pilha);
+    }
+}
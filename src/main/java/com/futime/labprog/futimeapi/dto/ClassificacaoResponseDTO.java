@@ -0,0 +1,10 @@
+package com.futime.labprog.futimeapi.dto;
+
+import java.util.List;
+
+public record ClassificacaoResponseDTO(
+        Integer competicaoId,
+        String competicao,
+        String temporada,
+        List<LinhaClassificacaoDTO> linhas) {
+}
@@ -12,4 +12,16 @@ public record ClubeResponseDTO(
     String cidade,
     String pais,
     EstadioResponseDTO estadio // O "prato pronto" inclui o prato do estádio
-) {}
\ No newline at end of file
+) {
+
+    /**
+     * Construtor "achatado" usado pelas consultas de projeção do ClubeRepository
+     * (select new ...). O JPQL não monta DTOs aninhados, então os campos do estádio
+     * chegam soltos e o prato do estádio é montado aqui (ou fica null se o clube não tiver estádio).
+     */
+    public ClubeResponseDTO(Integer id, String nome, String sigla, String cidade, String pais,
+            Integer estadioId, String estadioNome, String estadioCidade, String estadioPais) {
+        this(id, nome, sigla, cidade, pais, estadioId == null ? null
+                : new EstadioResponseDTO(estadioId, estadioNome, estadioCidade, estadioPais));
+    }
+}
@@ -0,0 +1,11 @@
+package com.futime.labprog.futimeapi.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Uma linha da súmula enviada em POST /partidas/{id}/estatisticas: o jogador e os números dele na partida.
+ */
+public record EstatisticaPartidaLoteItemDTO(
+        @NotNull(message = "O jogadorId é obrigatório") Integer jogadorId,
+        @NotNull(message = "As estatísticas são obrigatórias") EstatisticaPartidaRequestDTO estatisticas) {
+}
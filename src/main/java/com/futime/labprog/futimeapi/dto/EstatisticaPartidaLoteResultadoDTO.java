@@ -0,0 +1,16 @@
+package com.futime.labprog.futimeapi.dto;
+
+/**
+ * Resultado de cada linha da súmula, na mesma ordem do envio. {@code estatistica} só vem
+ * preenchida quando a linha foi gravada; {@code erro} só quando foi rejeitada.
+ */
+public record EstatisticaPartidaLoteResultadoDTO(
+        Integer jogadorId,
+        Status status,
+        String erro,
+        EstatisticaPartidaResponseDTO estatistica) {
+
+    public enum Status {
+        CRIADA, ATUALIZADA, REJEITADA
+    }
+}
@@ -0,0 +1,14 @@
+package com.futime.labprog.futimeapi.dto;
+
+/**
+ * DTO (record) de um resultado da busca de jogadores. 'similaridade' vai de 0 a 1:
+ * a fração dos trigramas da consulta encontrados no nome completo ou no apelido.
+ */
+public record JogadorBuscaDTO(
+    Integer id,
+    String nomeCompleto,
+    String apelido,
+    String posicao,
+    ClubeResponseDTO clube,
+    double similaridade
+) {}
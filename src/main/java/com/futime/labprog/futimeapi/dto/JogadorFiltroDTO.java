@@ -0,0 +1,29 @@
+package com.futime.labprog.futimeapi.dto;
+
+/**
+ * DTO (record) dos filtros opcionais de GET /jogadores, lidos da query string
+ * (?posicao=Atacante&clubeId=3&valorMin=1000000&idadeMax=23&ordenar=valorDeMercado&direcao=desc).
+ * 'competicaoId' traz os jogadores com estatísticas registradas na competição; as idades são em anos completos.
+ * 'ordenar' aceita id (padrão), nome, valorDeMercado ou idade; 'direcao' aceita asc (padrão) ou desc.
+ */
+public record JogadorFiltroDTO(
+    String posicao,
+    Integer clubeId,
+    Integer competicaoId,
+    Double valorMin,
+    Double valorMax,
+    Integer idadeMin,
+    Integer idadeMax,
+    String ordenar,
+    String direcao
+) {
+
+    public boolean semFiltros() {
+        return posicao == null && clubeId == null && competicaoId == null && valorMin == null && valorMax == null
+                && idadeMin == null && idadeMax == null && ordenar == null && direcao == null;
+    }
+
+    public boolean filtraIdade() {
+        return idadeMin != null || idadeMax != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.futime.labprog.futimeapi.dto;
+
+public record LinhaClassificacaoDTO(
+        int posicao,
+        ClubeResponseDTO clube,
+        int pontos,
+        int jogos,
+        int vitorias,
+        int empates,
+        int derrotas,
+        int golsPro,
+        int golsContra,
+        int saldo) {
+}
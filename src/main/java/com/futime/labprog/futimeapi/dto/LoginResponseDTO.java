@@ -0,0 +1,15 @@
+package com.futime.labprog.futimeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.time.Instant;
+
+/**
+ * Resposta de login/registro: os campos do usuário no mesmo nível de antes, mais o token
+ * de acesso a ser enviado como "Authorization: Bearer <token>".
+ */
+public record LoginResponseDTO(
+        @JsonUnwrapped UsuarioResponseDTO usuario,
+        String token,
+        Instant expiraEm) {
+}
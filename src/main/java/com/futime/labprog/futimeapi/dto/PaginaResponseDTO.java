@@ -0,0 +1,13 @@
+package com.futime.labprog.futimeapi.dto;
+
+import java.util.List;
+
+/**
+ * DTO (record) genérico para uma página de uma listagem paginada por cursor (keyset).
+ * 'proximoCursor' é o ID do último item da página: basta repassá-lo em '?after='
+ * para obter a página seguinte. Quando for null, não há mais itens.
+ */
+public record PaginaResponseDTO<T>(
+    List<T> itens,
+    Integer proximoCursor
+) {}
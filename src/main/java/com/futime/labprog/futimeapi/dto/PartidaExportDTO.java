@@ -0,0 +1,25 @@
+package com.futime.labprog.futimeapi.dto;
+
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação NDJSON de partidas (GET /partidas/export).
+ * É "achatada" (só IDs e nomes de clubes/estádio) para poder ser montada direto
+ * pela consulta, sem carregar entidades no contexto de persistência.
+ */
+public record PartidaExportDTO(
+    Integer id,
+    Integer mandanteId,
+    String mandanteNome,
+    Integer visitanteId,
+    String visitanteNome,
+    Integer estadioId,
+    String estadioNome,
+    FaseCompeticao fase,
+    Integer golsMandante,
+    Integer golsVisitante,
+    LocalDateTime dataHora,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
@@ -11,10 +11,14 @@ public record PartidaRequestDTO(
 
         @NotNull(message = "O estádio é obrigatório") Integer estadioId,
 
+        // Opcional; partidas de fase PONTOS_CORRIDOS com competição entram na classificação dela
+        Integer competicaoId,
+
         @NotNull(message = "A fase da competição é obrigatória") FaseCompeticao fase,
 
-        int golsMandante,
-        int golsVisitante,
+        // Os dois null para uma partida ainda não jogada; ela não conta na classificação
+        Integer golsMandante,
+        Integer golsVisitante,
 
         @NotNull(message = "A data e hora da partida são obrigatórias") LocalDateTime dataHora) {
 }
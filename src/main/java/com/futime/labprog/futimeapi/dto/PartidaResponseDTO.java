@@ -8,9 +8,10 @@ public record PartidaResponseDTO(
     ClubeResponseDTO mandante,
     ClubeResponseDTO visitante,
     EstadioResponseDTO estadio,
+    Integer competicaoId,
     FaseCompeticao fase,
-    int golsMandante,
-    int golsVisitante,
+    Integer golsMandante,
+    Integer golsVisitante,
     LocalDateTime dataHora,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
@@ -0,0 +1,9 @@
+package com.futime.labprog.futimeapi.dto;
+
+public record PosicaoRankingDTO(
+        int posicao,
+        Integer jogadorId,
+        String apelido,
+        ClubeResponseDTO clube,
+        int valor) {
+}
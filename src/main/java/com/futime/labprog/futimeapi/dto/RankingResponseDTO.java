@@ -0,0 +1,17 @@
+package com.futime.labprog.futimeapi.dto;
+
+import java.util.List;
+
+/**
+ * Artilharia ou assistências de uma competição ('criterio' diz qual; 'valor' de cada item é
+ * o número de gols ou de assistências). Aqui a ordem não é pelo ID, então 'proximoCursor'
+ * leva o valor e o jogador do último item ('valor:jogadorId'), também repassado em '?after='.
+ */
+public record RankingResponseDTO(
+        Integer competicaoId,
+        String competicao,
+        String temporada,
+        String criterio,
+        List<PosicaoRankingDTO> itens,
+        String proximoCursor) {
+}
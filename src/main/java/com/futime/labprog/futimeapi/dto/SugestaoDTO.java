@@ -0,0 +1,14 @@
+package com.futime.labprog.futimeapi.dto;
+
+import com.futime.labprog.futimeapi.busca.TipoSugestao;
+
+/**
+ * DTO (record) de uma sugestão do autocompletar. 'texto' é o apelido do jogador ou o nome do
+ * clube/estádio; 'complemento' é a sigla do clube (null para os demais).
+ */
+public record SugestaoDTO(
+    TipoSugestao tipo,
+    Integer id,
+    String texto,
+    String complemento
+) {}
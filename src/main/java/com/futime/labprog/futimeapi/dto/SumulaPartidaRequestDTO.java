@@ -0,0 +1,12 @@
+package com.futime.labprog.futimeapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Corpo de POST /partidas/{id}/estatisticas: as linhas dos dois elencos da partida.
+ */
+public record SumulaPartidaRequestDTO(
+        @NotEmpty(message = "A súmula precisa de ao menos um jogador") List<@Valid EstatisticaPartidaLoteItemDTO> jogadores) {
+}
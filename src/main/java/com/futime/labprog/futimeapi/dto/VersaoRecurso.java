@@ -0,0 +1,59 @@
+package com.futime.labprog.futimeapi.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+/**
+ * Versão de uma resposta GET, usada nos cabeçalhos ETag e Last-Modified.
+ * É calculada sem montar o corpo (contagem, maior ID, maior updatedAt, versão da
+ * fotografia de referência...), então uma requisição condicional que resulta em
+ * 304 não paga mapeamento de DTO nem serialização.
+ *
+ * @param etag ETag forte, já entre aspas.
+ * @param ultimaAlteracao Valor do Last-Modified, ou null quando não há data confiável.
+ */
+public record VersaoRecurso(String etag, Instant ultimaAlteracao) {
+
+    /**
+     * Monta a versão a partir das partes que determinam o conteúdo da resposta.
+     * O ETag é um resumo SHA-256 das partes: muda sempre que qualquer uma delas muda.
+     */
+    public static VersaoRecurso de(Instant ultimaAlteracao, Object... partes) {
+        StringBuilder texto = new StringBuilder();
+        for (Object parte : partes) {
+            texto.append(parte).append('|');
+        }
+        return new VersaoRecurso('"' + resumo(texto.toString()) + '"', ultimaAlteracao);
+    }
+
+    /** Resumo hexadecimal (128 bits de SHA-256) de um texto. */
+    public static String resumo(String texto) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(texto.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /** Converte os updatedAt (gravados com LocalDateTime.now() no fuso do servidor) para Instant. */
+    public static Instant instante(LocalDateTime dataHora) {
+        return dataHora == null ? null : dataHora.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /** O mais recente entre dois instantes (null é ignorado). */
+    public static Instant maisRecente(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -7,7 +7,8 @@ import jakarta.persistence.*;
  * em uma Competição específica. Esta é a nossa fonte da verdade.
  */
 @Entity
-@Table(name = "jogador_estatisticas_competicao")
+@Table(name = "jogador_estatisticas_competicao", // índices em db/migration/V7__indices.sql
+        uniqueConstraints = @UniqueConstraint(name = "uk_estatisticas_jogador_competicao", columnNames = {"jogador_id", "competicao_id"}))
 public class EstatisticasJogadorCompeticao {
 
     @Id
@@ -0,0 +1,55 @@
+package com.futime.labprog.futimeapi.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Agregado persistido: totais de um Jogador em UMA temporada, somando todas as
+ * competições daquela temporada. Não é fonte da verdade (essa é a
+ * EstatisticasJogadorCompeticao); é mantido por delta pelo EstatisticasServiceImpl
+ * para que a leitura do jogador não precise reagrupar as estatísticas a cada requisição.
+ */
+@Entity
+@Table(name = "jogador_estatisticas_temporada",
+        uniqueConstraints = @UniqueConstraint(name = "uk_jogador_temporada", columnNames = {"jogador_id", "temporada"}))
+public class EstatisticasJogadorTemporada {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "jogador_id", nullable = false)
+    private Jogador jogador;
+
+    @Column(nullable = false)
+    private String temporada;
+
+    private int gols;
+    private int assistencias;
+
+    // Quantos registros de EstatisticasJogadorCompeticao compõem esta linha.
+    // Quando chega a zero, a temporada deixa de existir para o jogador.
+    private int registros;
+
+    public EstatisticasJogadorTemporada() {
+    }
+
+    public EstatisticasJogadorTemporada(Jogador jogador, String temporada) {
+        this.jogador = jogador;
+        this.temporada = temporada;
+    }
+
+    // Getters e Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+    public Jogador getJogador() { return jogador; }
+    public void setJogador(Jogador jogador) { this.jogador = jogador; }
+    public String getTemporada() { return temporada; }
+    public void setTemporada(String temporada) { this.temporada = temporada; }
+    public int getGols() { return gols; }
+    public void setGols(int gols) { this.gols = gols; }
+    public int getAssistencias() { return assistencias; }
+    public void setAssistencias(int assistencias) { this.assistencias = assistencias; }
+    public int getRegistros() { return registros; }
+    public void setRegistros(int registros) { this.registros = registros; }
+}
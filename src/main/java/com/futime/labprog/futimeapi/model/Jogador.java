@@ -1,16 +1,29 @@
 package com.futime.labprog.futimeapi.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jogadores")
+@Table(name = "jogadores") // índices em db/migration/V7__indices.sql
+@NamedEntityGraph(name = Jogador.GRAFO_DETALHES, attributeNodes = @NamedAttributeNode("estatisticas"))
 public class Jogador {
 
+    /**
+     * Plano de busca usado pelos endpoints que montam o JogadorResponseDTO completo:
+     * traz as estatísticas junto com o jogador. Clube, estádio e competições não entram
+     * no JOIN porque o DTO os pega prontos do DadosReferenciaCache, pelo ID da chave estrangeira.
+     */
+    public static final String GRAFO_DETALHES = "Jogador.detalhes";
+
+    // Sequência pooled como em Partida: IDs em blocos de 50 e INSERTs em lote na carga de elencos.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jogadores_seq")
+    @SequenceGenerator(name = "jogadores_seq", sequenceName = "jogadores_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "nome_completo", nullable = false)
@@ -33,9 +46,31 @@ public class Jogador {
     @JoinColumn(name = "clube_id")
     private Clube clube;
 
+    // Totais da carreira, mantidos por delta pelo EstatisticasServiceImpl
+    // (a soma de todas as EstatisticasJogadorCompeticao do jogador). Só o UPDATE em massa de
+    // JogadorRepository.somarTotais os escreve: fora do INSERT/UPDATE da entidade, salvar um
+    // jogador lido antes de um delta não grava de volta os totais antigos.
+    @ColumnDefault("0")
+    @Column(name = "gols_totais", nullable = false, insertable = false, updatable = false)
+    private int golsTotais;
+
+    @ColumnDefault("0")
+    @Column(name = "assistencias_totais", nullable = false, insertable = false, updatable = false)
+    private int assistenciasTotais;
+
     @OneToMany(mappedBy = "jogador", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EstatisticasJogadorCompeticao> estatisticas = new ArrayList<>();
 
+    // Última alteração do jogador ou dos seus totais (usada nos ETags de /jogadores)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Fora do grafo Jogador.detalhes (o Hibernate não busca duas List no mesmo JOIN FETCH);
+    // na listagem é carregada em lote pelo default_batch_fetch_size.
+    @OneToMany(mappedBy = "jogador", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("temporada")
+    private List<EstatisticasJogadorTemporada> estatisticasTemporada = new ArrayList<>();
+
     @OneToMany(mappedBy = "jogador", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<JogadorEstatisticaPartida> estatisticasPartida = new ArrayList<>();
 
@@ -53,6 +88,12 @@ public class Jogador {
         this.clube = clube;
     }
 
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
 
     public Integer getId() {
@@ -127,6 +168,38 @@ public class Jogador {
         this.estatisticas = estatisticas;
     }
 
+    public int getGolsTotais() {
+        return golsTotais;
+    }
+
+    public void setGolsTotais(int golsTotais) {
+        this.golsTotais = golsTotais;
+    }
+
+    public int getAssistenciasTotais() {
+        return assistenciasTotais;
+    }
+
+    public void setAssistenciasTotais(int assistenciasTotais) {
+        this.assistenciasTotais = assistenciasTotais;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<EstatisticasJogadorTemporada> getEstatisticasTemporada() {
+        return estatisticasTemporada;
+    }
+
+    public void setEstatisticasTemporada(List<EstatisticasJogadorTemporada> estatisticasTemporada) {
+        this.estatisticasTemporada = estatisticasTemporada;
+    }
+
     public List<JogadorEstatisticaPartida> getEstatisticasPartida() {
         return estatisticasPartida;
     }
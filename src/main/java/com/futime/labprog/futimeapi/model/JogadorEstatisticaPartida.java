@@ -10,15 +10,20 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jogador_estatistica_partida")
+@Table(name = "jogador_estatistica_partida",
+        uniqueConstraints = @UniqueConstraint(name = "uk_estatistica_jogador_partida", columnNames = {"jogador_id", "partida_id"}))
 public class JogadorEstatisticaPartida {
 
+    // Sequência pooled (ver Partida): a tabela mais volumosa, é aqui que o INSERT em lote mais rende.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jogador_estatistica_partida_seq")
+    @SequenceGenerator(name = "jogador_estatistica_partida_seq", sequenceName = "jogador_estatistica_partida_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -62,7 +67,7 @@ public class JogadorEstatisticaPartida {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     public JogadorEstatisticaPartida() {
@@ -12,15 +12,21 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Table(name = "partidas")
 public class Partida {
 
+    // Sequência em blocos de 50 (otimizador pooled): o Hibernate só vai ao banco a cada 50 IDs
+    // e, ao contrário de IDENTITY, consegue mandar os INSERTs em lote (hibernate.jdbc.batch_size).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "partidas_seq")
+    @SequenceGenerator(name = "partidas_seq", sequenceName = "partidas_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,15 +41,22 @@ public class Partida {
     @JoinColumn(name = "estadio_id", nullable = false)
     private Estadio estadio;
 
+    // Opcional: partidas antigas não têm competição. Excluir a competição só desvincula as partidas.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "competicao_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Competicao competicao;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private FaseCompeticao fase;
 
-    @Column(name = "gols_mandante", nullable = false)
-    private int golsMandante;
+    // Os dois placares ficam null enquanto a partida não foi jogada (calendário futuro)
+    @Column(name = "gols_mandante")
+    private Integer golsMandante;
 
-    @Column(name = "gols_visitante", nullable = false)
-    private int golsVisitante;
+    @Column(name = "gols_visitante")
+    private Integer golsVisitante;
 
     @Column(name = "data_hora", nullable = false)
     private LocalDateTime dataHora;
@@ -51,7 +64,7 @@ public class Partida {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     public Partida() {
@@ -100,6 +113,14 @@ public class Partida {
         this.estadio = estadio;
     }
 
+    public Competicao getCompeticao() {
+        return competicao;
+    }
+
+    public void setCompeticao(Competicao competicao) {
+        this.competicao = competicao;
+    }
+
     public FaseCompeticao getFase() {
         return fase;
     }
@@ -108,19 +129,19 @@ public class Partida {
         this.fase = fase;
     }
 
-    public int getGolsMandante() {
+    public Integer getGolsMandante() {
         return golsMandante;
     }
 
-    public void setGolsMandante(int golsMandante) {
+    public void setGolsMandante(Integer golsMandante) {
         this.golsMandante = golsMandante;
     }
 
-    public int getGolsVisitante() {
+    public Integer getGolsVisitante() {
         return golsVisitante;
     }
 
-    public void setGolsVisitante(int golsVisitante) {
+    public void setGolsVisitante(Integer golsVisitante) {
         this.golsVisitante = golsVisitante;
     }
 
@@ -0,0 +1,37 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import java.util.Optional;
+
+/**
+ * Cursor das páginas de um ranking: o valor e o jogador da última linha entregue. A página seguinte
+ * começa logo depois dele na ordem (valor desc, jogador asc), sem contar quantas linhas vieram antes,
+ * e continua no lugar certo mesmo que a linha do cursor tenha mudado entre uma página e outra.
+ * Na URL vai como {@code valor:jogadorId}.
+ */
+public record CursorRanking(int valor, Integer jogadorId) {
+
+    /** Antes da primeira linha: nenhum valor real passa de Integer.MAX_VALUE. */
+    public static final CursorRanking INICIO = new CursorRanking(Integer.MAX_VALUE, 0);
+
+    public static CursorRanking depoisDe(EntradaRanking entrada) {
+        return new CursorRanking(entrada.valor(), entrada.jogadorId());
+    }
+
+    /** Lê o texto de {@link #texto()}; vazio se estiver malformado. */
+    public static Optional<CursorRanking> ler(String texto) {
+        int separador = texto.indexOf(':');
+        if (separador <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CursorRanking(Integer.parseInt(texto.substring(0, separador)),
+                    Integer.valueOf(texto.substring(separador + 1))));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String texto() {
+        return valor + ":" + jogadorId;
+    }
+}
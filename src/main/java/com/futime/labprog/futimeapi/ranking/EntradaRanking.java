@@ -0,0 +1,11 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import com.futime.labprog.futimeapi.repository.RankingProjecao;
+
+/** Um jogador no ranking de uma métrica, com o valor já extraído. */
+public record EntradaRanking(Integer jogadorId, String apelido, Integer clubeId, int valor) {
+
+    public static EntradaRanking de(RankingProjecao linha, MetricaRanking metrica) {
+        return new EntradaRanking(linha.jogadorId(), linha.apelido(), linha.clubeId(), metrica.valor(linha));
+    }
+}
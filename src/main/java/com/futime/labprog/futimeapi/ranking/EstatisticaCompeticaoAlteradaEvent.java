@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.ranking;
+
+/**
+ * Publicado pelo EstatisticasService ao gravar ou excluir a linha de um jogador numa competição.
+ * Leva só as chaves: o MotorRanking relê a linha depois do commit.
+ */
+public record EstatisticaCompeticaoAlteradaEvent(Integer competicaoId, Integer jogadorId) {
+}
@@ -0,0 +1,13 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import com.futime.labprog.futimeapi.repository.RankingProjecao;
+
+/** O que ordena o ranking: gols (artilharia) ou assistências. */
+public enum MetricaRanking {
+    GOLS,
+    ASSISTENCIAS;
+
+    public int valor(RankingProjecao linha) {
+        return this == GOLS ? linha.gols() : linha.assistencias();
+    }
+}
@@ -0,0 +1,172 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import com.futime.labprog.futimeapi.repository.EstatisticasJogadorCompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.RankingProjecao;
+import com.futime.labprog.futimeapi.service.JogadorAlteradoEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Artilharia e assistências de cada competição: um TopK em memória por competição e métrica,
+ * carregado na primeira leitura e depois mantido pelos eventos de gravação, após o commit.
+ *
+ * Páginas dentro do top-K saem da memória; as que passam dele vão ao banco em keyset, a partir do
+ * cursor, pelos índices (competicao_id, gols desc, jogador_id) e (competicao_id, assistencias desc,
+ * jogador_id). Cargas e atualizações são
+ * serializadas no próprio motor, para que uma carga não grave por cima de uma alteração mais nova;
+ * as leituras de um top-K já carregado não passam por esse bloqueio. O bloqueio é um ReentrantLock,
+ * não synchronized: ele é mantido durante a consulta ao banco, e uma thread virtual parada dentro
+ * de synchronized prende a thread de plataforma que a executa (Java 21).
+ */
+@Component
+public class MotorRanking {
+
+    static final int CAPACIDADE = 100;
+
+    private record Chave(Integer competicaoId, MetricaRanking metrica) {
+    }
+
+    private final EstatisticasJogadorCompeticaoRepository estatisticasRepository;
+    private final TransactionTemplate transacaoLeitura;
+    private final Map<Chave, TopK> indices = new ConcurrentHashMap<>();
+    private final ReentrantLock trava = new ReentrantLock();
+
+    public MotorRanking(EstatisticasJogadorCompeticaoRepository estatisticasRepository,
+            PlatformTransactionManager transactionManager) {
+        this.estatisticasRepository = estatisticasRepository;
+        // Nova transação: os eventos chegam após o commit, quando a transação de origem já terminou
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    /** Até {@code quantidade} posições do ranking da competição, logo depois do cursor. */
+    public List<PosicaoRanking> pagina(Integer competicaoId, MetricaRanking metrica, CursorRanking apos,
+            int quantidade) {
+        List<PosicaoRanking> daMemoria = indice(new Chave(competicaoId, metrica)).pagina(apos, quantidade);
+        if (daMemoria != null) {
+            return daMemoria;
+        }
+        return paginaDoBanco(competicaoId, metrica, apos, quantidade);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarEstatistica(EstatisticaCompeticaoAlteradaEvent evento) {
+        trava.lock();
+        try {
+            atualizar(evento);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void atualizar(EstatisticaCompeticaoAlteradaEvent evento) {
+        List<Chave> carregadas = new ArrayList<>();
+        for (MetricaRanking metrica : MetricaRanking.values()) {
+            Chave chave = new Chave(evento.competicaoId(), metrica);
+            if (indices.containsKey(chave)) {
+                carregadas.add(chave);
+            }
+        }
+        if (carregadas.isEmpty()) {
+            // Nada em memória: a próxima leitura já carrega o estado novo
+            return;
+        }
+
+        Optional<RankingProjecao> linha = transacaoLeitura.execute(status ->
+                estatisticasRepository.buscarRanking(evento.competicaoId(), evento.jogadorId()));
+        for (Chave chave : carregadas) {
+            EntradaRanking nova = linha.map(l -> EntradaRanking.de(l, chave.metrica())).orElse(null);
+            if (!indices.get(chave).atualizar(evento.jogadorId(), nova)) {
+                indices.remove(chave);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarJogador(JogadorAlteradoEvent evento) {
+        trava.lock();
+        try {
+            indices.values().removeIf(topK -> topK.contem(evento.jogadorId()));
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private TopK indice(Chave chave) {
+        TopK topK = indices.get(chave);
+        if (topK != null) {
+            return topK;
+        }
+        trava.lock();
+        try {
+            // Fora do computeIfAbsent, que seguraria um bloqueio interno do mapa durante a consulta
+            topK = indices.get(chave);
+            if (topK == null) {
+                topK = carregar(chave);
+                indices.put(chave, topK);
+            }
+            return topK;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private TopK carregar(Chave chave) {
+        // Uma linha a mais só para saber se há jogadores além do top-K
+        List<EntradaRanking> linhas = transacaoLeitura.execute(status ->
+                consultar(chave.competicaoId(), chave.metrica(), CursorRanking.INICIO, CAPACIDADE + 1)).stream()
+                .map(l -> EntradaRanking.de(l, chave.metrica()))
+                .toList();
+        return new TopK(CAPACIDADE, linhas);
+    }
+
+    private List<PosicaoRanking> paginaDoBanco(Integer competicaoId, MetricaRanking metrica, CursorRanking apos,
+            int quantidade) {
+        return transacaoLeitura.execute(status -> {
+            List<RankingProjecao> linhas = consultar(competicaoId, metrica, apos, quantidade);
+            List<PosicaoRanking> pagina = new ArrayList<>(linhas.size());
+            int posicao = 0;
+            // Linhas à frente da primeira da página
+            long antes = 0;
+            for (int i = 0; i < linhas.size(); i++) {
+                EntradaRanking entrada = EntradaRanking.de(linhas.get(i), metrica);
+                if (i == 0) {
+                    // A página pode começar no meio de um empate: a posição é de quem está estritamente à
+                    // frente, e os empatados de ID menor também vêm antes desta linha
+                    long comMais = metrica == MetricaRanking.GOLS
+                            ? estatisticasRepository.contarComMaisGols(competicaoId, entrada.valor())
+                            : estatisticasRepository.contarComMaisAssistencias(competicaoId, entrada.valor());
+                    posicao = 1 + (int) comMais;
+                    antes = comMais + (metrica == MetricaRanking.GOLS
+                            ? estatisticasRepository.contarEmpatadosEmGolsAntes(competicaoId, entrada.valor(),
+                                    entrada.jogadorId())
+                            : estatisticasRepository.contarEmpatadosEmAssistenciasAntes(competicaoId,
+                                    entrada.valor(), entrada.jogadorId()));
+                } else if (entrada.valor() != pagina.get(i - 1).entrada().valor()) {
+                    posicao = (int) antes + i + 1;
+                }
+                pagina.add(new PosicaoRanking(posicao, entrada));
+            }
+            return pagina;
+        });
+    }
+
+    private List<RankingProjecao> consultar(Integer competicaoId, MetricaRanking metrica, CursorRanking apos,
+            int quantidade) {
+        return metrica == MetricaRanking.GOLS
+                ? estatisticasRepository.listarArtilharia(competicaoId, apos.valor(), apos.jogadorId(), quantidade)
+                : estatisticasRepository.listarAssistencias(competicaoId, apos.valor(), apos.jogadorId(), quantidade);
+    }
+}
@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.ranking;
+
+/**
+ * Uma entrada com a sua posição. Empatados dividem a posição e a seguinte é pulada
+ * (1, 2, 2, 4), como nas tabelas de artilharia.
+ */
+public record PosicaoRanking(int posicao, EntradaRanking entrada) {
+}
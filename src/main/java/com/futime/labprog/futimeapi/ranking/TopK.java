@@ -0,0 +1,111 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * As {@code capacidade} primeiras linhas do ranking de uma competição numa métrica, na mesma
+ * ordem do índice do banco (valor desc, jogador asc).
+ *
+ * Com {@code truncado} falso a estrutura tem todas as linhas da competição; com ele verdadeiro
+ * existem linhas fora dela, todas abaixo da última guardada. Uma atualização que abre uma vaga
+ * no top-K nesse caso não tem como saber quem a ocupa, então {@link #atualizar} devolve false e
+ * quem chamou descarta a estrutura para recarregá-la do banco.
+ */
+final class TopK {
+
+    static final Comparator<EntradaRanking> ORDEM = Comparator
+            .comparingInt(EntradaRanking::valor).reversed()
+            .thenComparing(EntradaRanking::jogadorId);
+
+    private final int capacidade;
+    private final TreeSet<EntradaRanking> ordem = new TreeSet<>(ORDEM);
+    private final Map<Integer, EntradaRanking> porJogador = new HashMap<>();
+    private boolean truncado;
+    // Lista com as posições, montada na primeira leitura após cada alteração
+    private List<PosicaoRanking> posicoes;
+
+    /** {@code linhas} vem do banco já ordenada; uma linha além da capacidade indica que há mais. */
+    TopK(int capacidade, List<EntradaRanking> linhas) {
+        this.capacidade = capacidade;
+        for (EntradaRanking linha : linhas) {
+            if (ordem.size() == capacidade) {
+                truncado = true;
+                break;
+            }
+            ordem.add(linha);
+            porJogador.put(linha.jogadorId(), linha);
+        }
+    }
+
+    /**
+     * Aplica o estado atual da linha de um jogador ({@code null} se ela foi excluída).
+     * Devolve false se a estrutura deixou de garantir que guarda o verdadeiro top-K.
+     */
+    synchronized boolean atualizar(Integer jogadorId, EntradaRanking nova) {
+        EntradaRanking ultima = ordem.isEmpty() ? null : ordem.last();
+        EntradaRanking antiga = porJogador.remove(jogadorId);
+        if (antiga != null) {
+            ordem.remove(antiga);
+        }
+        posicoes = null;
+
+        if (nova == null) {
+            // Saiu um membro: se há linhas fora da estrutura, a vaga é de alguém que não conhecemos
+            return antiga == null || !truncado;
+        }
+
+        boolean entra = !truncado || ultima == null || ORDEM.compare(nova, ultima) <= 0;
+        if (!entra) {
+            // Fica de fora; se antes era membro, a vaga aberta também é de alguém desconhecido
+            return antiga == null;
+        }
+
+        ordem.add(nova);
+        porJogador.put(jogadorId, nova);
+        if (ordem.size() > capacidade) {
+            porJogador.remove(ordem.pollLast().jogadorId());
+            truncado = true;
+        }
+        return true;
+    }
+
+    synchronized boolean contem(Integer jogadorId) {
+        return porJogador.containsKey(jogadorId);
+    }
+
+    /**
+     * Até {@code quantidade} linhas logo depois do cursor, ou null se a página passa do que está em
+     * memória e precisa ser lida do banco.
+     */
+    synchronized List<PosicaoRanking> pagina(CursorRanking apos, int quantidade) {
+        List<PosicaoRanking> todas = posicoes();
+        // Quantas linhas vêm até o cursor, inclusive; o jogador do cursor não precisa estar na estrutura
+        int inicio = ordem.headSet(new EntradaRanking(apos.jogadorId(), null, null, apos.valor()), true).size();
+        if (truncado && inicio + quantidade > todas.size()) {
+            return null;
+        }
+        return todas.subList(inicio, Math.min(inicio + quantidade, todas.size()));
+    }
+
+    private List<PosicaoRanking> posicoes() {
+        if (posicoes == null) {
+            List<PosicaoRanking> lista = new ArrayList<>(ordem.size());
+            int posicao = 0;
+            Integer valorAnterior = null;
+            for (EntradaRanking entrada : ordem) {
+                if (valorAnterior == null || entrada.valor() != valorAnterior) {
+                    posicao = lista.size() + 1;
+                    valorAnterior = entrada.valor();
+                }
+                lista.add(new PosicaoRanking(posicao, entrada));
+            }
+            posicoes = List.copyOf(lista);
+        }
+        return posicoes;
+    }
+}
@@ -1,12 +1,34 @@
 package com.futime.labprog.futimeapi.repository;
 
+import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
 import com.futime.labprog.futimeapi.model.Clube;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ClubeRepository extends JpaRepository<Clube, Integer> {
-    // Por enquanto, não precisamos de métodos customizados.
     // Os métodos CRUD (save, findById, findAll, deleteById)
     // são herdados do JpaRepository.
-}
\ No newline at end of file
+
+    // Leitura por projeção: o clube e o estádio saem do SELECT direto como ClubeResponseDTO,
+    // sem criar entidades nem snapshots no contexto de persistência.
+    String PROJECAO_DTO = """
+            select new com.futime.labprog.futimeapi.dto.ClubeResponseDTO(
+                c.id, c.nome, c.sigla, c.cidade, c.pais, e.id, e.nome, e.cidade, e.pais)
+            from Clube c
+            left join c.estadio e
+            """;
+
+    // Carga completa da tabela para o DadosReferenciaCache.
+    @Query(PROJECAO_DTO + "order by c.id")
+    List<ClubeResponseDTO> listarTodosDTO();
+
+    // Clubes que ainda não estão no DadosReferenciaCache (inseridos direto no banco).
+    @Query(PROJECAO_DTO + "where c.id in :ids")
+    List<ClubeResponseDTO> buscarDTOsPorIds(@Param("ids") Collection<Integer> ids);
+}
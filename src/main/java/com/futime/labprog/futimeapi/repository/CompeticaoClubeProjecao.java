@@ -0,0 +1,9 @@
+package com.futime.labprog.futimeapi.repository;
+
+/**
+ * Uma linha da tabela de junção 'competicao_clube'.
+ */
+public record CompeticaoClubeProjecao(
+    Integer competicaoId,
+    Integer clubeId
+) {}
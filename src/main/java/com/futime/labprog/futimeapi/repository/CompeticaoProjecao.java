@@ -0,0 +1,19 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura de uma competição: as colunas da tabela 'competicoes'.
+ * Os clubes participantes vêm à parte, por CompeticaoClubeProjecao.
+ */
+public record CompeticaoProjecao(
+    Integer id,
+    String nome,
+    String pais,
+    String continente,
+    TipoCompeticao tipoCompeticao,
+    String temporada,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
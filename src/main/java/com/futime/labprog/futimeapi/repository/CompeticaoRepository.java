@@ -1,12 +1,29 @@
-
 package com.futime.labprog.futimeapi.repository;
 
 import com.futime.labprog.futimeapi.model.Competicao;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface CompeticaoRepository extends JpaRepository<Competicao, Integer> {
     List<Competicao> findByClubes_Id(Integer clubeId);
-}
\ No newline at end of file
+
+    // Carga do DadosReferenciaCache por projeção, sem entidades: as colunas de 'competicoes'
+    // numa consulta e as linhas de 'competicao_clube' em outra (JPQL não devolve coleções dentro de um DTO).
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.CompeticaoProjecao(
+                c.id, c.nome, c.pais, c.continente, c.tipoCompeticao, c.temporada, c.createdAt, c.updatedAt)
+            from Competicao c
+            order by c.id
+            """)
+    List<CompeticaoProjecao> listarTodasProjecao();
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.CompeticaoClubeProjecao(c.id, cl.id)
+            from Competicao c
+            join c.clubes cl
+            """)
+    List<CompeticaoClubeProjecao> listarParticipacoes();
+}
@@ -0,0 +1,7 @@
+package com.futime.labprog.futimeapi.repository;
+
+/** Resultado de um "group by" por chave estrangeira: quantas linhas cada ID tem. */
+public record ContagemPorId(
+    Integer id,
+    long total
+) {}
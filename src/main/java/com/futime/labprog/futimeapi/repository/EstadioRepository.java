@@ -1,9 +1,14 @@
 package com.futime.labprog.futimeapi.repository;
 
+import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
 import com.futime.labprog.futimeapi.model.Estadio;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface de repositório para a entidade Estadio.
@@ -14,6 +19,21 @@ import org.springframework.stereotype.Repository;
 public interface EstadioRepository extends JpaRepository<Estadio, Integer> { // parâmetros: Estadio informa ao Spring qual é a entidade que este repositório vai gerenciar e Integer informa o tipo da PK da entidade.
     // Ao extender JpaRepository, a interface herda métodos prontos CRUD para interagir com o banco de dados.
     // herda save(), findById(), findAll(), deleteById(), etc.
+
+    // Consultas de leitura por projeção: o "select new" monta o "prato pronto" (EstadioResponseDTO)
+    // direto do resultado do SQL, sem criar a entidade Estadio nem guardá-la no contexto de persistência.
+    String PROJECAO_DTO = """
+            select new com.futime.labprog.futimeapi.dto.EstadioResponseDTO(e.id, e.nome, e.cidade, e.pais)
+            from Estadio e
+            """;
+
+    // Todos os estádios, em ordem de id: é a carga do DadosReferenciaCache, que atende as leituras.
+    @Query(PROJECAO_DTO + "order by e.id")
+    List<EstadioResponseDTO> listarTodosDTO();
+
+    // Estádios que ainda não estão no DadosReferenciaCache (inseridos direto no banco).
+    @Query(PROJECAO_DTO + "where e.id in :ids")
+    List<EstadioResponseDTO> buscarDTOsPorIds(@Param("ids") Collection<Integer> ids);
 }
 
 // Por que utilizar uma interface e não uma classe normal?
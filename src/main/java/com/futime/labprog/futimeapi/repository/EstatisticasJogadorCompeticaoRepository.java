@@ -1,7 +1,13 @@
 package com.futime.labprog.futimeapi.repository;
 
 import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,16 +16,108 @@ import java.util.Optional;
 @Repository
 public interface EstatisticasJogadorCompeticaoRepository extends JpaRepository<EstatisticasJogadorCompeticao, Integer> {
 
+    String RANKING = """
+            select new com.futime.labprog.futimeapi.repository.RankingProjecao(
+                j.id, j.apelido, j.clube.id, e.gols, e.assistencias)
+            from EstatisticasJogadorCompeticao e join e.jogador j
+            where e.competicao.id = :competicaoId
+            """;
+
     /**
      * Novo método customizado: Encontra todos os registros de estatísticas
      * para um jogador específico, usando o ID do jogador.
+     * Jogador e competição já vêm carregados, pois o DTO exibe os dois.
      */
+    @EntityGraph(attributePaths = {"jogador", "competicao"})
     List<EstatisticasJogadorCompeticao> findByJogadorId(Integer jogadorId);
 
     /**
-     * Novo método customizado: Encontra um registro de estatística específico
-     * pela combinação de ID do jogador e ID da competição.
-     * Isso é o coração da nossa lógica "Upsert".
+     * A linha do jogador na competição, com SELECT ... FOR UPDATE: duas gravações simultâneas se
+     * enfileiram, então cada uma calcula o delta dos agregados sobre o valor deixado pela outra.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from EstatisticasJogadorCompeticao e
+            where e.jogador.id = :jogadorId and e.competicao.id = :competicaoId
+            """)
+    Optional<EstatisticasJogadorCompeticao> buscarParaAlterar(@Param("jogadorId") Integer jogadorId,
+            @Param("competicaoId") Integer competicaoId);
+
+    /** Como buscarParaAlterar, pelo ID da linha (remoção). */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from EstatisticasJogadorCompeticao e where e.id = :id")
+    Optional<EstatisticasJogadorCompeticao> buscarParaRemover(@Param("id") Integer id);
+
+    /**
+     * Cria a linha zerada do jogador na competição, se ainda não existir; devolve 1 se criou.
+     * Com a uk_estatisticas_jogador_competicao, duas primeiras gravações simultâneas não duplicam
+     * a linha: a segunda espera a primeira e não insere nada.
      */
-    Optional<EstatisticasJogadorCompeticao> findByJogadorIdAndCompeticaoId(Integer jogadorId, Integer competicaoId);
-}
\ No newline at end of file
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into jogador_estatisticas_competicao (jogador_id, competicao_id, gols, assistencias, jogos_disputados)
+            values (:jogadorId, :competicaoId, 0, 0, 0)
+            on conflict (jogador_id, competicao_id) do nothing
+            """)
+    int criarSeAusente(@Param("jogadorId") Integer jogadorId, @Param("competicaoId") Integer competicaoId);
+
+    /**
+     * Todas as estatísticas de uma competição (usado para mover os agregados
+     * por temporada quando a temporada da competição é alterada).
+     */
+    List<EstatisticasJogadorCompeticao> findByCompeticaoId(Integer competicaoId);
+
+    /**
+     * Artilharia da competição logo depois da linha (gols, jogadorId) do cursor, em keyset: com
+     * {@code gols <= :gols} o banco entra no índice (competicao_id, gols desc, jogador_id) já no
+     * cursor, e o resto do filtro só descarta os empatados que vinham antes dele. Nenhuma linha
+     * anterior é lida, qualquer que seja a profundidade da página. As colunas andam em sentidos
+     * opostos (gols desc, jogador asc), por isso não dá para comparar como linha, (gols, id) < (...).
+     */
+    @Query(RANKING + """
+            and e.gols <= :gols and (e.gols < :gols or j.id > :jogadorId)
+            order by e.gols desc, j.id limit :quantidade
+            """)
+    List<RankingProjecao> listarArtilharia(@Param("competicaoId") Integer competicaoId, @Param("gols") int gols,
+            @Param("jogadorId") Integer jogadorId, @Param("quantidade") int quantidade);
+
+    /** Como listarArtilharia, pelo índice (competicao_id, assistencias desc, jogador_id). */
+    @Query(RANKING + """
+            and e.assistencias <= :assistencias and (e.assistencias < :assistencias or j.id > :jogadorId)
+            order by e.assistencias desc, j.id limit :quantidade
+            """)
+    List<RankingProjecao> listarAssistencias(@Param("competicaoId") Integer competicaoId,
+            @Param("assistencias") int assistencias, @Param("jogadorId") Integer jogadorId,
+            @Param("quantidade") int quantidade);
+
+    /** Quantos jogadores têm mais gols que {@code gols}: a posição de quem empata nesse valor é isto + 1. */
+    @Query("select count(e) from EstatisticasJogadorCompeticao e where e.competicao.id = :competicaoId and e.gols > :gols")
+    long contarComMaisGols(@Param("competicaoId") Integer competicaoId, @Param("gols") int gols);
+
+    @Query("""
+            select count(e) from EstatisticasJogadorCompeticao e
+            where e.competicao.id = :competicaoId and e.assistencias > :assistencias
+            """)
+    long contarComMaisAssistencias(@Param("competicaoId") Integer competicaoId,
+            @Param("assistencias") int assistencias);
+
+    /** Empatados em {@code gols} à frente do jogador (ID menor); com contarComMaisGols, quem vem antes dele. */
+    @Query("""
+            select count(e) from EstatisticasJogadorCompeticao e
+            where e.competicao.id = :competicaoId and e.gols = :gols and e.jogador.id < :jogadorId
+            """)
+    long contarEmpatadosEmGolsAntes(@Param("competicaoId") Integer competicaoId, @Param("gols") int gols,
+            @Param("jogadorId") Integer jogadorId);
+
+    @Query("""
+            select count(e) from EstatisticasJogadorCompeticao e
+            where e.competicao.id = :competicaoId and e.assistencias = :assistencias and e.jogador.id < :jogadorId
+            """)
+    long contarEmpatadosEmAssistenciasAntes(@Param("competicaoId") Integer competicaoId,
+            @Param("assistencias") int assistencias, @Param("jogadorId") Integer jogadorId);
+
+    /** A linha de um jogador, relida após o commit para atualizar o top-K em memória. */
+    @Query(RANKING + "and j.id = :jogadorId")
+    Optional<RankingProjecao> buscarRanking(@Param("competicaoId") Integer competicaoId,
+            @Param("jogadorId") Integer jogadorId);
+}
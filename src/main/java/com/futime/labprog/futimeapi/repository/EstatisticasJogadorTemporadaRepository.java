@@ -0,0 +1,37 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorTemporada;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EstatisticasJogadorTemporadaRepository extends JpaRepository<EstatisticasJogadorTemporada, Integer> {
+
+    /**
+     * Soma o delta direto no banco, sem ler a linha antes, criando a linha na primeira estatística
+     * do jogador na temporada. Um só comando (INSERT ... ON CONFLICT DO UPDATE, do PostgreSQL):
+     * duas primeiras gravações concorrentes não disputam a uk_jogador_temporada e nenhuma perde
+     * atualização.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into jogador_estatisticas_temporada (jogador_id, temporada, gols, assistencias, registros)
+            values (:jogadorId, :temporada, :gols, :assistencias, :registros)
+            on conflict (jogador_id, temporada) do update
+            set gols = jogador_estatisticas_temporada.gols + excluded.gols,
+                assistencias = jogador_estatisticas_temporada.assistencias + excluded.assistencias,
+                registros = jogador_estatisticas_temporada.registros + excluded.registros
+            """)
+    int somar(@Param("jogadorId") Integer jogadorId, @Param("temporada") String temporada,
+            @Param("gols") int gols, @Param("assistencias") int assistencias, @Param("registros") int registros);
+
+    @Modifying
+    @Query("""
+            delete from EstatisticasJogadorTemporada t
+            where t.jogador.id = :jogadorId and t.temporada = :temporada and t.registros <= 0
+            """)
+    int removerSemRegistros(@Param("jogadorId") Integer jogadorId, @Param("temporada") String temporada);
+}
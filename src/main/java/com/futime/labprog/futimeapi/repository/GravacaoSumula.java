@@ -0,0 +1,23 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Escrita da súmula direto em JDBC, como upsert na restrição uk_estatistica_jogador_partida.
+ * Fragmento de {@link JogadorEstatisticaPartidaRepository}; a implementação é GravacaoSumulaImpl.
+ */
+public interface GravacaoSumula {
+
+    /**
+     * Grava as linhas de uma partida com um lote de INSERT ... ON CONFLICT (jogador_id, partida_id)
+     * DO UPDATE. Cada jogador só pode aparecer uma vez e precisa existir. O retorno segue a ordem de
+     * {@code linhas}.
+     */
+    List<LinhaGravada> gravarSumula(Integer partidaId, List<EstatisticaPartidaLoteItemDTO> linhas);
+
+    /** Linha como ficou no banco; {@code criada} é falso quando o upsert caiu no UPDATE. */
+    record LinhaGravada(Integer id, boolean criada, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
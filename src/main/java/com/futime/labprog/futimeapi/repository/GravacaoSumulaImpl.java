@@ -0,0 +1,114 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * O JdbcTemplate pega a conexão da transação JPA em curso, então a súmula sai no mesmo commit
+ * das demais escritas do serviço.
+ */
+class GravacaoSumulaImpl implements GravacaoSumula {
+
+    // Mesmo incremento da sequência (V4) e do allocationSize da entidade
+    private static final int BLOCO_IDS = 50;
+
+    // created_at fica fora do SET: no UPDATE vale o da primeira gravação. xmax = 0 só na linha inserida.
+    private static final String UPSERT = """
+            insert into jogador_estatistica_partida (id, partida_id, jogador_id, minutos_jogados,
+                cartao_amarelo, cartao_vermelho, titular, gols, assistencias, defesa, finalizacoes,
+                chutes_a_gol, desarmes, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (jogador_id, partida_id) do update
+            set minutos_jogados = excluded.minutos_jogados,
+                cartao_amarelo = excluded.cartao_amarelo,
+                cartao_vermelho = excluded.cartao_vermelho,
+                titular = excluded.titular,
+                gols = excluded.gols,
+                assistencias = excluded.assistencias,
+                defesa = excluded.defesa,
+                finalizacoes = excluded.finalizacoes,
+                chutes_a_gol = excluded.chutes_a_gol,
+                desarmes = excluded.desarmes,
+                updated_at = excluded.updated_at
+            returning id, created_at, updated_at, (xmax = 0) as criada
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    GravacaoSumulaImpl(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<LinhaGravada> gravarSumula(Integer partidaId, List<EstatisticaPartidaLoteItemDTO> linhas) {
+        if (linhas.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> ids = reservarIds(linhas.size());
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbc.execute((ConnectionCallback<List<LinhaGravada>>) conexao -> {
+            // Com RETURN_GENERATED_KEYS o driver aceita o RETURNING no lote e devolve as linhas em ordem
+            try (PreparedStatement ps = conexao.prepareStatement(UPSERT, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < linhas.size(); i++) {
+                    EstatisticaPartidaRequestDTO e = linhas.get(i).estatisticas();
+                    ps.setInt(1, ids.get(i));
+                    ps.setInt(2, partidaId);
+                    ps.setInt(3, linhas.get(i).jogadorId());
+                    ps.setInt(4, e.minutosJogados());
+                    ps.setBoolean(5, e.cartaoAmarelo());
+                    ps.setBoolean(6, e.cartaoVermelho());
+                    ps.setBoolean(7, e.titular());
+                    ps.setInt(8, e.gols());
+                    ps.setInt(9, e.assistencias());
+                    ps.setObject(10, e.defesa(), Types.INTEGER);
+                    ps.setInt(11, e.finalizacoes());
+                    ps.setInt(12, e.chutesAGol());
+                    ps.setInt(13, e.desarmes());
+                    ps.setTimestamp(14, agora);
+                    ps.setTimestamp(15, agora);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<LinhaGravada> gravadas = new ArrayList<>(linhas.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        gravadas.add(new LinhaGravada(rs.getInt("id"), rs.getBoolean("criada"),
+                                rs.getTimestamp("created_at").toLocalDateTime(),
+                                rs.getTimestamp("updated_at").toLocalDateTime()));
+                    }
+                }
+                return gravadas;
+            }
+        });
+    }
+
+    /**
+     * IDs para as linhas novas com a mesma regra do otimizador pooled do Hibernate: cada nextval é o
+     * topo V de um bloco (V-49 .. V) que ninguém mais recebe. Linhas que caem no UPDATE deixam o ID
+     * reservado sem uso.
+     */
+    private List<Integer> reservarIds(int quantidade) {
+        int blocos = (quantidade + BLOCO_IDS - 1) / BLOCO_IDS;
+        List<Integer> topos = jdbc.queryForList(
+                "select nextval('jogador_estatistica_partida_seq') from generate_series(1, ?)", Integer.class, blocos);
+        List<Integer> ids = new ArrayList<>(blocos * BLOCO_IDS);
+        for (Integer topo : topos) {
+            for (int id = topo - BLOCO_IDS + 1; id <= topo; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,13 @@
+package com.futime.labprog.futimeapi.repository;
+
+/**
+ * Projeção com o que a busca de jogadores guarda em memória para cada jogador:
+ * os textos indexados e o necessário para montar o resultado sem ir ao banco.
+ */
+public record JogadorBuscaProjecao(
+    Integer id,
+    String nomeCompleto,
+    String apelido,
+    String posicao,
+    Integer clubeId
+) {}
@@ -0,0 +1,148 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da listagem de jogadores como Specifications: cada um vira um predicado simples
+ * sobre uma coluna de 'jogadores' (coberto pelos índices de db/migration/V7__indices.sql), e o banco
+ * filtra, ordena e limita a página. Filtros null não entram no WHERE.
+ */
+public final class JogadorEspecificacoes {
+
+    /** Critérios de ordenação aceitos em ?ordenar=, sempre desempatados pelo ID. */
+    public enum Ordenacao {
+        ID("id", "id", false),
+        NOME("nome", "nomeCompleto", false),
+        VALOR("valorDeMercado", "valorDeMercado", false),
+        // Idade crescente é data de nascimento decrescente
+        IDADE("idade", "dataNascimento", true);
+
+        private final String parametro;
+        private final String atributo;
+        private final boolean invertida;
+
+        Ordenacao(String parametro, String atributo, boolean invertida) {
+            this.parametro = parametro;
+            this.atributo = atributo;
+            this.invertida = invertida;
+        }
+
+        public String parametro() {
+            return parametro;
+        }
+
+        public String atributo() {
+            return atributo;
+        }
+
+        /** Direção da coluna no banco para a direção pedida. */
+        public boolean decrescente(boolean pedidaDecrescente) {
+            return pedidaDecrescente != invertida;
+        }
+    }
+
+    private JogadorEspecificacoes() {
+    }
+
+    public static Specification<Jogador> posicao(String posicao) {
+        return (root, query, cb) -> posicao == null ? null : cb.equal(root.get("posicao"), posicao);
+    }
+
+    public static Specification<Jogador> clube(Integer clubeId) {
+        // clube.id é a própria coluna clube_id: não gera JOIN
+        return (root, query, cb) -> clubeId == null ? null : cb.equal(root.get("clube").get("id"), clubeId);
+    }
+
+    /** Jogadores com estatísticas registradas na competição (EXISTS em jogador_estatisticas_competicao). */
+    public static Specification<Jogador> competicao(Integer competicaoId) {
+        return (root, query, cb) -> {
+            if (competicaoId == null) {
+                return null;
+            }
+            Subquery<Integer> participacoes = query.subquery(Integer.class);
+            Root<EstatisticasJogadorCompeticao> estatistica = participacoes.from(EstatisticasJogadorCompeticao.class);
+            participacoes.select(estatistica.get("id"))
+                    .where(cb.equal(estatistica.get("jogador"), root),
+                            cb.equal(estatistica.get("competicao").get("id"), competicaoId));
+            return cb.exists(participacoes);
+        };
+    }
+
+    public static Specification<Jogador> valorEntre(Double minimo, Double maximo) {
+        return (root, query, cb) -> {
+            Path<Double> valor = root.get("valorDeMercado");
+            if (minimo != null && maximo != null) {
+                return cb.between(valor, minimo, maximo);
+            }
+            if (minimo != null) {
+                return cb.greaterThanOrEqualTo(valor, minimo);
+            }
+            return maximo == null ? null : cb.lessThanOrEqualTo(valor, maximo);
+        };
+    }
+
+    /**
+     * Nascidos no intervalo [desde, ate], com os dois extremos opcionais. A idade é convertida
+     * em datas antes da consulta, então o predicado é sobre a coluna, sem função no WHERE.
+     */
+    public static Specification<Jogador> nascidoEntre(LocalDate desde, LocalDate ate) {
+        return (root, query, cb) -> {
+            Path<LocalDate> nascimento = root.get("dataNascimento");
+            if (desde != null && ate != null) {
+                return cb.between(nascimento, desde, ate);
+            }
+            if (desde != null) {
+                return cb.greaterThanOrEqualTo(nascimento, desde);
+            }
+            return ate == null ? null : cb.lessThanOrEqualTo(nascimento, ate);
+        };
+    }
+
+    /**
+     * Ordenando por uma coluna que aceita null, os jogadores sem valor ficam de fora: o cursor
+     * (valor, id) precisa de um valor para comparar, e o null não tem lugar fixo entre os bancos.
+     */
+    public static Specification<Jogador> ordenavel(Ordenacao ordenacao) {
+        return (root, query, cb) -> ordenacao == Ordenacao.ID ? null : cb.isNotNull(root.get(ordenacao.atributo()));
+    }
+
+    /**
+     * Keyset: as linhas depois do cursor na ordem (valor, id). 'valorCursor' é o valor da
+     * coluna ordenada no jogador do cursor (ignorado quando a ordenação é pelo ID).
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Specification<Jogador> apos(Ordenacao ordenacao, boolean decrescente, Integer cursor,
+            Comparable valorCursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<Integer> id = root.get("id");
+            boolean desc = ordenacao.decrescente(decrescente);
+            if (ordenacao == Ordenacao.ID) {
+                return desc ? cb.lessThan(id, cursor) : cb.greaterThan(id, cursor);
+            }
+            Path<Comparable> campo = root.get(ordenacao.atributo());
+            return cb.or(
+                    desc ? cb.lessThan(campo, valorCursor) : cb.greaterThan(campo, valorCursor),
+                    cb.and(cb.equal(campo, valorCursor), cb.greaterThan(id, cursor)));
+        };
+    }
+
+    /** A ordem do banco para o critério: a coluna na direção pedida e o ID crescente no desempate. */
+    public static Sort ordem(Ordenacao ordenacao, boolean decrescente) {
+        Sort.Direction direcao = ordenacao.decrescente(decrescente) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (ordenacao == Ordenacao.ID) {
+            return Sort.by(direcao, "id");
+        }
+        return Sort.by(direcao, ordenacao.atributo()).and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+}
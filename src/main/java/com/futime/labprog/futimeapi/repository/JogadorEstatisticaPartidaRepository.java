@@ -1,15 +1,59 @@
 package com.futime.labprog.futimeapi.repository;
 
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO;
 import com.futime.labprog.futimeapi.model.JogadorEstatisticaPartida;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface JogadorEstatisticaPartidaRepository extends JpaRepository<JogadorEstatisticaPartida, Integer> {
+public interface JogadorEstatisticaPartidaRepository extends JpaRepository<JogadorEstatisticaPartida, Integer>,
+        GravacaoSumula {
     List<JogadorEstatisticaPartida> findByJogador_Id(Integer jogadorId);
     Optional<JogadorEstatisticaPartida> findByJogador_IdAndPartida_Id(Integer jogadorId, Integer partidaId);
+    List<JogadorEstatisticaPartida> findByPartida_IdOrderByJogador_Id(Integer partidaId);
+    List<JogadorEstatisticaPartida> findByPartida_IdAndJogador_IdIn(Integer partidaId, Collection<Integer> jogadorIds);
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.VersaoTabela(count(e), max(e.id), max(e.updatedAt))
+            from JogadorEstatisticaPartida e
+            where e.jogador.id = :jogadorId
+            """)
+    VersaoTabela buscarVersaoPorJogador(@Param("jogadorId") Integer jogadorId);
+
+    @Query("select e.updatedAt from JogadorEstatisticaPartida e where e.id = :id")
+    Optional<LocalDateTime> buscarUltimaAlteracao(@Param("id") Integer id);
+
+    @Query("select e.jogador.id from JogadorEstatisticaPartida e where e.id = :id")
+    Optional<Integer> buscarJogadorId(@Param("id") Integer id);
+
+    @Query("select e.partida.id from JogadorEstatisticaPartida e where e.id = :id")
+    Optional<Integer> buscarPartidaId(@Param("id") Integer id);
+
+    // Cursor forward-only para a exportação NDJSON (mesmo esquema de PartidaRepository.streamExportacao).
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO(
+                e.id, j.id, j.apelido, e.partida.id, e.minutosJogados, e.cartaoAmarelo, e.cartaoVermelho,
+                e.titular, e.gols, e.assistencias, e.defesa, e.finalizacoes, e.chutesAGol, e.desarmes,
+                e.createdAt, e.updatedAt)
+            from JogadorEstatisticaPartida e
+            join e.jogador j
+            order by e.id
+            """)
+    Stream<EstatisticaPartidaResponseDTO> streamExportacao();
 }
 
 
@@ -1,10 +1,91 @@
 package com.futime.labprog.futimeapi.repository;
 
 import com.futime.labprog.futimeapi.model.Jogador;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface JogadorRepository extends JpaRepository<Jogador, Integer> {
-    // Métodos CRUD básicos herdados
-}
\ No newline at end of file
+public interface JogadorRepository extends JpaRepository<Jogador, Integer>, JpaSpecificationExecutor<Jogador> {
+    // Métodos CRUD básicos herdados; a listagem filtrada usa as JogadorEspecificacoes
+
+    /**
+     * Primeira etapa da paginação por cursor: apenas os IDs da página,
+     * percorrendo o índice da chave primária a partir de 'after'.
+     */
+    @Query("select j.id from Jogador j where j.id > :after order by j.id")
+    List<Integer> buscarIdsApos(@Param("after") Integer after, Limit limit);
+
+    /**
+     * Segunda etapa: os jogadores da página já com as estatísticas carregadas
+     * (grafo Jogador.detalhes), evitando uma consulta por
+     * jogador quando o DTO completo é montado. O LIMIT fica na primeira etapa porque
+     * o Hibernate não consegue aplicá-lo no SQL junto com o JOIN FETCH de coleção.
+     */
+    @EntityGraph(Jogador.GRAFO_DETALHES)
+    @Query("select j from Jogador j where j.id in :ids")
+    List<Jogador> buscarComDetalhesPorIds(@Param("ids") Collection<Integer> ids);
+
+    @EntityGraph(Jogador.GRAFO_DETALHES)
+    Optional<Jogador> findComDetalhesById(Integer id);
+
+    /**
+     * Aplica o delta nos totais de carreira direto no banco (gols_totais = gols_totais + :gols),
+     * sem carregar o jogador: atualizações concorrentes não se sobrescrevem.
+     * Como o UPDATE em massa não passa pelo @PreUpdate, o updated_at é gravado aqui.
+     */
+    @Modifying
+    @Query("""
+            update Jogador j
+            set j.golsTotais = j.golsTotais + :gols,
+                j.assistenciasTotais = j.assistenciasTotais + :assistencias,
+                j.updatedAt = :agora
+            where j.id = :id
+            """)
+    int somarTotais(@Param("id") Integer id, @Param("gols") int gols, @Param("assistencias") int assistencias,
+            @Param("agora") LocalDateTime agora);
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.VersaoTabela(count(j), max(j.id), max(j.updatedAt))
+            from Jogador j
+            """)
+    VersaoTabela buscarVersao();
+
+    @Query("select j.updatedAt from Jogador j where j.id = :id")
+    Optional<LocalDateTime> buscarUltimaAlteracao(@Param("id") Integer id);
+
+    String BUSCA = """
+            select new com.futime.labprog.futimeapi.repository.JogadorBuscaProjecao(
+                j.id, j.nomeCompleto, j.apelido, j.posicao, j.clube.id)
+            from Jogador j
+            """;
+
+    /** Todos os jogadores, para montar o índice de busca em memória na inicialização. */
+    @Query(BUSCA)
+    List<JogadorBuscaProjecao> listarParaBusca();
+
+    @Query(BUSCA + "where j.id = :id")
+    Optional<JogadorBuscaProjecao> buscarParaBusca(@Param("id") Integer id);
+
+    String SUGESTAO = """
+            select new com.futime.labprog.futimeapi.repository.SugestaoJogadorProjecao(
+                j.id, coalesce(j.apelido, j.nomeCompleto), j.golsTotais + j.assistenciasTotais)
+            from Jogador j
+            """;
+
+    @Query(SUGESTAO)
+    List<SugestaoJogadorProjecao> listarParaAutocompletar();
+
+    @Query(SUGESTAO + "where j.id = :id")
+    Optional<SugestaoJogadorProjecao> buscarParaAutocompletar(@Param("id") Integer id);
+}
@@ -0,0 +1,23 @@
+package com.futime.labprog.futimeapi.repository;
+
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura de uma partida: só as colunas da tabela 'partidas',
+ * com os clubes e o estádio representados pelos seus IDs (chaves estrangeiras).
+ * O service resolve esses IDs para DTOs sem precisar carregar entidades.
+ */
+public record PartidaProjecao(
+    Integer id,
+    Integer mandanteId,
+    Integer visitanteId,
+    Integer estadioId,
+    Integer competicaoId,
+    FaseCompeticao fase,
+    Integer golsMandante,
+    Integer golsVisitante,
+    LocalDateTime dataHora,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
@@ -1,11 +1,109 @@
 package com.futime.labprog.futimeapi.repository;
 
+import com.futime.labprog.futimeapi.classificacao.Placar;
+import com.futime.labprog.futimeapi.dto.PartidaExportDTO;
 import com.futime.labprog.futimeapi.model.Partida;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PartidaRepository extends JpaRepository<Partida, Integer> {
-}
 
+    // Leitura por projeção: só as colunas de 'partidas' (os clubes e o estádio como IDs de FK,
+    // sem JOIN). O PartidaServiceImpl resolve os IDs da página inteira de uma vez.
+    String PROJECAO = """
+            select new com.futime.labprog.futimeapi.repository.PartidaProjecao(
+                p.id, p.mandante.id, p.visitante.id, p.estadio.id, p.competicao.id, p.fase,
+                p.golsMandante, p.golsVisitante, p.dataHora, p.createdAt, p.updatedAt)
+            from Partida p
+            """;
+
+    // Página por cursor: partidas com id > after, em ordem de id.
+    @Query(PROJECAO + "where p.id > :after order by p.id")
+    List<PartidaProjecao> listarPaginaProjecao(@Param("after") Integer after, Limit limit);
+
+    @Query(PROJECAO + "where p.id = :id")
+    Optional<PartidaProjecao> buscarProjecaoPorId(@Param("id") Integer id);
+
+    // SELECT ... FOR UPDATE: duas alterações simultâneas da mesma partida se enfileiram, então cada
+    // uma lê o placar deixado pela outra e o delta enviado à classificação não é aplicado em dobro.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Partida p where p.id = :id")
+    Optional<Partida> buscarParaAlterar(@Param("id") Integer id);
+
+    // Carga inicial do MotorClassificacao: só os placares que contam para alguma tabela
+    // (partidas já jogadas; as agendadas têm placar null).
+    @Query("""
+            select new com.futime.labprog.futimeapi.classificacao.Placar(
+                p.competicao.id, p.mandante.id, p.visitante.id, p.golsMandante, p.golsVisitante)
+            from Partida p
+            where p.competicao is not null
+              and p.fase = com.futime.labprog.futimeapi.model.FaseCompeticao.PONTOS_CORRIDOS
+              and p.golsMandante is not null
+              and p.golsVisitante is not null
+            """)
+    List<Placar> listarPlacaresPontosCorridos();
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.VersaoTabela(count(p), max(p.id), max(p.updatedAt))
+            from Partida p
+            """)
+    VersaoTabela buscarVersao();
 
+    @Query("select p.updatedAt from Partida p where p.id = :id")
+    Optional<LocalDateTime> buscarUltimaAlteracao(@Param("id") Integer id);
+
+    /**
+     * Cursor somente-leitura e forward-only sobre todas as partidas, para a exportação NDJSON.
+     * Cada linha já sai como DTO (nada entra no contexto de persistência) e o driver busca
+     * de 1000 em 1000, então a memória não cresce com o tamanho da tabela.
+     * Deve ser consumido dentro de uma transação e fechado (try-with-resources).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.futime.labprog.futimeapi.dto.PartidaExportDTO(
+                p.id, m.id, m.nome, v.id, v.nome, e.id, e.nome, p.fase,
+                p.golsMandante, p.golsVisitante, p.dataHora, p.createdAt, p.updatedAt)
+            from Partida p
+            join p.mandante m
+            join p.visitante v
+            join p.estadio e
+            order by p.id
+            """)
+    Stream<PartidaExportDTO> streamExportacao();
+
+    // Pesos de popularidade do autocompletar: partidas por clube (como mandante e como visitante)
+    // e por estádio.
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.ContagemPorId(p.mandante.id, count(p))
+            from Partida p group by p.mandante.id
+            """)
+    List<ContagemPorId> contarPorMandante();
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.ContagemPorId(p.visitante.id, count(p))
+            from Partida p group by p.visitante.id
+            """)
+    List<ContagemPorId> contarPorVisitante();
+
+    @Query("""
+            select new com.futime.labprog.futimeapi.repository.ContagemPorId(p.estadio.id, count(p))
+            from Partida p group by p.estadio.id
+            """)
+    List<ContagemPorId> contarPorEstadio();
+}
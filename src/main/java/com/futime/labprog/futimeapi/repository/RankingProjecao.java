@@ -0,0 +1,13 @@
+package com.futime.labprog.futimeapi.repository;
+
+/**
+ * Projeção de uma linha de artilharia/assistências: o jogador (com o clube pelo ID)
+ * e os seus números numa competição, sem carregar entidades.
+ */
+public record RankingProjecao(
+    Integer jogadorId,
+    String apelido,
+    Integer clubeId,
+    int gols,
+    int assistencias
+) {}
@@ -0,0 +1,11 @@
+package com.futime.labprog.futimeapi.repository;
+
+/**
+ * Projeção de um jogador para o autocompletar: o nome mostrado (apelido, ou o nome completo
+ * de quem não tem apelido) e o peso de popularidade (gols + assistências na carreira).
+ */
+public record SugestaoJogadorProjecao(
+    Integer id,
+    String nome,
+    int peso
+) {}
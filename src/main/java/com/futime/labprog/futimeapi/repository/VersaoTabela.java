@@ -0,0 +1,14 @@
+package com.futime.labprog.futimeapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumo barato de um conjunto de linhas (count, max(id), max(updated_at)), usado para
+ * calcular ETag/Last-Modified sem ler as linhas. Inserções mudam a contagem e o maior ID,
+ * remoções mudam a contagem e atualizações mudam o maior updated_at.
+ */
+public record VersaoTabela(
+    Long quantidade,
+    Integer maiorId,
+    LocalDateTime ultimaAlteracao
+) {}
@@ -0,0 +1,11 @@
+package com.futime.labprog.futimeapi.security;
+
+/**
+ * Publicado pelo UsuarioService quando um usuário é criado ou alterado. O CredenciaisCache
+ * descarta o principal depois do commit: antes dele, outra requisição ainda poderia recarregar
+ * e guardar a versão antiga.
+ *
+ * @param email Chave do usuário no cache.
+ */
+public record CredenciaisAlteradasEvent(String email) {
+}
@@ -0,0 +1,112 @@
+package com.futime.labprog.futimeapi.security;
+
+import com.futime.labprog.futimeapi.model.Usuario;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Caches limitados (tamanho + TTL) da autenticação por senha (httpBasic e /auth/login).
+ *
+ * - principais: email -> cópia enxuta do Usuario (id, email, hash, nome), para o httpBasic não
+ *   consultar o banco a cada requisição. Invalidado depois do commit de cada alteração do usuário
+ *   (CredenciaisAlteradasEvent).
+ * - senhasVerificadas: HMAC(chave do processo, hash BCrypt + senha) de combinações que já
+ *   passaram pelo BCrypt. A senha em claro nunca é guardada, e trocar a senha muda o hash,
+ *   então entradas antigas simplesmente deixam de ser encontradas.
+ *
+ * Acertos/erros ficam em /actuator/metrics/cache.gets?tag=cache:usuarios (ou senhas-verificadas).
+ */
+@Component
+public class CredenciaisCache {
+
+    private static final String ALGORITMO = "HmacSHA256";
+
+    private final Cache<String, Usuario> principais;
+    private final Cache<String, Boolean> senhasVerificadas;
+    private final SecretKey chave;
+
+    public CredenciaisCache(MeterRegistry registry,
+            @Value("${futime.security.cache.tamanho:10000}") long tamanho,
+            @Value("${futime.security.cache.ttl:10m}") Duration ttl) {
+        this.principais = Caffeine.newBuilder().maximumSize(tamanho).expireAfterWrite(ttl).recordStats().build();
+        this.senhasVerificadas = Caffeine.newBuilder().maximumSize(tamanho).expireAfterWrite(ttl).recordStats()
+                .build();
+        this.chave = novaChave();
+        CaffeineCacheMetrics.monitor(registry, principais, "usuarios");
+        CaffeineCacheMetrics.monitor(registry, senhasVerificadas, "senhas-verificadas");
+    }
+
+    /** Devolve o principal em cache ou carrega com {@code carregar}; ausência (null) não é guardada. */
+    public Usuario usuario(String email, Function<String, Usuario> carregar) {
+        return principais.get(email, e -> {
+            Usuario carregado = carregar.apply(e);
+            return carregado == null ? null : copiaSemAssociacoes(carregado);
+        });
+    }
+
+    public void invalidar(String email) {
+        principais.invalidate(email);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterar(CredenciaisAlteradasEvent evento) {
+        invalidar(evento.email());
+    }
+
+    /** Só chama {@code verificar} (BCrypt) se esta senha ainda não foi confirmada para este hash. */
+    public boolean senhaConfere(CharSequence senha, String hash, BooleanSupplier verificar) {
+        String chaveCache = digest(hash, senha);
+        if (senhasVerificadas.getIfPresent(chaveCache) != null) {
+            return true;
+        }
+        boolean confere = verificar.getAsBoolean();
+        if (confere) {
+            // Só acertos entram: senha errada sempre paga o BCrypt inteiro
+            senhasVerificadas.put(chaveCache, Boolean.TRUE);
+        }
+        return confere;
+    }
+
+    // O cache vive entre sessões: não pode segurar proxies lazy (clube favorito, observados).
+    private static Usuario copiaSemAssociacoes(Usuario usuario) {
+        Usuario copia = new Usuario(usuario.getEmail(), usuario.getPassword(), usuario.getNome());
+        copia.setId(usuario.getId());
+        return copia;
+    }
+
+    private String digest(String hash, CharSequence senha) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            mac.update(hash.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(senha.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+
+    private static SecretKey novaChave() {
+        try {
+            return KeyGenerator.getInstance(ALGORITMO).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.futime.labprog.futimeapi.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que consulta {@link CredenciaisCache} antes de delegar o {@code matches}
+ * ao BCrypt. {@code encode} (registro) continua sempre no delegate.
+ */
+public class PasswordEncoderComCache implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final CredenciaisCache credenciais;
+
+    public PasswordEncoderComCache(PasswordEncoder delegate, CredenciaisCache credenciais) {
+        this.delegate = delegate;
+        this.credenciais = credenciais;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        return credenciais.senhaConfere(rawPassword, encodedPassword,
+                () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -4,9 +4,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -15,26 +17,34 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
         http
                 .cors(withDefaults()) // Habilita CORS no Spring Security
                 .csrf(csrf -> csrf.disable()) // Desabilita CSRF pois é uma API REST
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/register", "/auth/login", "/v3/api-docs/**", "/swagger-ui/**",
-                                "/swagger-ui.html")
+                                "/swagger-ui.html", "/actuator/health")
                         .permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/competicoes/**", "/clubes/**",
-                                "/jogadores/**", "/estadios/**", "/partidas/**")
+                                "/jogadores/**", "/estadios/**", "/partidas/**", "/autocompletar/**")
+                        .permitAll()
+                        // Só existe na porta de gerenciamento (management.server.*), presa ao loopback: pela
+                        // porta da API, mesmo atrás de um proxy reverso local, o actuator não responde
+                        .requestMatchers("/actuator/prometheus")
                         .permitAll()
                         .anyRequest().authenticated() // Todo o resto exige autenticação
                 )
-                .httpBasic(withDefaults()); // Habilita autenticação Basic (usuário/senha)
+                // Token assinado de /auth/login (HMAC, sem banco nem BCrypt por requisição)
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
+                .httpBasic(withDefaults()); // Basic (usuário/senha) continua aceito para clientes antigos
 
         return http.build();
     }
 
+    // BCrypt só na primeira verificação de cada senha; repetições (Basic, novos logins) vêm do cache
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(CredenciaisCache credenciais) {
+        return new PasswordEncoderComCache(new BCryptPasswordEncoder(), credenciais);
     }
 }
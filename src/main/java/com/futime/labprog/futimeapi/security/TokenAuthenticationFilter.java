@@ -0,0 +1,48 @@
+package com.futime.labprog.futimeapi.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Autentica requisições com "Authorization: Bearer <token>" emitido por {@link TokenService}.
+ * Sem o cabeçalho (ou com "Basic") a requisição segue para o httpBasic como antes; token inválido
+ * ou expirado deixa a requisição anônima, e as rotas protegidas respondem 401.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cabecalho = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (cabecalho != null && cabecalho.regionMatches(true, 0, PREFIXO, 0, PREFIXO.length())) {
+            tokenService.validar(cabecalho.substring(PREFIXO.length()).trim()).ifPresent(usuario -> {
+                UsernamePasswordAuthenticationToken autenticacao = UsernamePasswordAuthenticationToken
+                        .authenticated(usuario, null, List.of());
+                autenticacao.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+                contexto.setAuthentication(autenticacao);
+                SecurityContextHolder.setContext(contexto);
+            });
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,109 @@
+package com.futime.labprog.futimeapi.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Emite e valida os tokens de acesso devolvidos por /auth/login.
+ *
+ * Formato: base64url("id:expiraEm:email") + "." + base64url(HMAC-SHA256 do trecho anterior).
+ * A validação é só um HMAC e uma comparação de data, sem BCrypt e sem ir ao banco, ao contrário
+ * do httpBasic, que refaz as duas coisas em toda requisição.
+ */
+@Component
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec chave;
+    private final Duration validade;
+    private final Clock relogio;
+
+    public TokenService(@Value("${futime.security.token.segredo:}") String segredo,
+            @Value("${futime.security.token.validade:12h}") Duration validade) {
+        this(segredo, validade, Clock.systemUTC());
+    }
+
+    TokenService(String segredo, Duration validade, Clock relogio) {
+        this.chave = new SecretKeySpec(bytesDoSegredo(segredo), ALGORITMO);
+        this.validade = validade;
+        this.relogio = relogio;
+    }
+
+    public TokenEmitido emitir(Integer usuarioId, String email) {
+        Instant expiraEm = relogio.instant().plus(validade);
+        String conteudo = BASE64.encodeToString(
+                (usuarioId + ":" + expiraEm.getEpochSecond() + ":" + email).getBytes(StandardCharsets.UTF_8));
+        return new TokenEmitido(conteudo + "." + BASE64.encodeToString(assinar(conteudo)), expiraEm);
+    }
+
+    /**
+     * Devolve o usuário do token se a assinatura confere e ele ainda não expirou;
+     * qualquer token malformado resulta em vazio.
+     */
+    public Optional<UsuarioAutenticado> validar(String token) {
+        int ponto = token.indexOf('.');
+        if (ponto <= 0 || ponto != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String conteudo = token.substring(0, ponto);
+        try {
+            byte[] assinatura = BASE64_DECODER.decode(token.substring(ponto + 1));
+            if (!MessageDigest.isEqual(assinar(conteudo), assinatura)) {
+                return Optional.empty();
+            }
+            String[] partes = new String(BASE64_DECODER.decode(conteudo), StandardCharsets.UTF_8).split(":", 3);
+            if (partes.length != 3
+                    || relogio.instant().isAfter(Instant.ofEpochSecond(Long.parseLong(partes[1])))) {
+                return Optional.empty();
+            }
+            return Optional.of(new UsuarioAutenticado(Integer.valueOf(partes[0]), partes[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64 ou números inválidos (NumberFormatException é subclasse)
+            return Optional.empty();
+        }
+    }
+
+    private byte[] assinar(String conteudo) {
+        try {
+            // Mac não é thread-safe; criar um por chamada custa microssegundos.
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            return mac.doFinal(conteudo.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+
+    private static byte[] bytesDoSegredo(String segredo) {
+        if (segredo != null && !segredo.isBlank()) {
+            return segredo.getBytes(StandardCharsets.UTF_8);
+        }
+        // Sem FUTIME_TOKEN_SECRET os tokens só valem até o próximo restart e não são aceitos
+        // por outras instâncias; em produção o segredo deve vir do ambiente.
+        log.warn("futime.security.token.segredo não configurado; usando uma chave aleatória temporária");
+        byte[] aleatorio = new byte[32];
+        new SecureRandom().nextBytes(aleatorio);
+        return aleatorio;
+    }
+
+    public record TokenEmitido(String token, Instant expiraEm) {
+    }
+}
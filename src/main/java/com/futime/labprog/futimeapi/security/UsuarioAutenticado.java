@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.security;
+
+/**
+ * Principal das requisições autenticadas por token: só o que vem assinado no próprio token,
+ * sem consultar o banco.
+ */
+public record UsuarioAutenticado(Integer id, String email) {
+}
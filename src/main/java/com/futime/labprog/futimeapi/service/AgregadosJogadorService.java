@@ -0,0 +1,25 @@
+package com.futime.labprog.futimeapi.service;
+
+public interface AgregadosJogadorService {
+
+    /**
+     * Aplica um delta nos agregados do jogador: totais de carreira (tabela jogadores)
+     * e totais da temporada (jogador_estatisticas_temporada). Deve rodar na mesma
+     * transação da gravação da EstatisticasJogadorCompeticao que originou o delta.
+     * @param jogadorId O ID do Jogador
+     * @param temporada A temporada da competição da estatística
+     * @param gols Diferença de gols (negativa numa remoção)
+     * @param assistencias Diferença de assistências (negativa numa remoção)
+     * @param registros +1 para uma estatística nova, -1 para uma removida, 0 para uma atualização
+     */
+    void aplicarDelta(Integer jogadorId, String temporada, int gols, int assistencias, int registros);
+
+    /**
+     * Move os agregados de todas as estatísticas de uma competição de uma temporada
+     * para outra (quando a temporada da competição é alterada).
+     * @param competicaoId O ID da Competição
+     * @param temporadaAntiga A temporada antes da alteração
+     * @param temporadaNova A temporada depois da alteração
+     */
+    void moverTemporada(Integer competicaoId, String temporadaAntiga, String temporadaNova);
+}
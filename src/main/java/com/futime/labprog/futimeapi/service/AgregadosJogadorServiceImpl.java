@@ -0,0 +1,51 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.repository.EstatisticasJogadorCompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstatisticasJogadorTemporadaRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class AgregadosJogadorServiceImpl implements AgregadosJogadorService {
+
+    private final JogadorRepository jogadorRepository;
+    private final EstatisticasJogadorTemporadaRepository temporadaRepository;
+    private final EstatisticasJogadorCompeticaoRepository estatisticasRepository;
+
+    public AgregadosJogadorServiceImpl(JogadorRepository jogadorRepository,
+            EstatisticasJogadorTemporadaRepository temporadaRepository,
+            EstatisticasJogadorCompeticaoRepository estatisticasRepository) {
+        this.jogadorRepository = jogadorRepository;
+        this.temporadaRepository = temporadaRepository;
+        this.estatisticasRepository = estatisticasRepository;
+    }
+
+    @Override
+    @Transactional
+    public void aplicarDelta(Integer jogadorId, String temporada, int gols, int assistencias, int registros) {
+        if (gols == 0 && assistencias == 0 && registros == 0) {
+            return;
+        }
+
+        jogadorRepository.somarTotais(jogadorId, gols, assistencias, LocalDateTime.now());
+
+        temporadaRepository.somar(jogadorId, temporada, gols, assistencias, registros);
+        if (registros < 0) {
+            temporadaRepository.removerSemRegistros(jogadorId, temporada);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void moverTemporada(Integer competicaoId, String temporadaAntiga, String temporadaNova) {
+        for (EstatisticasJogadorCompeticao stat : estatisticasRepository.findByCompeticaoId(competicaoId)) {
+            Integer jogadorId = stat.getJogador().getId();
+            aplicarDelta(jogadorId, temporadaAntiga, -stat.getGols(), -stat.getAssistencias(), -1);
+            aplicarDelta(jogadorId, temporadaNova, stat.getGols(), stat.getAssistencias(), 1);
+        }
+    }
+}
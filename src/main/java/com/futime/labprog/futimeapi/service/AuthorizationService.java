@@ -1,6 +1,7 @@
 package com.futime.labprog.futimeapi.service;
 
 import com.futime.labprog.futimeapi.repository.UsuarioRepository;
+import com.futime.labprog.futimeapi.security.CredenciaisCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,14 +11,20 @@ import org.springframework.stereotype.Service;
 public class AuthorizationService implements UserDetailsService {
 
     private final UsuarioRepository repository;
+    private final CredenciaisCache credenciais;
 
-    public AuthorizationService(UsuarioRepository repository) {
+    public AuthorizationService(UsuarioRepository repository, CredenciaisCache credenciais) {
         this.repository = repository;
+        this.credenciais = credenciais;
     }
 
+    // Chamado pelo httpBasic em toda requisição: o principal vem do cache e só vai ao banco no primeiro acesso
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return repository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+        UserDetails usuario = credenciais.usuario(username, email -> repository.findByEmail(email).orElse(null));
+        if (usuario == null) {
+            throw new UsernameNotFoundException("Usuário não encontrado");
+        }
+        return usuario;
     }
 }
@@ -0,0 +1,9 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.dto.SugestaoDTO;
+
+import java.util.List;
+
+public interface AutocompletarService {
+    List<SugestaoDTO> sugerir(String prefixo, Integer limite);
+}
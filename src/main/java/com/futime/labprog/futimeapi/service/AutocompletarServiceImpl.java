@@ -0,0 +1,28 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.busca.Autocompletar;
+import com.futime.labprog.futimeapi.dto.SugestaoDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class AutocompletarServiceImpl implements AutocompletarService {
+
+    private static final int LIMITE_PADRAO = 8;
+
+    private final Autocompletar autocompletar;
+
+    public AutocompletarServiceImpl(Autocompletar autocompletar) {
+        this.autocompletar = autocompletar;
+    }
+
+    // Chamado a cada tecla: atendido só pelo índice em memória, sem transação nem consulta.
+    @Override
+    public List<SugestaoDTO> sugerir(String prefixo, Integer limite) {
+        int tamanho = limite == null || limite <= 0 ? LIMITE_PADRAO : limite;
+        return autocompletar.sugerir(prefixo, tamanho).stream()
+                .map(s -> new SugestaoDTO(s.tipo(), s.id(), s.texto(), s.complemento()))
+                .toList();
+    }
+}
@@ -2,11 +2,10 @@ package com.futime.labprog.futimeapi.service;
 
 import com.futime.labprog.futimeapi.dto.ClubeRequestDTO;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
-
-import java.util.List;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 
 public interface ClubeService {
-    List<ClubeResponseDTO> listarClubes();
+    PaginaResponseDTO<ClubeResponseDTO> listarClubes(Integer after, Integer limite);
 
     ClubeResponseDTO buscarClubePorId(Integer id);
 
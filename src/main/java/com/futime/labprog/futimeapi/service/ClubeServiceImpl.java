@@ -1,19 +1,23 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaAlteradosEvent;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.ClubeRequestDTO;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.model.Clube;
 import com.futime.labprog.futimeapi.model.Estadio;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
 import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
 import com.futime.labprog.futimeapi.repository.EstadioRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 public class ClubeServiceImpl implements ClubeService {
@@ -21,12 +25,17 @@ public class ClubeServiceImpl implements ClubeService {
     private final ClubeRepository clubeRepository;
     private final EstadioRepository estadioRepository;
     private final CompeticaoRepository competicaoRepository;
+    private final DadosReferenciaCache referencias;
+    private final ApplicationEventPublisher eventos;
 
     public ClubeServiceImpl(ClubeRepository clubeRepository, EstadioRepository estadioRepository,
-            CompeticaoRepository competicaoRepository) {
+            CompeticaoRepository competicaoRepository, DadosReferenciaCache referencias,
+            ApplicationEventPublisher eventos) {
         this.clubeRepository = clubeRepository;
         this.estadioRepository = estadioRepository;
         this.competicaoRepository = competicaoRepository;
+        this.referencias = referencias;
+        this.eventos = eventos;
     }
 
     private ClubeResponseDTO toResponseDTO(Clube clube) {
@@ -64,19 +73,18 @@ public class ClubeServiceImpl implements ClubeService {
         return clube;
     }
 
+    // Leituras atendidas pela fotografia em memória (DadosReferenciaCache): sem transação nem consulta.
     @Override
-    @Transactional(readOnly = true)
-    public List<ClubeResponseDTO> listarClubes() {
-        return clubeRepository.findAll().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<ClubeResponseDTO> listarClubes(Integer after, Integer limite) {
+        int tamanho = Paginacao.limiteValido(limite);
+        return Paginacao.montar(
+                referencias.atual().clubes().apos(Paginacao.cursorInicial(after), tamanho + 1),
+                tamanho, ClubeResponseDTO::id, Function.identity());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ClubeResponseDTO buscarClubePorId(Integer id) {
-        return clubeRepository.findById(id)
-                .map(this::toResponseDTO)
+        return Optional.ofNullable(referencias.clube(id))
                 .orElseThrow(() -> new EntityNotFoundException("Clube não encontrado com ID: " + id));
     }
 
@@ -85,6 +93,7 @@ public class ClubeServiceImpl implements ClubeService {
     public ClubeResponseDTO criarClube(ClubeRequestDTO clubeDTO) {
         Clube novoClube = toEntity(clubeDTO);
         Clube clubeSalvo = clubeRepository.save(novoClube);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("clubes"));
         return toResponseDTO(clubeSalvo);
     }
 
@@ -108,6 +117,7 @@ public class ClubeServiceImpl implements ClubeService {
         clubeExistente.setEstadio(novoEstadio);
 
         Clube clubeAtualizado = clubeRepository.save(clubeExistente);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("clubes"));
         return toResponseDTO(clubeAtualizado);
     }
 
@@ -126,5 +136,6 @@ public class ClubeServiceImpl implements ClubeService {
         });
 
         clubeRepository.deleteById(id);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("clubes"));
     }
 }
@@ -1,15 +1,22 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.dto.ClassificacaoResponseDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoRequestDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
-
-import java.util.List;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.dto.RankingResponseDTO;
 
 public interface CompeticaoService {
-    List<CompeticaoResponseDTO> listarCompeticoes();
+    PaginaResponseDTO<CompeticaoResponseDTO> listarCompeticoes(Integer after, Integer limite);
 
     CompeticaoResponseDTO buscarCompeticaoPorId(Integer id);
 
+    ClassificacaoResponseDTO buscarClassificacao(Integer id);
+
+    RankingResponseDTO buscarArtilharia(Integer id, String after, Integer limite);
+
+    RankingResponseDTO buscarAssistencias(Integer id, String after, Integer limite);
+
     CompeticaoResponseDTO criarCompeticao(CompeticaoRequestDTO competicaoDTO);
 
     CompeticaoResponseDTO atualizarCompeticao(Integer id, CompeticaoRequestDTO competicaoDTO);
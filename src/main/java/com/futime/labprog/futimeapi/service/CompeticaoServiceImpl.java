@@ -1,19 +1,37 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaAlteradosEvent;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.classificacao.LinhaClassificacao;
+import com.futime.labprog.futimeapi.classificacao.MotorClassificacao;
+import com.futime.labprog.futimeapi.dto.ClassificacaoResponseDTO;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoRequestDTO;
 import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.LinhaClassificacaoDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.dto.PosicaoRankingDTO;
+import com.futime.labprog.futimeapi.dto.RankingResponseDTO;
+import com.futime.labprog.futimeapi.exception.BusinessException;
 import com.futime.labprog.futimeapi.model.Clube;
 import com.futime.labprog.futimeapi.model.Competicao;
 import com.futime.labprog.futimeapi.model.Estadio;
+import com.futime.labprog.futimeapi.ranking.CursorRanking;
+import com.futime.labprog.futimeapi.ranking.MetricaRanking;
+import com.futime.labprog.futimeapi.ranking.MotorRanking;
+import com.futime.labprog.futimeapi.ranking.PosicaoRanking;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
 import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,35 +39,58 @@ public class CompeticaoServiceImpl implements CompeticaoService {
 
     private final CompeticaoRepository competicaoRepository;
     private final ClubeRepository clubeRepository;
-
-    public CompeticaoServiceImpl(CompeticaoRepository competicaoRepository, ClubeRepository clubeRepository) {
+    private final AgregadosJogadorService agregadosJogadorService;
+    private final DadosReferenciaCache referencias;
+    private final ApplicationEventPublisher eventos;
+    private final MotorClassificacao motorClassificacao;
+    private final MotorRanking motorRanking;
+
+    public CompeticaoServiceImpl(CompeticaoRepository competicaoRepository, ClubeRepository clubeRepository,
+            AgregadosJogadorService agregadosJogadorService, DadosReferenciaCache referencias,
+            ApplicationEventPublisher eventos, MotorClassificacao motorClassificacao,
+            MotorRanking motorRanking) {
         this.competicaoRepository = competicaoRepository;
         this.clubeRepository = clubeRepository;
+        this.agregadosJogadorService = agregadosJogadorService;
+        this.referencias = referencias;
+        this.eventos = eventos;
+        this.motorClassificacao = motorClassificacao;
+        this.motorRanking = motorRanking;
     }
 
-    private CompeticaoResponseDTO toResponseDTO(Competicao competicao) {
+    private ClubeResponseDTO toClubeDTO(Clube clube) {
+        // O clube (com estádio) já está pronto na fotografia em memória; só monta a partir
+        // da entidade se ele ainda não estiver lá (ex.: inserido direto no banco).
+        ClubeResponseDTO clubeDTO = referencias.clube(clube.getId());
+        if (clubeDTO != null) {
+            return clubeDTO;
+        }
+
+        EstadioResponseDTO estadioDTO = null;
+        if (clube.getEstadio() != null) {
+            Estadio estadio = clube.getEstadio();
+            estadioDTO = new EstadioResponseDTO(
+                    estadio.getId(),
+                    estadio.getNome(),
+                    estadio.getCidade(),
+                    estadio.getPais());
+        }
+
+        return new ClubeResponseDTO(
+                clube.getId(),
+                clube.getNome(),
+                clube.getSigla(),
+                clube.getCidade(),
+                clube.getPais(),
+                estadioDTO);
+    }
+
+    // Visível no pacote para o MapeamentoDTOBenchmark (src/jmh)
+    CompeticaoResponseDTO toResponseDTO(Competicao competicao) {
         List<ClubeResponseDTO> clubesDTO = null;
         if (competicao.getClubes() != null && !competicao.getClubes().isEmpty()) {
             clubesDTO = competicao.getClubes().stream()
-                    .map(clube -> {
-                        EstadioResponseDTO estadioDTO = null;
-                        if (clube.getEstadio() != null) {
-                            Estadio estadio = clube.getEstadio();
-                            estadioDTO = new EstadioResponseDTO(
-                                    estadio.getId(),
-                                    estadio.getNome(),
-                                    estadio.getCidade(),
-                                    estadio.getPais());
-                        }
-
-                        return new ClubeResponseDTO(
-                                clube.getId(),
-                                clube.getNome(),
-                                clube.getSigla(),
-                                clube.getCidade(),
-                                clube.getPais(),
-                                estadioDTO);
-                    })
+                    .map(this::toClubeDTO)
                     .collect(Collectors.toList());
         }
 
@@ -81,27 +122,74 @@ public class CompeticaoServiceImpl implements CompeticaoService {
         return competicao;
     }
 
+    // Leituras atendidas pela fotografia em memória (DadosReferenciaCache): sem transação nem consulta.
     @Override
-    @Transactional(readOnly = true)
-    public List<CompeticaoResponseDTO> listarCompeticoes() {
-        return competicaoRepository.findAll().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<CompeticaoResponseDTO> listarCompeticoes(Integer after, Integer limite) {
+        int tamanho = Paginacao.limiteValido(limite);
+        return Paginacao.montar(
+                referencias.atual().competicoes().apos(Paginacao.cursorInicial(after), tamanho + 1),
+                tamanho, CompeticaoResponseDTO::id, Function.identity());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public CompeticaoResponseDTO buscarCompeticaoPorId(Integer id) {
-        return competicaoRepository.findById(id)
-                .map(this::toResponseDTO)
+        return Optional.ofNullable(referencias.competicao(id))
                 .orElseThrow(() -> new EntityNotFoundException("Competição não encontrada com ID: " + id));
     }
 
+    // Tabela mantida em memória pelo MotorClassificacao; aqui só se juntam os clubes da fotografia.
+    @Override
+    public ClassificacaoResponseDTO buscarClassificacao(Integer id) {
+        CompeticaoResponseDTO competicao = buscarCompeticaoPorId(id);
+        List<Integer> inscritos = competicao.clubes() == null ? List.of()
+                : competicao.clubes().stream().map(ClubeResponseDTO::id).toList();
+
+        List<LinhaClassificacao> tabela = motorClassificacao.classificacao(id, inscritos);
+        List<LinhaClassificacaoDTO> linhas = new ArrayList<>(tabela.size());
+        for (LinhaClassificacao linha : tabela) {
+            linhas.add(new LinhaClassificacaoDTO(linhas.size() + 1, referencias.clube(linha.clubeId()),
+                    linha.pontos(), linha.jogos(), linha.vitorias(), linha.empates(), linha.derrotas(),
+                    linha.golsPro(), linha.golsContra(), linha.saldo()));
+        }
+        return new ClassificacaoResponseDTO(competicao.id(), competicao.nome(), competicao.temporada(), linhas);
+    }
+
+    @Override
+    public RankingResponseDTO buscarArtilharia(Integer id, String after, Integer limite) {
+        return buscarRanking(id, MetricaRanking.GOLS, after, limite);
+    }
+
+    @Override
+    public RankingResponseDTO buscarAssistencias(Integer id, String after, Integer limite) {
+        return buscarRanking(id, MetricaRanking.ASSISTENCIAS, after, limite);
+    }
+
+    // Top-K mantido em memória pelo MotorRanking; aqui o cursor é o valor e o jogador da última linha.
+    private RankingResponseDTO buscarRanking(Integer id, MetricaRanking metrica, String after, Integer limite) {
+        CompeticaoResponseDTO competicao = buscarCompeticaoPorId(id);
+        int tamanho = Paginacao.limiteValido(limite);
+        CursorRanking apos = after == null ? CursorRanking.INICIO : CursorRanking.ler(after)
+                .orElseThrow(() -> new BusinessException("Cursor inválido: " + after));
+
+        List<PosicaoRanking> linhas = motorRanking.pagina(id, metrica, apos, tamanho + 1);
+        boolean temMais = linhas.size() > tamanho;
+        List<PosicaoRanking> pagina = temMais ? linhas.subList(0, tamanho) : linhas;
+        List<PosicaoRankingDTO> itens = pagina.stream()
+                .map(linha -> new PosicaoRankingDTO(linha.posicao(), linha.entrada().jogadorId(),
+                        linha.entrada().apelido(), referencias.clube(linha.entrada().clubeId()),
+                        linha.entrada().valor()))
+                .toList();
+        String proximoCursor = temMais ? CursorRanking.depoisDe(pagina.get(tamanho - 1).entrada()).texto() : null;
+        return new RankingResponseDTO(competicao.id(), competicao.nome(), competicao.temporada(), metrica.name(),
+                itens, proximoCursor);
+    }
+
     @Override
     @Transactional
     public CompeticaoResponseDTO criarCompeticao(CompeticaoRequestDTO competicaoDTO) {
         Competicao novaCompeticao = toEntity(competicaoDTO);
         Competicao competicaoSalva = competicaoRepository.save(novaCompeticao);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("competicoes"));
         return toResponseDTO(competicaoSalva);
     }
 
@@ -116,6 +204,12 @@ public class CompeticaoServiceImpl implements CompeticaoService {
                         .orElseThrow(() -> new EntityNotFoundException("Clube com ID " + clubeId + " não encontrado.")))
                 .collect(Collectors.toList());
 
+        // Os agregados por temporada dos jogadores dependem da temporada da competição
+        String temporadaAntiga = competicaoExistente.getTemporada();
+        if (!temporadaAntiga.equals(competicaoDTO.temporada())) {
+            agregadosJogadorService.moverTemporada(id, temporadaAntiga, competicaoDTO.temporada());
+        }
+
         competicaoExistente.setNome(competicaoDTO.nome());
         competicaoExistente.setPais(competicaoDTO.pais());
         competicaoExistente.setContinente(competicaoDTO.continente());
@@ -124,6 +218,7 @@ public class CompeticaoServiceImpl implements CompeticaoService {
         competicaoExistente.setClubes(novosClubes);
 
         Competicao competicaoAtualizada = competicaoRepository.save(competicaoExistente);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("competicoes"));
         return toResponseDTO(competicaoAtualizada);
     }
 
@@ -134,5 +229,6 @@ public class CompeticaoServiceImpl implements CompeticaoService {
             throw new EntityNotFoundException("Competição não encontrada com ID: " + id);
         }
         competicaoRepository.deleteById(id);
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("competicoes"));
     }
 }
\ No newline at end of file
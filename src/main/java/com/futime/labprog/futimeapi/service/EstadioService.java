@@ -4,14 +4,15 @@ package com.futime.labprog.futimeapi.service;
 // Ele só fala a linguagem de DTOs, a "linguagem pública" da API.
 import com.futime.labprog.futimeapi.dto.EstadioRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
-import java.util.List;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import java.util.Optional;
 
 public interface EstadioService {
 
     // Contrato 1: Deve existir um método "listarEstadios"
-    // que não recebe nada e retorna uma LISTA de "pratos prontos" (ResponseDTO).
-    List<EstadioResponseDTO> listarEstadios();
+    // que recebe o cursor ("after", ID do último estádio já visto) e o tamanho da página,
+    // e retorna uma PÁGINA de "pratos prontos" (ResponseDTO) com o cursor da próxima.
+    PaginaResponseDTO<EstadioResponseDTO> listarEstadios(Integer after, Integer limite);
 
     // Contrato 2: Deve existir um método "buscarEstadioPorId"
     // que recebe um "id" e retorna um "Optional" (para evitar NullPointerException)
@@ -1,26 +1,34 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaAlteradosEvent;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.EstadioRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.model.Estadio;
 import com.futime.labprog.futimeapi.repository.EstadioRepository;
 // import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service // Anotação que define esta classe como um Bean de Serviço (lógica de negócio)
 public class EstadioServiceImpl implements EstadioService { // implementar os métodos do contrato EstadioService.
 
     // @Autowired // Injeção de Dependência diretamente na declaração do campo
     private final EstadioRepository estadioRepository; // dependência do serviço: repositório.
+    private final DadosReferenciaCache referencias; // fotografia em memória que atende as leituras.
+    private final ApplicationEventPublisher eventos; // avisa o cache quando um estádio muda.
 
     // Injeção de Dependência via Construtor (Boa Prática SOLID)
-    public EstadioServiceImpl(EstadioRepository estadioRepository) {
+    public EstadioServiceImpl(EstadioRepository estadioRepository, DadosReferenciaCache referencias,
+            ApplicationEventPublisher eventos) {
         this.estadioRepository = estadioRepository;
+        this.referencias = referencias;
+        this.eventos = eventos;
     } // permite ver claramente todas as dependências da classe
 
     // Métodos de conversão privados (lógica interna do serviço)
@@ -33,23 +41,24 @@ public class EstadioServiceImpl implements EstadioService { // implementar os m
     } // // Converte a "comanda" (RequestDTO) no "ingrediente cru" (Entidade Estadio).
 
     @Override // sobrescrevendo um método da interface
-    @Transactional(readOnly = true) // gerenciar uma transação com o BD para esse método que apenas lê, não escreve.
-    public List<EstadioResponseDTO> listarEstadios() {
-        // 1. Pede ao Almoxarife (Repository) todos os ingredientes (Entidades).
-        return estadioRepository.findAll().stream() // 2. Para cada ingrediente... stream() processa um item da lista cada vez (esteira de produção).
-                .map(this::toResponseDTO) // // 3. ...traduz para um "prato pronto" (ResponseDTO)... map() aplica uma transformação a cada item da lista (estação).
-                .collect(Collectors.toList()); // // 4. ...e coleta em uma lista. // um item, ao sair da estação (map), retorna a esteira (stream) e chega a uma List nova.
-    } // this::toResponseDTO é um atalho para estadio -> this.toResponseDTO(estadio).
-    // this se refere à classe EstadioServiceImpl e toResponseDTO transforma um Estadio em um EstadioResponseDTO: ingrediente cru -> prato pronto.
+    // Sem @Transactional: as leituras vêm da fotografia em memória (DadosReferenciaCache), não do BD.
+    public PaginaResponseDTO<EstadioResponseDTO> listarEstadios(Integer after, Integer limite) {
+        // 1. Ajusta o tamanho da página (padrão 50, máximo 500).
+        int tamanho = Paginacao.limiteValido(limite);
+        // 2. Pega na vitrine (cache) só os itens da página: ids maiores que o cursor, um a mais que o limite.
+        //    Eles já estão prontos como "prato pronto" (ResponseDTO).
+        // 3. Paginacao.montar descarta o item extra (ele só indica que existe próxima página)
+        //    e calcula o próximo cursor. Não há tradução a fazer, por isso Function.identity().
+        return Paginacao.montar(
+                referencias.atual().estadios().apos(Paginacao.cursorInicial(after), tamanho + 1),
+                tamanho, EstadioResponseDTO::id, Function.identity());
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<EstadioResponseDTO> buscarEstadioPorId(Integer id) {
-        // 1. Pede ao Almoxarife (Repository) o ingrediente com esse "id".
-        return estadioRepository.findById(id)
-                // 2. Se o ingrediente for encontrado...
-                .map(this::toResponseDTO); // 3. ...traduz para "prato pronto" (ResponseDTO).
-                // Se não for encontrado, o "Optional" continua vazio.
+        // Pega na vitrine (cache) o "prato pronto" (ResponseDTO) com esse "id".
+        // Se não for encontrado, o "Optional" vem vazio.
+        return Optional.ofNullable(referencias.estadio(id));
     }
 
     @Override
@@ -59,7 +68,9 @@ public class EstadioServiceImpl implements EstadioService { // implementar os m
         Estadio novoEstadio = toEntity(estadioDTO);
         // 2. Manda o Almoxarife (Repository) salvar o ingrediente.
         Estadio estadioSalvo = estadioRepository.save(novoEstadio);
-        // 3. Traduz o ingrediente salvo (agora com ID) para "prato pronto" (ResponseDTO).
+        // 3. Avisa a vitrine (cache) para se atualizar depois do commit.
+        eventos.publishEvent(new DadosReferenciaAlteradosEvent("estadios"));
+        // 4. Traduz o ingrediente salvo (agora com ID) para "prato pronto" (ResponseDTO).
         return toResponseDTO(estadioSalvo);
     }
 
@@ -77,6 +88,7 @@ public class EstadioServiceImpl implements EstadioService { // implementar os m
                     
                     // 4. Manda o Almoxarife (Repository) salvar o ingrediente atualizado.
                     Estadio estadioAtualizado = estadioRepository.save(estadioExistente);
+                    eventos.publishEvent(new DadosReferenciaAlteradosEvent("estadios"));
                     // 5. Traduz o ingrediente atualizado para "prato pronto" (ResponseDTO).
                     return toResponseDTO(estadioAtualizado);
                 }); // Se o findById não encontrar nada, o .map() é pulado e um Optional vazio é retornado.
@@ -89,6 +101,7 @@ public class EstadioServiceImpl implements EstadioService { // implementar os m
         if (estadioRepository.existsById(id)) {
             // 2. Se existir, manda o Almoxarife (Repository) deletar.
             estadioRepository.deleteById(id);
+            eventos.publishEvent(new DadosReferenciaAlteradosEvent("estadios"));
             // 3. Retorna "true" para o Controller saber que deu certo.
             return true;
         }
@@ -1,5 +1,7 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO;
 import java.util.List;
@@ -7,6 +9,7 @@ import java.util.Optional;
 
 public interface EstatisticaPartidaService {
     EstatisticaPartidaResponseDTO salvar(Integer jogadorId, Integer partidaId, EstatisticaPartidaRequestDTO dto);
+    List<EstatisticaPartidaLoteResultadoDTO> salvarSumula(Integer partidaId, List<EstatisticaPartidaLoteItemDTO> itens);
     List<EstatisticaPartidaResponseDTO> listarPorJogador(Integer jogadorId);
     Optional<EstatisticaPartidaResponseDTO> buscarPorId(Integer id);
     boolean deletar(Integer id);
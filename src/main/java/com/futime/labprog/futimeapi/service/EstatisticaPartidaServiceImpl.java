@@ -1,16 +1,27 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO.Status;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO;
 import com.futime.labprog.futimeapi.model.Jogador;
 import com.futime.labprog.futimeapi.model.JogadorEstatisticaPartida;
 import com.futime.labprog.futimeapi.model.Partida;
+import com.futime.labprog.futimeapi.repository.GravacaoSumula;
 import com.futime.labprog.futimeapi.repository.JogadorEstatisticaPartidaRepository;
 import com.futime.labprog.futimeapi.repository.JogadorRepository;
 import com.futime.labprog.futimeapi.repository.PartidaRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +32,13 @@ public class EstatisticaPartidaServiceImpl implements EstatisticaPartidaService
     private final JogadorEstatisticaPartidaRepository estatisticaRepository;
     private final JogadorRepository jogadorRepository;
     private final PartidaRepository partidaRepository;
+    private final EstatisticasService estatisticasService;
 
-    public EstatisticaPartidaServiceImpl(JogadorEstatisticaPartidaRepository estatisticaRepository, JogadorRepository jogadorRepository, PartidaRepository partidaRepository) {
+    public EstatisticaPartidaServiceImpl(JogadorEstatisticaPartidaRepository estatisticaRepository, JogadorRepository jogadorRepository, PartidaRepository partidaRepository, EstatisticasService estatisticasService) {
         this.estatisticaRepository = estatisticaRepository;
         this.jogadorRepository = jogadorRepository;
         this.partidaRepository = partidaRepository;
+        this.estatisticasService = estatisticasService;
     }
 
     private EstatisticaPartidaResponseDTO toResponseDTO(JogadorEstatisticaPartida e) {
@@ -49,38 +62,122 @@ public class EstatisticaPartidaServiceImpl implements EstatisticaPartidaService
         );
     }
 
-    private void apply(JogadorEstatisticaPartida target, EstatisticaPartidaRequestDTO dto) {
-        target.setMinutosJogados(dto.minutosJogados());
-        target.setCartaoAmarelo(dto.cartaoAmarelo());
-        target.setCartaoVermelho(dto.cartaoVermelho());
-        target.setTitular(dto.titular());
-        target.setGols(dto.gols());
-        target.setAssistencias(dto.assistencias());
-        target.setDefesa(dto.defesa());
-        target.setFinalizacoes(dto.finalizacoes());
-        target.setChutesAGol(dto.chutesAGol());
-        target.setDesarmes(dto.desarmes());
+    private EstatisticaPartidaResponseDTO toResponseDTO(GravacaoSumula.LinhaGravada gravada, Jogador jogador,
+            Integer partidaId, EstatisticaPartidaRequestDTO dto) {
+        return new EstatisticaPartidaResponseDTO(
+                gravada.id(),
+                jogador.getId(),
+                jogador.getApelido(),
+                partidaId,
+                dto.minutosJogados(),
+                dto.cartaoAmarelo(),
+                dto.cartaoVermelho(),
+                dto.titular(),
+                dto.gols(),
+                dto.assistencias(),
+                dto.defesa(),
+                dto.finalizacoes(),
+                dto.chutesAGol(),
+                dto.desarmes(),
+                gravada.createdAt(),
+                gravada.updatedAt()
+        );
     }
 
+    // Uma súmula de uma linha só: o upsert é o mesmo, e dois POST simultâneos não duplicam a linha
     @Override
     @Transactional
     public EstatisticaPartidaResponseDTO salvar(Integer jogadorId, Integer partidaId, EstatisticaPartidaRequestDTO dto) {
         Jogador jogador = jogadorRepository.findById(jogadorId)
-                .orElseThrow(() -> new EntityNotFoundException("Jogador ID \" + jogadorId + \" não encontrado"));
-        Partida partida = partidaRepository.findById(partidaId)
-                .orElseThrow(() -> new EntityNotFoundException("Partida ID \" + partidaId + \" não encontrada"));
-
-        JogadorEstatisticaPartida entity = estatisticaRepository.findByJogador_IdAndPartida_Id(jogadorId, partidaId)
-                .orElseGet(() -> {
-                    JogadorEstatisticaPartida novo = new JogadorEstatisticaPartida();
-                    novo.setJogador(jogador);
-                    novo.setPartida(partida);
-                    return novo;
-                });
-
-        apply(entity, dto);
-        JogadorEstatisticaPartida salvo = estatisticaRepository.save(entity);
-        return toResponseDTO(salvo);
+                .orElseThrow(() -> new EntityNotFoundException("Jogador ID " + jogadorId + " não encontrado"));
+        Partida partida = travarPartida(partidaId);
+
+        GravacaoSumula.LinhaGravada gravada = gravar(partida,
+                List.of(new EstatisticaPartidaLoteItemDTO(jogadorId, dto))).get(0);
+        return toResponseDTO(gravada, jogador, partidaId, dto);
+    }
+
+    /**
+     * Grava a súmula inteira de uma partida. Além do upsert em lote, são só duas consultas, qualquer
+     * que seja o tamanho do elenco (partida e jogadores com IN). Linha com jogador inexistente ou
+     * repetido é rejeitada sem derrubar as demais. CRIADA/ATUALIZADA vem do próprio upsert, então dois
+     * envios simultâneos da mesma súmula não duplicam linhas: o segundo atualiza o que o primeiro criou.
+     */
+    @Override
+    @Transactional
+    public List<EstatisticaPartidaLoteResultadoDTO> salvarSumula(Integer partidaId,
+            List<EstatisticaPartidaLoteItemDTO> itens) {
+        Partida partida = travarPartida(partidaId);
+
+        Set<Integer> jogadorIds = itens.stream().map(EstatisticaPartidaLoteItemDTO::jogadorId)
+                .collect(Collectors.toSet());
+        Map<Integer, Jogador> jogadores = jogadorRepository.findAllById(jogadorIds).stream()
+                .collect(Collectors.toMap(Jogador::getId, Function.identity()));
+
+        List<EstatisticaPartidaLoteItemDTO> gravar = new ArrayList<>();
+        Set<Integer> vistos = new HashSet<>();
+        for (EstatisticaPartidaLoteItemDTO item : itens) {
+            if (jogadores.containsKey(item.jogadorId()) && vistos.add(item.jogadorId())) {
+                gravar.add(item);
+            }
+        }
+        Iterator<GravacaoSumula.LinhaGravada> gravadas = gravar(partida, gravar).iterator();
+
+        List<EstatisticaPartidaLoteResultadoDTO> resultados = new ArrayList<>(itens.size());
+        Set<Integer> aceitos = new HashSet<>();
+        for (EstatisticaPartidaLoteItemDTO item : itens) {
+            Integer jogadorId = item.jogadorId();
+            Jogador jogador = jogadores.get(jogadorId);
+            if (jogador == null || !aceitos.add(jogadorId)) {
+                String erro = jogador != null
+                        ? "Jogador ID " + jogadorId + " repetido na súmula"
+                        : "Jogador ID " + jogadorId + " não encontrado";
+                resultados.add(new EstatisticaPartidaLoteResultadoDTO(jogadorId, Status.REJEITADA, erro, null));
+            } else {
+                GravacaoSumula.LinhaGravada gravada = gravadas.next();
+                resultados.add(new EstatisticaPartidaLoteResultadoDTO(jogadorId,
+                        gravada.criada() ? Status.CRIADA : Status.ATUALIZADA, null,
+                        toResponseDTO(gravada, jogador, partidaId, item.estatisticas())));
+            }
+        }
+        return resultados;
+    }
+
+    // SELECT ... FOR UPDATE na partida: as gravações de súmula da mesma partida se enfileiram, então
+    // as linhas lidas em gravar() para o delta não mudam até o commit.
+    private Partida travarPartida(Integer partidaId) {
+        return partidaRepository.buscarParaAlterar(partidaId)
+                .orElseThrow(() -> new EntityNotFoundException("Partida ID " + partidaId + " não encontrada"));
+    }
+
+    /**
+     * Upsert das linhas e, se a partida é de uma competição, a diferença de gols e assistências de
+     * cada jogador levada à linha dele na competição (e daí aos agregados e à artilharia).
+     */
+    private List<GravacaoSumula.LinhaGravada> gravar(Partida partida, List<EstatisticaPartidaLoteItemDTO> itens) {
+        if (partida.getCompeticao() == null) {
+            return estatisticaRepository.gravarSumula(partida.getId(), itens);
+        }
+        Map<Integer, JogadorEstatisticaPartida> anteriores = estatisticaRepository
+                .findByPartida_IdAndJogador_IdIn(partida.getId(),
+                        itens.stream().map(EstatisticaPartidaLoteItemDTO::jogadorId).toList())
+                .stream()
+                .collect(Collectors.toMap(e -> e.getJogador().getId(), Function.identity()));
+
+        List<GravacaoSumula.LinhaGravada> gravadas = estatisticaRepository.gravarSumula(partida.getId(), itens);
+
+        // Em ordem de jogador: súmulas de duas partidas da mesma competição travam as linhas da
+        // competição na mesma ordem e não entram em deadlock
+        Integer competicaoId = partida.getCompeticao().getId();
+        itens.stream().sorted(Comparator.comparing(EstatisticaPartidaLoteItemDTO::jogadorId)).forEach(item -> {
+            JogadorEstatisticaPartida anterior = anteriores.get(item.jogadorId());
+            EstatisticaPartidaRequestDTO nova = item.estatisticas();
+            estatisticasService.somarPartida(competicaoId, item.jogadorId(),
+                    nova.gols() - (anterior != null ? anterior.getGols() : 0),
+                    nova.assistencias() - (anterior != null ? anterior.getAssistencias() : 0),
+                    anterior != null ? 0 : 1);
+        });
+        return gravadas;
     }
 
     @Override
@@ -99,8 +196,19 @@ public class EstatisticaPartidaServiceImpl implements EstatisticaPartidaService
     @Override
     @Transactional
     public boolean deletar(Integer id) {
-        if (!estatisticaRepository.existsById(id)) return false;
-        estatisticaRepository.deleteById(id);
+        Optional<Integer> partidaId = estatisticaRepository.buscarPartidaId(id);
+        if (partidaId.isEmpty()) return false;
+        // A linha só é lida depois da trava, para retirar da competição o que está de fato gravado
+        Partida partida = travarPartida(partidaId.get());
+        Optional<JogadorEstatisticaPartida> estatistica = estatisticaRepository.findById(id);
+        if (estatistica.isEmpty()) return false;
+
+        JogadorEstatisticaPartida e = estatistica.get();
+        if (partida.getCompeticao() != null) {
+            estatisticasService.somarPartida(partida.getCompeticao().getId(), e.getJogador().getId(),
+                    -e.getGols(), -e.getAssistencias(), -1);
+        }
+        estatisticaRepository.delete(e);
         return true;
     }
 }
@@ -19,6 +19,18 @@ public interface EstatisticasService {
      */
     EstatisticasResponseDTO salvarEstatisticas(Integer jogadorId, Integer competicaoId, EstatisticasRequestDTO requestDTO);
 
+    /**
+     * Soma na linha do jogador na competição a diferença trazida pela súmula de uma partida,
+     * criando a linha zerada se ainda não existir. Os agregados do jogador e a artilharia
+     * recebem o mesmo delta. Deve rodar na transação que gravou a súmula.
+     * @param competicaoId O ID da Competição da partida
+     * @param jogadorId O ID do Jogador
+     * @param gols Diferença de gols na súmula (negativa numa remoção)
+     * @param assistencias Diferença de assistências na súmula (negativa numa remoção)
+     * @param jogos +1 para a primeira súmula do jogador na partida, -1 para uma removida, 0 para uma atualização
+     */
+    void somarPartida(Integer competicaoId, Integer jogadorId, int gols, int assistencias, int jogos);
+
     /**
      * Lista todas as estatísticas registradas para um jogador específico.
      * @param jogadorId O ID do Jogador
@@ -1,14 +1,16 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticasRequestDTO;
 import com.futime.labprog.futimeapi.dto.EstatisticasResponseDTO;
-import com.futime.labprog.futimeapi.model.Competicao;
 import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
-import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.ranking.EstatisticaCompeticaoAlteradaEvent;
 import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
 import com.futime.labprog.futimeapi.repository.EstatisticasJogadorCompeticaoRepository;
 import com.futime.labprog.futimeapi.repository.JogadorRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +24,23 @@ public class EstatisticasServiceImpl implements EstatisticasService {
     private final EstatisticasJogadorCompeticaoRepository estatisticasRepository;
     private final JogadorRepository jogadorRepository;
     private final CompeticaoRepository competicaoRepository;
+    private final AgregadosJogadorService agregadosJogadorService;
+    private final DadosReferenciaCache referencias;
+    private final ApplicationEventPublisher eventos;
 
     // Injeção de todas as dependências necessárias via construtor
     public EstatisticasServiceImpl(EstatisticasJogadorCompeticaoRepository estatisticasRepository,
                                    JogadorRepository jogadorRepository,
-                                   CompeticaoRepository competicaoRepository) {
+                                   CompeticaoRepository competicaoRepository,
+                                   AgregadosJogadorService agregadosJogadorService,
+                                   DadosReferenciaCache referencias,
+                                   ApplicationEventPublisher eventos) {
         this.estatisticasRepository = estatisticasRepository;
         this.jogadorRepository = jogadorRepository;
         this.competicaoRepository = competicaoRepository;
+        this.agregadosJogadorService = agregadosJogadorService;
+        this.referencias = referencias;
+        this.eventos = eventos;
     }
 
     // --- MÉTODO DE TRADUÇÃO (PRIVADO) ---
@@ -38,6 +49,23 @@ public class EstatisticasServiceImpl implements EstatisticasService {
      * ATUALIZADO: Converte Entidade Estatisticas... -> EstatisticasResponseDTO
      */
     private EstatisticasResponseDTO toResponseDTO(EstatisticasJogadorCompeticao stat) {
+        // Os dados da competição vêm prontos da fotografia em memória, sem carregar a entidade
+        CompeticaoResponseDTO competicao = referencias.competicao(stat.getCompeticao().getId());
+        if (competicao != null) {
+            return new EstatisticasResponseDTO(
+                    stat.getId(),
+                    stat.getGols(),
+                    stat.getAssistencias(),
+                    stat.getJogosDisputados(),
+                    stat.getJogador().getId(),
+                    stat.getJogador().getApelido(),
+                    competicao.id(),
+                    competicao.nome(),
+                    competicao.temporada(),
+                    competicao.tipoCompeticao(),
+                    competicao.createdAt());
+        }
+
         return new EstatisticasResponseDTO(
                 stat.getId(),
                 stat.getGols(),
@@ -59,46 +87,71 @@ public class EstatisticasServiceImpl implements EstatisticasService {
     @Transactional
     public EstatisticasResponseDTO salvarEstatisticas(Integer jogadorId, Integer competicaoId, EstatisticasRequestDTO requestDTO) {
         
-        // 1. Verificar se o registro já existe usando nosso novo método de repositório
-        Optional<EstatisticasJogadorCompeticao> statExistenteOpt = estatisticasRepository.findByJogadorIdAndCompeticaoId(jogadorId, competicaoId);
-
-        EstatisticasJogadorCompeticao estatisticaParaSalvar;
+        // 1. Busca a linha do jogador na competição, travada até o fim da transação
+        Optional<EstatisticasJogadorCompeticao> statExistenteOpt = estatisticasRepository.buscarParaAlterar(jogadorId, competicaoId);
 
-        if (statExistenteOpt.isPresent()) {
-            // --- LÓGICA DE UPDATE ---
-            estatisticaParaSalvar = statExistenteOpt.get();
-            // Atualiza (substitui) os valores do registro existente
-            estatisticaParaSalvar.setGols(requestDTO.gols());
-            estatisticaParaSalvar.setAssistencias(requestDTO.assistencias());
-            estatisticaParaSalvar.setJogosDisputados(requestDTO.jogosDisputados());
-
-        } else {
+        int registrosNovos = 0;
+        if (statExistenteOpt.isEmpty()) {
             // --- LÓGICA DE CREATE ---
-            // Se não existe, busca as entidades Jogador e Competicao para associar
             // Falha Rápido (Fail Fast) se o jogador ou competição não forem encontrados
-            //
-            Jogador jogador = jogadorRepository.findById(jogadorId)
-                    .orElseThrow(() -> new EntityNotFoundException("Jogador com ID " + jogadorId + " não encontrado."));
-            
-            Competicao competicao = competicaoRepository.findById(competicaoId)
-                    .orElseThrow(() -> new EntityNotFoundException("Competição com ID " + competicaoId + " não encontrada."));
-
-            // Cria a nova entidade de estatística
-            estatisticaParaSalvar = new EstatisticasJogadorCompeticao();
-            estatisticaParaSalvar.setJogador(jogador);
-            estatisticaParaSalvar.setCompeticao(competicao);
-            estatisticaParaSalvar.setGols(requestDTO.gols());
-            estatisticaParaSalvar.setAssistencias(requestDTO.assistencias());
-            estatisticaParaSalvar.setJogosDisputados(requestDTO.jogosDisputados());
+            if (!jogadorRepository.existsById(jogadorId)) {
+                throw new EntityNotFoundException("Jogador com ID " + jogadorId + " não encontrado.");
+            }
+            if (!competicaoRepository.existsById(competicaoId)) {
+                throw new EntityNotFoundException("Competição com ID " + competicaoId + " não encontrada.");
+            }
+            // Cria a linha zerada (ou encontra a que uma gravação simultânea acabou de criar) e segue
+            // pelo mesmo caminho do update; só quem de fato inseriu conta o registro novo.
+            registrosNovos = estatisticasRepository.criarSeAusente(jogadorId, competicaoId);
+            statExistenteOpt = estatisticasRepository.buscarParaAlterar(jogadorId, competicaoId);
         }
 
-        // 2. Salva (seja o objeto novo ou o atualizado)
+        // --- LÓGICA DE UPDATE ---
+        EstatisticasJogadorCompeticao estatisticaParaSalvar = statExistenteOpt.orElseThrow();
+        // Valores anteriores, para calcular o delta dos agregados do jogador (zero numa linha nova)
+        int golsAnteriores = estatisticaParaSalvar.getGols();
+        int assistenciasAnteriores = estatisticaParaSalvar.getAssistencias();
+        // Atualiza (substitui) os valores do registro
+        estatisticaParaSalvar.setGols(requestDTO.gols());
+        estatisticaParaSalvar.setAssistencias(requestDTO.assistencias());
+        estatisticaParaSalvar.setJogosDisputados(requestDTO.jogosDisputados());
+
+        // 2. Salva o objeto atualizado
         EstatisticasJogadorCompeticao estatisticaSalva = estatisticasRepository.save(estatisticaParaSalvar);
 
-        // 3. Retorna o DTO
+        // 3. Aplica a diferença nos totais de carreira e da temporada, na mesma transação
+        agregadosJogadorService.aplicarDelta(jogadorId, estatisticaSalva.getCompeticao().getTemporada(),
+                requestDTO.gols() - golsAnteriores,
+                requestDTO.assistencias() - assistenciasAnteriores,
+                registrosNovos);
+
+        // 4. Artilharia e assistências em memória relêem esta linha após o commit
+        eventos.publishEvent(new EstatisticaCompeticaoAlteradaEvent(competicaoId, jogadorId));
+
+        // 5. Retorna o DTO
         return toResponseDTO(estatisticaSalva);
     }
 
+    @Override
+    @Transactional
+    public void somarPartida(Integer competicaoId, Integer jogadorId, int gols, int assistencias, int jogos) {
+        if (gols == 0 && assistencias == 0 && jogos == 0) {
+            return;
+        }
+        // Mesmo caminho de salvarEstatisticas: cria se faltar e soma sobre a linha travada
+        int registrosNovos = estatisticasRepository.criarSeAusente(jogadorId, competicaoId);
+        EstatisticasJogadorCompeticao stat = estatisticasRepository.buscarParaAlterar(jogadorId, competicaoId)
+                .orElseThrow();
+        stat.setGols(stat.getGols() + gols);
+        stat.setAssistencias(stat.getAssistencias() + assistencias);
+        stat.setJogosDisputados(stat.getJogosDisputados() + jogos);
+        estatisticasRepository.save(stat);
+
+        agregadosJogadorService.aplicarDelta(jogadorId, stat.getCompeticao().getTemporada(), gols, assistencias,
+                registrosNovos);
+        eventos.publishEvent(new EstatisticaCompeticaoAlteradaEvent(competicaoId, jogadorId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EstatisticasResponseDTO> listarEstatisticasPorJogador(Integer jogadorId) {
@@ -118,10 +171,17 @@ public class EstatisticasServiceImpl implements EstatisticasService {
     @Override
     @Transactional
     public boolean deletarEstatistica(Integer estatisticaId) {
-        if (estatisticasRepository.existsById(estatisticaId)) {
-            estatisticasRepository.deleteById(estatisticaId);
-            return true;
-        }
-        return false;
+        // Travada como em salvarEstatisticas: uma gravação simultânea não aplica delta sobre a linha removida
+        return estatisticasRepository.buscarParaRemover(estatisticaId)
+                .map(stat -> {
+                    // Retira a contribuição deste registro dos agregados antes de apagá-lo
+                    agregadosJogadorService.aplicarDelta(stat.getJogador().getId(),
+                            stat.getCompeticao().getTemporada(), -stat.getGols(), -stat.getAssistencias(), -1);
+                    estatisticasRepository.delete(stat);
+                    eventos.publishEvent(new EstatisticaCompeticaoAlteradaEvent(
+                            stat.getCompeticao().getId(), stat.getJogador().getId()));
+                    return true;
+                })
+                .orElse(false);
     }
 }
\ No newline at end of file
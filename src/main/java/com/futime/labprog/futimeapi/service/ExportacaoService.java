@@ -0,0 +1,21 @@
+package com.futime.labprog.futimeapi.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportacaoService {
+
+    /**
+     * Escreve todas as partidas em NDJSON (um objeto JSON por linha) na saída,
+     * à medida que são lidas do banco.
+     * @param saida O stream da resposta HTTP.
+     */
+    void exportarPartidas(OutputStream saida) throws IOException;
+
+    /**
+     * Escreve todas as estatísticas de jogadores em partidas em NDJSON na saída,
+     * à medida que são lidas do banco.
+     * @param saida O stream da resposta HTTP.
+     */
+    void exportarEstatisticasPartida(OutputStream saida) throws IOException;
+}
@@ -0,0 +1,83 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaResponseDTO;
+import com.futime.labprog.futimeapi.dto.PartidaExportDTO;
+import com.futime.labprog.futimeapi.repository.JogadorEstatisticaPartidaRepository;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+    // A cada quantas linhas o buffer do gerador é empurrado para o cliente.
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    private final PartidaRepository partidaRepository;
+    private final JogadorEstatisticaPartidaRepository estatisticaRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public ExportacaoServiceImpl(PartidaRepository partidaRepository,
+            JogadorEstatisticaPartidaRepository estatisticaRepository, ObjectMapper objectMapper) {
+        this.partidaRepository = partidaRepository;
+        this.estatisticaRepository = estatisticaRepository;
+        this.objectMapper = objectMapper;
+        // Sem flush a cada objeto: quem decide quando descarregar é escreverNdjson.
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarPartidas(OutputStream saida) throws IOException {
+        try (Stream<PartidaExportDTO> linhas = partidaRepository.streamExportacao()) {
+            escreverNdjson(linhas, saida);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarEstatisticasPartida(OutputStream saida) throws IOException {
+        try (Stream<EstatisticaPartidaResponseDTO> linhas = estatisticaRepository.streamExportacao()) {
+            escreverNdjson(linhas, saida);
+        }
+    }
+
+    /**
+     * Serializa cada linha assim que ela sai do cursor do banco. Nada é acumulado:
+     * nem entidades, nem lista de DTOs, nem o JSON inteiro em memória.
+     */
+    private void escreverNdjson(Stream<?> linhas, OutputStream saida) throws IOException {
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+        // Quem fecha o stream da resposta é o container, não o gerador.
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // O separador entre objetos é a quebra de linha escrita abaixo, não o espaço padrão do Jackson.
+        gerador.setRootValueSeparator(null);
+        try {
+            int[] contador = {0};
+            linhas.forEach(linha -> {
+                try {
+                    writer.writeValue(gerador, linha);
+                    gerador.writeRaw('\n');
+                    if (++contador[0] % LINHAS_POR_FLUSH == 0) {
+                        gerador.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            gerador.close();
+        }
+    }
+}
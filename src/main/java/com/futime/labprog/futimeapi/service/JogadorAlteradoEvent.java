@@ -0,0 +1,8 @@
+package com.futime.labprog.futimeapi.service;
+
+/**
+ * Publicado pelo JogadorService ao criar, alterar ou excluir um jogador. Apelido e clube ficam
+ * copiados em estruturas em memória (rankings, busca), que se acertam após o commit.
+ */
+public record JogadorAlteradoEvent(Integer jogadorId) {
+}
@@ -1,15 +1,22 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.dto.JogadorBuscaDTO;
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
 import com.futime.labprog.futimeapi.dto.JogadorRequestDTO;
 import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 
 import java.util.List;
 
 public interface JogadorService {
-    List<JogadorResponseDTO> listarJogadores();
+    PaginaResponseDTO<JogadorResponseDTO> listarJogadores(Integer after, Integer limite);
+
+    PaginaResponseDTO<JogadorResponseDTO> listarJogadores(JogadorFiltroDTO filtro, Integer after, Integer limite);
 
     JogadorResponseDTO buscarJogadorPorId(Integer id);
 
+    List<JogadorBuscaDTO> buscarJogadores(String termo, Integer limite);
+
     JogadorResponseDTO criarJogador(JogadorRequestDTO jogadorDTO);
 
     JogadorResponseDTO atualizarJogador(Integer id, JogadorRequestDTO jogadorDTO);
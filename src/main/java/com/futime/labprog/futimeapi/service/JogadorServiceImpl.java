@@ -1,17 +1,27 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.busca.BuscaJogadores;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.*;
+import com.futime.labprog.futimeapi.exception.BusinessException;
 import com.futime.labprog.futimeapi.model.Clube;
-import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.Competicao;
 import com.futime.labprog.futimeapi.model.Jogador;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.JogadorEspecificacoes;
+import com.futime.labprog.futimeapi.repository.JogadorEspecificacoes.Ordenacao;
 import com.futime.labprog.futimeapi.repository.JogadorRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,10 +29,21 @@ public class JogadorServiceImpl implements JogadorService {
 
         private final JogadorRepository jogadorRepository;
         private final ClubeRepository clubeRepository;
+        private final DadosReferenciaCache referencias;
+        private final ApplicationEventPublisher eventos;
+        private final BuscaJogadores buscaJogadores;
 
-        public JogadorServiceImpl(JogadorRepository jogadorRepository, ClubeRepository clubeRepository) {
+        private static final int LIMITE_BUSCA_PADRAO = 10;
+        private static final int LIMITE_BUSCA_MAXIMO = 50;
+
+        public JogadorServiceImpl(JogadorRepository jogadorRepository, ClubeRepository clubeRepository,
+                        DadosReferenciaCache referencias, ApplicationEventPublisher eventos,
+                        BuscaJogadores buscaJogadores) {
                 this.jogadorRepository = jogadorRepository;
                 this.clubeRepository = clubeRepository;
+                this.referencias = referencias;
+                this.eventos = eventos;
+                this.buscaJogadores = buscaJogadores;
         }
 
         private Jogador toEntity(JogadorRequestDTO dto) {
@@ -44,6 +65,11 @@ public class JogadorServiceImpl implements JogadorService {
         public JogadorResponseDTO toResponseDTO(Jogador jogador) {
                 ClubeResponseDTO clubeDTO = null;
                 if (jogador.getClube() != null) {
+                        // getId() no proxy LAZY não vai ao banco; o clube vem pronto da fotografia em memória
+                        clubeDTO = referencias.clube(jogador.getClube().getId());
+                }
+                if (clubeDTO == null && jogador.getClube() != null) {
+                        // Fora da fotografia (ex.: inserido direto no banco): monta a partir da entidade
                         Clube clube = jogador.getClube();
                         EstadioResponseDTO estadioDTO = null;
                         if (clube.getEstadio() != null) {
@@ -62,41 +88,34 @@ public class JogadorServiceImpl implements JogadorService {
                                         estadioDTO);
                 }
 
-                List<EstatisticasJogadorCompeticao> estatisticas = jogador.getEstatisticas();
-
-                int golsTotais = estatisticas.stream()
-                                .mapToInt(EstatisticasJogadorCompeticao::getGols)
-                                .sum();
-                int assistenciasTotais = estatisticas.stream()
-                                .mapToInt(EstatisticasJogadorCompeticao::getAssistencias)
-                                .sum();
-
-                List<EstatisticaCompeticaoDTO> estatisticasPorCompeticao = estatisticas.stream()
-                                .map(stat -> new EstatisticaCompeticaoDTO(
-                                                stat.getCompeticao().getNome(),
-                                                stat.getCompeticao().getTemporada(),
-                                                stat.getCompeticao().getTipoCompeticao(),
-                                                stat.getGols(),
-                                                stat.getAssistencias()))
+                // Totais de carreira e por temporada vêm dos agregados mantidos pelo
+                // EstatisticasServiceImpl: nada é somado ou agrupado aqui.
+                List<EstatisticaTemporadaDTO> estatisticasPorTemporada = jogador.getEstatisticasTemporada().stream()
+                                .map(temporada -> new EstatisticaTemporadaDTO(
+                                                temporada.getTemporada(),
+                                                temporada.getGols(),
+                                                temporada.getAssistencias()))
                                 .collect(Collectors.toList());
 
-                Map<String, List<EstatisticasJogadorCompeticao>> statsAgrupadasPorTemporada = estatisticas.stream()
-                                .collect(Collectors.groupingBy(stat -> stat.getCompeticao().getTemporada()));
-
-                List<EstatisticaTemporadaDTO> estatisticasPorTemporada = statsAgrupadasPorTemporada.entrySet().stream()
-                                .map(entry -> {
-                                        String temporada = entry.getKey();
-                                        List<EstatisticasJogadorCompeticao> statsDaTemporada = entry.getValue();
-
-                                        int golsDaTemporada = statsDaTemporada.stream()
-                                                        .mapToInt(EstatisticasJogadorCompeticao::getGols)
-                                                        .sum();
-                                        int assistenciasDaTemporada = statsDaTemporada.stream()
-                                                        .mapToInt(EstatisticasJogadorCompeticao::getAssistencias)
-                                                        .sum();
-
-                                        return new EstatisticaTemporadaDTO(temporada, golsDaTemporada,
-                                                        assistenciasDaTemporada);
+                List<EstatisticaCompeticaoDTO> estatisticasPorCompeticao = jogador.getEstatisticas().stream()
+                                .map(stat -> {
+                                        CompeticaoResponseDTO competicao = referencias
+                                                        .competicao(stat.getCompeticao().getId());
+                                        if (competicao != null) {
+                                                return new EstatisticaCompeticaoDTO(
+                                                                competicao.nome(),
+                                                                competicao.temporada(),
+                                                                competicao.tipoCompeticao(),
+                                                                stat.getGols(),
+                                                                stat.getAssistencias());
+                                        }
+                                        Competicao entidade = stat.getCompeticao();
+                                        return new EstatisticaCompeticaoDTO(
+                                                        entidade.getNome(),
+                                                        entidade.getTemporada(),
+                                                        entidade.getTipoCompeticao(),
+                                                        stat.getGols(),
+                                                        stat.getAssistencias());
                                 })
                                 .collect(Collectors.toList());
 
@@ -109,34 +128,145 @@ public class JogadorServiceImpl implements JogadorService {
                                 jogador.getValorDeMercado(),
                                 jogador.getImageUrl(),
                                 clubeDTO,
-                                golsTotais,
-                                assistenciasTotais,
+                                jogador.getGolsTotais(),
+                                jogador.getAssistenciasTotais(),
                                 estatisticasPorTemporada,
                                 estatisticasPorCompeticao);
         }
 
         @Override
         @Transactional(readOnly = true)
-        public List<JogadorResponseDTO> listarJogadores() {
-                return jogadorRepository.findAll().stream()
+        public PaginaResponseDTO<JogadorResponseDTO> listarJogadores(Integer after, Integer limite) {
+                int tamanho = Paginacao.limiteValido(limite);
+                PaginaResponseDTO<Integer> ids = Paginacao.montar(
+                                jogadorRepository.buscarIdsApos(Paginacao.cursorInicial(after),
+                                                Paginacao.limiteDaConsulta(tamanho)),
+                                tamanho, Function.identity(), Function.identity());
+                if (ids.itens().isEmpty()) {
+                        return new PaginaResponseDTO<>(List.of(), null);
+                }
+
+                List<JogadorResponseDTO> jogadores = jogadorRepository.buscarComDetalhesPorIds(ids.itens()).stream()
+                                .sorted(Comparator.comparing(Jogador::getId))
                                 .map(this::toResponseDTO)
                                 .collect(Collectors.toList());
+                return new PaginaResponseDTO<>(jogadores, ids.proximoCursor());
+        }
+
+        /**
+         * Listagem com filtros: todos viram predicados da mesma consulta (JogadorEspecificacoes), que
+         * ordena e já traz só a página mais uma linha. Sem filtro nem ordenação, segue o caminho pelo ID.
+         * Ordenando por outra coluna, o cursor continua sendo o ID do último jogador da página; o valor
+         * da coluna nesse jogador é lido pela chave primária para montar o keyset (valor, id).
+         */
+        @Override
+        @Transactional(readOnly = true)
+        public PaginaResponseDTO<JogadorResponseDTO> listarJogadores(JogadorFiltroDTO filtro, Integer after,
+                        Integer limite) {
+                if (filtro == null || filtro.semFiltros()) {
+                        return listarJogadores(after, limite);
+                }
+                Ordenacao ordenacao = ordenacao(filtro.ordenar());
+                boolean decrescente = decrescente(filtro.direcao());
+                int tamanho = Paginacao.limiteValido(limite);
+
+                LocalDate hoje = LocalDate.now();
+                // idadeMin anos completos: nascido até hoje - idadeMin; idadeMax: ainda não fez idadeMax + 1
+                LocalDate nascidoAte = filtro.idadeMin() == null ? null : hoje.minusYears(filtro.idadeMin());
+                LocalDate nascidoDesde = filtro.idadeMax() == null ? null
+                                : hoje.minusYears(filtro.idadeMax() + 1L).plusDays(1);
+
+                Specification<Jogador> especificacao = Specification.allOf(
+                                JogadorEspecificacoes.posicao(filtro.posicao()),
+                                JogadorEspecificacoes.clube(filtro.clubeId()),
+                                JogadorEspecificacoes.competicao(filtro.competicaoId()),
+                                JogadorEspecificacoes.valorEntre(filtro.valorMin(), filtro.valorMax()),
+                                JogadorEspecificacoes.nascidoEntre(nascidoDesde, nascidoAte),
+                                JogadorEspecificacoes.ordenavel(ordenacao),
+                                JogadorEspecificacoes.apos(ordenacao, decrescente, after,
+                                                valorDoCursor(ordenacao, after)));
+
+                // Sem JOIN FETCH de coleção, o LIMIT vai para o SQL; as estatísticas vêm depois em lote
+                // (default_batch_fetch_size), uma consulta por coleção para a página inteira.
+                List<Jogador> linhas = jogadorRepository.findBy(especificacao, consulta -> consulta
+                                .sortBy(JogadorEspecificacoes.ordem(ordenacao, decrescente))
+                                .limit(tamanho + 1)
+                                .all());
+                return Paginacao.montar(linhas, tamanho, Jogador::getId, this::toResponseDTO);
+        }
+
+        private static Ordenacao ordenacao(String ordenar) {
+                if (ordenar == null) {
+                        return Ordenacao.ID;
+                }
+                return Arrays.stream(Ordenacao.values())
+                                .filter(o -> o.parametro().equalsIgnoreCase(ordenar))
+                                .findFirst()
+                                .orElseThrow(() -> new BusinessException("Ordenação inválida: " + ordenar
+                                                + ". Use id, nome, valorDeMercado ou idade."));
+        }
+
+        private static boolean decrescente(String direcao) {
+                if (direcao == null || direcao.equalsIgnoreCase("asc")) {
+                        return false;
+                }
+                if (direcao.equalsIgnoreCase("desc")) {
+                        return true;
+                }
+                throw new BusinessException("Direção inválida: " + direcao + ". Use asc ou desc.");
+        }
+
+        private Comparable<?> valorDoCursor(Ordenacao ordenacao, Integer after) {
+                if (after == null || ordenacao == Ordenacao.ID) {
+                        return null;
+                }
+                Jogador cursor = jogadorRepository.findById(after)
+                                .orElseThrow(() -> new BusinessException("Cursor inválido: " + after));
+                Comparable<?> valor = switch (ordenacao) {
+                        case NOME -> cursor.getNomeCompleto();
+                        case VALOR -> cursor.getValorDeMercado();
+                        case IDADE -> cursor.getDataNascimento();
+                        case ID -> cursor.getId();
+                };
+                // O jogador do cursor mudou a ponto de sair da ordenação: a navegação precisa recomeçar
+                if (valor == null) {
+                        throw new BusinessException("Cursor inválido: " + after);
+                }
+                return valor;
         }
 
         @Override
         @Transactional(readOnly = true)
         public JogadorResponseDTO buscarJogadorPorId(Integer id) {
-                return jogadorRepository.findById(id)
+                return jogadorRepository.findComDetalhesById(id)
                                 .map(this::toResponseDTO)
                                 .orElseThrow(() -> new EntityNotFoundException(
                                                 "Jogador não encontrado com ID: " + id));
         }
 
+        // Atendida pelo índice de trigramas em memória (BuscaJogadores) e pela fotografia dos clubes:
+        // sem transação nem consulta.
+        @Override
+        public List<JogadorBuscaDTO> buscarJogadores(String termo, Integer limite) {
+                int tamanho = limite == null || limite <= 0 ? LIMITE_BUSCA_PADRAO
+                                : Math.min(limite, LIMITE_BUSCA_MAXIMO);
+                return buscaJogadores.buscar(termo, tamanho).stream()
+                                .map(r -> new JogadorBuscaDTO(
+                                                r.valor().id(),
+                                                r.valor().nomeCompleto(),
+                                                r.valor().apelido(),
+                                                r.valor().posicao(),
+                                                referencias.clube(r.valor().clubeId()),
+                                                r.similaridade()))
+                                .toList();
+        }
+
         @Override
         @Transactional
         public JogadorResponseDTO criarJogador(JogadorRequestDTO jogadorDTO) {
                 Jogador novoJogador = toEntity(jogadorDTO);
                 Jogador jogadorSalvo = jogadorRepository.save(novoJogador);
+                eventos.publishEvent(new JogadorAlteradoEvent(jogadorSalvo.getId()));
                 return toResponseDTO(jogadorSalvo);
         }
 
@@ -159,6 +289,8 @@ public class JogadorServiceImpl implements JogadorService {
                 jogadorExistente.setClube(novoClube);
 
                 Jogador jogadorAtualizado = jogadorRepository.save(jogadorExistente);
+                // Apelido e clube ficam copiados na busca e na artilharia em memória
+                eventos.publishEvent(new JogadorAlteradoEvent(id));
                 return toResponseDTO(jogadorAtualizado);
         }
 
@@ -169,5 +301,6 @@ public class JogadorServiceImpl implements JogadorService {
                         throw new EntityNotFoundException("Jogador não encontrado com ID: " + id);
                 }
                 jogadorRepository.deleteById(id);
+                eventos.publishEvent(new JogadorAlteradoEvent(id));
         }
 }
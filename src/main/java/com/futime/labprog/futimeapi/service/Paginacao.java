@@ -0,0 +1,49 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Regras comuns da paginação por cursor (keyset) usada nas listagens.
+ * As consultas ordenam pelo ID (chave primária, sempre indexada) e filtram
+ * por "id > cursor", então o custo de cada página não depende de quantas
+ * linhas vieram antes dela.
+ */
+public final class Paginacao {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private Paginacao() {
+    }
+
+    public static int cursorInicial(Integer after) {
+        return after == null ? 0 : after;
+    }
+
+    public static int limiteValido(Integer limite) {
+        if (limite == null || limite <= 0) {
+            return LIMITE_PADRAO;
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    /**
+     * Sempre buscamos uma linha a mais do que o limite: ela não é devolvida,
+     * só indica se existe uma próxima página.
+     */
+    public static Limit limiteDaConsulta(int limite) {
+        return Limit.of(limite + 1);
+    }
+
+    public static <E, T> PaginaResponseDTO<T> montar(List<E> linhas, int limite, Function<E, Integer> id,
+            Function<E, T> conversor) {
+        boolean temMais = linhas.size() > limite;
+        List<E> pagina = temMais ? linhas.subList(0, limite) : linhas;
+        Integer proximoCursor = temMais ? id.apply(pagina.get(pagina.size() - 1)) : null;
+        return new PaginaResponseDTO<>(pagina.stream().map(conversor).toList(), proximoCursor);
+    }
+}
@@ -1,11 +1,11 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.PartidaResponseDTO;
-import java.util.List;
 
 public interface PartidaService {
-    List<PartidaResponseDTO> listarPartidas();
+    PaginaResponseDTO<PartidaResponseDTO> listarPartidas(Integer after, Integer limite);
 
     PartidaResponseDTO buscarPorId(Integer id);
 
@@ -1,18 +1,36 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferencia;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.cache.TabelaReferencia;
+import com.futime.labprog.futimeapi.classificacao.Placar;
+import com.futime.labprog.futimeapi.classificacao.PlacarAlteradoEvent;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
 import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
 import com.futime.labprog.futimeapi.dto.PartidaResponseDTO;
+import com.futime.labprog.futimeapi.exception.BusinessException;
 import com.futime.labprog.futimeapi.model.Clube;
+import com.futime.labprog.futimeapi.model.Competicao;
 import com.futime.labprog.futimeapi.model.Estadio;
+import com.futime.labprog.futimeapi.model.JogadorEstatisticaPartida;
 import com.futime.labprog.futimeapi.model.Partida;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
 import com.futime.labprog.futimeapi.repository.EstadioRepository;
+import com.futime.labprog.futimeapi.repository.JogadorEstatisticaPartidaRepository;
+import com.futime.labprog.futimeapi.repository.PartidaProjecao;
 import com.futime.labprog.futimeapi.repository.PartidaRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,19 +40,42 @@ public class PartidaServiceImpl implements PartidaService {
     private final PartidaRepository partidaRepository;
     private final ClubeRepository clubeRepository;
     private final EstadioRepository estadioRepository;
+    private final CompeticaoRepository competicaoRepository;
+    private final DadosReferenciaCache referencias;
+    private final ApplicationEventPublisher eventos;
+    private final JogadorEstatisticaPartidaRepository estatisticaPartidaRepository;
+    private final EstatisticasService estatisticasService;
 
     public PartidaServiceImpl(PartidaRepository partidaRepository, ClubeRepository clubeRepository,
-            EstadioRepository estadioRepository) {
+            EstadioRepository estadioRepository, CompeticaoRepository competicaoRepository,
+            DadosReferenciaCache referencias, ApplicationEventPublisher eventos,
+            JogadorEstatisticaPartidaRepository estatisticaPartidaRepository,
+            EstatisticasService estatisticasService) {
         this.partidaRepository = partidaRepository;
         this.clubeRepository = clubeRepository;
         this.estadioRepository = estadioRepository;
+        this.competicaoRepository = competicaoRepository;
+        this.referencias = referencias;
+        this.eventos = eventos;
+        this.estatisticaPartidaRepository = estatisticaPartidaRepository;
+        this.estatisticasService = estatisticasService;
     }
 
+    // Clubes e estádios vêm prontos da fotografia em memória; a entidade só é
+    // convertida se ainda não estiver lá (ex.: inserida direto no banco).
     private EstadioResponseDTO toEstadioDTO(Estadio estadio) {
+        EstadioResponseDTO estadioDTO = referencias.estadio(estadio.getId());
+        if (estadioDTO != null) {
+            return estadioDTO;
+        }
         return new EstadioResponseDTO(estadio.getId(), estadio.getNome(), estadio.getCidade(), estadio.getPais());
     }
 
     private ClubeResponseDTO toClubeDTO(Clube clube) {
+        ClubeResponseDTO clubeDTO = referencias.clube(clube.getId());
+        if (clubeDTO != null) {
+            return clubeDTO;
+        }
         EstadioResponseDTO estadioDTO = null;
         if (clube.getEstadio() != null) {
             estadioDTO = toEstadioDTO(clube.getEstadio());
@@ -49,6 +90,7 @@ public class PartidaServiceImpl implements PartidaService {
                 toClubeDTO(partida.getMandante()),
                 toClubeDTO(partida.getVisitante()),
                 toEstadioDTO(partida.getEstadio()),
+                partida.getCompeticao() == null ? null : partida.getCompeticao().getId(),
                 partida.getFase(),
                 partida.getGolsMandante(),
                 partida.getGolsVisitante(),
@@ -57,7 +99,68 @@ public class PartidaServiceImpl implements PartidaService {
                 partida.getUpdatedAt());
     }
 
+    /**
+     * Monta os DTOs a partir das projeções, sem entidades: clubes e estádios são
+     * resolvidos na fotografia em memória (DadosReferenciaCache). Só os IDs que
+     * faltarem nela são buscados no banco, numa consulta por tabela.
+     */
+    private List<PartidaResponseDTO> toResponseDTOs(List<PartidaProjecao> partidas) {
+        if (partidas.isEmpty()) {
+            return List.of();
+        }
+
+        DadosReferencia dados = referencias.atual();
+        Map<Integer, ClubeResponseDTO> clubes = new HashMap<>();
+        Map<Integer, EstadioResponseDTO> estadios = new HashMap<>();
+        Set<Integer> clubesFaltando = new HashSet<>();
+        Set<Integer> estadiosFaltando = new HashSet<>();
+        for (PartidaProjecao p : partidas) {
+            resolver(p.mandanteId(), dados.clubes(), clubes, clubesFaltando);
+            resolver(p.visitanteId(), dados.clubes(), clubes, clubesFaltando);
+            resolver(p.estadioId(), dados.estadios(), estadios, estadiosFaltando);
+        }
+        if (!clubesFaltando.isEmpty()) {
+            clubeRepository.buscarDTOsPorIds(clubesFaltando).forEach(c -> clubes.put(c.id(), c));
+        }
+        if (!estadiosFaltando.isEmpty()) {
+            estadioRepository.buscarDTOsPorIds(estadiosFaltando).forEach(e -> estadios.put(e.id(), e));
+        }
+
+        return partidas.stream()
+                .map(p -> new PartidaResponseDTO(
+                        p.id(),
+                        clubes.get(p.mandanteId()),
+                        clubes.get(p.visitanteId()),
+                        estadios.get(p.estadioId()),
+                        p.competicaoId(),
+                        p.fase(),
+                        p.golsMandante(),
+                        p.golsVisitante(),
+                        p.dataHora(),
+                        p.createdAt(),
+                        p.updatedAt()))
+                .toList();
+    }
+
+    private static <T> void resolver(Integer id, TabelaReferencia<T> tabela, Map<Integer, T> encontrados,
+            Set<Integer> faltando) {
+        T dto = tabela.buscar(id);
+        if (dto != null) {
+            encontrados.put(id, dto);
+        } else {
+            faltando.add(id);
+        }
+    }
+
+    // Partida agendada: nenhum placar; jogada: os dois. Só um deixaria a classificação sem saber o resultado
+    private void validarPlacar(PartidaRequestDTO dto) {
+        if ((dto.golsMandante() == null) != (dto.golsVisitante() == null)) {
+            throw new BusinessException("Informe os gols dos dois clubes, ou nenhum se a partida ainda não foi jogada");
+        }
+    }
+
     private Partida toEntity(PartidaRequestDTO dto) {
+        validarPlacar(dto);
         Clube mandante = clubeRepository.findById(dto.mandanteId())
                 .orElseThrow(
                         () -> new EntityNotFoundException("Clube mandante ID " + dto.mandanteId() + " não encontrado"));
@@ -71,6 +174,7 @@ public class PartidaServiceImpl implements PartidaService {
         p.setMandante(mandante);
         p.setVisitante(visitante);
         p.setEstadio(estadio);
+        p.setCompeticao(buscarCompeticao(dto.competicaoId()));
         p.setFase(dto.fase());
         p.setGolsMandante(dto.golsMandante());
         p.setGolsVisitante(dto.golsVisitante());
@@ -78,31 +182,46 @@ public class PartidaServiceImpl implements PartidaService {
         return p;
     }
 
+    private Competicao buscarCompeticao(Integer competicaoId) {
+        if (competicaoId == null) {
+            return null;
+        }
+        return competicaoRepository.findById(competicaoId)
+                .orElseThrow(() -> new EntityNotFoundException("Competição ID " + competicaoId + " não encontrada"));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<PartidaResponseDTO> listarPartidas() {
-        return partidaRepository.findAll().stream().map(this::toResponseDTO).collect(Collectors.toList());
+    public PaginaResponseDTO<PartidaResponseDTO> listarPartidas(Integer after, Integer limite) {
+        int tamanho = Paginacao.limiteValido(limite);
+        PaginaResponseDTO<PartidaProjecao> pagina = Paginacao.montar(
+                partidaRepository.listarPaginaProjecao(Paginacao.cursorInicial(after),
+                        Paginacao.limiteDaConsulta(tamanho)),
+                tamanho, PartidaProjecao::id, Function.identity());
+        return new PaginaResponseDTO<>(toResponseDTOs(pagina.itens()), pagina.proximoCursor());
     }
 
     @Override
     @Transactional(readOnly = true)
     public PartidaResponseDTO buscarPorId(Integer id) {
-        return partidaRepository.findById(id)
-                .map(this::toResponseDTO)
+        PartidaProjecao partida = partidaRepository.buscarProjecaoPorId(id)
                 .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada com ID: " + id));
+        return toResponseDTOs(List.of(partida)).get(0);
     }
 
     @Override
     @Transactional
     public PartidaResponseDTO criarPartida(PartidaRequestDTO dto) {
         Partida salva = partidaRepository.save(toEntity(dto));
+        eventos.publishEvent(new PlacarAlteradoEvent(null, Placar.de(salva)));
         return toResponseDTO(salva);
     }
 
     @Override
     @Transactional
     public PartidaResponseDTO atualizarPartida(Integer id, PartidaRequestDTO dto) {
-        Partida existing = partidaRepository.findById(id)
+        validarPlacar(dto);
+        Partida existing = partidaRepository.buscarParaAlterar(id)
                 .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada com ID: " + id));
 
         Clube mandante = clubeRepository.findById(dto.mandanteId())
@@ -114,23 +233,53 @@ public class PartidaServiceImpl implements PartidaService {
         Estadio estadio = estadioRepository.findById(dto.estadioId())
                 .orElseThrow(() -> new EntityNotFoundException("Estádio ID " + dto.estadioId() + " não encontrado"));
 
+        // A classificação recebe a diferença: sai o placar antigo, entra o novo
+        Placar anterior = Placar.de(existing);
+        Competicao competicaoAnterior = existing.getCompeticao();
+        Competicao competicao = buscarCompeticao(dto.competicaoId());
+        if (!Objects.equals(idDe(competicaoAnterior), idDe(competicao))) {
+            moverSumula(id, competicaoAnterior, competicao);
+        }
+
         existing.setMandante(mandante);
         existing.setVisitante(visitante);
         existing.setEstadio(estadio);
+        existing.setCompeticao(competicao);
         existing.setFase(dto.fase());
         existing.setGolsMandante(dto.golsMandante());
         existing.setGolsVisitante(dto.golsVisitante());
         existing.setDataHora(dto.dataHora());
 
-        return toResponseDTO(partidaRepository.save(existing));
+        Partida salva = partidaRepository.save(existing);
+        eventos.publishEvent(new PlacarAlteradoEvent(anterior, Placar.de(salva)));
+        return toResponseDTO(salva);
+    }
+
+    private static Integer idDe(Competicao competicao) {
+        return competicao != null ? competicao.getId() : null;
+    }
+
+    // A súmula já gravada sai da artilharia da competição antiga e entra na da nova, em ordem de
+    // jogador como na gravação da súmula
+    private void moverSumula(Integer partidaId, Competicao de, Competicao para) {
+        for (JogadorEstatisticaPartida e : estatisticaPartidaRepository.findByPartida_IdOrderByJogador_Id(partidaId)) {
+            Integer jogadorId = e.getJogador().getId();
+            if (de != null) {
+                estatisticasService.somarPartida(de.getId(), jogadorId, -e.getGols(), -e.getAssistencias(), -1);
+            }
+            if (para != null) {
+                estatisticasService.somarPartida(para.getId(), jogadorId, e.getGols(), e.getAssistencias(), 1);
+            }
+        }
     }
 
     @Override
     @Transactional
     public void deletarPartida(Integer id) {
-        if (!partidaRepository.existsById(id)) {
-            throw new EntityNotFoundException("Partida não encontrada com ID: " + id);
-        }
-        partidaRepository.deleteById(id);
+        Partida partida = partidaRepository.buscarParaAlterar(id)
+                .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada com ID: " + id));
+        Placar anterior = Placar.de(partida);
+        partidaRepository.delete(partida);
+        eventos.publishEvent(new PlacarAlteradoEvent(anterior, null));
     }
 }
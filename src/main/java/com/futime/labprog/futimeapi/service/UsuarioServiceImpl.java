@@ -1,5 +1,6 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.ClubeResponseDTO;
 import com.futime.labprog.futimeapi.dto.EstadioResponseDTO;
 import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
@@ -13,7 +14,9 @@ import com.futime.labprog.futimeapi.model.Usuario;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
 import com.futime.labprog.futimeapi.repository.JogadorRepository;
 import com.futime.labprog.futimeapi.repository.UsuarioRepository;
+import com.futime.labprog.futimeapi.security.CredenciaisAlteradasEvent;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -31,14 +34,19 @@ public class UsuarioServiceImpl implements UsuarioService {
     private final JogadorRepository jogadorRepository;
     private final JogadorService jogadorService; // Injetado
     private final PasswordEncoder passwordEncoder;
+    private final DadosReferenciaCache referencias;
+    private final ApplicationEventPublisher eventos;
 
     public UsuarioServiceImpl(UsuarioRepository usuarioRepository, ClubeRepository clubeRepository,
-            JogadorRepository jogadorRepository, JogadorService jogadorService, PasswordEncoder passwordEncoder) {
+            JogadorRepository jogadorRepository, JogadorService jogadorService, PasswordEncoder passwordEncoder,
+            DadosReferenciaCache referencias, ApplicationEventPublisher eventos) {
         this.usuarioRepository = usuarioRepository;
         this.clubeRepository = clubeRepository;
         this.jogadorRepository = jogadorRepository;
         this.jogadorService = jogadorService;
         this.passwordEncoder = passwordEncoder;
+        this.referencias = referencias;
+        this.eventos = eventos;
     }
 
     @Override
@@ -52,6 +60,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         String senhaCriptografada = passwordEncoder.encode(registerDTO.senha());
         Usuario novoUsuario = new Usuario(registerDTO.email(), senhaCriptografada, registerDTO.nome());
         Usuario usuarioSalvo = usuarioRepository.save(novoUsuario);
+        eventos.publishEvent(new CredenciaisAlteradasEvent(usuarioSalvo.getEmail()));
         return toResponseDTO(usuarioSalvo);
     }
 
@@ -78,6 +87,7 @@ public class UsuarioServiceImpl implements UsuarioService {
 
         usuario.setClubeFavorito(clube);
         Usuario usuarioSalvo = usuarioRepository.save(usuario);
+        eventos.publishEvent(new CredenciaisAlteradasEvent(usuarioSalvo.getEmail()));
         return toResponseDTO(usuarioSalvo);
     }
 
@@ -99,6 +109,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         }
 
         Usuario usuarioSalvo = usuarioRepository.save(usuario);
+        eventos.publishEvent(new CredenciaisAlteradasEvent(usuarioSalvo.getEmail()));
         return toResponseDTO(usuarioSalvo);
     }
 
@@ -115,6 +126,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         }
 
         Usuario usuarioSalvo = usuarioRepository.save(usuario);
+        eventos.publishEvent(new CredenciaisAlteradasEvent(usuarioSalvo.getEmail()));
         return toResponseDTO(usuarioSalvo);
     }
 
@@ -128,7 +140,8 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     // Helpers de conversão
 
-    private UsuarioResponseDTO toResponseDTO(Usuario usuario) {
+    // Package-private para o benchmark de mapeamento (src/jmh)
+    UsuarioResponseDTO toResponseDTO(Usuario usuario) {
         ClubeResponseDTO clubeDTO = null;
         if (usuario.getClubeFavorito() != null) {
             clubeDTO = toClubeDTO(usuario.getClubeFavorito());
@@ -150,6 +163,12 @@ public class UsuarioServiceImpl implements UsuarioService {
     }
 
     private ClubeResponseDTO toClubeDTO(Clube clube) {
+        // O clube favorito vem pronto da fotografia em memória; a entidade só é lida se ele não estiver lá
+        ClubeResponseDTO clubeDTO = referencias.clube(clube.getId());
+        if (clubeDTO != null) {
+            return clubeDTO;
+        }
+
         EstadioResponseDTO estadioDTO = null;
         if (clube.getEstadio() != null) {
             Estadio estadio = clube.getEstadio();
@@ -0,0 +1,36 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
+import com.futime.labprog.futimeapi.dto.VersaoRecurso;
+
+/**
+ * Versões (ETag/Last-Modified) das respostas GET, calculadas sem montar os DTOs.
+ * As listagens incluem o cursor e o limite na versão, porque cada página é uma resposta diferente.
+ * Os métodos de item devolvem null quando o registro não existe (o controller segue o fluxo normal e responde 404).
+ */
+public interface VersaoRecursoService {
+
+    VersaoRecurso estadios(Integer after, Integer limite);
+
+    VersaoRecurso estadio(Integer id);
+
+    VersaoRecurso clubes(Integer after, Integer limite);
+
+    VersaoRecurso clube(Integer id);
+
+    VersaoRecurso competicoes(Integer after, Integer limite);
+
+    VersaoRecurso competicao(Integer id);
+
+    VersaoRecurso partidas(Integer after, Integer limite);
+
+    VersaoRecurso partida(Integer id);
+
+    VersaoRecurso jogadores(JogadorFiltroDTO filtro, Integer after, Integer limite);
+
+    VersaoRecurso jogador(Integer id);
+
+    VersaoRecurso estatisticasPartidaDoJogador(Integer jogadorId);
+
+    VersaoRecurso estatisticaPartida(Integer id);
+}
@@ -0,0 +1,170 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.cache.DadosReferencia;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.CompeticaoResponseDTO;
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
+import com.futime.labprog.futimeapi.dto.VersaoRecurso;
+import com.futime.labprog.futimeapi.repository.JogadorEstatisticaPartidaRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import com.futime.labprog.futimeapi.repository.VersaoTabela;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Estádios, clubes e competições: a versão é o resumo do conteúdo da fotografia em memória
+ * (sem consulta) e o Last-Modified é o momento em que ela foi carregada.
+ *
+ * Partidas, jogadores e estatísticas de partida: count + max(id) + max(updatedAt) da tabela,
+ * somados às versões das tabelas de referência que aparecem aninhadas no DTO (um clube
+ * renomeado muda o JSON das partidas sem mudar nenhuma linha de 'partidas').
+ *
+ * As listagens dessas tabelas saem sem Last-Modified: uma remoção não mexe no max(updatedAt), só na
+ * contagem, e If-Modified-Since devolveria 304 com a linha removida ainda na página. Só o ETag, que
+ * leva a contagem, valida a listagem.
+ */
+@Service
+public class VersaoRecursoServiceImpl implements VersaoRecursoService {
+
+    private final DadosReferenciaCache referencias;
+    private final PartidaRepository partidaRepository;
+    private final JogadorRepository jogadorRepository;
+    private final JogadorEstatisticaPartidaRepository estatisticaPartidaRepository;
+
+    public VersaoRecursoServiceImpl(DadosReferenciaCache referencias, PartidaRepository partidaRepository,
+            JogadorRepository jogadorRepository, JogadorEstatisticaPartidaRepository estatisticaPartidaRepository) {
+        this.referencias = referencias;
+        this.partidaRepository = partidaRepository;
+        this.jogadorRepository = jogadorRepository;
+        this.estatisticaPartidaRepository = estatisticaPartidaRepository;
+    }
+
+    @Override
+    public VersaoRecurso estadios(Integer after, Integer limite) {
+        DadosReferencia dados = referencias.atual();
+        return VersaoRecurso.de(dados.carregadaEm(), "estadios", dados.estadios().versao(), pagina(after, limite));
+    }
+
+    @Override
+    public VersaoRecurso estadio(Integer id) {
+        DadosReferencia dados = referencias.atual();
+        if (dados.estadios().buscar(id) == null) {
+            return null;
+        }
+        return VersaoRecurso.de(dados.carregadaEm(), "estadio", id, dados.estadios().versao());
+    }
+
+    @Override
+    public VersaoRecurso clubes(Integer after, Integer limite) {
+        DadosReferencia dados = referencias.atual();
+        return VersaoRecurso.de(dados.carregadaEm(), "clubes", dados.clubes().versao(), pagina(after, limite));
+    }
+
+    @Override
+    public VersaoRecurso clube(Integer id) {
+        DadosReferencia dados = referencias.atual();
+        if (dados.clubes().buscar(id) == null) {
+            return null;
+        }
+        return VersaoRecurso.de(dados.carregadaEm(), "clube", id, dados.clubes().versao());
+    }
+
+    @Override
+    public VersaoRecurso competicoes(Integer after, Integer limite) {
+        DadosReferencia dados = referencias.atual();
+        return VersaoRecurso.de(dados.carregadaEm(), "competicoes", dados.competicoes().versao(),
+                pagina(after, limite));
+    }
+
+    @Override
+    public VersaoRecurso competicao(Integer id) {
+        DadosReferencia dados = referencias.atual();
+        CompeticaoResponseDTO competicao = dados.competicoes().buscar(id);
+        if (competicao == null) {
+            return null;
+        }
+        // O DTO da competição traz os clubes aninhados: a versão acompanha a tabela de clubes também.
+        return VersaoRecurso.de(dados.carregadaEm(), "competicao", id, competicao.updatedAt(),
+                dados.clubes().versao());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso partidas(Integer after, Integer limite) {
+        DadosReferencia dados = referencias.atual();
+        VersaoTabela versao = partidaRepository.buscarVersao();
+        return VersaoRecurso.de(null, "partidas", versao,
+                dados.clubes().versao(), dados.estadios().versao(), pagina(after, limite));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso partida(Integer id) {
+        DadosReferencia dados = referencias.atual();
+        return partidaRepository.buscarUltimaAlteracao(id)
+                .map(alteracao -> VersaoRecurso.de(ultimaAlteracao(alteracao, dados), "partida", id, alteracao,
+                        dados.clubes().versao(), dados.estadios().versao()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso jogadores(JogadorFiltroDTO filtro, Integer after, Integer limite) {
+        DadosReferencia dados = referencias.atual();
+        VersaoTabela versao = jogadorRepository.buscarVersao();
+        // Os filtros mudam a resposta; com faixa de idade, o resultado também muda de um dia para o outro
+        String filtros = filtro == null || filtro.semFiltros() ? ""
+                : filtro + (filtro.filtraIdade() ? "@" + LocalDate.now() : "");
+        return VersaoRecurso.de(null, "jogadores", versao,
+                dados.clubes().versao(), dados.competicoes().versao(), pagina(after, limite), filtros);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso jogador(Integer id) {
+        DadosReferencia dados = referencias.atual();
+        return jogadorRepository.buscarUltimaAlteracao(id)
+                .map(alteracao -> VersaoRecurso.de(ultimaAlteracao(alteracao, dados), "jogador", id, alteracao,
+                        dados.clubes().versao(), dados.competicoes().versao()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso estatisticasPartidaDoJogador(Integer jogadorId) {
+        // O apelido do jogador aparece em cada item, então a versão do jogador entra também.
+        VersaoTabela versao = estatisticaPartidaRepository.buscarVersaoPorJogador(jogadorId);
+        LocalDateTime jogadorAlterado = jogadorRepository.buscarUltimaAlteracao(jogadorId).orElse(null);
+        return VersaoRecurso.de(null, "estatisticas-partida", jogadorId, versao, jogadorAlterado);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersaoRecurso estatisticaPartida(Integer id) {
+        return estatisticaPartidaRepository.buscarUltimaAlteracao(id)
+                .map(alteracao -> {
+                    LocalDateTime jogadorAlterado = estatisticaPartidaRepository.buscarJogadorId(id)
+                            .flatMap(jogadorRepository::buscarUltimaAlteracao)
+                            .orElse(null);
+                    Instant ultimaAlteracao = VersaoRecurso.maisRecente(VersaoRecurso.instante(alteracao),
+                            VersaoRecurso.instante(jogadorAlterado));
+                    return VersaoRecurso.de(ultimaAlteracao, "estatistica-partida", id, alteracao, jogadorAlterado);
+                })
+                .orElse(null);
+    }
+
+    // A página pedida faz parte da versão: cada combinação de cursor e limite é uma resposta diferente.
+    private static String pagina(Integer after, Integer limite) {
+        return Paginacao.cursorInicial(after) + ":" + Paginacao.limiteValido(limite);
+    }
+
+    // Os dados de referência aninhados também podem ter mudado: vale o mais recente dos dois.
+    private static Instant ultimaAlteracao(LocalDateTime alteracao, DadosReferencia dados) {
+        return VersaoRecurso.maisRecente(VersaoRecurso.instante(alteracao), dados.carregadaEm());
+    }
+}
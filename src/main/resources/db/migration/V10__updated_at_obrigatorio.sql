@@ -0,0 +1,19 @@
+-- O ETag/Last-Modified de cada registro (VersaoRecursoService) vem de updated_at: com ele null, a
+-- consulta da última alteração não devolve nada e o registro parecia não existir (sem GET
+-- condicional). Linhas antigas recebem created_at (ou o momento da migração, nos jogadores, que não
+-- têm created_at), e quem insere sem a coluna (scripts Python) passa a receber now().
+
+UPDATE partidas SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE partidas
+    ALTER COLUMN updated_at SET DEFAULT now(),
+    ALTER COLUMN updated_at SET NOT NULL;
+
+UPDATE jogador_estatistica_partida SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE jogador_estatistica_partida
+    ALTER COLUMN updated_at SET DEFAULT now(),
+    ALTER COLUMN updated_at SET NOT NULL;
+
+UPDATE jogadores SET updated_at = now() WHERE updated_at IS NULL;
+ALTER TABLE jogadores
+    ALTER COLUMN updated_at SET DEFAULT now(),
+    ALTER COLUMN updated_at SET NOT NULL;
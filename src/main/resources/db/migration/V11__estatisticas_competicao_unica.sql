@@ -0,0 +1,29 @@
+-- Uma linha por jogador e competição: a primeira gravação cria a linha com INSERT ... ON CONFLICT
+-- (jogador_id, competicao_id) DO NOTHING, que precisa de uma restrição única nessas colunas.
+-- Duplicatas gravadas por criações simultâneas ficam com a mais nova (maior ID), e os agregados,
+-- que somaram as duas, são refeitos a partir do que sobrou (a mesma conta de
+-- scripts/recalcular_agregados_jogador.sql).
+
+DELETE FROM jogador_estatisticas_competicao e
+USING jogador_estatisticas_competicao mais_nova
+WHERE mais_nova.jogador_id = e.jogador_id
+  AND mais_nova.competicao_id = e.competicao_id
+  AND mais_nova.id > e.id;
+
+UPDATE jogadores j
+SET gols_totais = COALESCE((SELECT SUM(e.gols) FROM jogador_estatisticas_competicao e WHERE e.jogador_id = j.id), 0),
+    assistencias_totais = COALESCE((SELECT SUM(e.assistencias) FROM jogador_estatisticas_competicao e WHERE e.jogador_id = j.id), 0);
+
+DELETE FROM jogador_estatisticas_temporada;
+
+INSERT INTO jogador_estatisticas_temporada (jogador_id, temporada, gols, assistencias, registros)
+SELECT e.jogador_id, c.temporada, SUM(e.gols), SUM(e.assistencias), COUNT(*)
+FROM jogador_estatisticas_competicao e
+JOIN competicoes c ON c.id = e.competicao_id
+GROUP BY e.jogador_id, c.temporada;
+
+-- O índice da restrição tem as mesmas colunas, na mesma ordem
+DROP INDEX IF EXISTS idx_estatisticas_jogador_competicao;
+
+ALTER TABLE jogador_estatisticas_competicao
+    ADD CONSTRAINT uk_estatisticas_jogador_competicao UNIQUE (jogador_id, competicao_id);
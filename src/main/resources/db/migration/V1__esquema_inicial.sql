@@ -0,0 +1,101 @@
+-- Esquema como estava no banco antes das migrações, gerado pelo antigo ddl-auto=update a partir
+-- das entidades daquela época (IDs IDENTITY, sem agregados nem índices). Em um banco existente
+-- esta versão não roda: o Flyway marca a versão 1 como baseline (spring.flyway.baseline-on-migrate)
+-- e aplica só as seguintes.
+
+CREATE TABLE estadios (
+    id     integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome   varchar(100) NOT NULL,
+    cidade varchar(100) NOT NULL,
+    pais   varchar(3)   NOT NULL
+);
+
+CREATE TABLE clubes (
+    id         integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome       varchar(255),
+    sigla      varchar(255),
+    cidade     varchar(255),
+    pais       varchar(255),
+    estadio_id integer REFERENCES estadios (id)
+);
+
+CREATE TABLE competicoes (
+    id              integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome            varchar(255) NOT NULL,
+    pais            varchar(255) NOT NULL,
+    continente      varchar(255) NOT NULL,
+    tipo_competicao varchar(255) NOT NULL CHECK (tipo_competicao IN ('MATA_MATA', 'PONTOS_CORRIDOS')),
+    temporada       varchar(255) NOT NULL,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6)
+);
+
+CREATE TABLE competicao_clube (
+    competicao_id integer NOT NULL REFERENCES competicoes (id),
+    clube_id      integer NOT NULL REFERENCES clubes (id)
+);
+
+CREATE TABLE jogadores (
+    id               integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome_completo    varchar(255) NOT NULL,
+    apelido          varchar(255),
+    data_nascimento  date,
+    posicao          varchar(255),
+    valor_de_mercado float(53),
+    image_url        varchar(255),
+    clube_id         integer REFERENCES clubes (id)
+);
+
+CREATE TABLE jogador_estatisticas_competicao (
+    id               integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jogador_id       integer NOT NULL REFERENCES jogadores (id),
+    competicao_id    integer NOT NULL REFERENCES competicoes (id),
+    gols             integer NOT NULL,
+    assistencias     integer NOT NULL,
+    jogos_disputados integer NOT NULL
+);
+
+CREATE TABLE partidas (
+    id                 integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    clube_mandante_id  integer      NOT NULL REFERENCES clubes (id),
+    clube_visitante_id integer      NOT NULL REFERENCES clubes (id),
+    estadio_id         integer      NOT NULL REFERENCES estadios (id),
+    fase               varchar(32)  NOT NULL
+        CHECK (fase IN ('PONTOS_CORRIDOS', 'FASE_DE_GRUPOS', 'QUARTAS_DE_FINAL', 'SEMIFINAL', 'FINAL')),
+    gols_mandante      integer      NOT NULL,
+    gols_visitante     integer      NOT NULL,
+    data_hora          timestamp(6) NOT NULL,
+    created_at         timestamp(6) NOT NULL,
+    updated_at         timestamp(6)
+);
+
+CREATE TABLE jogador_estatistica_partida (
+    id              integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    partida_id      integer      NOT NULL REFERENCES partidas (id),
+    jogador_id      integer      NOT NULL REFERENCES jogadores (id),
+    minutos_jogados integer      NOT NULL,
+    cartao_amarelo  boolean      NOT NULL,
+    cartao_vermelho boolean      NOT NULL,
+    titular         boolean      NOT NULL,
+    gols            integer      NOT NULL,
+    assistencias    integer      NOT NULL,
+    defesa          integer,
+    finalizacoes    integer      NOT NULL,
+    chutes_a_gol    integer      NOT NULL,
+    desarmes        integer      NOT NULL,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6)
+);
+
+CREATE TABLE usuarios (
+    id                integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email             varchar(255) NOT NULL UNIQUE,
+    senha             varchar(255) NOT NULL,
+    nome              varchar(255) NOT NULL,
+    clube_favorito_id integer REFERENCES clubes (id)
+);
+
+CREATE TABLE usuario_jogadores_observados (
+    usuario_id integer NOT NULL REFERENCES usuarios (id),
+    jogador_id integer NOT NULL REFERENCES jogadores (id)
+);
@@ -0,0 +1,14 @@
+-- Gols e assistências da carreira no próprio jogador (AgregadosJogadorService os mantém por delta).
+-- O preenchimento parte de jogador_estatisticas_competicao, a fonte da verdade; depois de cargas
+-- feitas direto no banco, scripts/recalcular_agregados_jogador.sql refaz a mesma conta.
+
+ALTER TABLE jogadores ADD COLUMN IF NOT EXISTS gols_totais integer NOT NULL DEFAULT 0;
+ALTER TABLE jogadores ADD COLUMN IF NOT EXISTS assistencias_totais integer NOT NULL DEFAULT 0;
+
+UPDATE jogadores j
+SET gols_totais = t.gols,
+    assistencias_totais = t.assistencias
+FROM (SELECT jogador_id, SUM(gols) AS gols, SUM(assistencias) AS assistencias
+      FROM jogador_estatisticas_competicao
+      GROUP BY jogador_id) t
+WHERE t.jogador_id = j.id;
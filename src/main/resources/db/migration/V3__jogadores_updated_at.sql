@@ -0,0 +1,6 @@
+-- Última alteração de cada jogador, base do ETag/Last-Modified de /jogadores (VersaoRecursoService).
+-- Os jogadores que já existiam recebem o momento da migração.
+
+ALTER TABLE jogadores ADD COLUMN IF NOT EXISTS updated_at timestamp(6);
+
+UPDATE jogadores SET updated_at = now() WHERE updated_at IS NULL;
@@ -0,0 +1,29 @@
+-- Troca a geração de ID de partidas, jogador_estatistica_partida e jogadores de IDENTITY para
+-- sequências com incremento 50 (otimizador pooled do Hibernate), que permitem INSERTs em lote.
+--
+-- Cada nextval devolve o topo V de um bloco; o Hibernate usa os IDs (V-49 .. V). O DEFAULT
+-- nextval(...) mantém os scripts Python que inserem sem ID funcionando: eles ficam com o próprio V,
+-- que nenhum bloco do Hibernate vai reutilizar (só desperdiça os outros 49).
+
+-- partidas
+ALTER TABLE partidas ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE partidas ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS partidas_seq INCREMENT BY 50 OWNED BY partidas.id;
+SELECT setval('partidas_seq', COALESCE((SELECT MAX(id) FROM partidas), 0) + 50, false);
+ALTER TABLE partidas ALTER COLUMN id SET DEFAULT nextval('partidas_seq');
+
+-- jogador_estatistica_partida
+ALTER TABLE jogador_estatistica_partida ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE jogador_estatistica_partida ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS jogador_estatistica_partida_seq INCREMENT BY 50
+    OWNED BY jogador_estatistica_partida.id;
+SELECT setval('jogador_estatistica_partida_seq',
+              COALESCE((SELECT MAX(id) FROM jogador_estatistica_partida), 0) + 50, false);
+ALTER TABLE jogador_estatistica_partida ALTER COLUMN id SET DEFAULT nextval('jogador_estatistica_partida_seq');
+
+-- jogadores
+ALTER TABLE jogadores ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE jogadores ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS jogadores_seq INCREMENT BY 50 OWNED BY jogadores.id;
+SELECT setval('jogadores_seq', COALESCE((SELECT MAX(id) FROM jogadores), 0) + 50, false);
+ALTER TABLE jogadores ALTER COLUMN id SET DEFAULT nextval('jogadores_seq');
@@ -0,0 +1,19 @@
+-- Gols e assistências por jogador e temporada (AgregadosJogadorService), preenchidos a partir das
+-- estatísticas por competição já gravadas.
+
+CREATE TABLE IF NOT EXISTS jogador_estatisticas_temporada (
+    id           integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jogador_id   integer      NOT NULL REFERENCES jogadores (id),
+    temporada    varchar(255) NOT NULL,
+    gols         integer      NOT NULL,
+    assistencias integer      NOT NULL,
+    registros    integer      NOT NULL,
+    CONSTRAINT uk_jogador_temporada UNIQUE (jogador_id, temporada)
+);
+
+INSERT INTO jogador_estatisticas_temporada (jogador_id, temporada, gols, assistencias, registros)
+SELECT e.jogador_id, c.temporada, SUM(e.gols), SUM(e.assistencias), COUNT(*)
+FROM jogador_estatisticas_competicao e
+JOIN competicoes c ON c.id = e.competicao_id
+GROUP BY e.jogador_id, c.temporada
+ON CONFLICT (jogador_id, temporada) DO NOTHING;
@@ -0,0 +1,5 @@
+-- Competição de cada partida (classificação em memória). Partidas antigas ficam sem competição;
+-- apagar a competição não apaga as partidas.
+
+ALTER TABLE partidas ADD COLUMN IF NOT EXISTS competicao_id integer
+    REFERENCES competicoes (id) ON DELETE SET NULL;
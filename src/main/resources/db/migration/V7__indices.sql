@@ -0,0 +1,46 @@
+-- Todos os índices do esquema. O Postgres não indexa chaves estrangeiras sozinho, então cada
+-- FK usada em consulta ou em DELETE do lado referenciado tem o seu (às vezes como prefixo de
+-- um índice composto). IF NOT EXISTS: os que o ddl-auto=update já criou a partir das
+-- anotações @Index das entidades são mantidos como estão.
+
+-- clubes
+CREATE INDEX IF NOT EXISTS idx_clubes_estadio ON clubes (estadio_id);
+
+-- competicao_clube: clubes de uma competição (listagem/classificação) e competições de um clube
+CREATE INDEX IF NOT EXISTS idx_competicao_clube_competicao ON competicao_clube (competicao_id, clube_id);
+CREATE INDEX IF NOT EXISTS idx_competicao_clube_clube ON competicao_clube (clube_id);
+
+-- jogadores: filtros de GET /jogadores (JogadorEspecificacoes), terminando no ID do desempate do keyset.
+-- idx_jogadores_clube_posicao também cobre a FK clube_id.
+CREATE INDEX IF NOT EXISTS idx_jogadores_clube_posicao ON jogadores (clube_id, posicao, id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_posicao_valor ON jogadores (posicao, valor_de_mercado, id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_valor ON jogadores (valor_de_mercado, id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_nascimento ON jogadores (data_nascimento, id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_nome ON jogadores (nome_completo, id);
+
+-- jogador_estatisticas_competicao: artilharia/assistências além do top-K em memória e o EXISTS
+-- do filtro ?competicaoId=. Os dois primeiros cobrem a FK competicao_id; o último, jogador_id.
+CREATE INDEX IF NOT EXISTS idx_estatisticas_competicao_gols
+    ON jogador_estatisticas_competicao (competicao_id, gols DESC, jogador_id);
+CREATE INDEX IF NOT EXISTS idx_estatisticas_competicao_assistencias
+    ON jogador_estatisticas_competicao (competicao_id, assistencias DESC, jogador_id);
+CREATE INDEX IF NOT EXISTS idx_estatisticas_jogador_competicao
+    ON jogador_estatisticas_competicao (jogador_id, competicao_id);
+
+-- jogador_estatisticas_temporada: a restrição uk_jogador_temporada já indexa (jogador_id, temporada)
+
+-- partidas: calendário por data, partidas de um clube (mandante ou visitante), de um estádio e de uma competição
+CREATE INDEX IF NOT EXISTS idx_partidas_data_hora ON partidas (data_hora);
+CREATE INDEX IF NOT EXISTS idx_partidas_mandante ON partidas (clube_mandante_id);
+CREATE INDEX IF NOT EXISTS idx_partidas_visitante ON partidas (clube_visitante_id);
+CREATE INDEX IF NOT EXISTS idx_partidas_estadio ON partidas (estadio_id);
+CREATE INDEX IF NOT EXISTS idx_partidas_competicao ON partidas (competicao_id);
+
+-- jogador_estatistica_partida: súmulas de um jogador e o lote de uma partida
+CREATE INDEX IF NOT EXISTS idx_estatistica_partida_jogador ON jogador_estatistica_partida (jogador_id, partida_id);
+CREATE INDEX IF NOT EXISTS idx_estatistica_partida_partida ON jogador_estatistica_partida (partida_id, jogador_id);
+
+-- usuarios: email já é UNIQUE
+CREATE INDEX IF NOT EXISTS idx_usuarios_clube_favorito ON usuarios (clube_favorito_id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_observados_usuario ON usuario_jogadores_observados (usuario_id, jogador_id);
+CREATE INDEX IF NOT EXISTS idx_jogadores_observados_jogador ON usuario_jogadores_observados (jogador_id);
@@ -0,0 +1,13 @@
+-- Partidas ainda não jogadas ficam com o placar null e não entram na classificação. Os scripts de
+-- carga gravavam 0 x 0 nelas; as futuras sem nenhuma súmula voltam a ficar sem placar.
+
+ALTER TABLE partidas ALTER COLUMN gols_mandante DROP NOT NULL;
+ALTER TABLE partidas ALTER COLUMN gols_visitante DROP NOT NULL;
+
+UPDATE partidas p
+SET gols_mandante = NULL,
+    gols_visitante = NULL
+WHERE p.data_hora > now()
+  AND p.gols_mandante = 0
+  AND p.gols_visitante = 0
+  AND NOT EXISTS (SELECT 1 FROM jogador_estatistica_partida e WHERE e.partida_id = p.id);
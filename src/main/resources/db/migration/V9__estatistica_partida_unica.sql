@@ -0,0 +1,15 @@
+-- Uma linha por jogador e partida: a súmula grava com INSERT ... ON CONFLICT (jogador_id, partida_id),
+-- que precisa de uma restrição única nessas colunas. Duplicatas gravadas por envios simultâneos ficam
+-- com a mais nova (maior ID) antes da restrição entrar.
+
+DELETE FROM jogador_estatistica_partida e
+USING jogador_estatistica_partida mais_nova
+WHERE mais_nova.jogador_id = e.jogador_id
+  AND mais_nova.partida_id = e.partida_id
+  AND mais_nova.id > e.id;
+
+-- O índice da restrição tem as mesmas colunas, na mesma ordem
+DROP INDEX IF EXISTS idx_estatistica_partida_jogador;
+
+ALTER TABLE jogador_estatistica_partida
+    ADD CONSTRAINT uk_estatistica_jogador_partida UNIQUE (jogador_id, partida_id);
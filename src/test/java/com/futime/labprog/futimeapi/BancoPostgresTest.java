@@ -0,0 +1,35 @@
+package com.futime.labprog.futimeapi;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base dos testes que precisam do PostgreSQL (comandos nativos como INSERT ... ON CONFLICT, que o
+ * H2 dos demais testes não tem): um container para todas as subclasses, com o esquema criado pelas
+ * migrações do Flyway e conferido pelo ddl-auto=validate, como em produção.
+ *
+ * O container não é @Container: assim ele sobrevive entre as classes e o contexto do Spring, que
+ * é o mesmo para todas, continua apontando para ele. Sem Docker, as subclasses são ignoradas.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=true"
+})
+public abstract class BancoPostgresTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Antes do contexto do Spring; start() não faz nada se o container já estiver de pé
+    @BeforeAll
+    static void iniciarBanco() {
+        POSTGRES.start();
+    }
+}
@@ -0,0 +1,53 @@
+package com.futime.labprog.futimeapi.busca;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicePrefixosTest {
+
+    private static final Sugestao FLAMENGO = new Sugestao(TipoSugestao.CLUBE, 1, "Flamengo", "FLA", 40);
+    private static final Sugestao FLUMINENSE = new Sugestao(TipoSugestao.CLUBE, 2, "Fluminense", "FLU", 38);
+    private static final Sugestao MARACANA = new Sugestao(TipoSugestao.ESTADIO, 1, "Maracanã", null, 60);
+    private static final Sugestao REAL = new Sugestao(TipoSugestao.CLUBE, 3, "Real Madrid", "RMA", 30);
+    private static final Sugestao ARRASCAETA = new Sugestao(TipoSugestao.JOGADOR, 7, "Arrascaeta", null, 12);
+
+    private static List<String> textos(List<Sugestao> sugestoes) {
+        return sugestoes.stream().map(Sugestao::texto).toList();
+    }
+
+    @Test
+    @DisplayName("Casa o início de qualquer palavra e a sigla, sem acentos, ordenando pelo peso")
+    void deveSugerirPorPrefixo() {
+        IndicePrefixos indice = IndicePrefixos.de(List.of(FLAMENGO, FLUMINENSE, MARACANA, REAL, ARRASCAETA));
+
+        assertEquals(List.of("Flamengo", "Fluminense"), textos(indice.buscar("fl", 10)));
+        assertEquals(List.of("Real Madrid"), textos(indice.buscar("madr", 10)));
+        assertEquals(List.of("Real Madrid"), textos(indice.buscar("RMA", 10)));
+        assertEquals(List.of("Maracanã"), textos(indice.buscar("maracanã", 10)));
+        assertTrue(indice.buscar(" ", 10).isEmpty());
+        assertEquals(List.of("Flamengo"), textos(indice.buscar("f", 1)));
+    }
+
+    @Test
+    @DisplayName("Troca sugestões e descarta as melhores guardadas dos prefixos afetados")
+    void deveTrocarSugestoes() {
+        List<Sugestao> muitas = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            muitas.add(new Sugestao(TipoSugestao.JOGADOR, 100 + i, "Silva " + i, null, i % 10));
+        }
+        IndicePrefixos indice = IndicePrefixos.de(muitas);
+        assertEquals(9, indice.buscar("si", 1).get(0).peso());
+
+        Sugestao artilheiro = new Sugestao(TipoSugestao.JOGADOR, 100, "Silva 0", null, 99);
+        IndicePrefixos novo = indice.trocar(List.of(muitas.get(0)), List.of(artilheiro));
+
+        assertEquals(List.of("Silva 0"), textos(novo.buscar("si", 1)));
+        assertEquals(9, indice.buscar("si", 1).get(0).peso());
+        assertEquals(indice.tamanho(), novo.tamanho());
+    }
+}
@@ -0,0 +1,77 @@
+package com.futime.labprog.futimeapi.busca;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTrigramasTest {
+
+    private static IndiceTrigramas<String> indice() {
+        IndiceTrigramas<String> indice = new IndiceTrigramas<>();
+        indice.indexar(1, "Méndez", "Jhegson Sebastián Méndez Carabalí", "Méndez");
+        indice.indexar(2, "Espínola", "Juan Ángel Espínola González", "Espínola");
+        indice.indexar(3, "Mendes", "Carlos Mendes", "Mendes");
+        return indice;
+    }
+
+    private static List<String> valores(List<IndiceTrigramas.Resultado<String>> resultados) {
+        return resultados.stream().map(IndiceTrigramas.Resultado::valor).toList();
+    }
+
+    @Test
+    @DisplayName("Ignora acentos e maiúsculas")
+    void deveNormalizar() {
+        assertEquals("jhegson sebastian mendez carabali", TextoBusca.normalizar("Jhegson  Sebastián Méndez-Carabalí!"));
+        assertEquals(List.of("Espínola"), valores(indice().buscar("espinola gonzalez", 5)));
+    }
+
+    @Test
+    @DisplayName("Tolera erros de digitação e ordena pela similaridade")
+    void deveOrdenarPorSimilaridade() {
+        List<IndiceTrigramas.Resultado<String>> resultados = indice().buscar("mendez", 5);
+
+        assertEquals(List.of("Méndez", "Mendes"), valores(resultados));
+        assertEquals(1.0, resultados.get(0).similaridade());
+        assertEquals(List.of("Méndez"), valores(indice().buscar("jegson", 5)));
+    }
+
+    @Test
+    @DisplayName("Reindexa e remove documentos")
+    void deveReindexarERemover() {
+        IndiceTrigramas<String> indice = indice();
+        indice.indexar(3, "Menezes", "Carlos Menezes", "Menezes");
+        indice.remover(1);
+
+        assertEquals(List.of(), valores(indice.buscar("mendez", 5)));
+        assertEquals(List.of("Menezes"), valores(indice.buscar("menezes", 5)));
+        assertEquals(2, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Buscas simultâneas em threads virtuais dão o mesmo resultado que uma a uma")
+    void deveBuscarEmParalelo() throws Exception {
+        IndiceTrigramas<String> indice = indice();
+        List<String> esperado = valores(indice.buscar("mendez", 5));
+
+        List<Future<List<String>>> buscas = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                String consulta = i % 2 == 0 ? "mendez" : "espinola";
+                buscas.add(executor.submit(() -> valores(indice.buscar(consulta, 5))));
+            }
+        }
+
+        for (int i = 0; i < buscas.size(); i++) {
+            assertEquals(i % 2 == 0 ? esperado : List.of("Espínola"), buscas.get(i).get());
+        }
+        // Os rascunhos devolvidos ao pool voltam zerados
+        assertEquals(esperado, valores(indice.buscar("mendez", 5)));
+    }
+}
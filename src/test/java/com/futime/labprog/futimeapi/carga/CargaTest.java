@@ -0,0 +1,330 @@
+package com.futime.labprog.futimeapi.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futime.labprog.futimeapi.carga.GeradorCarga.Operacao;
+import com.futime.labprog.futimeapi.carga.GeradorCarga.Resultado;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
+import com.futime.labprog.futimeapi.dto.LoginDTO;
+import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
+import com.futime.labprog.futimeapi.dto.RegisterDTO;
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.service.ClubeService;
+import com.futime.labprog.futimeapi.service.CompeticaoService;
+import com.futime.labprog.futimeapi.service.EstadioService;
+import com.futime.labprog.futimeapi.service.EstatisticaPartidaService;
+import com.futime.labprog.futimeapi.service.EstatisticasService;
+import com.futime.labprog.futimeapi.service.JogadorService;
+import com.futime.labprog.futimeapi.service.PartidaService;
+import com.futime.labprog.futimeapi.service.UsuarioService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga dentro da JVM: sobe a API numa porta aleatória, popula o banco com quatro
+ * temporadas do Brasileirão (SemeadorCarga) e dispara uma mistura de leituras e escritas pela
+ * rede local, numa taxa fixa (GeradorCarga). Imprime vazão e p50/p95/p99 por endpoint.
+ *
+ * Roda sempre no PostgreSQL, com as migrações do Flyway (a gravação das súmulas e dos agregados usa
+ * INSERT ... ON CONFLICT): por padrão num container descartável (precisa de Docker); com
+ * -Pcarga.url=jdbc:postgresql://... num banco já existente, que só é populado se estiver vazio.
+ *
+ * Roda com threads virtuais, como em produção; para comparar com o pool de threads de plataforma do
+ * Tomcat, rode a mesma carga de novo com -Pcarga.threads-virtuais=false. Com elas ligadas, o MonitorThreadsFixadas (JFR, Java 21)
+ * conta as threads virtuais presas à de plataforma, e o teste falha se passarem de
+ * -Pcarga.fixacoes-aceitas (0 por padrão).
+ *
+ * Não roda no "test": só com ./gradlew carga (-Pcarga.taxa=100 -Pcarga.duracao=120s ...).
+ */
+@Tag("carga")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+class CargaTest {
+
+    // Sem -Pcarga.url (que chega como a propriedade de sistema spring.datasource.url), sobe um container
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registro) {
+        if (System.getProperty("spring.datasource.url") != null) {
+            return;
+        }
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        registro.add("spring.datasource.url", postgres::getJdbcUrl);
+        registro.add("spring.datasource.username", postgres::getUsername);
+        registro.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static final int USUARIOS = 20;
+    private static final String SENHA = "carga-123";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int porta;
+
+    @Value("${futime.carga.taxa:50}")
+    private int taxa;
+
+    @Value("${futime.carga.aquecimento:15s}")
+    private Duration aquecimento;
+
+    @Value("${futime.carga.duracao:60s}")
+    private Duration duracao;
+
+    // Fração máxima de respostas com erro (4xx, 5xx ou timeout) aceita na janela medida
+    @Value("${futime.carga.erros-aceitos:0.01}")
+    private double errosAceitos;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean threadsVirtuais;
+
+    // Eventos jdk.VirtualThreadPinned acima de futime.threads.fixacao.limite aceitos na execução inteira
+    @Value("${futime.carga.fixacoes-aceitas:0}")
+    private long fixacoesAceitas;
+
+    @Autowired
+    private EstadioService estadioService;
+    @Autowired
+    private ClubeService clubeService;
+    @Autowired
+    private CompeticaoService competicaoService;
+    @Autowired
+    private JogadorService jogadorService;
+    @Autowired
+    private PartidaService partidaService;
+    @Autowired
+    private EstatisticaPartidaService estatisticaPartidaService;
+    @Autowired
+    private EstatisticasService estatisticasService;
+    @Autowired
+    private UsuarioService usuarioService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    private record PartidaSemeada(int id, int mandanteId, int visitanteId, int estadioId) {
+    }
+
+    private final List<Integer> jogadorIds = new ArrayList<>();
+    private final List<String> nomes = new ArrayList<>();
+    private final List<Integer> clubeIds = new ArrayList<>();
+    private final List<Integer> competicaoIds = new ArrayList<>();
+    private final List<PartidaSemeada> partidas = new ArrayList<>();
+    private final Map<Integer, List<Integer>> escalados = new HashMap<>();
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeAll
+    void preparar() throws IOException, InterruptedException {
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        Long jogadores = leitura.execute(status -> entityManager
+                .createQuery("select count(j) from Jogador j", Long.class).getSingleResult());
+        if (jogadores == 0) {
+            long inicio = System.nanoTime();
+            new SemeadorCarga(estadioService, clubeService, competicaoService, jogadorService, partidaService,
+                    estatisticaPartidaService, estatisticasService).semear();
+            System.out.printf("%n[carga] banco populado em %.1f s%n", (System.nanoTime() - inicio) / 1e9);
+        }
+
+        leitura.executeWithoutResult(status -> {
+            for (Object[] j : entityManager.createQuery("select j.id, j.nomeCompleto from Jogador j order by j.id",
+                    Object[].class).getResultList()) {
+                jogadorIds.add((Integer) j[0]);
+                nomes.add((String) j[1]);
+            }
+            clubeIds.addAll(entityManager.createQuery("select c.id from Clube c order by c.id", Integer.class)
+                    .getResultList());
+            competicaoIds.addAll(entityManager.createQuery(
+                    "select c.id from Competicao c where c.nome = :nome order by c.id", Integer.class)
+                    .setParameter("nome", SemeadorCarga.COMPETICAO).getResultList());
+            for (Object[] p : entityManager.createQuery("select p.id, p.mandante.id, p.visitante.id, p.estadio.id "
+                    + "from Partida p where p.competicao.nome = :nome order by p.id", Object[].class)
+                    .setParameter("nome", SemeadorCarga.COMPETICAO).getResultList()) {
+                partidas.add(new PartidaSemeada((Integer) p[0], (Integer) p[1], (Integer) p[2], (Integer) p[3]));
+            }
+            for (Object[] e : entityManager.createQuery(
+                    "select e.partida.id, e.jogador.id from JogadorEstatisticaPartida e", Object[].class)
+                    .getResultList()) {
+                escalados.computeIfAbsent((Integer) e[0], k -> new ArrayList<>()).add((Integer) e[1]);
+            }
+        });
+
+        for (int i = 0; i < USUARIOS; i++) {
+            String email = "carga" + i + "@futime.local";
+            try {
+                usuarioService.registerUser(new RegisterDTO("Usuário de carga " + i, email, SENHA));
+            } catch (IllegalArgumentException jaCadastrado) {
+                // Banco reaproveitado de uma execução anterior
+            }
+            HttpResponse<String> resposta = cliente.send(post("/auth/login", null, new LoginDTO(email, SENHA)),
+                    HttpResponse.BodyHandlers.ofString());
+            tokens.add(objectMapper.readTree(resposta.body()).get("token").asText());
+        }
+    }
+
+    @Test
+    void trafegoMisto() {
+        // Pesos aproximados do uso real: navegação e busca dominam, escritas são raras
+        List<Operacao> operacoes = List.of(
+                new Operacao("GET /jogadores", 12, r -> get("/jogadores?limit=20&after=" + qualquer(r, jogadorIds))),
+                new Operacao("GET /jogadores?competicaoId&ordenar", 8, r -> get("/jogadores?limit=20&competicaoId="
+                        + qualquer(r, competicaoIds) + "&ordenar=valorDeMercado&direcao=desc")),
+                new Operacao("GET /jogadores/{id}", 15, r -> get("/jogadores/" + qualquer(r, jogadorIds))),
+                new Operacao("GET /jogadores/busca", 5, r -> get("/jogadores/busca?limit=10&q="
+                        + codificar(comErro(r, qualquer(r, nomes))))),
+                new Operacao("GET /autocompletar", 10, r -> get("/autocompletar?limit=8&q="
+                        + codificar(qualquer(r, nomes).substring(0, 3)))),
+                new Operacao("GET /clubes", 4, r -> get("/clubes")),
+                new Operacao("GET /clubes/{id}", 4, r -> get("/clubes/" + qualquer(r, clubeIds))),
+                new Operacao("GET /competicoes/{id}/classificacao", 8,
+                        r -> get("/competicoes/" + qualquer(r, competicaoIds) + "/classificacao")),
+                new Operacao("GET /competicoes/{id}/artilharia", 6,
+                        r -> get("/competicoes/" + qualquer(r, competicaoIds) + "/artilharia?limit=20")),
+                new Operacao("GET /partidas", 6, r -> get("/partidas?limit=20&after=" + qualquer(r, partidas).id())),
+                new Operacao("GET /partidas/{id}", 6, r -> get("/partidas/" + qualquer(r, partidas).id())),
+                new Operacao("GET /estatisticas-partida/jogadores/{id}", 4, r -> autenticada(r,
+                        HttpRequest.newBuilder(uri("/estatisticas-partida/jogadores/" + qualquer(r, jogadorIds)
+                                + "/partidas/estatisticas")).GET())),
+                new Operacao("GET /usuarios/perfil", 4,
+                        r -> autenticada(r, HttpRequest.newBuilder(uri("/usuarios/perfil")).GET())),
+                new Operacao("POST /usuarios/olheiro/{id}", 3, r -> autenticada(r, HttpRequest.newBuilder(
+                        uri("/usuarios/olheiro/" + qualquer(r, jogadorIds))).POST(HttpRequest.BodyPublishers.noBody()))),
+                new Operacao("DELETE /usuarios/olheiro/{id}", 2, r -> autenticada(r, HttpRequest.newBuilder(
+                        uri("/usuarios/olheiro/" + qualquer(r, jogadorIds))).DELETE())),
+                new Operacao("POST /partidas/{id}/estatisticas", 2, this::sumulaCorrigida),
+                new Operacao("POST /partidas", 1, this::novaPartida));
+
+        List<Resultado> resultados = new GeradorCarga(cliente, operacoes, 42).executar(taxa, aquecimento, duracao);
+        GeradorCarga.imprimir(resultados, taxa, duracao);
+
+        long total = resultados.stream().mapToLong(Resultado::requisicoes).sum();
+        long erros = resultados.stream().mapToLong(Resultado::erros).sum();
+        assertTrue(total > 0, "nenhuma requisição medida");
+        assertTrue(erros <= total * errosAceitos, "erros: " + erros + " de " + total);
+
+        if (threadsVirtuais) {
+            // Só existe com o MonitorThreadsFixadas de pé, isto é, com threads virtuais no Java 21
+            Counter contador = meterRegistry.find("futime.threads.virtuais.fixadas").counter();
+            assertNotNull(contador, "MonitorThreadsFixadas não registrou futime.threads.virtuais.fixadas");
+            long fixadas = (long) contador.count();
+            System.out.printf("[carga] threads virtuais: %d fixações acima do limite (detalhes no log)%n", fixadas);
+            assertTrue(fixadas <= fixacoesAceitas, "threads virtuais fixadas: " + fixadas);
+        } else {
+            System.out.printf("[carga] threads de plataforma (pool do Tomcat)%n");
+        }
+    }
+
+    // Reenvio de parte da súmula de uma partida já lançada: atualiza as linhas, não cria novas
+    private HttpRequest sumulaCorrigida(Random r) {
+        PartidaSemeada partida = qualquer(r, partidas);
+        List<Integer> jogadores = escalados.getOrDefault(partida.id(), List.of());
+        List<EstatisticaPartidaLoteItemDTO> itens = new ArrayList<>();
+        for (int i = 0; i < Math.min(3, jogadores.size()); i++) {
+            itens.add(new EstatisticaPartidaLoteItemDTO(jogadores.get(r.nextInt(jogadores.size())),
+                    new EstatisticaPartidaRequestDTO(90, r.nextBoolean(), false, true, r.nextInt(2), r.nextInt(2),
+                            null, 2 + r.nextInt(3), 1 + r.nextInt(2), r.nextInt(4))));
+        }
+        return post("/partidas/" + partida.id() + "/estatisticas", token(r), itens);
+    }
+
+    // Um amistoso entre dois clubes da liga: entra nas listagens mas não mexe na classificação
+    private HttpRequest novaPartida(Random r) {
+        PartidaSemeada modelo = qualquer(r, partidas);
+        return post("/partidas", token(r), new PartidaRequestDTO(modelo.mandanteId(), modelo.visitanteId(),
+                modelo.estadioId(), null, FaseCompeticao.PONTOS_CORRIDOS, r.nextInt(4), r.nextInt(4),
+                LocalDateTime.now().plusDays(r.nextInt(30))));
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(uri(caminho)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String caminho, String token, Object corpo) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri(caminho)).timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo)));
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest autenticada(Random r, HttpRequest.Builder builder) {
+        return builder.timeout(TIMEOUT).header("Authorization", "Bearer " + token(r)).build();
+    }
+
+    private String token(Random r) {
+        return qualquer(r, tokens);
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+
+    // Troca a última letra de uma palavra do nome, como um erro de digitação
+    private static String comErro(Random r, String nome) {
+        String[] partes = nome.split(" ");
+        String parte = partes[r.nextInt(partes.length)];
+        return parte.substring(0, parte.length() - 1) + "x";
+    }
+
+    private static String codificar(String texto) {
+        return URLEncoder.encode(texto, StandardCharsets.UTF_8);
+    }
+
+    private static <T> T qualquer(Random r, List<T> lista) {
+        return lista.get(r.nextInt(lista.size()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.futime.labprog.futimeapi.carga;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Gera tráfego em malha aberta: as requisições saem numa taxa fixa, cada uma na sua thread
+ * virtual, independentemente de as anteriores já terem voltado. A latência é medida a partir do
+ * instante em que a requisição deveria ter saído, então um servidor engasgado aparece no p99 em
+ * vez de só diminuir o ritmo do gerador (omissão coordenada).
+ *
+ * A operação de cada requisição é sorteada pelos pesos com uma semente fixa: a mesma taxa e a
+ * mesma duração produzem a mesma sequência de chamadas.
+ */
+final class GeradorCarga {
+
+    /** Um tipo de chamada: o nome que vai no relatório, o peso no sorteio e como montar a requisição. */
+    record Operacao(String nome, int peso, Function<Random, HttpRequest> requisicao) {
+    }
+
+    /** Resultado de uma operação na janela medida (sem o aquecimento). */
+    record Resultado(String nome, int requisicoes, long erros, double porSegundo, double p50, double p95,
+            double p99, double maximo) {
+    }
+
+    private static final class Medicoes {
+        private long[] nanos = new long[1024];
+        private int n;
+        private final AtomicLong erros = new AtomicLong();
+
+        synchronized void registrar(long latencia) {
+            if (n == nanos.length) {
+                nanos = Arrays.copyOf(nanos, n * 2);
+            }
+            nanos[n++] = latencia;
+        }
+
+        synchronized long[] ordenadas() {
+            long[] copia = Arrays.copyOf(nanos, n);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+
+    private final HttpClient cliente;
+    private final List<Operacao> operacoes;
+    private final int pesoTotal;
+    private final Random aleatorio;
+
+    GeradorCarga(HttpClient cliente, List<Operacao> operacoes, long semente) {
+        this.cliente = cliente;
+        this.operacoes = List.copyOf(operacoes);
+        this.pesoTotal = operacoes.stream().mapToInt(Operacao::peso).sum();
+        this.aleatorio = new Random(semente);
+    }
+
+    /**
+     * Dispara {@code taxa} requisições por segundo durante {@code aquecimento + duracao} e devolve
+     * as medidas só da {@code duracao}, uma linha por operação, na ordem em que foram declaradas.
+     */
+    List<Resultado> executar(int taxa, Duration aquecimento, Duration duracao) {
+        Map<String, Medicoes> medicoes = new LinkedHashMap<>();
+        operacoes.forEach(op -> medicoes.put(op.nome(), new Medicoes()));
+
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / taxa;
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + aquecimento.toNanos();
+        long fim = inicioMedicao + duracao.toNanos();
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long k = 0;; k++) {
+                long agendada = inicio + k * intervalo;
+                if (agendada >= fim) {
+                    break;
+                }
+                long espera = agendada - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+                Operacao operacao = sortear();
+                HttpRequest requisicao = operacao.requisicao().apply(aleatorio);
+                Medicoes destino = agendada >= inicioMedicao ? medicoes.get(operacao.nome()) : null;
+                threads.submit(() -> enviar(requisicao, agendada, destino));
+            }
+            // O close espera as que ainda estão em voo; cada requisição tem o seu timeout
+        }
+
+        double segundos = duracao.toNanos() / 1e9;
+        List<Resultado> resultados = new ArrayList<>();
+        medicoes.forEach((nome, m) -> {
+            long[] ordenadas = m.ordenadas();
+            int n = ordenadas.length;
+            resultados.add(new Resultado(nome, n, m.erros.get(), n / segundos, percentil(ordenadas, 50),
+                    percentil(ordenadas, 95), percentil(ordenadas, 99), n == 0 ? 0 : ordenadas[n - 1] / 1e6));
+        });
+        return resultados;
+    }
+
+    static void imprimir(List<Resultado> resultados, int taxa, Duration duracao) {
+        int total = resultados.stream().mapToInt(Resultado::requisicoes).sum();
+        long erros = resultados.stream().mapToLong(Resultado::erros).sum();
+        System.out.printf("%n[carga] %d req/s por %d s: %d requisições medidas (%.1f req/s), %d erros%n",
+                taxa, duracao.toSeconds(), total, total / (duracao.toNanos() / 1e9), erros);
+        System.out.printf("[carga] %-42s %7s %8s %9s %9s %9s %9s %6s%n", "endpoint", "n", "req/s", "p50 ms",
+                "p95 ms", "p99 ms", "máx ms", "erros");
+        for (Resultado r : resultados) {
+            System.out.printf("[carga] %-42s %7d %8.1f %9.1f %9.1f %9.1f %9.1f %6d%n", r.nome(), r.requisicoes(),
+                    r.porSegundo(), r.p50(), r.p95(), r.p99(), r.maximo(), r.erros());
+        }
+    }
+
+    private void enviar(HttpRequest requisicao, long agendada, Medicoes destino) {
+        boolean erro;
+        try {
+            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+            erro = resposta.statusCode() >= 400;
+        } catch (Exception e) {
+            erro = true;
+        }
+        if (destino != null) {
+            destino.registrar(System.nanoTime() - agendada);
+            if (erro) {
+                destino.erros.incrementAndGet();
+            }
+        }
+    }
+
+    private Operacao sortear() {
+        int sorteio = aleatorio.nextInt(pesoTotal);
+        for (Operacao operacao : operacoes) {
+            sorteio -= operacao.peso();
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return operacoes.get(operacoes.size() - 1);
+    }
+
+    private static double percentil(long[] ordenadas, int p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(p / 100.0 * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, posicao)] / 1e6;
+    }
+}
@@ -0,0 +1,288 @@
+package com.futime.labprog.futimeapi.carga;
+
+import com.futime.labprog.futimeapi.dto.ClubeRequestDTO;
+import com.futime.labprog.futimeapi.dto.CompeticaoRequestDTO;
+import com.futime.labprog.futimeapi.dto.EstadioRequestDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticasRequestDTO;
+import com.futime.labprog.futimeapi.dto.JogadorRequestDTO;
+import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.service.ClubeService;
+import com.futime.labprog.futimeapi.service.CompeticaoService;
+import com.futime.labprog.futimeapi.service.EstadioService;
+import com.futime.labprog.futimeapi.service.EstatisticaPartidaService;
+import com.futime.labprog.futimeapi.service.EstatisticasService;
+import com.futime.labprog.futimeapi.service.JogadorService;
+import com.futime.labprog.futimeapi.service.PartidaService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Popula o banco com o volume de produção: {@link #TEMPORADAS} temporadas do Brasileirão entre
+ * {@link #CLUBES} clubes (turno e returno, 380 partidas cada), elencos de {@link #ELENCO} jogadores
+ * e súmula completa de todas as partidas, com as estatísticas por competição somadas delas.
+ *
+ * Tudo passa pelos services, como uma escrita da API: agregados, classificação, rankings e
+ * índices de busca ficam no mesmo estado que ficariam em produção. A semente é fixa, então duas
+ * execuções geram exatamente os mesmos dados.
+ */
+class SemeadorCarga {
+
+    static final int TEMPORADAS = 4;
+    static final int PRIMEIRA_TEMPORADA = 2022;
+    static final int CLUBES = 20;
+    static final int ELENCO = 50;
+    static final String COMPETICAO = "Brasileirão Série A";
+
+    private static final String[] SILABAS = {
+            "ma", "ri", "jo", "sé", "an", "tô", "ni", "car", "los", "gon", "zá", "lez", "fer", "nán", "dez",
+            "sil", "va", "ro", "dri", "gues", "pe", "dro", "lu", "ís", "ra", "fa", "el", "ben", "ja", "mín" };
+
+    private enum Setor {
+        GOLEIRO("Goleiro", 5, 0, 0),
+        DEFESA("Zagueiro", 15, 1, 1),
+        MEIO("Meio-campo", 15, 3, 5),
+        ATAQUE("Atacante", 15, 6, 3);
+
+        final String posicao;
+        final int noElenco;
+        final int pesoGol;
+        final int pesoAssistencia;
+
+        Setor(String posicao, int noElenco, int pesoGol, int pesoAssistencia) {
+            this.posicao = posicao;
+            this.noElenco = noElenco;
+            this.pesoGol = pesoGol;
+            this.pesoAssistencia = pesoAssistencia;
+        }
+    }
+
+    // Titulares por setor num 4-3-3, e quantos entram no segundo tempo
+    private static final Map<Setor, Integer> TITULARES = Map.of(Setor.GOLEIRO, 1, Setor.DEFESA, 4, Setor.MEIO, 3,
+            Setor.ATAQUE, 3);
+    private static final int RESERVAS_EM_CAMPO = 3;
+
+    private record Atleta(int id, Setor setor) {
+    }
+
+    private record Linha(Atleta atleta, boolean titular, int minutos) {
+    }
+
+    private final EstadioService estadioService;
+    private final ClubeService clubeService;
+    private final CompeticaoService competicaoService;
+    private final JogadorService jogadorService;
+    private final PartidaService partidaService;
+    private final EstatisticaPartidaService estatisticaPartidaService;
+    private final EstatisticasService estatisticasService;
+
+    private final Random aleatorio = new Random(2025);
+
+    SemeadorCarga(EstadioService estadioService, ClubeService clubeService, CompeticaoService competicaoService,
+            JogadorService jogadorService, PartidaService partidaService,
+            EstatisticaPartidaService estatisticaPartidaService, EstatisticasService estatisticasService) {
+        this.estadioService = estadioService;
+        this.clubeService = clubeService;
+        this.competicaoService = competicaoService;
+        this.jogadorService = jogadorService;
+        this.partidaService = partidaService;
+        this.estatisticaPartidaService = estatisticaPartidaService;
+        this.estatisticasService = estatisticasService;
+    }
+
+    void semear() {
+        List<Integer> clubeIds = new ArrayList<>();
+        List<Integer> estadioIds = new ArrayList<>();
+        Map<Integer, List<Atleta>> elencos = new HashMap<>();
+        for (int i = 1; i <= CLUBES; i++) {
+            String cidade = "Cidade " + i;
+            // estadios.pais é o código de três letras
+            Integer estadioId = estadioService.criarEstadio(new EstadioRequestDTO("Arena " + palavra(), cidade,
+                    "BRA")).id();
+            Integer clubeId = clubeService.criarClube(new ClubeRequestDTO("Esporte Clube " + palavra(),
+                    String.format("EC%02d", i), cidade, "Brasil", estadioId)).id();
+            estadioIds.add(estadioId);
+            clubeIds.add(clubeId);
+            elencos.put(clubeId, elenco(clubeId));
+        }
+
+        for (int t = 0; t < TEMPORADAS; t++) {
+            int ano = PRIMEIRA_TEMPORADA + t;
+            Integer competicaoId = competicaoService.criarCompeticao(new CompeticaoRequestDTO(COMPETICAO, "Brasil",
+                    "América do Sul", TipoCompeticao.PONTOS_CORRIDOS, String.valueOf(ano), clubeIds)).id();
+            temporada(ano, competicaoId, clubeIds, estadioIds, elencos);
+        }
+    }
+
+    private List<Atleta> elenco(Integer clubeId) {
+        List<Atleta> elenco = new ArrayList<>(ELENCO);
+        for (Setor setor : Setor.values()) {
+            for (int i = 0; i < setor.noElenco; i++) {
+                String nome = palavra() + " " + palavra() + " " + palavra();
+                LocalDate nascimento = LocalDate.of(1988, 1, 1).plusDays(aleatorio.nextInt(18 * 365));
+                double valor = 250_000.0 * (1 + aleatorio.nextInt(200));
+                Integer id = jogadorService.criarJogador(new JogadorRequestDTO(nome, nome.substring(0,
+                        nome.indexOf(' ')), nascimento, setor.posicao, clubeId, valor)).id();
+                elenco.add(new Atleta(id, setor));
+            }
+        }
+        return elenco;
+    }
+
+    // Turno e returno pelo método do círculo: 19 rodadas de 10 jogos, depois as mesmas com mando invertido
+    private void temporada(int ano, Integer competicaoId, List<Integer> clubeIds, List<Integer> estadioIds,
+            Map<Integer, List<Atleta>> elencos) {
+        int n = clubeIds.size();
+        int[] roda = new int[n];
+        for (int i = 0; i < n; i++) {
+            roda[i] = i;
+        }
+        Map<Integer, int[]> somaCompeticao = new HashMap<>();
+        LocalDateTime inicio = LocalDateTime.of(ano, 4, 12, 16, 0);
+        for (int turno = 0; turno < 2; turno++) {
+            for (int rodada = 0; rodada < n - 1; rodada++) {
+                LocalDateTime data = inicio.plusWeeks(turno * (n - 1L) + rodada);
+                for (int jogo = 0; jogo < n / 2; jogo++) {
+                    int a = roda[jogo];
+                    int b = roda[n - 1 - jogo];
+                    boolean inverte = (rodada + jogo) % 2 == 1 ^ turno == 1;
+                    int mandante = inverte ? b : a;
+                    int visitante = inverte ? a : b;
+                    partida(competicaoId, clubeIds.get(mandante), clubeIds.get(visitante), estadioIds.get(mandante),
+                            data.plusHours(jogo % 4 * 2L), elencos, somaCompeticao);
+                }
+                // Gira todos menos o primeiro
+                int ultimo = roda[n - 1];
+                System.arraycopy(roda, 1, roda, 2, n - 2);
+                roda[1] = ultimo;
+            }
+        }
+        somaCompeticao.forEach((jogadorId, soma) -> estatisticasService.salvarEstatisticas(jogadorId, competicaoId,
+                new EstatisticasRequestDTO(soma[0], soma[1], soma[2])));
+    }
+
+    private void partida(Integer competicaoId, Integer mandanteId, Integer visitanteId, Integer estadioId,
+            LocalDateTime dataHora, Map<Integer, List<Atleta>> elencos, Map<Integer, int[]> somaCompeticao) {
+        int golsMandante = poisson(1.45);
+        int golsVisitante = poisson(1.05);
+        Integer partidaId = partidaService.criarPartida(new PartidaRequestDTO(mandanteId, visitanteId, estadioId,
+                competicaoId, FaseCompeticao.PONTOS_CORRIDOS, golsMandante, golsVisitante, dataHora)).id();
+
+        List<EstatisticaPartidaLoteItemDTO> sumula = new ArrayList<>();
+        sumula.addAll(sumula(elencos.get(mandanteId), golsMandante, golsVisitante, somaCompeticao));
+        sumula.addAll(sumula(elencos.get(visitanteId), golsVisitante, golsMandante, somaCompeticao));
+        estatisticaPartidaService.salvarSumula(partidaId, sumula);
+    }
+
+    private List<EstatisticaPartidaLoteItemDTO> sumula(List<Atleta> elenco, int golsPro, int golsContra,
+            Map<Integer, int[]> somaCompeticao) {
+        List<Linha> escalacao = escalacao(elenco);
+        int[] gols = new int[escalacao.size()];
+        int[] assistencias = new int[escalacao.size()];
+        for (int g = 0; g < golsPro; g++) {
+            int autor = sortear(escalacao, true, -1);
+            gols[autor]++;
+            if (aleatorio.nextInt(10) < 7) {
+                assistencias[sortear(escalacao, false, autor)]++;
+            }
+        }
+
+        List<EstatisticaPartidaLoteItemDTO> itens = new ArrayList<>(escalacao.size());
+        for (int i = 0; i < escalacao.size(); i++) {
+            Linha linha = escalacao.get(i);
+            boolean goleiro = linha.atleta().setor() == Setor.GOLEIRO;
+            int chutesAGol = gols[i] + (goleiro ? 0 : aleatorio.nextInt(3));
+            itens.add(new EstatisticaPartidaLoteItemDTO(linha.atleta().id(), new EstatisticaPartidaRequestDTO(
+                    linha.minutos(),
+                    aleatorio.nextInt(100) < 15,
+                    aleatorio.nextInt(100) < 1,
+                    linha.titular(),
+                    gols[i],
+                    assistencias[i],
+                    goleiro ? golsContra + aleatorio.nextInt(6) : null,
+                    chutesAGol + (goleiro ? 0 : aleatorio.nextInt(3)),
+                    chutesAGol,
+                    goleiro ? 0 : aleatorio.nextInt(linha.atleta().setor() == Setor.DEFESA ? 6 : 3))));
+            int[] soma = somaCompeticao.computeIfAbsent(linha.atleta().id(), k -> new int[3]);
+            soma[0] += gols[i];
+            soma[1] += assistencias[i];
+            soma[2]++;
+        }
+        return itens;
+    }
+
+    // Os titulares saem quase sempre dos primeiros do setor no elenco, como num time-base com rodízio
+    private List<Linha> escalacao(List<Atleta> elenco) {
+        List<Linha> escalacao = new ArrayList<>();
+        List<Atleta> banco = new ArrayList<>();
+        for (Setor setor : Setor.values()) {
+            List<Atleta> doSetor = new ArrayList<>(elenco.stream().filter(a -> a.setor() == setor).toList());
+            int titulares = TITULARES.get(setor);
+            for (int i = 0; i < titulares; i++) {
+                int escolhido = Math.min(doSetor.size() - 1, (int) Math.abs(aleatorio.nextGaussian() * 2));
+                Atleta atleta = doSetor.remove(escolhido);
+                boolean substituido = setor != Setor.GOLEIRO && aleatorio.nextInt(11) < 3;
+                escalacao.add(new Linha(atleta, true, substituido ? 60 + aleatorio.nextInt(25) : 90));
+            }
+            if (setor != Setor.GOLEIRO) {
+                banco.addAll(doSetor.subList(0, Math.min(4, doSetor.size())));
+            }
+        }
+        for (int i = 0; i < RESERVAS_EM_CAMPO && !banco.isEmpty(); i++) {
+            escalacao.add(new Linha(banco.remove(aleatorio.nextInt(banco.size())), false, 10 + aleatorio.nextInt(25)));
+        }
+        return escalacao;
+    }
+
+    // Posição na escalação sorteada pelo peso do setor (atacantes marcam mais, meias dão mais passes)
+    private int sortear(List<Linha> escalacao, boolean gol, int exceto) {
+        int total = 0;
+        for (int i = 0; i < escalacao.size(); i++) {
+            total += i == exceto ? 0 : peso(escalacao.get(i), gol);
+        }
+        int sorteio = aleatorio.nextInt(total);
+        for (int i = 0; i < escalacao.size(); i++) {
+            sorteio -= i == exceto ? 0 : peso(escalacao.get(i), gol);
+            if (sorteio < 0) {
+                return i;
+            }
+        }
+        return escalacao.size() - 1;
+    }
+
+    private static int peso(Linha linha, boolean gol) {
+        Setor setor = linha.atleta().setor();
+        int peso = gol ? setor.pesoGol : setor.pesoAssistencia;
+        return linha.titular() ? peso * 2 : peso;
+    }
+
+    private int poisson(double media) {
+        double limite = Math.exp(-media);
+        double produto = aleatorio.nextDouble();
+        int k = 0;
+        while (produto > limite) {
+            produto *= aleatorio.nextDouble();
+            k++;
+        }
+        return k;
+    }
+
+    private String palavra() {
+        StringBuilder sb = new StringBuilder();
+        int silabas = 2 + aleatorio.nextInt(2);
+        for (int i = 0; i < silabas; i++) {
+            sb.append(SILABAS[aleatorio.nextInt(SILABAS.length)]);
+        }
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+}
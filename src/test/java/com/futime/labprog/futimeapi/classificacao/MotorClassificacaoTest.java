@@ -0,0 +1,74 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+import com.futime.labprog.futimeapi.model.Clube;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.model.Partida;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class MotorClassificacaoTest {
+
+    private static final int BRASILEIRAO = 1;
+
+    @Mock
+    private PartidaRepository partidaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static Partida partida(Integer golsMandante, Integer golsVisitante) {
+        Competicao competicao = new Competicao();
+        competicao.setId(BRASILEIRAO);
+        Clube mandante = new Clube();
+        mandante.setId(10);
+        Clube visitante = new Clube();
+        visitante.setId(20);
+
+        Partida partida = new Partida();
+        partida.setCompeticao(competicao);
+        partida.setMandante(mandante);
+        partida.setVisitante(visitante);
+        partida.setFase(FaseCompeticao.PONTOS_CORRIDOS);
+        partida.setGolsMandante(golsMandante);
+        partida.setGolsVisitante(golsVisitante);
+        partida.setDataHora(LocalDateTime.now().plusDays(7));
+        return partida;
+    }
+
+    @Test
+    @DisplayName("Partida agendada (sem placar) não conta como empate; ao ser jogada, entra na tabela")
+    void deveIgnorarPartidaAgendada() {
+        MotorClassificacao motor = new MotorClassificacao(partidaRepository, transactionManager);
+        Partida agendada = partida(null, null);
+
+        assertNull(Placar.de(agendada));
+        motor.aoAlterarPlacar(new PlacarAlteradoEvent(null, Placar.de(agendada)));
+
+        List<LinhaClassificacao> antes = motor.classificacao(BRASILEIRAO, List.of(10, 20));
+        assertEquals(0, antes.get(0).jogos());
+        assertEquals(0, antes.get(0).pontos());
+        assertEquals(0, antes.get(1).pontos());
+
+        Partida jogada = partida(2, 1);
+        motor.aoAlterarPlacar(new PlacarAlteradoEvent(Placar.de(agendada), Placar.de(jogada)));
+
+        List<LinhaClassificacao> depois = motor.classificacao(BRASILEIRAO, List.of(10, 20));
+        assertEquals(10, depois.get(0).clubeId());
+        assertEquals(3, depois.get(0).pontos());
+        assertEquals(1, depois.get(0).jogos());
+        assertEquals(0, depois.get(1).pontos());
+        assertEquals(1, depois.get(1).jogos());
+    }
+}
@@ -0,0 +1,73 @@
+package com.futime.labprog.futimeapi.classificacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabelaClassificacaoTest {
+
+    private static final int BRASILEIRAO = 1;
+
+    private static Placar placar(int mandante, int visitante, int golsMandante, int golsVisitante) {
+        return new Placar(BRASILEIRAO, mandante, visitante, golsMandante, golsVisitante);
+    }
+
+    private static List<Integer> ordem(List<LinhaClassificacao> linhas) {
+        return linhas.stream().map(LinhaClassificacao::clubeId).toList();
+    }
+
+    @Test
+    @DisplayName("Soma pontos, vitórias e saldo e inclui inscritos que ainda não jogaram")
+    void deveMontarClassificacao() {
+        TabelaClassificacao tabela = new TabelaClassificacao();
+        tabela.aplicar(placar(10, 20, 3, 0), 1);
+        tabela.aplicar(placar(30, 10, 1, 1), 1);
+
+        List<LinhaClassificacao> linhas = tabela.linhas(List.of(10, 20, 30, 40));
+
+        assertEquals(List.of(10, 30, 40, 20), ordem(linhas));
+        LinhaClassificacao lider = linhas.get(0);
+        assertEquals(4, lider.pontos());
+        assertEquals(2, lider.jogos());
+        assertEquals(1, lider.vitorias());
+        assertEquals(1, lider.empates());
+        assertEquals(3, lider.saldo());
+        assertEquals(0, linhas.get(2).jogos());
+    }
+
+    @Test
+    @DisplayName("Remover o placar antigo e aplicar o novo equivale a recalcular")
+    void deveAplicarDeltaDeAlteracaoERemocao() {
+        TabelaClassificacao tabela = new TabelaClassificacao();
+        tabela.aplicar(placar(10, 20, 2, 0), 1);
+        tabela.aplicar(placar(20, 30, 1, 0), 1);
+
+        // Partida 10 x 20 corrigida para 0 x 1
+        tabela.aplicar(placar(10, 20, 2, 0), -1);
+        tabela.aplicar(placar(10, 20, 0, 1), 1);
+
+        List<LinhaClassificacao> linhas = tabela.linhas(List.of());
+        assertEquals(List.of(20, 10, 30), ordem(linhas));
+        assertEquals(6, linhas.get(0).pontos());
+
+        // Partida 20 x 30 excluída: o 30 some da tabela por não ter mais jogos nem inscrição
+        tabela.aplicar(placar(20, 30, 1, 0), -1);
+        assertEquals(List.of(20, 10), ordem(tabela.linhas(List.of())));
+    }
+
+    @Test
+    @DisplayName("Empate em pontos, vitórias, saldo e gols é decidido no confronto direto")
+    void deveDesempatarPeloConfrontoDireto() {
+        TabelaClassificacao tabela = new TabelaClassificacao();
+        // 10 e 20 terminam com 3 pontos, 1 vitória, saldo 0 e 2 gols; o 20 venceu o confronto direto
+        tabela.aplicar(placar(10, 20, 1, 2), 1);
+        tabela.aplicar(placar(10, 30, 1, 0), 1);
+        tabela.aplicar(placar(20, 40, 0, 1), 1);
+
+        // 40 à frente pelo saldo; 30 por último
+        assertEquals(List.of(40, 20, 10, 30), ordem(tabela.linhas(List.of())));
+    }
+}
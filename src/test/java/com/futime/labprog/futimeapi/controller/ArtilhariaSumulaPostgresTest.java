@@ -0,0 +1,118 @@
+package com.futime.labprog.futimeapi.controller;
+
+import com.futime.labprog.futimeapi.BancoPostgresTest;
+import com.futime.labprog.futimeapi.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Súmula de ponta a ponta: POST /partidas/{id}/estatisticas numa partida de competição aparece em
+ * GET /competicoes/{id}/artilharia, inclusive com o top-K da competição já carregado em memória.
+ */
+@AutoConfigureMockMvc
+class ArtilhariaSumulaPostgresTest extends BancoPostgresTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Integer competicaoId;
+    private Integer partidaId;
+    private Integer pedro;
+    private Integer arrascaeta;
+
+    @BeforeEach
+    void criarPartida() {
+        competicaoId = jdbc.queryForObject("insert into competicoes (nome, pais, continente, tipo_competicao, "
+                + "temporada, created_at) values ('Carioca', 'Brasil', 'América do Sul', 'PONTOS_CORRIDOS', "
+                + "'2025', now()) returning id", Integer.class);
+        Integer estadio = jdbc.queryForObject("insert into estadios (nome, cidade, pais) "
+                + "values ('Maracanã', 'Rio de Janeiro', 'BRA') returning id", Integer.class);
+        Integer mandante = jdbc.queryForObject("insert into clubes (nome, sigla, estadio_id) "
+                + "values ('Flamengo', 'FLA', ?) returning id", Integer.class, estadio);
+        Integer visitante = jdbc.queryForObject("insert into clubes (nome, sigla, estadio_id) "
+                + "values ('Vasco', 'VAS', ?) returning id", Integer.class, estadio);
+        partidaId = jdbc.queryForObject("insert into partidas (clube_mandante_id, clube_visitante_id, estadio_id, "
+                + "competicao_id, fase, gols_mandante, gols_visitante, data_hora, created_at) "
+                + "values (?, ?, ?, ?, 'PONTOS_CORRIDOS', 3, 0, now(), now()) returning id",
+                Integer.class, mandante, visitante, estadio, competicaoId);
+        pedro = jogador("Pedro Guilherme", "Pedro");
+        arrascaeta = jogador("Giorgian de Arrascaeta", "Arrascaeta");
+    }
+
+    private Integer jogador(String nome, String apelido) {
+        return jdbc.queryForObject("insert into jogadores (nome_completo, apelido, posicao) "
+                + "values (?, ?, 'Atacante') returning id", Integer.class, nome, apelido);
+    }
+
+    private void enviarSumula(int golsPedro, int golsArrascaeta, int assistenciasArrascaeta) throws Exception {
+        String corpo = """
+                {"jogadores": [
+                  {"jogadorId": %d, "estatisticas": {"minutosJogados": 90, "titular": true, "gols": %d,
+                   "assistencias": 0, "finalizacoes": 4, "chutesAGol": 3, "desarmes": 0}},
+                  {"jogadorId": %d, "estatisticas": {"minutosJogados": 90, "titular": true, "gols": %d,
+                   "assistencias": %d, "finalizacoes": 2, "chutesAGol": 1, "desarmes": 1}}
+                ]}
+                """.formatted(pedro, golsPedro, arrascaeta, golsArrascaeta, assistenciasArrascaeta);
+        String token = tokenService.emitir(1, "sumula@futime.com").token();
+        mockMvc.perform(post("/partidas/{id}/estatisticas", partidaId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Gols da súmula entram na artilharia e uma correção da súmula substitui os anteriores")
+    void deveLevarSumulaParaArtilharia() throws Exception {
+        // Carrega o top-K (vazio) antes da súmula: a partir daí ele só muda pelos eventos
+        mockMvc.perform(get("/competicoes/{id}/artilharia", competicaoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(0));
+
+        enviarSumula(2, 1, 1);
+
+        mockMvc.perform(get("/competicoes/{id}/artilharia", competicaoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].jogadorId").value(pedro))
+                .andExpect(jsonPath("$.itens[0].valor").value(2))
+                .andExpect(jsonPath("$.itens[1].jogadorId").value(arrascaeta))
+                .andExpect(jsonPath("$.itens[1].valor").value(1));
+        mockMvc.perform(get("/competicoes/{id}/assistencias", competicaoId))
+                .andExpect(jsonPath("$.itens[0].jogadorId").value(arrascaeta))
+                .andExpect(jsonPath("$.itens[0].valor").value(1));
+
+        // Reenvio corrigido: Arrascaeta fez o terceiro gol, não Pedro
+        enviarSumula(1, 2, 1);
+
+        mockMvc.perform(get("/competicoes/{id}/artilharia", competicaoId))
+                .andExpect(jsonPath("$.itens[0].jogadorId").value(arrascaeta))
+                .andExpect(jsonPath("$.itens[0].valor").value(2))
+                .andExpect(jsonPath("$.itens[1].jogadorId").value(pedro))
+                .andExpect(jsonPath("$.itens[1].valor").value(1));
+        // Os totais de carreira acompanham a linha da competição
+        assertEquals(2, jdbc.queryForObject("select gols_totais from jogadores where id = ?", Integer.class,
+                arrascaeta));
+        assertEquals(1, jdbc.queryForObject("select jogos_disputados from jogador_estatisticas_competicao "
+                + "where jogador_id = ? and competicao_id = ?", Integer.class, arrascaeta, competicaoId));
+    }
+}
@@ -0,0 +1,132 @@
+package com.futime.labprog.futimeapi.controller;
+
+import com.futime.labprog.futimeapi.dto.ClubeRequestDTO;
+import com.futime.labprog.futimeapi.dto.EstadioRequestDTO;
+import com.futime.labprog.futimeapi.dto.PartidaRequestDTO;
+import com.futime.labprog.futimeapi.model.FaseCompeticao;
+import com.futime.labprog.futimeapi.service.ClubeService;
+import com.futime.labprog.futimeapi.service.EstadioService;
+import com.futime.labprog.futimeapi.service.PartidaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET condicional de ponta a ponta (controller, RespostaCondicional e VersaoRecursoServiceImpl):
+ * 200 com ETag, 304 com If-None-Match, e 200 de novo quando o recurso muda.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RespostaCondicionalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EstadioService estadioService;
+
+    @Autowired
+    private ClubeService clubeService;
+
+    @Autowired
+    private PartidaService partidaService;
+
+    private Integer estadioId;
+    private Integer mandanteId;
+    private Integer visitanteId;
+
+    @BeforeEach
+    void criarClubes() {
+        estadioId = estadioService.criarEstadio(new EstadioRequestDTO("Maracanã", "Rio de Janeiro", "BRA")).id();
+        mandanteId = clubeService.criarClube(new ClubeRequestDTO("Flamengo", "FLA", "Rio de Janeiro", "Brasil",
+                estadioId)).id();
+        visitanteId = clubeService.criarClube(new ClubeRequestDTO("Fluminense", "FLU", "Rio de Janeiro", "Brasil",
+                estadioId)).id();
+    }
+
+    private PartidaRequestDTO partida(Integer golsMandante, Integer golsVisitante) {
+        return new PartidaRequestDTO(mandanteId, visitanteId, estadioId, null, FaseCompeticao.PONTOS_CORRIDOS,
+                golsMandante, golsVisitante, LocalDateTime.of(2025, 4, 6, 16, 0));
+    }
+
+    private String etag(String caminho) throws Exception {
+        String etag = mockMvc.perform(get(caminho))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        return etag;
+    }
+
+    @Test
+    @DisplayName("Partida: 200, 304 com o mesmo ETag e 200 depois de alterada")
+    void deveRevalidarPartidaAlterada() throws Exception {
+        Integer id = partidaService.criarPartida(partida(1, 0)).id();
+        String caminho = "/partidas/" + id;
+        String antes = etag(caminho);
+
+        partidaService.atualizarPartida(id, partida(2, 2));
+
+        String depois = mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, antes))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(antes, depois);
+    }
+
+    @Test
+    @DisplayName("Partida removida: o ETag antigo não dá 304, a resposta é 404")
+    void deveResponder404AposRemocao() throws Exception {
+        Integer id = partidaService.criarPartida(partida(1, 0)).id();
+        String caminho = "/partidas/" + id;
+        String antes = etag(caminho);
+
+        partidaService.deletarPartida(id);
+
+        mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, antes))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Listagem: 200, 304 com o mesmo ETag e 200 depois de uma remoção")
+    void deveRevalidarListagemAposRemocao() throws Exception {
+        partidaService.criarPartida(partida(1, 0));
+        Integer removida = partidaService.criarPartida(partida(0, 3)).id();
+        String caminho = "/partidas?limit=100";
+        String antes = etag(caminho);
+
+        partidaService.deletarPartida(removida);
+
+        // Sem Last-Modified: a remoção não mexe no max(updated_at), então só o ETag valida a listagem
+        mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, antes))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ETAG, not(antes)));
+    }
+
+    @Test
+    @DisplayName("Listagem: 200 de novo depois de uma alteração")
+    void deveRevalidarListagemAposAlteracao() throws Exception {
+        Integer id = partidaService.criarPartida(partida(1, 0)).id();
+        String caminho = "/partidas?limit=100";
+        String antes = etag(caminho);
+
+        partidaService.atualizarPartida(id, partida(1, 1));
+
+        mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, antes))
+                .andExpect(status().isOk());
+    }
+}
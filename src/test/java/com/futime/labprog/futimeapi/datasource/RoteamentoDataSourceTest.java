@@ -0,0 +1,136 @@
+package com.futime.labprog.futimeapi.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Dois bancos H2 embutidos fazem o papel de primário e réplica; cada um tem uma linha dizendo
+ * quem é, então a consulta mostra para onde a conexão foi.
+ */
+class RoteamentoDataSourceTest {
+
+    private EmbeddedDatabase primario;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void setUp() {
+        primario = banco("primario");
+        replica = banco("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primario.shutdown();
+        replica.shutdown();
+    }
+
+    private static EmbeddedDatabase banco(String nome) {
+        EmbeddedDatabase banco = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                .setName(nome).generateUniqueName(true).build();
+        JdbcTemplate jdbc = new JdbcTemplate(banco);
+        jdbc.execute("create table origem (nome varchar(20))");
+        jdbc.update("insert into origem values (?)", nome);
+        return banco;
+    }
+
+    private void montar(MonitorAtrasoReplica monitor) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(new EscritasRecentes(Duration.ofMinutes(1), 100),
+                monitor);
+        roteamento.setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(roteamento);
+
+        DataSourceTransactionManager transacoes = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transacoes);
+        leitura = new TransactionTemplate(transacoes);
+        leitura.setReadOnly(true);
+        leitura.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private String origem() {
+        return jdbc.queryForObject("select nome from origem", String.class);
+    }
+
+    @Test
+    @DisplayName("Transação somente leitura vai para a réplica; escrita e fora de transação, para o primário")
+    void deveRotearPeloReadOnly() {
+        montar(new MonitorAtrasoReplica(replica, null, Duration.ofSeconds(2)));
+
+        assertEquals("replica", leitura.execute(status -> origem()));
+        assertEquals("primario", escrita.execute(status -> origem()));
+        assertEquals("primario", origem());
+    }
+
+    @Test
+    @DisplayName("Depois de escrever, o usuário lê do primário; os outros continuam na réplica")
+    void deveLerAsPropriasEscritas() {
+        montar(new MonitorAtrasoReplica(replica, null, Duration.ofSeconds(2)));
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("ana@futime.com", null, List.of()));
+        assertEquals("replica", leitura.execute(status -> origem()));
+        escrita.executeWithoutResult(status -> jdbc.update("insert into origem values ('nova')"));
+        assertEquals("primario", leitura.execute(status -> origem()));
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("bia@futime.com", null, List.of()));
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    @DisplayName("Releitura logo após o commit (listener AFTER_COMMIT) vai para o primário, mesmo anônima")
+    void deveRelerDoPrimarioAposCommit() {
+        montar(new MonitorAtrasoReplica(replica, null, Duration.ofSeconds(2)));
+        AtomicReference<String> relida = new AtomicReference<>();
+
+        escrita.executeWithoutResult(status -> {
+            jdbc.update("update origem set nome = 'primario'");
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    relida.set(leitura.execute(s -> origem()));
+                }
+            });
+        });
+
+        assertEquals("primario", relida.get());
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    @DisplayName("Réplica com atraso acima do tolerado: leituras voltam ao primário")
+    void deveEvitarReplicaAtrasada() {
+        MonitorAtrasoReplica monitor = new MonitorAtrasoReplica(replica, "select 30", Duration.ofSeconds(2));
+        montar(monitor);
+
+        monitor.verificar();
+
+        assertEquals("primario", leitura.execute(status -> origem()));
+    }
+}
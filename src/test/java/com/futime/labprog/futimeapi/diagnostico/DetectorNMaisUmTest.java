@@ -0,0 +1,91 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DetectorNMaisUmTest {
+
+    private static final String CLUBE_POR_ID = "select c1_0.id,c1_0.nome from clubes c1_0 where c1_0.id=?";
+
+    // Limite de 3 repetições por forma e orçamento de 10 comandos por requisição
+    private final DetectorNMaisUm detector = new DetectorNMaisUm(3, 10);
+
+    @AfterEach
+    void encerrar() {
+        ConsultasRequisicao.encerrar();
+    }
+
+    private ConsultasRequisicao.Contagem requisicao(List<String> comandos) {
+        ConsultasRequisicao.iniciar();
+        comandos.forEach(detector::inspect);
+        return ConsultasRequisicao.encerrar();
+    }
+
+    @Test
+    @DisplayName("Literais de texto e números viram ? e a caixa e os espaços são padronizados")
+    void deveNormalizarLiterais() {
+        assertEquals("select * from jogadores where apelido = ? and clube_id = ? and valor > ?",
+                DetectorNMaisUm.normalizar("SELECT *  FROM jogadores\n WHERE apelido = 'D''Alessandro' "
+                        + "AND clube_id = 12 AND valor > 1.5"));
+        // Números dentro de identificadores (aliases do Hibernate) continuam como estão
+        assertEquals("select c1_0.id from clubes c1_0 where c1_0.id=?",
+                DetectorNMaisUm.normalizar("select c1_0.id from clubes c1_0 where c1_0.id=7"));
+    }
+
+    @Test
+    @DisplayName("Listas IN de qualquer tamanho têm a mesma forma")
+    void deveNormalizarListasIn() {
+        String forma = "select * from jogadores where id in (?)";
+
+        assertEquals(forma, DetectorNMaisUm.normalizar("select * from jogadores where id in (?)"));
+        assertEquals(forma, DetectorNMaisUm.normalizar("select * from jogadores where id in (?, ?, ?)"));
+        assertEquals(forma, DetectorNMaisUm.normalizar("select * from jogadores where id IN (1,2,3,4)"));
+    }
+
+    @Test
+    @DisplayName("Só as formas acima do limite são repetidas, da mais para a menos frequente")
+    void deveApontarFormasRepetidas() {
+        String estadioPorId = "select e1_0.id from estadios e1_0 where e1_0.id=?";
+        List<String> comandos = new ArrayList<>(Collections.nCopies(5, CLUBE_POR_ID));
+        comandos.addAll(Collections.nCopies(4, estadioPorId));
+
+        List<Map.Entry<String, Integer>> repetidas = detector.repetidas(requisicao(comandos));
+
+        assertEquals(List.of(Map.entry(DetectorNMaisUm.normalizar(CLUBE_POR_ID), 5),
+                Map.entry(DetectorNMaisUm.normalizar(estadioPorId), 4)), repetidas);
+        assertTrue(detector.repetidas(requisicao(Collections.nCopies(3, CLUBE_POR_ID))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("O orçamento conta todos os comandos da requisição, de qualquer forma")
+    void deveDetectarOrcamentoEstourado() {
+        List<String> onzeFormas = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            onzeFormas.add("select * from tabela" + i);
+        }
+
+        ConsultasRequisicao.Contagem dez = requisicao(Collections.nCopies(10, CLUBE_POR_ID));
+        ConsultasRequisicao.Contagem acima = requisicao(onzeFormas);
+
+        assertEquals(10, detector.total(dez));
+        assertFalse(detector.estourouOrcamento(dez));
+        assertTrue(detector.estourouOrcamento(acima));
+        assertTrue(detector.repetidas(acima).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Fora de uma requisição nada é contado")
+    void naoDeveContarForaDeRequisicao() {
+        detector.inspect(CLUBE_POR_ID);
+
+        assertTrue(ConsultasRequisicao.encerrar().formas().isEmpty());
+    }
+}
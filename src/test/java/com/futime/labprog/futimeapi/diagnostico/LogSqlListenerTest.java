@@ -0,0 +1,119 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSqlListenerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("futime.sql");
+    private final ListAppender<ILoggingEvent> registros = new ListAppender<>();
+    private Level nivelAnterior;
+
+    @BeforeEach
+    void capturarLog() {
+        nivelAnterior = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        registros.start();
+        logger.addAppender(registros);
+    }
+
+    @AfterEach
+    void soltarLog() {
+        logger.detachAppender(registros);
+        logger.setLevel(nivelAnterior);
+    }
+
+    private static ExecutionInfo execucao(long ms) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(ms);
+        info.setSuccess(true);
+        return info;
+    }
+
+    private static QueryInfo consulta(String sql, Object... valores) throws NoSuchMethodException {
+        QueryInfo info = new QueryInfo(sql);
+        List<ParameterSetOperation> parametros = new ArrayList<>();
+        for (int i = 0; i < valores.length; i++) {
+            parametros.add(valores[i] instanceof Integer
+                    ? new ParameterSetOperation(PreparedStatement.class.getMethod("setInt", int.class, int.class),
+                            new Object[]{i + 1, valores[i]})
+                    : new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                            new Object[]{i + 1, valores[i]}));
+        }
+        info.getParametersList().add(parametros);
+        return info;
+    }
+
+    private void executar(LogSqlListener listener, long ms, QueryInfo consulta) {
+        listener.afterQuery(execucao(ms), List.of(consulta));
+    }
+
+    @Test
+    @DisplayName("Comando acima do limite sai como WARN mesmo sem amostragem")
+    void deveRegistrarComandoLento() throws Exception {
+        LogSqlListener listener = new LogSqlListener(Duration.ofMillis(200), 0);
+
+        executar(listener, 199, consulta("select * from clubes where id=?", 7));
+        executar(listener, 200, consulta("select * from clubes where id=?", 8));
+
+        assertEquals(1, registros.list.size());
+        ILoggingEvent evento = registros.list.get(0);
+        assertEquals(Level.WARN, evento.getLevel());
+        assertTrue(evento.getFormattedMessage().startsWith("lento 200 ms [none]"));
+        assertTrue(evento.getFormattedMessage().endsWith("select * from clubes where id=? [8]"));
+    }
+
+    @Test
+    @DisplayName("Amostragem 0 não registra os rápidos e 1 registra todos")
+    void deveAmostrarComandosRapidos() throws Exception {
+        QueryInfo rapida = consulta("select * from clubes where id=?", 7);
+
+        LogSqlListener nenhum = new LogSqlListener(Duration.ofMillis(200), 0);
+        for (int i = 0; i < 100; i++) {
+            executar(nenhum, 1, rapida);
+        }
+        assertTrue(registros.list.isEmpty());
+
+        LogSqlListener todos = new LogSqlListener(Duration.ofMillis(200), 1);
+        for (int i = 0; i < 100; i++) {
+            executar(todos, 1, rapida);
+        }
+        assertEquals(100, registros.list.size());
+        assertTrue(registros.list.stream().allMatch(e -> e.getLevel() == Level.INFO));
+    }
+
+    @Test
+    @DisplayName("Parâmetros de comandos com usuarios, senha ou email saem só com o tipo")
+    void deveOcultarDadosDeUsuario() throws Exception {
+        LogSqlListener listener = new LogSqlListener(Duration.ofMillis(200), 1);
+
+        executar(listener, 1, consulta("insert into usuarios (email,nome,senha) values (?,?,?)",
+                "ana@futime.com", "Ana", "$2a$10$abcdefghijklmnopqrstuv"));
+        executar(listener, 1, consulta("select u1_0.id from usuarios u1_0 where u1_0.email=?", "ana@futime.com"));
+        executar(listener, 1, consulta("select j1_0.id from jogadores j1_0 where j1_0.apelido=? and j1_0.clube_id=?",
+                "Arrascaeta", 3));
+
+        List<String> mensagens = registros.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertTrue(mensagens.get(0).endsWith("[<String>, <String>, <String>]"));
+        assertTrue(mensagens.get(1).endsWith("[<String>]"));
+        assertTrue(mensagens.get(2).endsWith("[Arrascaeta, 3]"));
+        assertTrue(mensagens.stream().noneMatch(m -> m.contains("ana@futime.com") || m.contains("$2a$")));
+    }
+}
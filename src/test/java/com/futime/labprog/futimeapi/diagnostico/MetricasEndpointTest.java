@@ -0,0 +1,74 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Métricas por endpoint com a aplicação inteira: filtro, datasource-proxy, convenção do
+ * http.server.requests e MetodoControlador juntos. O contexto é compartilhado com outros testes,
+ * então as contagens são comparadas com as de antes da requisição.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricasEndpointTest {
+
+    private static final String METODO = "PartidaController.listarTodos";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private long requisicoes() {
+        Timer timer = registry.find("http.server.requests").tag("metodo", METODO).tag("uri", "/partidas")
+                .tag("status", "200").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private long comandos() {
+        DistributionSummary summary = registry.find("futime.requisicao.sql.comandos").tag("metodo", METODO).summary();
+        return summary != null ? summary.count() : 0;
+    }
+
+    private long selects() {
+        Timer timer = registry.find("futime.sql").tag("tipo", "select").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    @Test
+    @DisplayName("GET /partidas gera latência, comandos SQL e tempo de banco com a tag do método")
+    void deveRegistrarMetricasDoEndpoint() throws Exception {
+        long requisicoesAntes = requisicoes();
+        long comandosAntes = comandos();
+        long selectsAntes = selects();
+
+        mockMvc.perform(get("/partidas")).andExpect(status().isOk());
+
+        assertEquals(requisicoesAntes + 1, requisicoes());
+        assertEquals(comandosAntes + 1, comandos());
+        assertTrue(registry.get("futime.requisicao.sql.comandos").tag("metodo", METODO).summary().max() >= 1);
+        assertTrue(registry.get("futime.requisicao.sql.tempo").tag("metodo", METODO).timer().count() >= 1);
+        assertTrue(selects() > selectsAntes);
+    }
+
+    @Test
+    @DisplayName("Rota sem controller entra nas métricas com o método none")
+    void deveMarcarRotaSemControllerComoNone() throws Exception {
+        mockMvc.perform(get("/actuator/nao-existe"));
+
+        assertNotNull(registry.find("futime.requisicao.sql.comandos").tag("metodo", MetodoControlador.NENHUM)
+                .summary());
+    }
+}
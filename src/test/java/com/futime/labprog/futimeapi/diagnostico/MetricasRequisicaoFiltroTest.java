@@ -0,0 +1,105 @@
+package com.futime.labprog.futimeapi.diagnostico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasRequisicaoFiltroTest {
+
+    private static final String CLUBE_POR_ID = "select c1_0.id,c1_0.nome from clubes c1_0 where c1_0.id=?";
+    private static final String METODO = "JogadorController.listarTodos";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // Limite de 3 repetições por forma e orçamento de 10 comandos por requisição
+    private final DetectorNMaisUm detector = new DetectorNMaisUm(3, 10);
+    private final MetricasRequisicaoFiltro filtro = new MetricasRequisicaoFiltro(registry, detector);
+
+    // Só para dar nome ao handler, como o DispatcherServlet faria
+    static class JogadorController {
+        public void listarTodos() {
+        }
+    }
+
+    private static MockHttpServletRequest requisicaoMapeada() throws NoSuchMethodException {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("GET", "/jogadores");
+        requisicao.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new JogadorController(), JogadorController.class.getMethod("listarTodos")));
+        return requisicao;
+    }
+
+    // Simula o Hibernate (StatementInspector) e o datasource-proxy executando os comandos dentro da requisição
+    private void executar(MockHttpServletRequest requisicao, String... comandos) throws Exception {
+        FilterChain cadeia = (req, res) -> {
+            for (String sql : comandos) {
+                detector.inspect(sql);
+                ConsultasRequisicao.registrar(TimeUnit.MILLISECONDS.toNanos(2));
+            }
+        };
+        filtro.doFilter(requisicao, new MockHttpServletResponse(), cadeia);
+    }
+
+    private Counter contador(String nome) {
+        return registry.find(nome).tag("metodo", METODO).counter();
+    }
+
+    @Test
+    @DisplayName("Comandos e tempo de banco saem por método de controller")
+    void deveMedirComandosPorMetodo() throws Exception {
+        executar(requisicaoMapeada(), CLUBE_POR_ID, CLUBE_POR_ID);
+
+        DistributionSummary comandos = registry.get("futime.requisicao.sql.comandos").tag("metodo", METODO).summary();
+        assertEquals(1, comandos.count());
+        assertEquals(2, comandos.totalAmount());
+        assertEquals(4, registry.get("futime.requisicao.sql.tempo").tag("metodo", METODO).timer()
+                .totalTime(TimeUnit.MILLISECONDS));
+        assertNull(contador("futime.sql.n-mais-um"));
+        assertNull(contador("futime.sql.orcamento.estourado"));
+        assertNull(ConsultasRequisicao.atual());
+    }
+
+    @Test
+    @DisplayName("Forma repetida além do limite conta como N+1 no método")
+    void deveContarNMaisUm() throws Exception {
+        executar(requisicaoMapeada(), CLUBE_POR_ID, CLUBE_POR_ID, CLUBE_POR_ID);
+        assertNull(contador("futime.sql.n-mais-um"));
+
+        executar(requisicaoMapeada(), CLUBE_POR_ID, CLUBE_POR_ID, CLUBE_POR_ID, CLUBE_POR_ID);
+        executar(requisicaoMapeada(), CLUBE_POR_ID, CLUBE_POR_ID, CLUBE_POR_ID, CLUBE_POR_ID);
+
+        assertEquals(2, contador("futime.sql.n-mais-um").count());
+    }
+
+    @Test
+    @DisplayName("Requisição acima do orçamento conta mesmo sem forma repetida")
+    void deveContarOrcamentoEstourado() throws Exception {
+        String[] comandos = new String[11];
+        for (int i = 0; i < comandos.length; i++) {
+            comandos[i] = "select * from tabela" + i;
+        }
+
+        executar(requisicaoMapeada(), comandos);
+
+        assertEquals(1, contador("futime.sql.orcamento.estourado").count());
+        assertNull(contador("futime.sql.n-mais-um"));
+    }
+
+    @Test
+    @DisplayName("Requisição sem controller fica com o método none")
+    void deveUsarNoneSemController() throws Exception {
+        executar(new MockHttpServletRequest("GET", "/nao-existe"), CLUBE_POR_ID);
+
+        assertEquals(1, registry.get("futime.requisicao.sql.comandos").tag("metodo", MetodoControlador.NENHUM)
+                .summary().count());
+    }
+}
@@ -0,0 +1,117 @@
+package com.futime.labprog.futimeapi.migracao;
+
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * As migrações contra um PostgreSQL de verdade, no caminho do banco de produção: o esquema da V1
+ * já existe (criado pelo antigo ddl-auto=update, com dados e sem histórico do Flyway), a V1 vira
+ * baseline e as demais rodam na subida. O contexto só carrega se o ddl-auto=validate aceitar o
+ * resultado; depois, confere o preenchimento dos agregados e a troca dos IDs por sequências.
+ *
+ * Precisa de Docker; sem ele o teste é ignorado.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class MigracoesPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private JogadorRepository jogadorRepository;
+
+    // Roda depois de o container subir e antes do contexto do Spring (e do Flyway)
+    @BeforeAll
+    static void criarBancoAntigo() throws Exception {
+        String v1 = new ClassPathResource("db/migration/V1__esquema_inicial.sql").getContentAsString(StandardCharsets.UTF_8);
+        try (Connection conexao = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+                Statement sql = conexao.createStatement()) {
+            sql.execute(v1);
+            sql.execute("INSERT INTO estadios (nome, cidade, pais) VALUES ('Maracanã', 'Rio de Janeiro', 'BRA')");
+            sql.execute("INSERT INTO clubes (nome, sigla, cidade, pais, estadio_id) VALUES ('Flamengo', 'FLA', "
+                    + "'Rio de Janeiro', 'BRA', 1)");
+            sql.execute("INSERT INTO competicoes (nome, pais, continente, tipo_competicao, temporada, created_at) "
+                    + "VALUES ('Brasileirão', 'Brasil', 'América do Sul', 'PONTOS_CORRIDOS', '2024', now()), "
+                    + "('Copa do Brasil', 'Brasil', 'América do Sul', 'MATA_MATA', '2024', now())");
+            sql.execute("INSERT INTO jogadores (nome_completo, posicao, clube_id) VALUES ('Pedro Guilherme', "
+                    + "'Atacante', 1), ('Sem Estatística', 'Goleiro', 1)");
+            sql.execute("INSERT INTO jogador_estatisticas_competicao (jogador_id, competicao_id, gols, assistencias, "
+                    + "jogos_disputados) VALUES (1, 1, 12, 4, 30), (1, 2, 3, 1, 6)");
+            sql.execute("INSERT INTO partidas (clube_mandante_id, clube_visitante_id, estadio_id, fase, gols_mandante, "
+                    + "gols_visitante, data_hora, created_at) VALUES (1, 1, 1, 'PONTOS_CORRIDOS', 2, 1, now(), now())");
+        }
+    }
+
+    @Test
+    void devePreencherAgregadosDoBancoExistente() {
+        Map<String, Object> pedro = jdbc.queryForMap(
+                "SELECT gols_totais, assistencias_totais, updated_at FROM jogadores WHERE id = 1");
+        assertEquals(15, pedro.get("gols_totais"));
+        assertEquals(5, pedro.get("assistencias_totais"));
+        assertNotNull(pedro.get("updated_at"));
+
+        assertEquals(0, jdbc.queryForObject("SELECT gols_totais FROM jogadores WHERE id = 2", Integer.class));
+
+        Map<String, Object> temporada = jdbc.queryForMap(
+                "SELECT gols, assistencias, registros FROM jogador_estatisticas_temporada "
+                        + "WHERE jogador_id = 1 AND temporada = '2024'");
+        assertEquals(15, temporada.get("gols"));
+        assertEquals(5, temporada.get("assistencias"));
+        assertEquals(2, temporada.get("registros"));
+    }
+
+    @Test
+    void deveGerarIdsPelaSequenciaSemColidirComOsExistentes() {
+        Jogador novo = new Jogador("Novo Jogador", null, null, "Meia", null);
+        Integer id = jogadorRepository.saveAndFlush(novo).getId();
+        assertTrue(id > 2, "ID da sequência colidiu com um existente: " + id);
+
+        // Inserção sem ID, como nos scripts Python: o DEFAULT nextval da sequência continua valendo
+        Integer idPartida = jdbc.queryForObject("INSERT INTO partidas (clube_mandante_id, clube_visitante_id, "
+                + "estadio_id, fase, gols_mandante, gols_visitante, data_hora, created_at) "
+                + "VALUES (1, 1, 1, 'FINAL', 0, 0, now(), now()) RETURNING id", Integer.class);
+        assertTrue(idPartida > 1, "ID da sequência colidiu com um existente: " + idPartida);
+    }
+
+    @Test
+    void deveRegistrarV1ComoBaselineEAplicarAsDemais() {
+        assertEquals("BASELINE", jdbc.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class));
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success", Integer.class));
+    }
+}
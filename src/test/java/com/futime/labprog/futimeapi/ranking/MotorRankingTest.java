@@ -0,0 +1,128 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstatisticasJogadorCompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Páginas do ranking seguindo o cursor, dentro do top-K em memória e além dele (keyset no H2),
+ * com muitos empates. Sem a transação do @DataJpaTest: o motor lê em transações próprias, que só
+ * enxergam o que já foi commitado.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MotorRankingTest {
+
+    // Mais que a capacidade do top-K, para as últimas páginas irem ao banco
+    private static final int JOGADORES = MotorRanking.CAPACIDADE + 30;
+
+    @Autowired
+    private EstatisticasJogadorCompeticaoRepository estatisticasRepository;
+
+    @Autowired
+    private JogadorRepository jogadorRepository;
+
+    @Autowired
+    private CompeticaoRepository competicaoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MotorRanking motor;
+    private Integer competicaoId;
+    private List<EstatisticasJogadorCompeticao> estatisticas;
+
+    @BeforeEach
+    void popularBanco() {
+        motor = new MotorRanking(estatisticasRepository, transactionManager);
+        Competicao competicao = competicaoRepository.save(new Competicao("Brasileirão", "Brasil", "América do Sul",
+                TipoCompeticao.PONTOS_CORRIDOS, "2025"));
+        competicaoId = competicao.getId();
+
+        estatisticas = new ArrayList<>();
+        for (int i = 0; i < JOGADORES; i++) {
+            Jogador jogador = jogadorRepository.save(new Jogador("Jogador " + i, "J" + i, null, "Atacante", null));
+            EstatisticasJogadorCompeticao estatistica = new EstatisticasJogadorCompeticao();
+            estatistica.setJogador(jogador);
+            estatistica.setCompeticao(competicao);
+            // Poucos valores distintos: empates longos, inclusive atravessando as páginas
+            estatistica.setGols(i % 13);
+            estatistica.setAssistencias(i % 7);
+            estatistica.setJogosDisputados(1);
+            estatisticas.add(estatistica);
+        }
+        estatisticasRepository.saveAll(estatisticas);
+    }
+
+    @AfterEach
+    void limparBanco() {
+        estatisticasRepository.deleteAll();
+        jogadorRepository.deleteAll();
+        competicaoRepository.deleteAll();
+    }
+
+    /** Todas as posições, na ordem das páginas, seguindo o cursor até o fim. */
+    private List<PosicaoRanking> percorrer(MetricaRanking metrica, int limite) {
+        List<PosicaoRanking> todas = new ArrayList<>();
+        CursorRanking cursor = CursorRanking.INICIO;
+        while (true) {
+            List<PosicaoRanking> pagina = motor.pagina(competicaoId, metrica, cursor, limite);
+            todas.addAll(pagina);
+            if (pagina.size() < limite) {
+                return todas;
+            }
+            cursor = CursorRanking.depoisDe(pagina.get(pagina.size() - 1).entrada());
+            assertTrue(todas.size() <= JOGADORES, "O cursor não avançou");
+        }
+    }
+
+    private void assertRanking(MetricaRanking metrica, ToIntFunction<EstatisticasJogadorCompeticao> valor) {
+        List<EstatisticasJogadorCompeticao> esperado = estatisticas.stream()
+                .sorted(Comparator.comparingInt(valor).reversed()
+                        .thenComparing(e -> e.getJogador().getId()))
+                .toList();
+
+        for (int limite : new int[] {7, 10, 50}) {
+            List<PosicaoRanking> obtido = percorrer(metrica, limite);
+            assertEquals(esperado.stream().map(e -> e.getJogador().getId()).toList(),
+                    obtido.stream().map(p -> p.entrada().jogadorId()).toList(), "limite " + limite);
+            for (PosicaoRanking posicao : obtido) {
+                long aFrente = esperado.stream()
+                        .filter(e -> valor.applyAsInt(e) > posicao.entrada().valor()).count();
+                assertEquals(aFrente + 1, posicao.posicao(), "jogador " + posicao.entrada().jogadorId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Artilharia pelo cursor cobre todos os jogadores, na ordem e com as posições dos empates")
+    void devePaginarArtilharia() {
+        assertRanking(MetricaRanking.GOLS, EstatisticasJogadorCompeticao::getGols);
+    }
+
+    @Test
+    @DisplayName("Assistências pelo cursor cobrem todos os jogadores, na ordem e com as posições dos empates")
+    void devePaginarAssistencias() {
+        assertRanking(MetricaRanking.ASSISTENCIAS, EstatisticasJogadorCompeticao::getAssistencias);
+    }
+}
@@ -0,0 +1,66 @@
+package com.futime.labprog.futimeapi.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    private static EntradaRanking gols(int jogadorId, int valor) {
+        return new EntradaRanking(jogadorId, "J" + jogadorId, 1, valor);
+    }
+
+    private static List<Integer> posicoes(List<PosicaoRanking> pagina) {
+        return pagina.stream().map(PosicaoRanking::posicao).toList();
+    }
+
+    @Test
+    @DisplayName("Empatados dividem a posição e a seguinte é pulada")
+    void deveNumerarEmpates() {
+        TopK topK = new TopK(10, List.of(gols(1, 9), gols(2, 7), gols(3, 7), gols(4, 5)));
+
+        assertEquals(List.of(1, 2, 2, 4), posicoes(topK.pagina(CursorRanking.INICIO, 10)));
+        assertEquals(List.of(2, 4), posicoes(topK.pagina(new CursorRanking(7, 2), 10)));
+    }
+
+    @Test
+    @DisplayName("A página continua depois do cursor mesmo que o jogador dele tenha mudado de lugar")
+    void deveContinuarDepoisDoCursor() {
+        TopK topK = new TopK(10, List.of(gols(1, 9), gols(2, 7), gols(3, 7), gols(4, 5)));
+        topK.atualizar(2, gols(2, 4));
+
+        // O cursor (7, 2) ficou entre o 1 e o 3: a página seguinte começa no 3, sem pular nem repetir
+        assertEquals(List.of(3, 4, 2), topK.pagina(new CursorRanking(7, 2), 10).stream()
+                .map(p -> p.entrada().jogadorId()).toList());
+    }
+
+    @Test
+    @DisplayName("Páginas além do top-K ficam para o banco quando há linhas fora da memória")
+    void deveRecusarPaginaAlemDoTopK() {
+        TopK topK = new TopK(2, List.of(gols(1, 9), gols(2, 7), gols(3, 5)));
+
+        assertEquals(2, topK.pagina(CursorRanking.INICIO, 2).size());
+        assertNull(topK.pagina(new CursorRanking(9, 1), 2));
+    }
+
+    @Test
+    @DisplayName("Mantém o top-K por delta e pede recarga quando abre uma vaga desconhecida")
+    void deveAtualizarPorDelta() {
+        TopK topK = new TopK(2, List.of(gols(1, 9), gols(2, 7), gols(3, 5)));
+
+        // Quem está fora e passa a última entra e empurra a última para fora
+        assertTrue(topK.atualizar(3, gols(3, 8)));
+        assertEquals(List.of(1, 3), topK.pagina(CursorRanking.INICIO, 2).stream()
+                .map(p -> p.entrada().jogadorId()).toList());
+        assertFalse(topK.contem(2));
+
+        // Quem está fora e continua abaixo da última não muda nada
+        assertTrue(topK.atualizar(4, gols(4, 1)));
+
+        // Um membro que cai abaixo da última deixa a vaga para alguém que não está em memória
+        assertFalse(topK.atualizar(1, gols(1, 0)));
+    }
+}
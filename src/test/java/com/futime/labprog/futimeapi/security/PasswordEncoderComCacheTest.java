@@ -0,0 +1,94 @@
+package com.futime.labprog.futimeapi.security;
+
+import com.futime.labprog.futimeapi.model.Usuario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordEncoderComCacheTest {
+
+    private final CredenciaisCache credenciais = new CredenciaisCache(new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(10));
+    // Custo 4: o mínimo do BCrypt, para o teste não gastar tempo com o hash
+    private final BCryptPasswordEncoder bcrypt = spy(new BCryptPasswordEncoder(4));
+    private final PasswordEncoderComCache encoder = new PasswordEncoderComCache(bcrypt, credenciais);
+
+    @Test
+    @DisplayName("Senha correta repetida só passa pelo BCrypt na primeira vez")
+    void deveUsarCacheNaSegundaVerificacao() {
+        String hash = encoder.encode("senha-certa");
+
+        assertTrue(encoder.matches("senha-certa", hash));
+        assertTrue(encoder.matches("senha-certa", hash));
+
+        verify(bcrypt, times(1)).matches("senha-certa", hash);
+    }
+
+    @Test
+    @DisplayName("Senha errada nunca fica no cache como válida")
+    void naoDeveGuardarSenhaErrada() {
+        String hash = encoder.encode("senha-certa");
+
+        assertFalse(encoder.matches("senha-errada", hash));
+        assertFalse(encoder.matches("senha-errada", hash));
+
+        verify(bcrypt, times(2)).matches("senha-errada", hash);
+    }
+
+    @Test
+    @DisplayName("Depois da troca de senha, a antiga volta ao BCrypt e é recusada")
+    void deveRecusarSenhaAntigaAposTroca() {
+        String hashAntigo = encoder.encode("senha-antiga");
+        assertTrue(encoder.matches("senha-antiga", hashAntigo));
+
+        String hashNovo = encoder.encode("senha-nova");
+
+        assertFalse(encoder.matches("senha-antiga", hashNovo));
+        assertTrue(encoder.matches("senha-nova", hashNovo));
+        verify(bcrypt).matches("senha-antiga", hashNovo);
+    }
+
+    @Test
+    @DisplayName("Principal fica no cache até o evento de alteração do usuário")
+    void deveRecarregarPrincipalAposAlteracao() {
+        AtomicInteger carregamentos = new AtomicInteger();
+        AtomicReference<String> hashNoBanco = new AtomicReference<>("hash-1");
+        Function<String, Usuario> banco = email -> {
+            carregamentos.incrementAndGet();
+            return new Usuario(email, hashNoBanco.get(), "Ana");
+        };
+
+        assertEquals("hash-1", credenciais.usuario("ana@futime.com", banco).getPassword());
+        hashNoBanco.set("hash-2");
+        assertEquals("hash-1", credenciais.usuario("ana@futime.com", banco).getPassword());
+
+        credenciais.aoAlterar(new CredenciaisAlteradasEvent("ana@futime.com"));
+
+        assertEquals("hash-2", credenciais.usuario("ana@futime.com", banco).getPassword());
+        assertEquals(2, carregamentos.get());
+    }
+
+    @Test
+    @DisplayName("Usuário inexistente não é guardado")
+    void naoDeveGuardarUsuarioInexistente() {
+        AtomicInteger carregamentos = new AtomicInteger();
+        Function<String, Usuario> banco = email -> {
+            carregamentos.incrementAndGet();
+            return null;
+        };
+
+        assertNull(credenciais.usuario("ninguem@futime.com", banco));
+        assertNull(credenciais.usuario("ninguem@futime.com", banco));
+
+        assertEquals(2, carregamentos.get());
+    }
+}
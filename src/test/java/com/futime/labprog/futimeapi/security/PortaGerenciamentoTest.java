@@ -0,0 +1,54 @@
+package com.futime.labprog.futimeapi.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * O actuator só responde na porta de gerenciamento (presa ao loopback), como no application.properties
+ * principal. O properties de teste substitui o principal, então a configuração é repetida aqui.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0",
+        "management.server.address=127.0.0.1",
+        "management.endpoints.web.exposure.include=health,metrics,prometheus"})
+@AutoConfigureObservability(tracing = false)
+class PortaGerenciamentoTest {
+
+    @LocalServerPort
+    private int portaApi;
+
+    @LocalManagementPort
+    private int portaGerenciamento;
+
+    @Autowired
+    private TestRestTemplate http;
+
+    private ResponseEntity<String> prometheus(int porta) {
+        return http.getForEntity("http://127.0.0.1:" + porta + "/actuator/prometheus", String.class);
+    }
+
+    @Test
+    @DisplayName("Prometheus responde sem login na porta de gerenciamento")
+    void deveResponderNaPortaDeGerenciamento() {
+        ResponseEntity<String> resposta = prometheus(portaGerenciamento);
+
+        assertEquals(HttpStatus.OK, resposta.getStatusCode());
+        assertTrue(resposta.getBody().contains("jvm_memory_used_bytes"));
+    }
+
+    @Test
+    @DisplayName("Pela porta da API o actuator não existe, mesmo vindo de 127.0.0.1")
+    void naoDeveResponderNaPortaDaApi() {
+        assertNotEquals(HttpStatus.OK, prometheus(portaApi).getStatusCode());
+    }
+}
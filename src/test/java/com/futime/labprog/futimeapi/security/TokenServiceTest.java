@@ -0,0 +1,50 @@
+package com.futime.labprog.futimeapi.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final Instant AGORA = Instant.parse("2025-06-01T12:00:00Z");
+
+    private TokenService servico(Instant instante) {
+        return new TokenService("segredo-de-teste", Duration.ofHours(1), Clock.fixed(instante, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Token emitido é aceito e devolve o usuário")
+    void deveValidarTokenEmitido() {
+        TokenService tokenService = servico(AGORA);
+        TokenService.TokenEmitido emitido = tokenService.emitir(7, "a:b@email.com");
+
+        Optional<UsuarioAutenticado> usuario = tokenService.validar(emitido.token());
+
+        assertEquals(Optional.of(new UsuarioAutenticado(7, "a:b@email.com")), usuario);
+        assertEquals(AGORA.plus(Duration.ofHours(1)), emitido.expiraEm());
+    }
+
+    @Test
+    @DisplayName("Token expirado, adulterado ou de outra chave é recusado")
+    void deveRecusarTokenInvalido() {
+        String token = servico(AGORA).emitir(7, "bernardo@email.com").token();
+
+        assertTrue(servico(AGORA.plus(Duration.ofHours(2))).validar(token).isEmpty());
+        assertTrue(new TokenService("outro-segredo", Duration.ofHours(1), Clock.fixed(AGORA, ZoneOffset.UTC))
+                .validar(token).isEmpty());
+
+        String outroUsuario = servico(AGORA).emitir(8, "bernardo@email.com").token();
+        String adulterado = outroUsuario.substring(0, outroUsuario.indexOf('.'))
+                + token.substring(token.indexOf('.'));
+        assertTrue(servico(AGORA).validar(adulterado).isEmpty());
+        assertTrue(servico(AGORA).validar("lixo").isEmpty());
+        assertTrue(servico(AGORA).validar("a.b!").isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.BancoPostgresTest;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgregadosJogadorServicePostgresTest extends BancoPostgresTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AgregadosJogadorService agregadosJogadorService;
+
+    @Autowired
+    private JogadorRepository jogadorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Integer novoJogador(String nome) {
+        return jogadorRepository.save(new Jogador(nome, null, null, "Atacante", null)).getId();
+    }
+
+    @Test
+    @DisplayName("Primeiras estatísticas simultâneas na mesma temporada somam numa linha só")
+    void deveSomarPrimeirasEstatisticasConcorrentes() throws Exception {
+        Integer jogadorId = novoJogador("Concorrente");
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    agregadosJogadorService.aplicarDelta(jogadorId, "2025", 2, 1, 1);
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> temporada = jdbc.queryForMap("select gols, assistencias, registros "
+                + "from jogador_estatisticas_temporada where jogador_id = ? and temporada = '2025'", jogadorId);
+        assertEquals(2 * THREADS, temporada.get("gols"));
+        assertEquals(THREADS, temporada.get("assistencias"));
+        assertEquals(THREADS, temporada.get("registros"));
+        assertEquals(2 * THREADS, jdbc.queryForObject(
+                "select gols_totais from jogadores where id = ?", Integer.class, jogadorId));
+    }
+
+    @Test
+    @DisplayName("Salvar um jogador lido antes do delta não sobrescreve os totais")
+    void naoDeveSobrescreverTotaisAoSalvarJogador() {
+        Integer jogadorId = novoJogador("Desatualizado");
+        Jogador lidoAntes = jogadorRepository.findById(jogadorId).orElseThrow();
+
+        agregadosJogadorService.aplicarDelta(jogadorId, "2025", 3, 2, 1);
+        lidoAntes.setApelido("Novo apelido");
+        jogadorRepository.save(lidoAntes);
+
+        Map<String, Object> jogador = jdbc.queryForMap(
+                "select apelido, gols_totais, assistencias_totais from jogadores where id = ?", jogadorId);
+        assertEquals("Novo apelido", jogador.get("apelido"));
+        assertEquals(3, jogador.get("gols_totais"));
+        assertEquals(2, jogador.get("assistencias_totais"));
+    }
+
+    @Test
+    @DisplayName("Remover o último registro da temporada apaga a linha do agregado")
+    void deveRemoverTemporadaSemRegistros() {
+        Integer jogadorId = novoJogador("Removido");
+        agregadosJogadorService.aplicarDelta(jogadorId, "2024", 1, 0, 1);
+        agregadosJogadorService.aplicarDelta(jogadorId, "2024", -1, 0, -1);
+
+        assertEquals(0, jdbc.queryForObject("select count(*) from jogador_estatisticas_temporada "
+                + "where jogador_id = ?", Integer.class, jogadorId));
+    }
+}
@@ -0,0 +1,123 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.BancoPostgresTest;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO.Status;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstatisticaPartidaServicePostgresTest extends BancoPostgresTest {
+
+    private static final int ELENCO = 60;
+
+    @Autowired
+    private EstatisticaPartidaService estatisticaPartidaService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Integer partidaId;
+    private List<Integer> jogadorIds;
+
+    @BeforeEach
+    void criarPartida() {
+        Integer estadio = jdbc.queryForObject("insert into estadios (nome, cidade, pais) "
+                + "values ('Maracanã', 'Rio de Janeiro', 'BRA') returning id", Integer.class);
+        Integer mandante = jdbc.queryForObject("insert into clubes (nome, sigla, estadio_id) "
+                + "values ('Flamengo', 'FLA', ?) returning id", Integer.class, estadio);
+        Integer visitante = jdbc.queryForObject("insert into clubes (nome, sigla, estadio_id) "
+                + "values ('Palmeiras', 'PAL', ?) returning id", Integer.class, estadio);
+        partidaId = jdbc.queryForObject("insert into partidas (clube_mandante_id, clube_visitante_id, estadio_id, "
+                + "fase, gols_mandante, gols_visitante, data_hora, created_at) "
+                + "values (?, ?, ?, 'PONTOS_CORRIDOS', 2, 1, now(), now()) returning id",
+                Integer.class, mandante, visitante, estadio);
+        jogadorIds = new ArrayList<>();
+        for (int i = 0; i < ELENCO; i++) {
+            jogadorIds.add(jdbc.queryForObject("insert into jogadores (nome_completo, apelido, posicao) "
+                    + "values (?, ?, 'Meio-campista') returning id", Integer.class, "Jogador " + i, "J" + i));
+        }
+    }
+
+    private List<EstatisticaPartidaLoteItemDTO> sumula(int gols) {
+        return jogadorIds.stream()
+                .map(id -> new EstatisticaPartidaLoteItemDTO(id,
+                        new EstatisticaPartidaRequestDTO(90, false, false, true, gols, 0, null, 3, 2, 1)))
+                .toList();
+    }
+
+    private int linhasDaPartida() {
+        return jdbc.queryForObject("select count(*) from jogador_estatistica_partida where partida_id = ?",
+                Integer.class, partidaId);
+    }
+
+    @Test
+    @DisplayName("Enviar a mesma súmula duas vezes atualiza as linhas em vez de duplicar")
+    void deveAtualizarAoReenviarSumula() {
+        List<EstatisticaPartidaLoteResultadoDTO> primeira = estatisticaPartidaService.salvarSumula(partidaId, sumula(1));
+        List<EstatisticaPartidaLoteResultadoDTO> segunda = estatisticaPartidaService.salvarSumula(partidaId, sumula(2));
+
+        assertTrue(primeira.stream().allMatch(r -> r.status() == Status.CRIADA));
+        assertTrue(segunda.stream().allMatch(r -> r.status() == Status.ATUALIZADA));
+        for (int i = 0; i < ELENCO; i++) {
+            assertEquals(primeira.get(i).estatistica().id(), segunda.get(i).estatistica().id());
+            assertEquals(primeira.get(i).estatistica().createdAt(), segunda.get(i).estatistica().createdAt());
+            assertEquals(jogadorIds.get(i), segunda.get(i).jogadorId());
+        }
+        assertEquals(ELENCO, linhasDaPartida());
+        assertEquals(2 * ELENCO, jdbc.queryForObject(
+                "select sum(gols) from jogador_estatistica_partida where partida_id = ?", Integer.class, partidaId));
+    }
+
+    @Test
+    @DisplayName("Súmulas simultâneas da mesma partida não duplicam linhas")
+    void naoDeveDuplicarSumulasSimultaneas() throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<List<EstatisticaPartidaLoteResultadoDTO>>> envios = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                envios.add(executor.submit(() -> {
+                    largada.await();
+                    return estatisticaPartidaService.salvarSumula(partidaId, sumula(1));
+                }));
+            }
+            largada.countDown();
+            long criadas = 0;
+            for (Future<List<EstatisticaPartidaLoteResultadoDTO>> envio : envios) {
+                criadas += envio.get().stream().filter(r -> r.status() == Status.CRIADA).count();
+            }
+            assertEquals(ELENCO, criadas);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(ELENCO, linhasDaPartida());
+    }
+
+    @Test
+    @DisplayName("Linha avulsa e súmula caem na mesma linha do jogador")
+    void deveUsarMesmaLinhaNoSalvarAvulso() {
+        Integer jogadorId = jogadorIds.get(0);
+        Integer id = estatisticaPartidaService.salvar(jogadorId, partidaId,
+                new EstatisticaPartidaRequestDTO(45, true, false, false, 0, 1, null, 1, 0, 2)).id();
+
+        EstatisticaPartidaLoteResultadoDTO resultado = estatisticaPartidaService.salvarSumula(partidaId, sumula(1)).get(0);
+
+        assertEquals(Status.ATUALIZADA, resultado.status());
+        assertEquals(id, resultado.estatistica().id());
+        assertEquals(ELENCO, linhasDaPartida());
+    }
+}
@@ -0,0 +1,172 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteItemDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaLoteResultadoDTO.Status;
+import com.futime.labprog.futimeapi.dto.EstatisticaPartidaRequestDTO;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.JogadorEstatisticaPartida;
+import com.futime.labprog.futimeapi.model.Partida;
+import com.futime.labprog.futimeapi.repository.GravacaoSumula;
+import com.futime.labprog.futimeapi.repository.JogadorEstatisticaPartidaRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import com.futime.labprog.futimeapi.repository.PartidaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticaPartidaServiceTest {
+
+    @Mock
+    private JogadorEstatisticaPartidaRepository estatisticaRepository;
+
+    @Mock
+    private JogadorRepository jogadorRepository;
+
+    @Mock
+    private PartidaRepository partidaRepository;
+
+    @Mock
+    private EstatisticasService estatisticasService;
+
+    @InjectMocks
+    private EstatisticaPartidaServiceImpl estatisticaPartidaService;
+
+    @Test
+    @DisplayName("Súmula grava num único upsert em lote e rejeita jogador inexistente ou repetido")
+    void deveSalvarSumulaEmLote() {
+        Jogador arrascaeta = jogador(14, "Arrascaeta");
+        Jogador pedro = jogador(9, "Pedro");
+        LocalDateTime criadaEm = LocalDateTime.of(2025, 5, 1, 16, 0);
+        LocalDateTime agora = LocalDateTime.of(2025, 5, 2, 10, 0);
+
+        when(partidaRepository.buscarParaAlterar(100)).thenReturn(Optional.of(partida(100, null)));
+        when(jogadorRepository.findAllById(anyCollection())).thenReturn(List.of(arrascaeta, pedro));
+        when(estatisticaRepository.gravarSumula(eq(100), anyList())).thenReturn(List.of(
+                new GravacaoSumula.LinhaGravada(501, true, agora, agora),
+                new GravacaoSumula.LinhaGravada(500, false, criadaEm, agora)));
+
+        List<EstatisticaPartidaLoteResultadoDTO> resultados = estatisticaPartidaService.salvarSumula(100, List.of(
+                new EstatisticaPartidaLoteItemDTO(14, estatisticas(1)),
+                new EstatisticaPartidaLoteItemDTO(9, estatisticas(2)),
+                new EstatisticaPartidaLoteItemDTO(77, estatisticas(0)),
+                new EstatisticaPartidaLoteItemDTO(14, estatisticas(3))));
+
+        assertEquals(List.of(Status.CRIADA, Status.ATUALIZADA, Status.REJEITADA, Status.REJEITADA),
+                resultados.stream().map(EstatisticaPartidaLoteResultadoDTO::status).toList());
+        assertEquals(1, resultados.get(0).estatistica().gols());
+        assertEquals("Arrascaeta", resultados.get(0).estatistica().jogadorApelido());
+        assertEquals(500, resultados.get(1).estatistica().id());
+        assertEquals(criadaEm, resultados.get(1).estatistica().createdAt());
+        assertEquals(2, resultados.get(1).estatistica().gols());
+        assertTrue(resultados.get(2).erro().contains("não encontrado"));
+        assertTrue(resultados.get(3).erro().contains("repetido"));
+        assertNull(resultados.get(3).estatistica());
+
+        verify(estatisticaRepository).gravarSumula(eq(100), argThat(linhas -> linhas.size() == 2
+                && linhas.get(0).jogadorId() == 14 && linhas.get(1).jogadorId() == 9));
+        verify(estatisticaRepository, never()).saveAll(any());
+        verify(jogadorRepository, never()).findById(any());
+        verifyNoInteractions(estatisticasService);
+    }
+
+    @Test
+    @DisplayName("Súmula de partida de competição leva a diferença de gols e assistências à competição")
+    void deveSomarSumulaNaCompeticao() {
+        Jogador arrascaeta = jogador(14, "Arrascaeta");
+        Jogador pedro = jogador(9, "Pedro");
+        Partida partida = partida(100, 7);
+        LocalDateTime agora = LocalDateTime.of(2025, 5, 2, 10, 0);
+
+        when(partidaRepository.buscarParaAlterar(100)).thenReturn(Optional.of(partida));
+        when(jogadorRepository.findAllById(anyCollection())).thenReturn(List.of(arrascaeta, pedro));
+        when(estatisticaRepository.findByPartida_IdAndJogador_IdIn(eq(100), anyCollection()))
+                .thenReturn(List.of(estatisticaGravada(pedro, partida, 1, 1)));
+        when(estatisticaRepository.gravarSumula(eq(100), anyList())).thenReturn(List.of(
+                new GravacaoSumula.LinhaGravada(501, true, agora, agora),
+                new GravacaoSumula.LinhaGravada(500, false, agora, agora)));
+
+        estatisticaPartidaService.salvarSumula(100, List.of(
+                new EstatisticaPartidaLoteItemDTO(14, estatisticas(2)),
+                new EstatisticaPartidaLoteItemDTO(9, estatisticas(3))));
+
+        // Arrascaeta estreia na partida; Pedro já tinha 1 gol e 1 assistência nela
+        InOrder ordem = inOrder(estatisticasService);
+        ordem.verify(estatisticasService).somarPartida(7, 9, 2, -1, 0);
+        ordem.verify(estatisticasService).somarPartida(7, 14, 2, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Excluir a linha de uma partida de competição retira o que ela somava")
+    void deveRetirarDaCompeticaoAoDeletar() {
+        Partida partida = partida(100, 7);
+        JogadorEstatisticaPartida gravada = estatisticaGravada(jogador(9, "Pedro"), partida, 2, 1);
+        when(estatisticaRepository.buscarPartidaId(500)).thenReturn(Optional.of(100));
+        when(partidaRepository.buscarParaAlterar(100)).thenReturn(Optional.of(partida));
+        when(estatisticaRepository.findById(500)).thenReturn(Optional.of(gravada));
+
+        assertTrue(estatisticaPartidaService.deletar(500));
+
+        verify(estatisticasService).somarPartida(7, 9, -2, -1, -1);
+        verify(estatisticaRepository).delete(gravada);
+    }
+
+    @Test
+    @DisplayName("Súmula de partida inexistente não grava nada")
+    void deveRejeitarSumulaDePartidaInexistente() {
+        when(partidaRepository.buscarParaAlterar(100)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> estatisticaPartidaService.salvarSumula(100,
+                List.of(new EstatisticaPartidaLoteItemDTO(14, estatisticas(1)))));
+        verify(estatisticaRepository, never()).gravarSumula(any(), any());
+    }
+
+    private static Jogador jogador(Integer id, String apelido) {
+        Jogador jogador = new Jogador();
+        jogador.setId(id);
+        jogador.setApelido(apelido);
+        return jogador;
+    }
+
+    private static Partida partida(Integer id, Integer competicaoId) {
+        Partida partida = new Partida();
+        partida.setId(id);
+        if (competicaoId != null) {
+            Competicao competicao = new Competicao();
+            competicao.setId(competicaoId);
+            partida.setCompeticao(competicao);
+        }
+        return partida;
+    }
+
+    private static JogadorEstatisticaPartida estatisticaGravada(Jogador jogador, Partida partida, int gols,
+            int assistencias) {
+        JogadorEstatisticaPartida estatistica = new JogadorEstatisticaPartida();
+        estatistica.setJogador(jogador);
+        estatistica.setPartida(partida);
+        estatistica.setGols(gols);
+        estatistica.setAssistencias(assistencias);
+        return estatistica;
+    }
+
+    private static EstatisticaPartidaRequestDTO estatisticas(int gols) {
+        return new EstatisticaPartidaRequestDTO(90, false, false, true, gols, 0, null, 3, 2, 1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.BancoPostgresTest;
+import com.futime.labprog.futimeapi.dto.EstatisticasRequestDTO;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstatisticasServicePostgresTest extends BancoPostgresTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private EstatisticasService estatisticasService;
+
+    @Autowired
+    private JogadorRepository jogadorRepository;
+
+    @Autowired
+    private CompeticaoRepository competicaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Integer novoJogador(String nome) {
+        return jogadorRepository.save(new Jogador(nome, null, null, "Atacante", null)).getId();
+    }
+
+    private Integer novaCompeticao(String nome) {
+        return competicaoRepository.save(new Competicao(nome, "Brasil", "América do Sul",
+                TipoCompeticao.PONTOS_CORRIDOS, "2025")).getId();
+    }
+
+    /** Dispara as gravações juntas e espera todas; a i-ésima thread grava requisicao(i). */
+    private void gravarJuntos(Integer jogadorId, Integer competicaoId, IntFunction<EstatisticasRequestDTO> requisicao)
+            throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int indice = i;
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    estatisticasService.salvarEstatisticas(jogadorId, competicaoId, requisicao.apply(indice));
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Object> linhaDaCompeticao(Integer jogadorId, Integer competicaoId) {
+        return jdbc.queryForMap("select gols, assistencias from jogador_estatisticas_competicao "
+                + "where jogador_id = ? and competicao_id = ?", jogadorId, competicaoId);
+    }
+
+    private void assertAgregadosIguaisA(Integer jogadorId, Map<String, Object> linha) {
+        Map<String, Object> jogador = jdbc.queryForMap(
+                "select gols_totais, assistencias_totais from jogadores where id = ?", jogadorId);
+        assertEquals(linha.get("gols"), jogador.get("gols_totais"));
+        assertEquals(linha.get("assistencias"), jogador.get("assistencias_totais"));
+
+        Map<String, Object> temporada = jdbc.queryForMap("select gols, assistencias, registros "
+                + "from jogador_estatisticas_temporada where jogador_id = ? and temporada = '2025'", jogadorId);
+        assertEquals(linha.get("gols"), temporada.get("gols"));
+        assertEquals(linha.get("assistencias"), temporada.get("assistencias"));
+        assertEquals(1, temporada.get("registros"));
+    }
+
+    @Test
+    @DisplayName("Primeiras gravações simultâneas criam uma linha só e contam um registro")
+    void deveCriarUmaLinhaComGravacoesConcorrentes() throws Exception {
+        Integer jogadorId = novoJogador("Estreante");
+        Integer competicaoId = novaCompeticao("Copa Concorrente");
+
+        gravarJuntos(jogadorId, competicaoId, i -> new EstatisticasRequestDTO(3, 1, 5));
+
+        assertEquals(1, jdbc.queryForObject("select count(*) from jogador_estatisticas_competicao "
+                + "where jogador_id = ? and competicao_id = ?", Integer.class, jogadorId, competicaoId));
+        Map<String, Object> linha = linhaDaCompeticao(jogadorId, competicaoId);
+        assertEquals(3, linha.get("gols"));
+        assertAgregadosIguaisA(jogadorId, linha);
+    }
+
+    @Test
+    @DisplayName("Atualizações simultâneas da mesma linha deixam os agregados iguais ao valor final")
+    void naoDeveAcumularDeltasDeAtualizacoesConcorrentes() throws Exception {
+        Integer jogadorId = novoJogador("Disputado");
+        Integer competicaoId = novaCompeticao("Liga Concorrente");
+        estatisticasService.salvarEstatisticas(jogadorId, competicaoId, new EstatisticasRequestDTO(1, 1, 1));
+
+        gravarJuntos(jogadorId, competicaoId, i -> new EstatisticasRequestDTO(10 + i, i, 2));
+
+        assertAgregadosIguaisA(jogadorId, linhaDaCompeticao(jogadorId, competicaoId));
+    }
+}
@@ -0,0 +1,146 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.EstatisticasRequestDTO;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.repository.CompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.EstatisticasJogadorCompeticaoRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticasServiceTest {
+
+    @Mock
+    private EstatisticasJogadorCompeticaoRepository estatisticasRepository;
+
+    @Mock
+    private JogadorRepository jogadorRepository;
+
+    @Mock
+    private CompeticaoRepository competicaoRepository;
+
+    @Mock
+    private AgregadosJogadorService agregadosJogadorService;
+
+    @Mock
+    private DadosReferenciaCache referencias;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @InjectMocks
+    private EstatisticasServiceImpl estatisticasService;
+
+    private EstatisticasJogadorCompeticao stat;
+
+    @BeforeEach
+    void setUp() {
+        Jogador jogador = new Jogador();
+        jogador.setId(1);
+        jogador.setApelido("Gabigol");
+
+        Competicao brasileirao = new Competicao();
+        brasileirao.setId(7);
+        brasileirao.setNome("Brasileirão");
+        brasileirao.setTemporada("2025");
+        brasileirao.setTipoCompeticao(TipoCompeticao.PONTOS_CORRIDOS);
+
+        stat = new EstatisticasJogadorCompeticao();
+        stat.setId(100);
+        stat.setJogador(jogador);
+        stat.setCompeticao(brasileirao);
+        stat.setGols(10);
+        stat.setAssistencias(2);
+        stat.setJogosDisputados(20);
+    }
+
+    @Test
+    @DisplayName("Ao atualizar uma estatística deve aplicar só a diferença nos agregados")
+    void deveAplicarDeltaAoAtualizar() {
+        when(estatisticasRepository.buscarParaAlterar(1, 7)).thenReturn(Optional.of(stat));
+        when(estatisticasRepository.save(stat)).thenReturn(stat);
+
+        estatisticasService.salvarEstatisticas(1, 7, new EstatisticasRequestDTO(12, 1, 22));
+
+        verify(agregadosJogadorService).aplicarDelta(1, "2025", 2, -1, 0);
+        verify(estatisticasRepository, never()).criarSeAusente(any(), any());
+    }
+
+    @Test
+    @DisplayName("Na primeira estatística cria a linha zerada e conta um registro novo")
+    void deveCriarLinhaNaPrimeiraEstatistica() {
+        zerar();
+        when(estatisticasRepository.buscarParaAlterar(1, 7)).thenReturn(Optional.empty(), Optional.of(stat));
+        when(jogadorRepository.existsById(1)).thenReturn(true);
+        when(competicaoRepository.existsById(7)).thenReturn(true);
+        when(estatisticasRepository.criarSeAusente(1, 7)).thenReturn(1);
+        when(estatisticasRepository.save(stat)).thenReturn(stat);
+
+        estatisticasService.salvarEstatisticas(1, 7, new EstatisticasRequestDTO(3, 1, 4));
+
+        verify(agregadosJogadorService).aplicarDelta(1, "2025", 3, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Se outra gravação criou a linha antes, não conta o registro de novo")
+    void naoDeveContarRegistroCriadoPorOutraGravacao() {
+        zerar();
+        when(estatisticasRepository.buscarParaAlterar(1, 7)).thenReturn(Optional.empty(), Optional.of(stat));
+        when(jogadorRepository.existsById(1)).thenReturn(true);
+        when(competicaoRepository.existsById(7)).thenReturn(true);
+        when(estatisticasRepository.criarSeAusente(1, 7)).thenReturn(0);
+        when(estatisticasRepository.save(stat)).thenReturn(stat);
+
+        estatisticasService.salvarEstatisticas(1, 7, new EstatisticasRequestDTO(3, 1, 4));
+
+        verify(agregadosJogadorService).aplicarDelta(1, "2025", 3, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Jogador inexistente é recusado antes de criar a linha")
+    void deveRecusarJogadorInexistente() {
+        when(estatisticasRepository.buscarParaAlterar(99, 7)).thenReturn(Optional.empty());
+        when(jogadorRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> estatisticasService.salvarEstatisticas(99, 7, new EstatisticasRequestDTO(3, 1, 4)));
+
+        verify(estatisticasRepository, never()).criarSeAusente(any(), any());
+        verifyNoInteractions(agregadosJogadorService);
+    }
+
+    @Test
+    @DisplayName("Ao deletar uma estatística deve retirar sua contribuição dos agregados")
+    void deveRetirarContribuicaoAoDeletar() {
+        when(estatisticasRepository.buscarParaRemover(100)).thenReturn(Optional.of(stat));
+
+        assertTrue(estatisticasService.deletarEstatistica(100));
+
+        verify(agregadosJogadorService).aplicarDelta(1, "2025", -10, -2, -1);
+        verify(estatisticasRepository).delete(stat);
+    }
+
+    // Como a linha sai do INSERT ... ON CONFLICT: tudo zerado
+    private void zerar() {
+        stat.setGols(0);
+        stat.setAssistencias(0);
+        stat.setJogosDisputados(0);
+    }
+}
@@ -0,0 +1,214 @@
+package com.futime.labprog.futimeapi.service;
+
+import com.futime.labprog.futimeapi.busca.BuscaJogadores;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
+import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.model.Clube;
+import com.futime.labprog.futimeapi.model.Competicao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.Jogador;
+import com.futime.labprog.futimeapi.model.TipoCompeticao;
+import com.futime.labprog.futimeapi.repository.ClubeRepository;
+import com.futime.labprog.futimeapi.repository.JogadorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Filtros e keyset de GET /jogadores contra um banco de verdade (H2): os predicados de
+ * JogadorEspecificacoes, a conversão de idade em datas e a continuação pelo cursor com empates
+ * na coluna ordenada.
+ */
+@DataJpaTest
+class JogadorServiceFiltrosTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JogadorRepository jogadorRepository;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    private JogadorServiceImpl jogadorService;
+
+    private final LocalDate hoje = LocalDate.now();
+    private Clube flamengo;
+    private Clube palmeiras;
+    private Competicao brasileirao;
+    private List<Jogador> jogadores;
+
+    @BeforeEach
+    void popularBanco() {
+        // Sem fotografia de referência: o clube da resposta é montado a partir da entidade
+        jogadorService = new JogadorServiceImpl(jogadorRepository, clubeRepository, mock(DadosReferenciaCache.class),
+                mock(ApplicationEventPublisher.class), mock(BuscaJogadores.class));
+
+        flamengo = clube("Flamengo", "FLA");
+        palmeiras = clube("Palmeiras", "PAL");
+        brasileirao = em.persist(new Competicao("Brasileirão", "Brasil", "América do Sul",
+                TipoCompeticao.PONTOS_CORRIDOS, "2025"));
+
+        jogadores = new ArrayList<>();
+        // Valores e nascimentos repetidos de propósito, para os empates da ordenação
+        jogador("Pedro", "Atacante", flamengo, 30_000_000.0, hoje.minusYears(28));
+        jogador("Bruno Henrique", "Atacante", flamengo, 20_000_000.0, hoje.minusYears(34));
+        jogador("Arrascaeta", "Meio-campista", flamengo, 30_000_000.0, hoje.minusYears(31));
+        jogador("Gerson", "Meio-campista", flamengo, 20_000_000.0, hoje.minusYears(28));
+        jogador("Rony", "Atacante", palmeiras, 30_000_000.0, hoje.minusYears(25));
+        jogador("Raphael Veiga", "Meio-campista", palmeiras, 20_000_000.0, hoje.minusYears(25).plusDays(1));
+        jogador("Weverton", "Goleiro", palmeiras, null, hoje.minusYears(26));
+        jogador("Estêvão", "Atacante", palmeiras, 10_000_000.0, hoje.minusYears(26).plusDays(1));
+        jogador("Gómez", "Zagueiro", palmeiras, 10_000_000.0, null);
+
+        participou(jogadores.get(0));
+        participou(jogadores.get(4));
+        participou(jogadores.get(7));
+
+        em.flush();
+        em.clear();
+    }
+
+    private Clube clube(String nome, String sigla) {
+        Clube clube = new Clube();
+        clube.setNome(nome);
+        clube.setSigla(sigla);
+        clube.setCidade("São Paulo");
+        clube.setPais("Brasil");
+        return em.persist(clube);
+    }
+
+    private void jogador(String nome, String posicao, Clube clube, Double valor, LocalDate nascimento) {
+        Jogador jogador = new Jogador(nome, nome, nascimento, posicao, clube);
+        jogador.setValorDeMercado(valor);
+        jogadores.add(em.persist(jogador));
+    }
+
+    private void participou(Jogador jogador) {
+        EstatisticasJogadorCompeticao estatistica = new EstatisticasJogadorCompeticao();
+        estatistica.setJogador(jogador);
+        estatistica.setCompeticao(brasileirao);
+        estatistica.setGols(1);
+        estatistica.setJogosDisputados(1);
+        em.persist(estatistica);
+    }
+
+    private static JogadorFiltroDTO ordenado(String ordenar, String direcao) {
+        return new JogadorFiltroDTO(null, null, null, null, null, null, null, ordenar, direcao);
+    }
+
+    /** Todos os ids, na ordem das páginas, seguindo o cursor até o fim. */
+    private List<Integer> percorrer(JogadorFiltroDTO filtro, int limite) {
+        List<Integer> ids = new ArrayList<>();
+        Integer cursor = null;
+        do {
+            PaginaResponseDTO<JogadorResponseDTO> pagina = jogadorService.listarJogadores(filtro, cursor, limite);
+            assertTrue(pagina.itens().size() <= limite);
+            pagina.itens().forEach(jogador -> ids.add(jogador.id()));
+            cursor = pagina.proximoCursor();
+            assertTrue(ids.size() <= jogadores.size(), "O cursor não avançou");
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Integer> idsDe(int... indices) {
+        List<Integer> ids = new ArrayList<>();
+        for (int indice : indices) {
+            ids.add(jogadores.get(indice).getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Filtra por posição, clube e competição (EXISTS nas estatísticas)")
+    void deveFiltrarPorPosicaoClubeECompeticao() {
+        assertEquals(idsDe(0, 1, 4, 7),
+                percorrer(new JogadorFiltroDTO("Atacante", null, null, null, null, null, null, null, null), 50));
+        assertEquals(idsDe(4, 5, 6, 7, 8),
+                percorrer(new JogadorFiltroDTO(null, palmeiras.getId(), null, null, null, null, null, null, null), 50));
+        assertEquals(idsDe(0, 4, 7),
+                percorrer(new JogadorFiltroDTO(null, null, brasileirao.getId(), null, null, null, null, null, null), 50));
+        assertEquals(idsDe(4, 7), percorrer(new JogadorFiltroDTO("Atacante", palmeiras.getId(), brasileirao.getId(),
+                null, null, null, null, null, null), 50));
+    }
+
+    @Test
+    @DisplayName("Faixa de valor inclui os extremos e deixa de fora quem não tem valor")
+    void deveFiltrarPorFaixaDeValor() {
+        assertEquals(idsDe(1, 3, 5, 7, 8),
+                percorrer(new JogadorFiltroDTO(null, null, null, null, 20_000_000.0, null, null, null, null), 50));
+        assertEquals(idsDe(0, 1, 2, 3, 4, 5),
+                percorrer(new JogadorFiltroDTO(null, null, null, 20_000_000.0, null, null, null, null, null), 50));
+        assertEquals(idsDe(1, 3, 5),
+                percorrer(new JogadorFiltroDTO(null, null, null, 15_000_000.0, 25_000_000.0, null, null, null, null), 50));
+    }
+
+    @Test
+    @DisplayName("Idade em anos completos vira limites de nascimento, com o aniversário no limite")
+    void deveFiltrarPorIdade() {
+        // 25 anos completos: Rony faz 25 hoje e entra; Raphael Veiga só faz amanhã
+        assertEquals(idsDe(0, 1, 2, 3, 4, 6, 7),
+                percorrer(new JogadorFiltroDTO(null, null, null, null, null, 25, null, null, null), 50));
+        // Até 25 anos: Estêvão faz 26 amanhã e entra; Weverton fez 26 hoje e sai
+        assertEquals(idsDe(4, 5, 7),
+                percorrer(new JogadorFiltroDTO(null, null, null, null, null, null, 25, null, null), 50));
+        assertEquals(idsDe(4, 7),
+                percorrer(new JogadorFiltroDTO(null, null, null, null, null, 25, 25, null, null), 50));
+    }
+
+    @Test
+    @DisplayName("Keyset por valor com empates não pula nem repete jogador, nos dois sentidos")
+    void devePaginarPorValorComEmpates() {
+        List<Jogador> comValor = jogadores.stream().filter(j -> j.getValorDeMercado() != null).toList();
+        Comparator<Jogador> porValor = Comparator.comparing(Jogador::getValorDeMercado);
+        List<Integer> crescente = comValor.stream().sorted(porValor.thenComparing(Jogador::getId))
+                .map(Jogador::getId).toList();
+        List<Integer> decrescente = comValor.stream().sorted(porValor.reversed().thenComparing(Jogador::getId))
+                .map(Jogador::getId).toList();
+
+        for (int limite = 1; limite <= 4; limite++) {
+            assertEquals(crescente, percorrer(ordenado("valorDeMercado", "asc"), limite), "limite " + limite);
+            assertEquals(decrescente, percorrer(ordenado("valorDeMercado", "desc"), limite), "limite " + limite);
+        }
+    }
+
+    @Test
+    @DisplayName("Keyset por idade com nascimentos iguais segue o desempate pelo ID")
+    void devePaginarPorIdadeComEmpates() {
+        List<Jogador> comNascimento = jogadores.stream().filter(j -> j.getDataNascimento() != null).toList();
+        // Idade crescente = nascimento decrescente; ID crescente no empate
+        List<Integer> maisNovosPrimeiro = comNascimento.stream()
+                .sorted(Comparator.comparing(Jogador::getDataNascimento).reversed().thenComparing(Jogador::getId))
+                .map(Jogador::getId).toList();
+
+        for (int limite = 1; limite <= 3; limite++) {
+            assertEquals(maisNovosPrimeiro, percorrer(ordenado("idade", null), limite), "limite " + limite);
+        }
+    }
+
+    @Test
+    @DisplayName("Keyset por nome combinado com filtro cobre exatamente os filtrados")
+    void devePaginarPorNomeComFiltro() {
+        JogadorFiltroDTO filtro = new JogadorFiltroDTO(null, flamengo.getId(), null, null, null, null, null, "nome",
+                "desc");
+
+        // Pedro, Gerson, Bruno Henrique, Arrascaeta
+        assertEquals(idsDe(0, 3, 1, 2), percorrer(filtro, 1));
+        assertEquals(idsDe(0, 3, 1, 2), percorrer(filtro, 3));
+    }
+}
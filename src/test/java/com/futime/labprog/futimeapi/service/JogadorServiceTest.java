@@ -1,10 +1,16 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.busca.BuscaJogadores;
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.EstatisticaTemporadaDTO;
+import com.futime.labprog.futimeapi.dto.JogadorFiltroDTO;
 import com.futime.labprog.futimeapi.dto.JogadorResponseDTO;
+import com.futime.labprog.futimeapi.dto.PaginaResponseDTO;
+import com.futime.labprog.futimeapi.exception.BusinessException;
 import com.futime.labprog.futimeapi.model.Clube;
 import com.futime.labprog.futimeapi.model.Competicao;
 import com.futime.labprog.futimeapi.model.EstatisticasJogadorCompeticao;
+import com.futime.labprog.futimeapi.model.EstatisticasJogadorTemporada;
 import com.futime.labprog.futimeapi.model.Jogador;
 import com.futime.labprog.futimeapi.model.TipoCompeticao;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
@@ -15,12 +21,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,12 +43,21 @@ class JogadorServiceTest {
     @Mock
     private ClubeRepository clubeRepository;
 
+    @Mock
+    private DadosReferenciaCache referencias;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private BuscaJogadores buscaJogadores;
+
     @InjectMocks
     private JogadorServiceImpl jogadorService;
 
     @Test
-    @DisplayName("Deve calcular totais de gols e assistências e agrupar por temporada corretamente")
-    void deveCalcularTotaisEAgruparPorTemporadaCorretamente() {
+    @DisplayName("Deve expor os totais de carreira e por temporada a partir dos agregados do jogador")
+    void deveExporTotaisEAgregadosPorTemporada() {
         // Cenario
         Clube flamengo = new Clube();
         flamengo.setId(1);
@@ -77,12 +97,24 @@ class JogadorServiceTest {
 
         gabigol.setEstatisticas(Arrays.asList(stat1, stat2));
 
-        when(jogadorRepository.findAll()).thenReturn(List.of(gabigol));
+        // Agregados mantidos pelo EstatisticasServiceImpl (10 + 5 gols, 2 + 1 assistências em 2025)
+        gabigol.setGolsTotais(15);
+        gabigol.setAssistenciasTotais(3);
+        EstatisticasJogadorTemporada temporada = new EstatisticasJogadorTemporada(gabigol, "2025");
+        temporada.setGols(15);
+        temporada.setAssistencias(3);
+        temporada.setRegistros(2);
+        gabigol.setEstatisticasTemporada(List.of(temporada));
+
+        when(jogadorRepository.buscarIdsApos(eq(0), any(Limit.class))).thenReturn(List.of(1));
+        when(jogadorRepository.buscarComDetalhesPorIds(List.of(1))).thenReturn(List.of(gabigol));
 
         // Acao
-        List<JogadorResponseDTO> resultado = jogadorService.listarJogadores();
+        PaginaResponseDTO<JogadorResponseDTO> pagina = jogadorService.listarJogadores(null, null);
+        List<JogadorResponseDTO> resultado = pagina.itens();
 
         // Verificacao
+        assertNull(pagina.proximoCursor(), "Com um único jogador não deve haver próxima página");
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
         JogadorResponseDTO dto = resultado.get(0);
@@ -91,7 +123,7 @@ class JogadorServiceTest {
         assertEquals(15, dto.golsTotais(), "Total de gols deve ser 15 (10 + 5)");
         assertEquals(3, dto.assistenciasTotais(), "Total de assistências deve ser 3 (2 + 1)");
 
-        // 2. Verifica agrupamento por temporada
+        // 2. Verifica os totais por temporada
         List<EstatisticaTemporadaDTO> statsPorTemporada = dto.estatisticasPorTemporada();
         assertNotNull(statsPorTemporada);
         assertEquals(1, statsPorTemporada.size(), "Deve haver apenas 1 entrada para a temporada 2025");
@@ -100,5 +132,17 @@ class JogadorServiceTest {
         assertEquals("2025", temporada2025.temporada());
         assertEquals(15, temporada2025.totalGols(), "Gols da temporada 2025 devem ser 15");
         assertEquals(3, temporada2025.totalAssistencias(), "Assistências da temporada 2025 devem ser 3");
+
+        // 3. As estatísticas por competição continuam vindo dos registros de origem
+        assertEquals(2, dto.estatisticasPorCompeticao().size());
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma ordenação desconhecida antes de consultar o banco")
+    void deveRecusarOrdenacaoInvalida() {
+        JogadorFiltroDTO filtro = new JogadorFiltroDTO("Atacante", null, null, null, null, null, null, "salario", null);
+
+        assertThrows(BusinessException.class, () -> jogadorService.listarJogadores(filtro, null, null));
+        verifyNoInteractions(jogadorRepository);
     }
 }
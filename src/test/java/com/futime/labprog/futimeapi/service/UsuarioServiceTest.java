@@ -1,17 +1,20 @@
 package com.futime.labprog.futimeapi.service;
 
+import com.futime.labprog.futimeapi.cache.DadosReferenciaCache;
 import com.futime.labprog.futimeapi.dto.UsuarioResponseDTO;
 import com.futime.labprog.futimeapi.model.Jogador;
 import com.futime.labprog.futimeapi.model.Usuario;
 import com.futime.labprog.futimeapi.repository.ClubeRepository;
 import com.futime.labprog.futimeapi.repository.JogadorRepository;
 import com.futime.labprog.futimeapi.repository.UsuarioRepository;
+import com.futime.labprog.futimeapi.security.CredenciaisAlteradasEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
@@ -40,6 +43,12 @@ class UsuarioServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private DadosReferenciaCache referencias;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
     @InjectMocks
     private UsuarioServiceImpl usuarioService;
 
@@ -76,5 +85,7 @@ class UsuarioServiceTest {
         assertTrue(resultado.jogadoresObservados().isEmpty(), "A lista de jogadores observados deve estar vazia");
 
         verify(usuarioRepository, times(1)).save(usuario);
+        // O cache de credenciais só é limpo no commit, pelo listener do evento
+        verify(eventos).publishEvent(new CredenciaisAlteradasEvent("bernardo@email.com"));
     }
 }